@@ -0,0 +1,94 @@
+package com.java.vidigal.code.benchmark;
+
+import com.java.vidigal.code.client.LibreTranslateClientImpl;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures end-to-end {@code translate} and {@code translateAsync} calls against an in-process
+ * {@link StubLibreTranslateServer}, for 1- and 50-segment requests.
+ * <p>
+ * Caching is disabled and every call carries new texts, so each operation performs a full HTTP round trip.
+ * The client's rate limiter is set to its maximum of 100 requests per second; the benchmark runs in
+ * sample-time mode, so the reported percentiles show both the request cost and any time spent waiting for
+ * permits once the initial burst is used up. The stub server runs with {@code TCP_NODELAY} so that
+ * delayed acknowledgements on the loopback interface do not dominate the round trip.
+ * </p>
+ *
+ * @author Vidigal
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ClientBenchmark {
+
+    @Param({"1", "50"})
+    public int segments;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private StubLibreTranslateServer server;
+    private LibreTranslateClientImpl client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = StubLibreTranslateServer.start();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("benchmark-api-key")
+                .enableRetry(false)
+                .enableCache(false)
+                .maxRequestsPerSecond(100)
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public TranslationResponse translate() throws LibreTranslateException {
+        return client.translate(nextRequest());
+    }
+
+    @Benchmark
+    public TranslationResponse translateAsync() throws InterruptedException, ExecutionException {
+        return client.translateAsync(nextRequest()).get();
+    }
+
+    private TranslationRequest nextRequest() {
+        long id = sequence.getAndIncrement();
+        List<String> texts = new ArrayList<>(segments);
+        for (int i = 0; i < segments; i++) {
+            texts.add("Benchmark text " + id + "-" + i);
+        }
+        return new TranslationRequest(texts, "es", "en");
+    }
+}
@@ -0,0 +1,95 @@
+package com.java.vidigal.code.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.vidigal.code.client.TranslationJsonCodec;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding of translation requests and decoding of translation responses for 1- and 50-segment
+ * payloads.
+ * <p>
+ * The {@code codec*} benchmarks use the streaming {@link TranslationJsonCodec} used by the client; the
+ * {@code objectMapper*} benchmarks use the tree-of-maps {@link ObjectMapper} approach as a baseline.
+ * </p>
+ *
+ * @author Vidigal
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"1", "50"})
+    public int segments;
+
+    private final TranslationJsonCodec codec = new TranslationJsonCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TranslationRequest request;
+    private byte[] responseBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> texts = new ArrayList<>(segments);
+        List<String> translated = new ArrayList<>(segments);
+        List<Map<String, Object>> detected = new ArrayList<>(segments);
+        for (int i = 0; i < segments; i++) {
+            texts.add("The quick brown fox jumps over the lazy dog, sentence number " + i + ".");
+            translated.add("El rápido zorro marrón salta sobre el perro perezoso, oración número " + i + ".");
+            detected.add(Map.of("confidence", 92.0, "language", "en"));
+        }
+        request = new TranslationRequest(texts, "es", "en");
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("detectedLanguage", detected);
+        response.put("translatedText", translated);
+        responseBody = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() throws IOException {
+        return codec.writeRequest(request);
+    }
+
+    @Benchmark
+    public TranslationResponse codecDecode() throws IOException {
+        return codec.readResponse(responseBody);
+    }
+
+    @Benchmark
+    public byte[] objectMapperEncode() throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("q", request.getTextSegments());
+        body.put("source", request.getSourceLang());
+        body.put("target", request.getTargetLang());
+        body.put("format", "text");
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public Map<String, Object> objectMapperDecode() throws IOException {
+        return objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package com.java.vidigal.code.benchmark;
+
+import com.java.vidigal.code.language.LanguageRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LanguageRegistry#isSupported(String)} for supported, mixed-case and unsupported codes, from
+ * one and eight threads.
+ *
+ * @author Vidigal
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LanguageRegistryBenchmark {
+
+    private final LanguageRegistry registry = new LanguageRegistry();
+
+    @Benchmark
+    public boolean supported() {
+        return registry.isSupported("es");
+    }
+
+    @Benchmark
+    public boolean mixedCase() {
+        return registry.isSupported("PT");
+    }
+
+    @Benchmark
+    public boolean unsupported() {
+        return registry.isSupported("xx");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean supported8Threads() {
+        return registry.isSupported("es");
+    }
+}
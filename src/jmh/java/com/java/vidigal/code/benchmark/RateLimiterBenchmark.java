@@ -0,0 +1,77 @@
+package com.java.vidigal.code.benchmark;
+
+import com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of taking permits from {@link TokenBucketRateLimiter} with 1, 8 and 64 contending threads.
+ * <p>
+ * The limiter is configured with a refill rate high enough that the bucket never runs dry, so the numbers
+ * reflect the synchronization overhead of the acquisition path rather than waiting for tokens.
+ * </p>
+ *
+ * @author Vidigal
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private TokenBucketRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(1_000_000_000L, 0);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void acquire1Thread() throws InterruptedException {
+        limiter.acquire();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void acquire8Threads() throws InterruptedException {
+        limiter.acquire();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void acquire64Threads() throws InterruptedException {
+        limiter.acquire();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean tryAcquire1Thread() {
+        return limiter.tryAcquire();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean tryAcquire8Threads() {
+        return limiter.tryAcquire();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean tryAcquire64Threads() {
+        return limiter.tryAcquire();
+    }
+}
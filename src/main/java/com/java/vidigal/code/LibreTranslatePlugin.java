@@ -1,20 +1,31 @@
 package com.java.vidigal.code;
 
+import com.java.vidigal.code.builder.BatchPlanner;
 import com.java.vidigal.code.builder.TranslationRequestBuilder;
+import com.java.vidigal.code.client.BulkTranslationPublisher;
 import com.java.vidigal.code.client.LibreTranslateClient;
 import com.java.vidigal.code.client.LibreTranslateClientImpl;
+import com.java.vidigal.code.client.MicroBatcher;
 import com.java.vidigal.code.exception.LibreTranslateException;
 import com.java.vidigal.code.language.Language;
 import com.java.vidigal.code.language.LanguageRegistry;
+import com.java.vidigal.code.request.RequestPriority;
 import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.TranslationRequest;
 import com.java.vidigal.code.request.TranslationResponse;
 import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * A facade for simplified interaction with the LibreTranslate translation API.
@@ -40,15 +51,28 @@ import java.util.function.UnaryOperator;
 public class LibreTranslatePlugin {
 
     private static final Logger logger = LoggerFactory.getLogger(LibreTranslatePlugin.class);
-    private static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * Maximum number of texts accepted by {@link #translateBatch(List, String, String)} and
+     * {@link #translateBatchAsync(List, String, String)}.
+     */
+    public static final int MAX_BATCH_SIZE = 50;
+    /**
+     * Default number of chunks a streaming translation keeps in flight.
+     */
+    public static final int DEFAULT_STREAM_IN_FLIGHT_CHUNKS = 4;
+
     private static final String TEXT_NOT_NULL_OR_EMPTY = "Text to translate must not be null or empty";
     private static final String TARGET_LANG_NOT_NULL_OR_EMPTY = "Target language must not be null or empty";
+    private static final String PRIORITY_NOT_NULL = "Priority must not be null";
     private static final String TEXT_BATCH_NOT_NULL_OR_EMPTY = "Text batch to translate must not be null or empty";
 
     private static final UnaryOperator<String> TO_LOWER_CASE = String::toLowerCase;
 
     private final LibreTranslateClient client;
     private final LanguageRegistry languageRegistry;
+    private final MicroBatcher microBatcher;
+    private final BatchPlanner batchPlanner;
 
     /**
      * Constructs a {@code LibreTranslatePlugin} with the specified API URL and key.
@@ -75,6 +99,10 @@ public class LibreTranslatePlugin {
         }
         this.client = new LibreTranslateClientImpl(config);
         this.languageRegistry = languageRegistry != null ? languageRegistry : new LanguageRegistry();
+        this.microBatcher = config.isMicroBatchEnabled()
+                ? new MicroBatcher(client, config.getMicroBatchWindowMillis(), config.getMicroBatchMaxSize())
+                : null;
+        this.batchPlanner = new BatchPlanner(MAX_BATCH_SIZE, config.getMaxCharactersPerRequest());
     }
 
     /**
@@ -115,6 +143,10 @@ public class LibreTranslatePlugin {
 
     /**
      * Translates a single text to the target language, optionally specifying the source language.
+     * <p>
+     * When micro-batching is enabled, the text is sent together with other single-text calls for the
+     * same language pair that arrive within the configured window.
+     * </p>
      *
      * @param text       the text to translate
      * @param targetLang the target language code (e.g., "EN", "FR")
@@ -131,9 +163,15 @@ public class LibreTranslatePlugin {
                 .addText(text)
                 .setTargetLang(targetLang)
                 .setSourceLang(sourceLang != null && !sourceLang.isBlank() ? sourceLang : null);
+        TranslationRequest request = builder.build();
 
+        if (microBatcher != null) {
+            String translatedText = awaitMicroBatch(microBatcher.submit(text, request.getTargetLang(), request.getSourceLang()));
+            logger.debug("Translated text to {}: {}", targetLang, translatedText);
+            return translatedText;
+        }
 
-        TranslationResponse response = client.translate(builder.build());
+        TranslationResponse response = client.translate(request);
 
         List<Translation> translations = response.getTranslations();
 
@@ -150,6 +188,10 @@ public class LibreTranslatePlugin {
 
     /**
      * Translates a batch of texts to the target language, optionally specifying the source language.
+     * <p>
+     * When the client cache is enabled, segments that were already translated are served locally and
+     * only the remaining distinct segments are sent to the API in a single reduced request.
+     * </p>
      *
      * @param texts      the list of texts to translate
      * @param targetLang the target language code (e.g., "EN", "FR")
@@ -197,6 +239,10 @@ public class LibreTranslatePlugin {
 
     /**
      * Asynchronously translates a single text to the target language, optionally specifying the source language.
+     * <p>
+     * When micro-batching is enabled, the text is sent together with other single-text calls for the
+     * same language pair that arrive within the configured window.
+     * </p>
      *
      * @param text       the text to translate
      * @param targetLang the target language code (e.g., "EN", "FR")
@@ -212,7 +258,12 @@ public class LibreTranslatePlugin {
                 .addText(text)
                 .setTargetLang(targetLang)
                 .setSourceLang(sourceLang != null && !sourceLang.isBlank() ? sourceLang : null);
-        return client.translateAsync(builder.build())
+        TranslationRequest request = builder.build();
+        if (microBatcher != null) {
+            return microBatcher.submit(text, request.getTargetLang(), request.getSourceLang())
+                    .thenApply(Translation::getText);
+        }
+        return client.translateAsync(request)
                 .thenApply(response -> {
                     List<Translation> translations = response.getTranslations();
                     if (translations == null || translations.isEmpty()) {
@@ -233,6 +284,10 @@ public class LibreTranslatePlugin {
 
     /**
      * Asynchronously translates a batch of texts to the target language, optionally specifying the source language.
+     * <p>
+     * As with {@link #translateBatch(List, String, String)}, cached segments are served locally and only
+     * the missing ones are sent to the API.
+     * </p>
      *
      * @param texts      the list of texts to translate
      * @param targetLang the target language code (e.g., "EN", "DE")
@@ -276,6 +331,221 @@ public class LibreTranslatePlugin {
                 });
     }
 
+    /**
+     * Translates any number of texts of any length using the fewest requests.
+     * <p>
+     * The texts are bin-packed into requests of at most {@value #MAX_BATCH_SIZE} segments and the configured
+     * {@code maxCharactersPerRequest} characters. Texts that do not fit into one request are split at sentence
+     * boundaries and reassembled after translation. The requests are sent concurrently.
+     * </p>
+     *
+     * @param texts      the texts to translate
+     * @param targetLang the target language code (e.g., "EN", "FR")
+     * @param sourceLang the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @return the translated texts in the order of input texts
+     * @throws LibreTranslateException  if translation fails or languages are invalid
+     * @throws IllegalArgumentException if {@code texts} or {@code targetLang} is invalid
+     * @see BatchPlanner
+     */
+    public List<String> translateAll(List<String> texts, String targetLang, String sourceLang) throws LibreTranslateException {
+        return translateAll(texts, targetLang, sourceLang, RequestPriority.HIGH);
+    }
+
+    /**
+     * Translates any number of texts of any length using the fewest requests, with the given priority.
+     * <p>
+     * Pass {@link RequestPriority#LOW} for backfills and other throughput-oriented work, so that its requests
+     * wait behind latency-sensitive ones for the client's rate limit.
+     * </p>
+     *
+     * @param texts      the texts to translate
+     * @param targetLang the target language code (e.g., "EN", "FR")
+     * @param sourceLang the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @param priority   the priority of the requests
+     * @return the translated texts in the order of input texts
+     * @throws LibreTranslateException  if translation fails or languages are invalid
+     * @throws IllegalArgumentException if {@code texts}, {@code targetLang} or {@code priority} is invalid
+     * @see #translateAll(List, String, String)
+     */
+    public List<String> translateAll(List<String> texts, String targetLang, String sourceLang,
+                                     RequestPriority priority) throws LibreTranslateException {
+        try {
+            return translateAllAsync(texts, targetLang, sourceLang, priority).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LibreTranslateException("Translation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LibreTranslateException translateException) {
+                throw translateException;
+            }
+            throw new LibreTranslateException("Translation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Asynchronously translates any number of texts of any length using the fewest requests.
+     *
+     * @param texts      the texts to translate
+     * @param targetLang the target language code (e.g., "EN", "FR")
+     * @param sourceLang the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @return a {@code CompletableFuture} resolving to the translated texts in the order of input texts
+     * @throws LibreTranslateException  if languages are invalid
+     * @throws IllegalArgumentException if {@code texts} or {@code targetLang} is invalid
+     * @see #translateAll(List, String, String)
+     */
+    public CompletableFuture<List<String>> translateAllAsync(List<String> texts, String targetLang, String sourceLang) throws LibreTranslateException {
+        return translateAllAsync(texts, targetLang, sourceLang, RequestPriority.HIGH);
+    }
+
+    /**
+     * Asynchronously translates any number of texts of any length using the fewest requests, with the given
+     * priority.
+     *
+     * @param texts      the texts to translate
+     * @param targetLang the target language code (e.g., "EN", "FR")
+     * @param sourceLang the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @param priority   the priority of the requests
+     * @return a {@code CompletableFuture} resolving to the translated texts in the order of input texts
+     * @throws LibreTranslateException  if languages are invalid
+     * @throws IllegalArgumentException if {@code texts}, {@code targetLang} or {@code priority} is invalid
+     * @see #translateAll(List, String, String, RequestPriority)
+     */
+    public CompletableFuture<List<String>> translateAllAsync(List<String> texts, String targetLang, String sourceLang,
+                                                             RequestPriority priority) throws LibreTranslateException {
+        if (texts == null || texts.isEmpty()) {
+            logger.error(TEXT_BATCH_NOT_NULL_OR_EMPTY);
+            throw new IllegalArgumentException(TEXT_BATCH_NOT_NULL_OR_EMPTY);
+        }
+        if (targetLang == null || targetLang.isBlank()) {
+            logger.error(TARGET_LANG_NOT_NULL_OR_EMPTY);
+            throw new IllegalArgumentException(TARGET_LANG_NOT_NULL_OR_EMPTY);
+        }
+        if (priority == null) {
+            logger.error(PRIORITY_NOT_NULL);
+            throw new IllegalArgumentException(PRIORITY_NOT_NULL);
+        }
+        validateLanguage(targetLang, sourceLang);
+        String source = sourceLang != null && !sourceLang.isBlank() ? sourceLang : null;
+
+        BatchPlanner.Plan plan = batchPlanner.plan(texts);
+        List<CompletableFuture<List<String>>> batches = new ArrayList<>(plan.getBatchCount());
+        for (List<String> batch : plan.getBatches()) {
+            batches.add(client.translateAsync(new TranslationRequest(batch, targetLang, source, null, priority))
+                    .thenApply(response -> {
+                        List<Translation> translations = response.getTranslations();
+                        if (translations == null || translations.size() != batch.size()) {
+                            logger.error("Invalid translation count: expected {}, got {}", batch.size(), translations == null ? 0 : translations.size());
+                            throw new CompletionException(new LibreTranslateException("Invalid translation count"));
+                        }
+                        return translations.stream().map(Translation::getText).toList();
+                    }));
+        }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<String> translatedTexts = plan.reassemble(batches.stream().map(CompletableFuture::join).toList());
+                    logger.debug("Translated {} texts to {} in {} requests", texts.size(), targetLang, plan.getBatchCount());
+                    return translatedTexts;
+                });
+    }
+
+    /**
+     * Translates an arbitrarily large sequence of texts as a stream, emitting the translated texts in input order.
+     * <p>
+     * Unlike {@link #translateBatch(List, String, String)}, the input is not limited to {@value #MAX_BATCH_SIZE}
+     * texts. It is consumed lazily and split into requests of at most {@value #MAX_BATCH_SIZE} texts and
+     * {@value TranslationRequestBuilder#MAX_TEXT_LENGTH} characters, with at most
+     * {@value #DEFAULT_STREAM_IN_FLIGHT_CHUNKS} requests in flight. Results are produced only as fast as the
+     * subscriber requests them. Translation starts when the returned publisher is subscribed to, and the
+     * stream must stay open until the subscriber has been completed.
+     * </p>
+     * <h3>Example Usage:</h3>
+     * <pre>{@code
+     * Stream<String> rows = catalog.stream().map(Product::description);
+     * plugin.translateStream(rows, "es", "en").subscribe(subscriber);
+     * }</pre>
+     *
+     * @param texts      the texts to translate
+     * @param targetLang the target language code (e.g., "EN", "FR")
+     * @param sourceLang the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @return a single-use publisher of the translated texts
+     * @throws LibreTranslateException  if languages are unsupported
+     * @throws IllegalArgumentException if {@code texts} or {@code targetLang} is invalid
+     */
+    public Flow.Publisher<String> translateStream(Stream<String> texts, String targetLang, String sourceLang) throws LibreTranslateException {
+        if (texts == null) {
+            logger.error(TEXT_BATCH_NOT_NULL_OR_EMPTY);
+            throw new IllegalArgumentException(TEXT_BATCH_NOT_NULL_OR_EMPTY);
+        }
+        return translateStream(texts.iterator(), targetLang, sourceLang, DEFAULT_STREAM_IN_FLIGHT_CHUNKS);
+    }
+
+    /**
+     * Translates an arbitrarily large sequence of texts as a stream, emitting the translated texts in input order.
+     *
+     * @param texts      the texts to translate
+     * @param targetLang the target language code (e.g., "EN", "FR")
+     * @param sourceLang the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @return a single-use publisher of the translated texts
+     * @throws LibreTranslateException  if languages are unsupported
+     * @throws IllegalArgumentException if {@code texts} or {@code targetLang} is invalid
+     * @see #translateStream(Stream, String, String)
+     */
+    public Flow.Publisher<String> translateStream(Iterator<String> texts, String targetLang, String sourceLang) throws LibreTranslateException {
+        return translateStream(texts, targetLang, sourceLang, DEFAULT_STREAM_IN_FLIGHT_CHUNKS);
+    }
+
+    /**
+     * Translates an arbitrarily large sequence of texts as a stream with a custom number of requests in flight.
+     *
+     * @param texts             the texts to translate
+     * @param targetLang        the target language code (e.g., "EN", "FR")
+     * @param sourceLang        the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @param maxInFlightChunks the maximum number of requests in flight, must be positive
+     * @return a single-use publisher of the translated texts
+     * @throws LibreTranslateException  if languages are unsupported
+     * @throws IllegalArgumentException if {@code texts}, {@code targetLang} or {@code maxInFlightChunks} is invalid
+     * @see #translateStream(Stream, String, String)
+     */
+    public Flow.Publisher<String> translateStream(Iterator<String> texts, String targetLang, String sourceLang,
+                                                  int maxInFlightChunks) throws LibreTranslateException {
+        return translateStream(texts, targetLang, sourceLang, maxInFlightChunks, RequestPriority.HIGH);
+    }
+
+    /**
+     * Translates an arbitrarily large sequence of texts as a stream with a custom number of requests in flight
+     * and the given priority.
+     * <p>
+     * Pass {@link RequestPriority#LOW} for backfills, so that the stream's requests wait behind
+     * latency-sensitive ones for the client's rate limit.
+     * </p>
+     *
+     * @param texts             the texts to translate
+     * @param targetLang        the target language code (e.g., "EN", "FR")
+     * @param sourceLang        the source language code (e.g., "EN", "FR"), or null for auto-detection
+     * @param maxInFlightChunks the maximum number of requests in flight, must be positive
+     * @param priority          the priority of the requests
+     * @return a single-use publisher of the translated texts
+     * @throws LibreTranslateException  if languages are unsupported
+     * @throws IllegalArgumentException if {@code texts}, {@code targetLang}, {@code maxInFlightChunks} or
+     *                                  {@code priority} is invalid
+     * @see #translateStream(Stream, String, String)
+     */
+    public Flow.Publisher<String> translateStream(Iterator<String> texts, String targetLang, String sourceLang,
+                                                  int maxInFlightChunks, RequestPriority priority) throws LibreTranslateException {
+        if (texts == null) {
+            logger.error(TEXT_BATCH_NOT_NULL_OR_EMPTY);
+            throw new IllegalArgumentException(TEXT_BATCH_NOT_NULL_OR_EMPTY);
+        }
+        if (targetLang == null || targetLang.isBlank()) {
+            logger.error(TARGET_LANG_NOT_NULL_OR_EMPTY);
+            throw new IllegalArgumentException(TARGET_LANG_NOT_NULL_OR_EMPTY);
+        }
+        validateLanguage(targetLang, sourceLang);
+        return new BulkTranslationPublisher(client, texts, targetLang,
+                sourceLang != null && !sourceLang.isBlank() ? sourceLang : null, priority,
+                maxInFlightChunks, MAX_BATCH_SIZE, TranslationRequestBuilder.MAX_TEXT_LENGTH);
+    }
+
     /**
      * Validates input text and target language.
      *
@@ -334,6 +604,36 @@ public class LibreTranslatePlugin {
         }
     }
 
+    /**
+     * Waits for a micro-batched translation and unwraps its failure.
+     *
+     * @param future the future returned by the micro-batcher
+     * @return the translated text
+     * @throws LibreTranslateException if the batch failed or the wait was interrupted
+     */
+    private String awaitMicroBatch(CompletableFuture<Translation> future) throws LibreTranslateException {
+        try {
+            return future.get().getText();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LibreTranslateException("Translation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LibreTranslateException translateException) {
+                throw translateException;
+            }
+            throw new LibreTranslateException("Translation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the micro-batching statistics.
+     *
+     * @return the statistics, or {@code null} if micro-batching is disabled
+     */
+    public MicroBatcher.MicroBatchStats getMicroBatchStats() {
+        return microBatcher != null ? microBatcher.getStats() : null;
+    }
+
     /**
      * Retrieves the underlying LibreTranslate client instance.
      *
@@ -347,6 +647,9 @@ public class LibreTranslatePlugin {
      * Shuts down all resources associated with the LibreTranslate client.
      */
     public void shutdown() {
+        if (microBatcher != null) {
+            microBatcher.close();
+        }
         if (client instanceof LibreTranslateClientImpl impl) {
             impl.close();
         }
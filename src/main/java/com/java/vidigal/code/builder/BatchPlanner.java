@@ -0,0 +1,316 @@
+package com.java.vidigal.code.builder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.BreakIterator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * Packs texts of mixed sizes into the fewest translation requests that respect both a per-request segment
+ * limit and a per-request character budget.
+ * <p>
+ * Texts longer than the character budget (or than {@link TranslationRequestBuilder#MAX_TEXT_LENGTH}) are
+ * split into pieces at sentence boundaries, falling back to word boundaries for overlong sentences and to
+ * fixed-size cuts for overlong words. Pieces are then bin-packed with a best-fit-decreasing heuristic:
+ * pieces are placed longest first into the open request with the least remaining space that still fits
+ * them. The resulting {@link Plan} lists the segments of every request and reassembles the translated
+ * pieces into one translation per input text, in input order.
+ * </p>
+ * <p>
+ * Leading and trailing whitespace of each piece is not sent; it is restored around the translated piece on
+ * reassembly so that split texts keep their sentence spacing and line breaks.
+ * </p>
+ * <h3>Example Usage:</h3>
+ * <pre>{@code
+ * BatchPlanner.Plan plan = new BatchPlanner(50, 10_000).plan(texts);
+ * List<List<String>> translated = new ArrayList<>();
+ * for (List<String> batch : plan.getBatches()) {
+ *     translated.add(translate(batch));
+ * }
+ * List<String> result = plan.reassemble(translated);
+ * }</pre>
+ *
+ * @author Vidigal
+ */
+public final class BatchPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchPlanner.class);
+
+    private final int maxSegments;
+    private final int maxCharacters;
+    private final int pieceLimit;
+    private final Locale locale;
+
+    /**
+     * Constructs a planner using root-locale sentence boundaries.
+     *
+     * @param maxSegments   the maximum number of segments per request, must be positive
+     * @param maxCharacters the maximum total characters per request, must be positive
+     * @throws IllegalArgumentException if any limit is not positive
+     */
+    public BatchPlanner(int maxSegments, int maxCharacters) {
+        this(maxSegments, maxCharacters, Locale.ROOT);
+    }
+
+    /**
+     * Constructs a planner using the sentence boundaries of the given locale.
+     *
+     * @param maxSegments   the maximum number of segments per request, must be positive
+     * @param maxCharacters the maximum total characters per request, must be positive
+     * @param locale        the locale of the source texts, used to find sentence and word boundaries
+     * @throws IllegalArgumentException if any limit is not positive or the locale is null
+     */
+    public BatchPlanner(int maxSegments, int maxCharacters, Locale locale) {
+        if (maxSegments <= 0 || maxCharacters <= 0) {
+            logger.error("Invalid batch planner limits: {} segments, {} characters", maxSegments, maxCharacters);
+            throw new IllegalArgumentException("Batch planner limits must be positive");
+        }
+        if (locale == null) {
+            logger.error("Batch planner locale is null");
+            throw new IllegalArgumentException("Locale cannot be null");
+        }
+        this.maxSegments = maxSegments;
+        this.maxCharacters = maxCharacters;
+        this.pieceLimit = Math.min(maxCharacters, TranslationRequestBuilder.MAX_TEXT_LENGTH);
+        this.locale = locale;
+    }
+
+    /**
+     * Plans the requests for a list of texts.
+     *
+     * @param texts the texts to translate; must not be null, empty, or contain null or blank texts
+     * @return the plan
+     * @throws IllegalArgumentException if {@code texts} is invalid
+     */
+    public Plan plan(List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            logger.error("Texts to plan are null or empty");
+            throw new IllegalArgumentException("Texts cannot be null or empty");
+        }
+        Piece[][] pieces = new Piece[texts.size()][];
+        List<PieceRef> refs = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.isBlank()) {
+                logger.error("Text at index {} is null or empty", i);
+                throw new IllegalArgumentException("Text cannot be null or empty");
+            }
+            List<String> parts = new ArrayList<>();
+            split(text, 0, text.length(), parts, 0);
+            pieces[i] = new Piece[parts.size()];
+            for (int j = 0; j < parts.size(); j++) {
+                pieces[i][j] = Piece.of(parts.get(j));
+                if (!pieces[i][j].core().isEmpty()) {
+                    refs.add(new PieceRef(i, j, pieces[i][j].core().length()));
+                }
+            }
+        }
+        List<List<PieceRef>> bins = pack(refs);
+        logger.debug("Planned {} texts into {} requests", texts.size(), bins.size());
+        return new Plan(pieces, bins);
+    }
+
+    /**
+     * Splits {@code text[from, to)} into pieces of at most {@link #pieceLimit} characters, preferring sentence
+     * boundaries (level 0), then word boundaries (level 1), then fixed-size cuts (level 2).
+     */
+    private void split(String text, int from, int to, List<String> out, int level) {
+        if (to - from <= pieceLimit) {
+            out.add(text.substring(from, to));
+            return;
+        }
+        if (level == 2) {
+            int start = from;
+            while (start < to) {
+                int end = Math.min(to, start + pieceLimit);
+                if (end < to && Character.isHighSurrogate(text.charAt(end - 1))) {
+                    end--;
+                }
+                out.add(text.substring(start, end));
+                start = end;
+            }
+            return;
+        }
+        BreakIterator boundaries = level == 0 ? BreakIterator.getSentenceInstance(locale) : BreakIterator.getWordInstance(locale);
+        boundaries.setText(text);
+        int start = from;
+        int accepted = from;
+        int boundary = boundaries.following(from);
+        while (start < to) {
+            int next = boundary == BreakIterator.DONE || boundary > to ? to : boundary;
+            if (next - start <= pieceLimit) {
+                accepted = next;
+                if (next == to) {
+                    out.add(text.substring(start, to));
+                    return;
+                }
+                boundary = boundaries.next();
+            } else if (accepted > start) {
+                out.add(text.substring(start, accepted));
+                start = accepted;
+            } else {
+                split(text, start, next, out, level + 1);
+                start = next;
+                accepted = next;
+                if (next == to) {
+                    return;
+                }
+                boundary = boundaries.next();
+            }
+        }
+    }
+
+    /**
+     * Best-fit-decreasing packing of pieces into requests bounded by character budget and segment count.
+     */
+    private List<List<PieceRef>> pack(List<PieceRef> refs) {
+        List<PieceRef> sorted = new ArrayList<>(refs);
+        sorted.sort((a, b) -> Integer.compare(b.length(), a.length()));
+        List<Bin> bins = new ArrayList<>();
+        TreeMap<Integer, ArrayDeque<Bin>> open = new TreeMap<>();
+        for (PieceRef ref : sorted) {
+            var fitting = open.ceilingEntry(ref.length());
+            Bin bin;
+            if (fitting != null) {
+                bin = fitting.getValue().poll();
+                if (fitting.getValue().isEmpty()) {
+                    open.remove(fitting.getKey());
+                }
+            } else {
+                bin = new Bin();
+                bins.add(bin);
+            }
+            bin.refs.add(ref);
+            bin.remaining -= ref.length();
+            if (bin.refs.size() < maxSegments && bin.remaining > 0) {
+                open.computeIfAbsent(bin.remaining, key -> new ArrayDeque<>()).add(bin);
+            }
+        }
+        List<List<PieceRef>> result = new ArrayList<>(bins.size());
+        for (Bin bin : bins) {
+            result.add(bin.refs);
+        }
+        return result;
+    }
+
+    /**
+     * An open request being filled by {@link #pack(List)}.
+     */
+    private final class Bin {
+        private final List<PieceRef> refs = new ArrayList<>();
+        private int remaining = maxCharacters;
+    }
+
+    /**
+     * Location of a piece: input text index, piece index within the text, and length of the sent core.
+     */
+    private record PieceRef(int text, int piece, int length) {
+    }
+
+    /**
+     * A piece of an input text, divided into the whitespace around it and the core that is translated.
+     */
+    private record Piece(String leading, String core, String trailing) {
+        static Piece of(String part) {
+            String core = part.strip();
+            if (core.isEmpty()) {
+                return new Piece(part, "", "");
+            }
+            int start = part.indexOf(core);
+            return new Piece(part.substring(0, start), core, part.substring(start + core.length()));
+        }
+    }
+
+    /**
+     * The requests planned for a list of texts.
+     */
+    public static final class Plan {
+
+        private final Piece[][] pieces;
+        private final List<List<PieceRef>> bins;
+
+        private Plan(Piece[][] pieces, List<List<PieceRef>> bins) {
+            this.pieces = pieces;
+            this.bins = bins;
+        }
+
+        /**
+         * Returns the segments to send, one list per request.
+         *
+         * @return an unmodifiable list of requests, each an unmodifiable list of segments
+         */
+        public List<List<String>> getBatches() {
+            List<List<String>> batches = new ArrayList<>(bins.size());
+            for (List<PieceRef> bin : bins) {
+                List<String> segments = new ArrayList<>(bin.size());
+                for (PieceRef ref : bin) {
+                    segments.add(pieces[ref.text()][ref.piece()].core());
+                }
+                batches.add(Collections.unmodifiableList(segments));
+            }
+            return Collections.unmodifiableList(batches);
+        }
+
+        /**
+         * Returns the number of requests in the plan.
+         *
+         * @return the request count
+         */
+        public int getBatchCount() {
+            return bins.size();
+        }
+
+        /**
+         * Reassembles translated requests into one translation per input text.
+         *
+         * @param translatedBatches the translations of {@link #getBatches()}, in the same order and shape
+         * @return the translated texts, in input order
+         * @throws IllegalArgumentException if the translations do not match the planned requests
+         */
+        public List<String> reassemble(List<List<String>> translatedBatches) {
+            if (translatedBatches == null || translatedBatches.size() != bins.size()) {
+                throw new IllegalArgumentException("Expected " + bins.size() + " translated batches, got "
+                        + (translatedBatches == null ? 0 : translatedBatches.size()));
+            }
+            String[][] translated = new String[pieces.length][];
+            for (int i = 0; i < pieces.length; i++) {
+                translated[i] = new String[pieces[i].length];
+            }
+            for (int b = 0; b < bins.size(); b++) {
+                List<PieceRef> bin = bins.get(b);
+                List<String> batch = translatedBatches.get(b);
+                if (batch == null || batch.size() != bin.size()) {
+                    throw new IllegalArgumentException("Expected " + bin.size() + " translations in batch " + b
+                            + ", got " + (batch == null ? 0 : batch.size()));
+                }
+                for (int s = 0; s < bin.size(); s++) {
+                    translated[bin.get(s).text()][bin.get(s).piece()] = batch.get(s);
+                }
+            }
+            List<String> result = new ArrayList<>(pieces.length);
+            for (int i = 0; i < pieces.length; i++) {
+                if (pieces[i].length == 1 && pieces[i][0].leading().isEmpty() && pieces[i][0].trailing().isEmpty()) {
+                    result.add(translated[i][0]);
+                    continue;
+                }
+                StringBuilder text = new StringBuilder();
+                for (int j = 0; j < pieces[i].length; j++) {
+                    Piece piece = pieces[i][j];
+                    text.append(piece.leading());
+                    if (!piece.core().isEmpty()) {
+                        text.append(translated[i][j] == null ? "" : translated[i][j].strip());
+                    }
+                    text.append(piece.trailing());
+                }
+                result.add(text.toString());
+            }
+            return result;
+        }
+    }
+}
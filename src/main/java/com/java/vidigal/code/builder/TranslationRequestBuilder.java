@@ -1,5 +1,6 @@
 package com.java.vidigal.code.builder;
 
+import com.java.vidigal.code.request.RequestPriority;
 import com.java.vidigal.code.request.TranslationRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,11 +21,17 @@ import java.util.List;
 public class TranslationRequestBuilder {
 
     private static final Logger logger = LoggerFactory.getLogger(TranslationRequestBuilder.class);
-    private static final int MAX_TEXT_LENGTH = 10_000; // LibreTranslate API text length limit
+
+    /**
+     * Maximum number of characters of a text segment, the LibreTranslate API text length limit.
+     */
+    public static final int MAX_TEXT_LENGTH = 10_000;
 
     private final List<String> text = new ArrayList<>();
     private String targetLang;
     private String sourceLang;
+    private String tenant;
+    private RequestPriority priority = RequestPriority.HIGH;
 
     /**
      * Adds a text segment to the translation request.
@@ -72,6 +79,41 @@ public class TranslationRequestBuilder {
         return this;
     }
 
+    /**
+     * Sets the tenant the request is made for (optional).
+     * <p>
+     * The tenant is not sent to the API; it selects the rate limit partition when the client partitions its
+     * rate limit by tenant.
+     * </p>
+     *
+     * @param tenant the tenant tag, or null for the default partition
+     * @return this builder for method chaining
+     */
+    public TranslationRequestBuilder setTenant(String tenant) {
+        this.tenant = tenant;
+        return this;
+    }
+
+    /**
+     * Sets the priority of the request (optional, {@link RequestPriority#HIGH} by default).
+     * <p>
+     * Mark throughput-oriented work such as backfills {@link RequestPriority#LOW}, so that it waits behind
+     * latency-sensitive requests for the client's rate limit.
+     * </p>
+     *
+     * @param priority the request priority
+     * @return this builder for method chaining
+     * @throws IllegalArgumentException if priority is null
+     */
+    public TranslationRequestBuilder setPriority(RequestPriority priority) {
+        if (priority == null) {
+            logger.error("Priority cannot be null");
+            throw new IllegalArgumentException("Priority cannot be null");
+        }
+        this.priority = priority;
+        return this;
+    }
+
     /**
      * Constructs a {@link TranslationRequest} with the configured parameters.
      * <p>
@@ -90,7 +132,7 @@ public class TranslationRequestBuilder {
             logger.error("Target language is null or empty");
             throw new IllegalStateException("Target language cannot be null or empty");
         }
-        return new TranslationRequest(text, targetLang, sourceLang);
+        return new TranslationRequest(text, targetLang, sourceLang, tenant, priority);
     }
 }
 
@@ -0,0 +1,298 @@
+package com.java.vidigal.code.client;
+
+import com.java.vidigal.code.builder.TranslationRequestBuilder;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.RequestPriority;
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} that translates an arbitrarily long sequence of texts and emits the translated
+ * texts in input order.
+ * <p>
+ * Texts are read lazily from an {@link Iterator} and grouped into chunks of at most {@code maxSegments}
+ * texts and {@code maxCharacters} characters, each sent as one request through
+ * {@link LibreTranslateClient#translateAsync(TranslationRequest)}. At most {@code maxInFlightChunks} chunks,
+ * including the one being emitted, are held at any time, and further input is
+ * read only as the subscriber requests results, so memory use is bounded regardless of the input size.
+ * </p>
+ * <p>
+ * The publisher is single-use: the input iterator can only be consumed once, so a second subscriber
+ * receives {@link Flow.Subscriber#onError(Throwable) onError} with an {@link IllegalStateException}. The
+ * first failed chunk terminates the stream with its {@link LibreTranslateException}; texts rejected by
+ * {@link TranslationRequestBuilder#addText(String)} terminate it with an {@link IllegalArgumentException}.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public final class BulkTranslationPublisher implements Flow.Publisher<String> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkTranslationPublisher.class);
+
+    private final LibreTranslateClient client;
+    private final Iterator<String> texts;
+    private final String targetLang;
+    private final String sourceLang;
+    private final RequestPriority priority;
+    private final int maxInFlightChunks;
+    private final int maxSegments;
+    private final int maxCharacters;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Constructs a new bulk translation publisher.
+     *
+     * @param client            the client used to translate the chunks
+     * @param texts             the texts to translate, consumed lazily
+     * @param targetLang        the target language code
+     * @param sourceLang        the source language code, or null for auto-detection
+     * @param maxInFlightChunks the maximum number of chunks read ahead and in flight, must be positive
+     * @param maxSegments       the maximum number of texts per chunk, must be positive
+     * @param maxCharacters     the maximum total characters per chunk, must be at least
+     *                          {@link TranslationRequestBuilder#MAX_TEXT_LENGTH}
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public BulkTranslationPublisher(LibreTranslateClient client, Iterator<String> texts, String targetLang,
+                                    String sourceLang, int maxInFlightChunks, int maxSegments, int maxCharacters) {
+        this(client, texts, targetLang, sourceLang, RequestPriority.HIGH, maxInFlightChunks, maxSegments, maxCharacters);
+    }
+
+    /**
+     * Constructs a new bulk translation publisher sending its chunks with the given priority.
+     *
+     * @param client            the client used to translate the chunks
+     * @param texts             the texts to translate, consumed lazily
+     * @param targetLang        the target language code
+     * @param sourceLang        the source language code, or null for auto-detection
+     * @param priority          the priority of the chunk requests, typically {@link RequestPriority#LOW} for backfills
+     * @param maxInFlightChunks the maximum number of chunks read ahead and in flight, must be positive
+     * @param maxSegments       the maximum number of texts per chunk, must be positive
+     * @param maxCharacters     the maximum total characters per chunk, must be at least
+     *                          {@link TranslationRequestBuilder#MAX_TEXT_LENGTH}
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public BulkTranslationPublisher(LibreTranslateClient client, Iterator<String> texts, String targetLang,
+                                    String sourceLang, RequestPriority priority, int maxInFlightChunks,
+                                    int maxSegments, int maxCharacters) {
+        if (client == null || texts == null || priority == null) {
+            throw new IllegalArgumentException("Client, texts and priority cannot be null");
+        }
+        if (maxInFlightChunks <= 0 || maxSegments <= 0) {
+            throw new IllegalArgumentException("Max in-flight chunks and max segments must be positive");
+        }
+        if (maxCharacters < TranslationRequestBuilder.MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Max characters must be at least " + TranslationRequestBuilder.MAX_TEXT_LENGTH);
+        }
+        this.client = client;
+        this.texts = texts;
+        this.targetLang = targetLang;
+        this.sourceLang = sourceLang;
+        this.priority = priority;
+        this.maxInFlightChunks = maxInFlightChunks;
+        this.maxSegments = maxSegments;
+        this.maxCharacters = maxCharacters;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Bulk translation publisher allows only one subscriber"));
+            return;
+        }
+        BulkSubscription subscription = new BulkSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Subscription state. All signals are emitted from {@link #drain()}, which is serialized with a
+     * work-in-progress counter so that it runs on one thread at a time without holding a lock while
+     * calling the subscriber.
+     */
+    private final class BulkSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super String> subscriber;
+        private final ArrayDeque<CompletableFuture<List<String>>> inFlight = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private List<String> current;
+        private String pending;
+        private int emitted;
+        private boolean exhausted;
+        private boolean done;
+        private long chunks;
+
+        private BulkSubscription(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested count must be positive, got " + n);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                try {
+                    drainLoop();
+                } catch (RuntimeException e) {
+                    terminate(e);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (!done) {
+                if (cancelled) {
+                    done = true;
+                    inFlight.forEach(chunk -> chunk.cancel(false));
+                    inFlight.clear();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    terminate(invalidRequest);
+                    return;
+                }
+                fill();
+                if (current == null) {
+                    CompletableFuture<List<String>> head = inFlight.peek();
+                    if (head == null) {
+                        if (exhausted) {
+                            done = true;
+                            logger.debug("Bulk translation completed in {} chunks", chunks);
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    if (!head.isDone()) {
+                        return;
+                    }
+                    inFlight.poll();
+                    try {
+                        current = head.join();
+                        emitted = 0;
+                    } catch (CompletionException e) {
+                        terminate(e.getCause() != null ? e.getCause() : e);
+                        return;
+                    }
+                    continue;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+                subscriber.onNext(current.get(emitted++));
+                demand.decrementAndGet();
+                if (emitted == current.size()) {
+                    current = null;
+                }
+            }
+        }
+
+        /**
+         * Reads and sends chunks until the read-ahead limit, which includes the chunk being emitted, is
+         * reached or the input is exhausted.
+         */
+        private void fill() {
+            while (!exhausted && inFlight.size() + (current != null ? 1 : 0) < maxInFlightChunks) {
+                TranslationRequest chunk = nextChunk();
+                if (chunk == null) {
+                    exhausted = true;
+                    return;
+                }
+                chunks++;
+                int size = chunk.getTextSegments().size();
+                CompletableFuture<List<String>> result = client.translateAsync(chunk).thenApply(response -> texts(response, size));
+                inFlight.add(result);
+                result.whenComplete((ignored, error) -> drain());
+            }
+        }
+
+        private TranslationRequest nextChunk() {
+            if (pending == null && !texts.hasNext()) {
+                return null;
+            }
+            TranslationRequestBuilder builder = new TranslationRequestBuilder()
+                    .setTargetLang(targetLang)
+                    .setSourceLang(sourceLang)
+                    .setPriority(priority);
+            int segments = 0;
+            int characters = 0;
+            while (segments < maxSegments && (pending != null || texts.hasNext())) {
+                String text = pending != null ? pending : texts.next();
+                pending = null;
+                int length = text == null ? 0 : text.length();
+                if (segments > 0 && characters + length > maxCharacters) {
+                    pending = text;
+                    break;
+                }
+                builder.addText(text);
+                segments++;
+                characters += length;
+            }
+            return builder.build();
+        }
+
+        private void terminate(Throwable error) {
+            if (done) {
+                return;
+            }
+            done = true;
+            inFlight.forEach(chunk -> chunk.cancel(false));
+            inFlight.clear();
+            logger.error("Bulk translation failed", error);
+            subscriber.onError(error);
+        }
+    }
+
+    private static List<String> texts(TranslationResponse response, int expected) {
+        List<Translation> translations = response.getTranslations();
+        if (translations == null || translations.size() != expected) {
+            throw new CompletionException(new LibreTranslateException("Invalid translation count: expected "
+                    + expected + ", got " + (translations == null ? 0 : translations.size())));
+        }
+        return translations.stream().map(Translation::getText).toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.java.vidigal.code.client;
+
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import com.java.vidigal.code.utilities.cache.CacheKey;
+import com.java.vidigal.code.utilities.cache.TranslationCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of looking up every segment of a {@link TranslationRequest} in a {@link TranslationCache}.
+ * <p>
+ * Cached segments are resolved locally; the remaining segments are de-duplicated into a single reduced
+ * request (see {@link #missRequest()}). Once the API has translated that request,
+ * {@link #merge(TranslationResponse)} stores the new translations and merges them back with the cached
+ * ones in the order of the original request.
+ * </p>
+ *
+ * @author Vidigal
+ */
+final class CachedSegments {
+
+    private final TranslationRequest request;
+    private final TranslationCache cache;
+    private final Translation[] resolved;
+    private final Map<String, List<Integer>> missingPositions;
+
+    private CachedSegments(TranslationRequest request, TranslationCache cache, Translation[] resolved,
+                           Map<String, List<Integer>> missingPositions) {
+        this.request = request;
+        this.cache = cache;
+        this.resolved = resolved;
+        this.missingPositions = missingPositions;
+    }
+
+    /**
+     * Looks up every segment of a request, querying the cache once per distinct text.
+     *
+     * @param cache   the cache to consult
+     * @param request the translation request
+     * @return the lookup result
+     */
+    static CachedSegments lookup(TranslationCache cache, TranslationRequest request) {
+        List<String> segments = request.getTextSegments();
+        Translation[] resolved = new Translation[segments.size()];
+        Map<String, Translation> hits = new LinkedHashMap<>();
+        Map<String, List<Integer>> missingPositions = new LinkedHashMap<>();
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            List<Integer> positions = missingPositions.get(segment);
+            if (positions != null) {
+                positions.add(i);
+                continue;
+            }
+            Translation translation = hits.get(segment);
+            if (translation == null) {
+                translation = cache.get(keyFor(request, segment));
+            }
+            if (translation != null) {
+                hits.put(segment, translation);
+                resolved[i] = translation;
+            } else {
+                positions = new ArrayList<>(1);
+                positions.add(i);
+                missingPositions.put(segment, positions);
+            }
+        }
+        return new CachedSegments(request, cache, resolved, missingPositions);
+    }
+
+    /**
+     * Indicates whether every segment was found in the cache.
+     *
+     * @return {@code true} if no API call is needed
+     */
+    boolean isComplete() {
+        return missingPositions.isEmpty();
+    }
+
+    /**
+     * Returns the number of distinct segments that must be translated by the API.
+     *
+     * @return the number of missing segments
+     */
+    int missingCount() {
+        return missingPositions.size();
+    }
+
+    /**
+     * Builds the response for a request that was fully served from the cache.
+     *
+     * @return the cached response
+     * @throws IllegalStateException if some segments are missing
+     */
+    TranslationResponse toResponse() {
+        if (!isComplete()) {
+            throw new IllegalStateException("Request is not fully cached");
+        }
+        return new TranslationResponse(Arrays.asList(resolved));
+    }
+
+    /**
+     * Builds a request containing only the distinct missing segments, in first-occurrence order.
+     * <p>
+     * If nothing was cached and the request has no duplicate segments, the original request is returned.
+     * </p>
+     *
+     * @return the reduced request
+     */
+    TranslationRequest missRequest() {
+        if (missingPositions.size() == request.getTextSegments().size()) {
+            return request;
+        }
+        return new TranslationRequest(new ArrayList<>(missingPositions.keySet()),
+                request.getTargetLang(), request.getSourceLang(), request.getTenant(),
+                request.getPriority());
+    }
+
+    /**
+     * Stores the API translations of the missing segments and merges them with the cached segments.
+     *
+     * @param missResponse the API response to {@link #missRequest()}
+     * @return the response for the original request, in original segment order
+     * @throws LibreTranslateException if the API returned a different number of translations than requested
+     */
+    TranslationResponse merge(TranslationResponse missResponse) throws LibreTranslateException {
+        List<Translation> translations = missResponse.getTranslations();
+        if (translations == null || translations.size() != missingPositions.size()) {
+            throw new LibreTranslateException("Invalid translation count: expected " + missingPositions.size()
+                    + ", got " + (translations == null ? 0 : translations.size()));
+        }
+        Translation[] merged = resolved.clone();
+        int index = 0;
+        for (Map.Entry<String, List<Integer>> missing : missingPositions.entrySet()) {
+            Translation translation = translations.get(index++);
+            cache.put(keyFor(request, missing.getKey()), translation);
+            for (int position : missing.getValue()) {
+                merged[position] = translation;
+            }
+        }
+        return new TranslationResponse(Arrays.asList(merged));
+    }
+
+    private static CacheKey keyFor(TranslationRequest request, String segment) {
+        return CacheKey.of(request.getSourceLang(), request.getTargetLang(), segment);
+    }
+}
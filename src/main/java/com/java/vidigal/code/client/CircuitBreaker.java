@@ -1,19 +1,39 @@
 package com.java.vidigal.code.client;
 
+import com.java.vidigal.code.utilities.config.SlidingWindowType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * A thread-safe circuit breaker to prevent cascading failures in distributed systems.
+ * A thread-safe, lock-free circuit breaker to prevent cascading failures in distributed systems.
  * <p>
  * The circuit breaker operates in three states: {@link State#CLOSED}, {@link State#OPEN}, and
- * {@link State#HALF_OPEN}. In {@code CLOSED}, requests are allowed. After reaching the failure
- * threshold, it transitions to {@code OPEN}, rejecting requests. After a reset timeout, it moves
- * to {@code HALF_OPEN}, allowing a single test request. A successful test resets to {@code CLOSED},
- * while a failure reopens the circuit.
+ * {@link State#HALF_OPEN}. In {@code CLOSED}, calls are permitted and their outcomes are recorded in a sliding
+ * window, either of the last {@code windowSize} calls or of the last {@code windowSize} seconds. Once the
+ * window holds at least {@code minimumCalls} calls, the breaker opens when the share of failed calls reaches
+ * the failure rate threshold, or the share of calls slower than the slow-call duration reaches the slow-call
+ * rate threshold. Old failures therefore age out of the window instead of accumulating until the breaker
+ * trips.
+ * </p>
+ * <p>
+ * In {@code OPEN}, calls are rejected until the open duration has elapsed. The breaker then moves to
+ * {@code HALF_OPEN} and permits exactly {@code halfOpenCalls} probe calls. When all probes have completed, it
+ * closes with a fresh window if their rates are below the thresholds and opens again otherwise.
+ * </p>
+ * <p>
+ * The whole state is one immutable phase swapped with compare-and-set, so concurrent callers agree on every
+ * transition; the window counters are atomics. Callers ask {@link #tryAcquirePermission()} before a call and
+ * report its outcome with {@link #onSuccess(long)} or {@link #onError(long)}, or with
+ * {@link #releasePermission()} if the call was not made.
  * </p>
  *
  * @author Vidigal
@@ -21,74 +41,379 @@ import java.util.concurrent.atomic.AtomicLong;
 public class CircuitBreaker {
 
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
-    private final int failureThreshold;
-    private final Duration resetTimeout;
-    private final AtomicLong failureCount = new AtomicLong();
-    private volatile State state = State.CLOSED;
-    private volatile long lastFailureTime;
+
+    private final SlidingWindowType windowType;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final AtomicReference<Phase> phase;
+    private final LongAdder notPermittedCount = new LongAdder();
+    private final AtomicLong openCount = new AtomicLong();
+
     /**
-     * Creates a circuit breaker with the specified failure threshold and reset timeout.
+     * Creates a circuit breaker that opens after the given number of consecutive failures.
      *
      * @param threshold the number of consecutive failures to trigger {@code OPEN} state, must be positive
      * @param timeout   the duration to wait in {@code OPEN} before transitioning to {@code HALF_OPEN}, must be non-negative
      * @throws IllegalArgumentException if threshold is not positive or timeout is null/negative
      */
     public CircuitBreaker(int threshold, Duration timeout) {
-        if (threshold <= 0) {
-            throw new IllegalArgumentException("Failure threshold must be positive");
+        this(SlidingWindowType.COUNT_BASED, threshold, threshold, 100, 100, Duration.ofNanos(Long.MAX_VALUE), timeout, 1);
+    }
+
+    /**
+     * Creates a sliding-window circuit breaker.
+     *
+     * @param windowType            whether the window holds the last calls or the calls of the last seconds
+     * @param windowSize            the window size in calls or seconds, must be positive
+     * @param minimumCalls          the calls the window must hold before the rates are evaluated, must be positive
+     * @param failureRateThreshold  the failure rate in percent at which the breaker opens, between 1 and 100
+     * @param slowCallRateThreshold the slow-call rate in percent at which the breaker opens, between 1 and 100
+     * @param slowCallDuration      the duration from which a call counts as slow, must be positive
+     * @param openDuration          the duration to wait in {@code OPEN} before probing, must be non-negative
+     * @param halfOpenCalls         the number of probe calls permitted in {@code HALF_OPEN}, must be positive
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public CircuitBreaker(SlidingWindowType windowType, int windowSize, int minimumCalls, int failureRateThreshold,
+                          int slowCallRateThreshold, Duration slowCallDuration, Duration openDuration, int halfOpenCalls) {
+        if (windowType == null || windowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            logger.error("Invalid circuit breaker window: {} of {}, minimum calls {}, half-open calls {}",
+                    windowType, windowSize, minimumCalls, halfOpenCalls);
+            throw new IllegalArgumentException("Window type must not be null and window size, minimum calls and half-open calls must be positive");
+        }
+        if (failureRateThreshold < 1 || failureRateThreshold > 100 || slowCallRateThreshold < 1 || slowCallRateThreshold > 100) {
+            logger.error("Invalid circuit breaker thresholds: failure rate {}, slow-call rate {}", failureRateThreshold, slowCallRateThreshold);
+            throw new IllegalArgumentException("Rate thresholds must be between 1 and 100");
         }
-        if (timeout == null || timeout.isNegative()) {
+        if (slowCallDuration == null || slowCallDuration.isNegative() || slowCallDuration.isZero()) {
+            throw new IllegalArgumentException("Slow call duration must be positive");
+        }
+        if (openDuration == null || openDuration.isNegative()) {
             throw new IllegalArgumentException("Reset timeout must not be null or negative");
         }
-        this.failureThreshold = threshold;
-        this.resetTimeout = timeout;
+        this.windowType = windowType;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = toNanos(slowCallDuration);
+        this.openNanos = toNanos(openDuration);
+        this.halfOpenCalls = halfOpenCalls;
+        this.phase = new AtomicReference<>(closed());
     }
 
     /**
      * Checks if the circuit breaker is in the {@code OPEN} state.
      * <p>
-     * If in {@code OPEN} and the reset timeout has elapsed, transitions to {@code HALF_OPEN}.
+     * If in {@code OPEN} and the open duration has elapsed, transitions to {@code HALF_OPEN}. Unlike
+     * {@link #tryAcquirePermission()}, this takes no probe permit.
      * </p>
      *
      * @return true if the circuit breaker is {@code OPEN}, false otherwise
      */
     public boolean isOpen() {
-        if (state == State.OPEN && System.currentTimeMillis() - lastFailureTime > resetTimeout.toMillis()) {
-            state = State.HALF_OPEN;
-            logger.info("Circuit breaker transitioned to HALF_OPEN after timeout");
+        Phase current = phase.get();
+        if (current.state() == State.OPEN && System.nanoTime() - current.sinceNanos() >= openNanos) {
+            transition(current, halfOpen());
         }
-        return state == State.OPEN;
+        return phase.get().state() == State.OPEN;
     }
 
     /**
-     * Records a successful request.
+     * Asks for permission to make a call.
      * <p>
-     * If in {@code HALF_OPEN}, transitions to {@code CLOSED} and resets the failure count.
-     * No action is taken in other states.
+     * Always granted in {@code CLOSED}; never in {@code OPEN} before the open duration has elapsed; and in
+     * {@code HALF_OPEN} only while probe permits remain. A caller granted permission must report the call with
+     * {@link #onSuccess(long)}, {@link #onError(long)} or {@link #releasePermission()}.
      * </p>
+     *
+     * @return true if the call may be made
      */
-    public void recordSuccess() {
-        if (state == State.HALF_OPEN) {
-            state = State.CLOSED;
-            failureCount.set(0);
-            logger.info("Circuit breaker transitioned to CLOSED after successful request");
+    public boolean tryAcquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state()) {
+                case CLOSED -> {
+                    return true;
+                }
+                case OPEN -> {
+                    if (System.nanoTime() - current.sinceNanos() < openNanos) {
+                        notPermittedCount.increment();
+                        return false;
+                    }
+                    transition(current, halfOpen());
+                }
+                case HALF_OPEN -> {
+                    int left = current.permits().get();
+                    while (left > 0) {
+                        if (current.permits().compareAndSet(left, left - 1)) {
+                            return true;
+                        }
+                        left = current.permits().get();
+                    }
+                    notPermittedCount.increment();
+                    return false;
+                }
+            }
         }
     }
 
     /**
-     * Records a failed request.
-     * <p>
-     * Increments the failure count and transitions to {@code OPEN} if the threshold is reached
-     * and the breaker is not already {@code OPEN}. Updates the last failure timestamp.
-     * </p>
+     * Gives back a permission for a call that was not made, so that it does not use up a probe.
+     */
+    public void releasePermission() {
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN) {
+            current.permits().updateAndGet(left -> Math.min(halfOpenCalls, left + 1));
+        }
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param durationNanos the call duration in nanoseconds
+     */
+    public void onSuccess(long durationNanos) {
+        record(false, durationNanos);
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param durationNanos the call duration in nanoseconds
+     */
+    public void onError(long durationNanos) {
+        record(true, durationNanos);
+    }
+
+    /**
+     * Records a successful call of unknown duration.
+     */
+    public void recordSuccess() {
+        onSuccess(0);
+    }
+
+    /**
+     * Records a failed call of unknown duration.
      */
     public void recordFailure() {
-        long failures = failureCount.incrementAndGet();
-        if (failures >= failureThreshold && state != State.OPEN) {
-            state = State.OPEN;
-            lastFailureTime = System.currentTimeMillis();
-            logger.warn("Circuit breaker opened after {} failures", failures);
+        onError(0);
+    }
+
+    /**
+     * Returns the current state, moving from {@code OPEN} to {@code HALF_OPEN} if the open duration has elapsed.
+     *
+     * @return the state
+     */
+    public State getState() {
+        isOpen();
+        return phase.get().state();
+    }
+
+    /**
+     * Returns the current circuit breaker statistics.
+     *
+     * @return a {@link CircuitBreakerStats} record
+     */
+    public CircuitBreakerStats getStats() {
+        Phase current = phase.get();
+        Counts counts = current.window() != null ? current.window().counts() : Counts.EMPTY;
+        return new CircuitBreakerStats(current.state(), counts.calls(), counts.failed(), counts.slow(),
+                notPermittedCount.sum(), openCount.get());
+    }
+
+    private void record(boolean failed, long durationNanos) {
+        Phase current = phase.get();
+        if (current.state() == State.OPEN) {
+            return;
         }
+        Counts counts = current.window().record(failed, durationNanos >= slowCallNanos);
+        if (current.state() == State.CLOSED) {
+            if (counts.calls() >= minimumCalls && exceedsThresholds(counts) && transition(current, open())) {
+                logger.warn("Circuit breaker opened: {} of {} calls failed, {} slow", counts.failed(), counts.calls(), counts.slow());
+            }
+        } else if (counts.calls() >= halfOpenCalls) {
+            if (exceedsThresholds(counts)) {
+                if (transition(current, open())) {
+                    logger.warn("Circuit breaker reopened after {} of {} probes failed, {} slow", counts.failed(), counts.calls(), counts.slow());
+                }
+            } else if (transition(current, closed())) {
+                logger.info("Circuit breaker transitioned to CLOSED after successful probes");
+            }
+        }
+    }
+
+    private boolean exceedsThresholds(Counts counts) {
+        return counts.failed() * 100L >= (long) failureRateThreshold * counts.calls()
+                || counts.slow() * 100L >= (long) slowCallRateThreshold * counts.calls();
+    }
+
+    private boolean transition(Phase from, Phase to) {
+        if (!phase.compareAndSet(from, to)) {
+            return false;
+        }
+        if (to.state() == State.OPEN) {
+            openCount.incrementAndGet();
+        } else if (to.state() == State.HALF_OPEN) {
+            logger.info("Circuit breaker transitioned to HALF_OPEN after timeout");
+        }
+        return true;
+    }
+
+    private Phase closed() {
+        Window window = windowType == SlidingWindowType.COUNT_BASED ? new CountWindow(windowSize) : new TimeWindow(windowSize);
+        return new Phase(State.CLOSED, System.nanoTime(), window, null);
+    }
+
+    private Phase open() {
+        return new Phase(State.OPEN, System.nanoTime(), null, null);
+    }
+
+    private Phase halfOpen() {
+        return new Phase(State.HALF_OPEN, System.nanoTime(), new CountWindow(halfOpenCalls), new AtomicInteger(halfOpenCalls));
+    }
+
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * An immutable breaker phase; every transition installs a new one.
+     *
+     * @param state      the state
+     * @param sinceNanos the time the state was entered
+     * @param window     the outcomes recorded in this phase, or null when {@code OPEN}
+     * @param permits    the probe permits left when {@code HALF_OPEN}, otherwise null
+     */
+    private record Phase(State state, long sinceNanos, Window window, AtomicInteger permits) {
+    }
+
+    /**
+     * Call counts of a window.
+     */
+    private record Counts(int calls, int failed, int slow) {
+        static final Counts EMPTY = new Counts(0, 0, 0);
+    }
+
+    /**
+     * A sliding window of call outcomes.
+     */
+    private interface Window {
+        Counts record(boolean failed, boolean slow);
+
+        Counts counts();
+    }
+
+    /**
+     * A window over the last {@code size} calls: a ring of outcomes with running totals. Overwriting a slot
+     * swaps its old outcome out of the totals, so no lock is needed.
+     */
+    private static final class CountWindow implements Window {
+        private static final int RECORDED = 1;
+        private static final int FAILED = 2;
+        private static final int SLOW = 4;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger slow = new AtomicInteger();
+
+        private CountWindow(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        @Override
+        public Counts record(boolean isFailed, boolean isSlow) {
+            int outcome = RECORDED | (isFailed ? FAILED : 0) | (isSlow ? SLOW : 0);
+            int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            int previous = outcomes.getAndSet(slot, outcome);
+            int callTotal = calls.addAndGet(bit(outcome, RECORDED) - bit(previous, RECORDED));
+            int failedTotal = failed.addAndGet(bit(outcome, FAILED) - bit(previous, FAILED));
+            int slowTotal = slow.addAndGet(bit(outcome, SLOW) - bit(previous, SLOW));
+            return new Counts(callTotal, failedTotal, slowTotal);
+        }
+
+        @Override
+        public Counts counts() {
+            return new Counts(calls.get(), failed.get(), slow.get());
+        }
+
+        private static int bit(int outcome, int flag) {
+            return (outcome & flag) != 0 ? 1 : 0;
+        }
+    }
+
+    /**
+     * A window over the last {@code seconds} seconds, with one immutable bucket per second replaced by
+     * compare-and-set.
+     */
+    private static final class TimeWindow implements Window {
+        private final AtomicReferenceArray<Bucket> buckets;
+
+        private TimeWindow(int seconds) {
+            this.buckets = new AtomicReferenceArray<>(seconds);
+        }
+
+        @Override
+        public Counts record(boolean failed, boolean slow) {
+            long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+            int slot = Math.floorMod(second, buckets.length());
+            while (true) {
+                Bucket bucket = buckets.get(slot);
+                Bucket updated = bucket != null && bucket.second() == second
+                        ? new Bucket(second, bucket.calls() + 1, bucket.failed() + (failed ? 1 : 0), bucket.slow() + (slow ? 1 : 0))
+                        : new Bucket(second, 1, failed ? 1 : 0, slow ? 1 : 0);
+                if (buckets.compareAndSet(slot, bucket, updated)) {
+                    return counts(second);
+                }
+            }
+        }
+
+        @Override
+        public Counts counts() {
+            return counts(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()));
+        }
+
+        private Counts counts(long now) {
+            int calls = 0;
+            int failed = 0;
+            int slow = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && now - bucket.second() < buckets.length()) {
+                    calls += bucket.calls();
+                    failed += bucket.failed();
+                    slow += bucket.slow();
+                }
+            }
+            return new Counts(calls, failed, slow);
+        }
+
+        private record Bucket(long second, int calls, int failed, int slow) {
+        }
+    }
+
+    /**
+     * Record representing circuit breaker statistics.
+     *
+     * @param state             the current state
+     * @param calls             the calls in the current window (or probes recorded in {@code HALF_OPEN})
+     * @param failedCalls       the failed calls among them
+     * @param slowCalls         the slow calls among them
+     * @param notPermittedCalls the total number of calls rejected
+     * @param openCount         the number of times the breaker opened
+     */
+    public record CircuitBreakerStats(State state, int calls, int failedCalls, int slowCalls,
+                                      long notPermittedCalls, long openCount) {
     }
 
     /**
@@ -104,7 +429,7 @@ public class CircuitBreaker {
          */
         OPEN,
         /**
-         * Allows a single test request to probe system health.
+         * Allows a bounded number of probe requests to test system health.
          */
         HALF_OPEN
     }
@@ -0,0 +1,152 @@
+package com.java.vidigal.code.client;
+
+import com.java.vidigal.code.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The point in time by which a translation call must complete.
+ * <p>
+ * A deadline is fixed when the call starts and passed down to every stage that may wait, so that the stages
+ * share one time budget instead of each having its own timeout. Waits are cut short when the deadline passes,
+ * and a retry is only started if the remaining time still covers its backoff and a typical attempt.
+ * {@link #NONE} is never exceeded.
+ * </p>
+ *
+ * @author Vidigal
+ */
+final class Deadline {
+
+    /** A deadline that never passes. */
+    static final Deadline NONE = new Deadline(0, false);
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    /**
+     * Returns the deadline that passes after the given time from now.
+     *
+     * @param timeout the time allowed, must be positive
+     * @return the deadline
+     */
+    static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    /**
+     * Indicates whether this deadline can pass, that is whether it is not {@link #NONE}.
+     *
+     * @return true if the deadline is bounded
+     */
+    boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * Returns the time left until the deadline.
+     *
+     * @return the remaining nanoseconds, zero or negative once the deadline has passed, or
+     * {@link Long#MAX_VALUE} for {@link #NONE}
+     */
+    long remainingNanos() {
+        return bounded ? expiresAtNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Indicates whether the deadline has passed.
+     *
+     * @return true if no time is left
+     */
+    boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Indicates whether the remaining time covers a retry: its backoff, followed by an attempt.
+     *
+     * @param backoffMillis the backoff before the retry in milliseconds
+     * @param attemptNanos  the expected duration of the attempt in nanoseconds
+     * @return true if the retry may still complete in time
+     */
+    boolean allows(long backoffMillis, long attemptNanos) {
+        return !bounded || remainingNanos() > TimeUnit.MILLISECONDS.toNanos(backoffMillis) + attemptNanos;
+    }
+
+    /**
+     * Shortens a timeout so that it ends no later than the deadline.
+     * <p>
+     * The remaining time is rounded up to whole milliseconds, so that a timeout cut short by the deadline never
+     * fires before the deadline has passed.
+     * </p>
+     *
+     * @param timeout the timeout
+     * @return the timeout, or the remaining time if that is shorter, but at least one millisecond
+     */
+    Duration cap(Duration timeout) {
+        long remaining = remainingNanos();
+        if (remaining >= timeout.toNanos()) {
+            return timeout;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(remaining + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+        return Duration.ofMillis(Math.max(1, millis));
+    }
+
+    /**
+     * Makes a wait end at the deadline: if the future has not completed by then, it fails with a
+     * {@link java.util.concurrent.TimeoutException}, which the rate and concurrency limiters treat like a
+     * cancelled wait.
+     *
+     * @param future the future to wait for
+     * @param <T>    the result type
+     * @return the same future
+     */
+    <T> CompletableFuture<T> bound(CompletableFuture<T> future) {
+        if (bounded && !future.isDone()) {
+            future.orTimeout(Math.max(0, remainingNanos()), TimeUnit.NANOSECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * Makes a wait end at the deadline, failing with a {@link DeadlineExceededException} if it has not
+     * completed by then.
+     * <p>
+     * Unlike {@link #bound(CompletableFuture)}, the result is a new future; other failures are passed on
+     * without the {@link CompletionException} wrapper.
+     * </p>
+     *
+     * @param future the future to wait for
+     * @param stage  what the call is waiting for, for the exception message
+     * @param <T>    the result type
+     * @return the future itself for {@link #NONE}, otherwise a future failing when the deadline passes
+     */
+    <T> CompletableFuture<T> within(CompletableFuture<T> future, String stage) {
+        if (!bounded) {
+            return future;
+        }
+        return bound(future).exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return CompletableFuture.failedFuture(cause instanceof TimeoutException ? exceeded(stage, null) : cause);
+        });
+    }
+
+    /**
+     * Creates the exception for a call that ran out of time.
+     *
+     * @param stage what the call was doing when the deadline passed
+     * @param cause the error of the last attempt, or null
+     * @return the exception
+     */
+    DeadlineExceededException exceeded(String stage, Throwable cause) {
+        return new DeadlineExceededException("Deadline exceeded " + stage, cause);
+    }
+}
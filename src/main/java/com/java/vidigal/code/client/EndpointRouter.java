@@ -0,0 +1,295 @@
+package com.java.vidigal.code.client;
+
+import com.java.vidigal.code.utilities.config.EndpointSelection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Routes requests between several LibreTranslate endpoints, each with its own {@link CircuitBreaker}.
+ * <p>
+ * Each request is sent to an endpoint whose circuit breaker permits the call, chosen by the configured
+ * {@link EndpointSelection} from the number of requests each endpoint has in flight. An endpoint that answers
+ * slowly accumulates outstanding requests and is therefore chosen less often, and an endpoint that fails is
+ * skipped entirely once its breaker opens, until its probe calls succeed again. A {@link Route} remembers the
+ * endpoint the last attempt of a request failed on, so that its retry goes to another endpoint if there is one.
+ * </p>
+ * <p>
+ * Routing is lock-free; with a single endpoint it reduces to a circuit breaker check.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class EndpointRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EndpointRouter.class);
+
+    private final List<Endpoint> endpoints;
+    private final EndpointSelection selection;
+    private final LongAdder failoverCount = new LongAdder();
+
+    /**
+     * Constructs a router.
+     *
+     * @param urls      the endpoint URLs, must not be empty
+     * @param selection how an endpoint is chosen for each request
+     * @param breakers  creates the circuit breaker of each endpoint
+     * @throws IllegalArgumentException if any argument is null, the URL list is empty or a URL is invalid
+     */
+    public EndpointRouter(List<String> urls, EndpointSelection selection, Supplier<CircuitBreaker> breakers) {
+        if (urls == null || urls.isEmpty() || selection == null || breakers == null) {
+            logger.error("Invalid endpoint router arguments: {} endpoints, selection {}", urls == null ? 0 : urls.size(), selection);
+            throw new IllegalArgumentException("Endpoint URLs must not be empty and selection and breakers must not be null");
+        }
+        List<Endpoint> created = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            created.add(new Endpoint(url, URI.create(url), breakers.get()));
+        }
+        this.endpoints = List.copyOf(created);
+        this.selection = selection;
+    }
+
+    /**
+     * Starts routing a request.
+     *
+     * @return a route for all attempts of one request
+     */
+    public Route route() {
+        return new Route();
+    }
+
+    /**
+     * Chooses an endpoint for a call and takes a permission from its circuit breaker.
+     * <p>
+     * Endpoints whose breaker is open are skipped. The endpoint to avoid is only chosen if no other endpoint
+     * permits the call. The caller must report the call to the endpoint's breaker and then call
+     * {@link Endpoint#complete()}.
+     * </p>
+     *
+     * @param avoid the endpoint to avoid, or null
+     * @return the endpoint, or null if no endpoint's circuit breaker permits the call
+     */
+    public Endpoint select(Endpoint avoid) {
+        if (endpoints.size() == 1) {
+            Endpoint only = endpoints.getFirst();
+            return only.breaker().tryAcquirePermission() ? only.begin() : null;
+        }
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint != avoid && !endpoint.breaker().isOpen()) {
+                candidates.add(endpoint);
+            }
+        }
+        while (!candidates.isEmpty()) {
+            Endpoint chosen = choose(candidates);
+            if (chosen.breaker().tryAcquirePermission()) {
+                return chosen.begin();
+            }
+            candidates.remove(chosen);
+        }
+        return avoid != null && avoid.breaker().tryAcquirePermission() ? avoid.begin() : null;
+    }
+
+    /**
+     * Indicates whether the circuit breakers of all endpoints are open, so that no call can currently be made.
+     *
+     * @return true if every endpoint is open
+     */
+    public boolean isOpen() {
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.breaker().isOpen()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the endpoints in configuration order.
+     *
+     * @return the endpoints
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Returns the number of retries sent to another endpoint than the one their previous attempt failed on.
+     *
+     * @return the failover count
+     */
+    public long getFailoverCount() {
+        return failoverCount.sum();
+    }
+
+    /**
+     * Returns the statistics of every endpoint, in configuration order.
+     *
+     * @return a list of {@link EndpointStats} records
+     */
+    public List<EndpointStats> getStats() {
+        List<EndpointStats> stats = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            stats.add(new EndpointStats(endpoint.url(), endpoint.outstanding.get(), endpoint.requests.sum(),
+                    endpoint.breaker().getStats()));
+        }
+        return stats;
+    }
+
+    private Endpoint choose(List<Endpoint> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.getFirst();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (selection == EndpointSelection.POWER_OF_TWO_CHOICES) {
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            Endpoint a = candidates.get(first);
+            Endpoint b = candidates.get(second);
+            return b.outstanding.get() < a.outstanding.get() ? b : a;
+        }
+        int offset = random.nextInt(size);
+        Endpoint best = null;
+        for (int i = 0; i < size; i++) {
+            Endpoint candidate = candidates.get((offset + i) % size);
+            if (best == null || candidate.outstanding.get() < best.outstanding.get()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The attempts of one request, remembering the endpoint the last attempt failed on.
+     */
+    public final class Route {
+        private volatile Endpoint failed;
+        private volatile Endpoint current;
+
+        private Route() {
+        }
+
+        /**
+         * Chooses the endpoint for the next attempt, avoiding the one the previous attempt failed on.
+         *
+         * @return the endpoint, or null if no endpoint's circuit breaker permits the call
+         * @see EndpointRouter#select(Endpoint)
+         */
+        public Endpoint next() {
+            Endpoint avoid = failed;
+            Endpoint chosen = select(avoid);
+            if (avoid != null && chosen != null && chosen != avoid) {
+                failoverCount.increment();
+            }
+            current = chosen;
+            return chosen;
+        }
+
+        /**
+         * Chooses the endpoint for a duplicate of the current attempt, avoiding the endpoint that attempt was
+         * sent to. With a single endpoint, the duplicate goes to the same one.
+         *
+         * @return the endpoint, or null if no endpoint's circuit breaker permits the call
+         */
+        public Endpoint alternate() {
+            return select(current);
+        }
+
+        /**
+         * Records that an attempt failed on an endpoint.
+         *
+         * @param endpoint the endpoint
+         */
+        public void failed(Endpoint endpoint) {
+            this.failed = endpoint;
+        }
+    }
+
+    /**
+     * A LibreTranslate endpoint with its circuit breaker and the number of requests it has in flight.
+     */
+    public static final class Endpoint {
+        private final String url;
+        private final URI uri;
+        private final CircuitBreaker breaker;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+
+        private Endpoint(String url, URI uri, CircuitBreaker breaker) {
+            this.url = url;
+            this.uri = uri;
+            this.breaker = breaker;
+        }
+
+        /**
+         * Returns the endpoint URL.
+         *
+         * @return the URL
+         */
+        public String url() {
+            return url;
+        }
+
+        /**
+         * Returns the endpoint URI requests are sent to.
+         *
+         * @return the URI
+         */
+        public URI uri() {
+            return uri;
+        }
+
+        /**
+         * Returns the circuit breaker of this endpoint.
+         *
+         * @return the circuit breaker
+         */
+        public CircuitBreaker breaker() {
+            return breaker;
+        }
+
+        /**
+         * Returns the number of requests in flight to this endpoint.
+         *
+         * @return the outstanding request count
+         */
+        public int outstanding() {
+            return outstanding.get();
+        }
+
+        /**
+         * Records that a call routed to this endpoint has completed.
+         */
+        public void complete() {
+            outstanding.decrementAndGet();
+        }
+
+        private Endpoint begin() {
+            outstanding.incrementAndGet();
+            requests.increment();
+            return this;
+        }
+    }
+
+    /**
+     * Record representing endpoint statistics.
+     *
+     * @param url            the endpoint URL
+     * @param outstanding    the requests currently in flight to the endpoint
+     * @param requests       the total number of requests routed to the endpoint
+     * @param circuitBreaker the statistics of the endpoint's circuit breaker
+     */
+    public record EndpointStats(String url, int outstanding, long requests, CircuitBreaker.CircuitBreakerStats circuitBreaker) {
+    }
+}
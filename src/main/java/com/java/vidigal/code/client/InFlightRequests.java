@@ -0,0 +1,200 @@
+package com.java.vidigal.code.client;
+
+import com.java.vidigal.code.exception.DeadlineExceededException;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.RequestPriority;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight registry of API calls that are currently in progress.
+ * <p>
+ * The first caller for a given source language, target language and segments becomes the leader and performs
+ * the call; identical requests arriving while it is in flight join the leader's future instead of sending
+ * their own HTTP request and consuming their own rate-limiter permit. The entry is removed as soon as the call
+ * completes, so later requests are served by the cache or start a fresh call.
+ * </p>
+ * <p>
+ * Requests are only identical if they are also charged to the same rate limit lane: the same
+ * {@link RequestPriority priority} and rate limit partition. Otherwise a
+ * high-priority request could be left waiting behind a low-priority call, or one tenant's request served
+ * from permits of another tenant's partition.
+ * </p>
+ * <p>
+ * Every caller receives its own {@link CompletableFuture#copy() copy} of the shared future, so cancelling
+ * or completing one caller's future never affects the others.
+ * </p>
+ * <p>
+ * Callers with a {@link Deadline} lead and join calls like any other. The shared call runs with the leader's
+ * deadline, and each joining caller applies its own deadline to its own wait only. If the leader runs out of
+ * time before a joining caller does, the joining caller is not failed with the leader's deadline error but
+ * runs the request again, leading a new call or joining another one.
+ * </p>
+ *
+ * @author Vidigal
+ */
+final class InFlightRequests {
+
+    private static final String JOIN_STAGE = "while waiting for an identical request in flight";
+
+    private final ConcurrentHashMap<Key, CompletableFuture<TranslationResponse>> calls = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Runs an asynchronous call, or joins an identical call already in flight.
+     *
+     * @param request   the request sent by the call
+     * @param partition the rate limit partition the call is charged to, or {@code null} if not partitioned
+     * @param deadline  the deadline of the caller
+     * @param call      starts the call with the caller's deadline; invoked only if this caller becomes the leader
+     * @return a future completing with the shared response, or failing with a {@link DeadlineExceededException}
+     * if the caller's deadline passes while waiting for a shared call
+     */
+    CompletableFuture<TranslationResponse> executeAsync(TranslationRequest request, String partition, Deadline deadline,
+                                                        Supplier<CompletableFuture<TranslationResponse>> call) {
+        Key key = Key.of(request, partition);
+        CompletableFuture<TranslationResponse> created = new CompletableFuture<>();
+        CompletableFuture<TranslationResponse> existing = calls.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return deadline.within(existing.copy(), JOIN_STAGE).exceptionallyCompose(error -> {
+                Throwable cause = unwrap(error);
+                return cause instanceof DeadlineExceededException && !deadline.isExpired()
+                        ? executeAsync(request, partition, deadline, call)
+                        : CompletableFuture.failedFuture(cause);
+            });
+        }
+        try {
+            call.get().whenComplete((response, error) -> {
+                calls.remove(key, created);
+                if (error != null) {
+                    created.completeExceptionally(unwrap(error));
+                } else {
+                    created.complete(response);
+                }
+            });
+        } catch (Throwable t) {
+            calls.remove(key, created);
+            created.completeExceptionally(t);
+        }
+        return created.copy();
+    }
+
+    /**
+     * Runs a blocking call on the current thread, or waits for an identical call already in flight.
+     *
+     * @param request   the request sent by the call
+     * @param partition the rate limit partition the call is charged to, or {@code null} if not partitioned
+     * @param deadline  the deadline of the caller
+     * @param call      performs the call with the caller's deadline; invoked only if this caller becomes the leader
+     * @return the shared response
+     * @throws LibreTranslateException if the call fails, the wait is interrupted or the caller's deadline passes
+     *                                 while waiting for a shared call
+     */
+    TranslationResponse execute(TranslationRequest request, String partition, Deadline deadline, Call call)
+            throws LibreTranslateException {
+        Key key = Key.of(request, partition);
+        CompletableFuture<TranslationResponse> created = new CompletableFuture<>();
+        CompletableFuture<TranslationResponse> existing = calls.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            try {
+                return await(existing, deadline);
+            } catch (DeadlineExceededException e) {
+                if (deadline.isExpired()) {
+                    throw e;
+                }
+                // The leader ran out of time, this caller has not
+                return execute(request, partition, deadline, call);
+            }
+        }
+        try {
+            TranslationResponse response = call.send();
+            created.complete(response);
+            return response;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            calls.remove(key, created);
+        }
+    }
+
+    /**
+     * Returns the number of requests that joined an in-flight call instead of sending their own.
+     *
+     * @return the coalesced request count
+     */
+    long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns the number of distinct calls currently in flight.
+     *
+     * @return the in-flight call count
+     */
+    int size() {
+        return calls.size();
+    }
+
+    private static TranslationResponse await(CompletableFuture<TranslationResponse> future, Deadline deadline)
+            throws LibreTranslateException {
+        try {
+            return deadline.isBounded() ? future.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS) : future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LibreTranslateException("Translation interrupted", e);
+        } catch (TimeoutException e) {
+            throw deadline.exceeded(JOIN_STAGE, null);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof LibreTranslateException translateException) {
+                throw translateException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new LibreTranslateException("Translation failed", cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * A blocking API call.
+     */
+    @FunctionalInterface
+    interface Call {
+        TranslationResponse send() throws LibreTranslateException;
+    }
+
+    /**
+     * Identity of a request: normalized language pair, the exact segments in order, and the rate limit lane.
+     */
+    private record Key(String source, String target, List<String> segments, RequestPriority priority,
+                       String partition) {
+        static Key of(TranslationRequest request, String partition) {
+            String source = request.getSourceLang();
+            return new Key(source == null ? "auto" : source.toLowerCase(Locale.ROOT),
+                    normalize(request.getTargetLang()), request.getTextSegments(), request.getPriority(), partition);
+        }
+
+        private static String normalize(String language) {
+            return language == null ? null : language.toLowerCase(Locale.ROOT);
+        }
+    }
+}
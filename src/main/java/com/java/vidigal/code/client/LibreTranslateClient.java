@@ -1,10 +1,15 @@
 package com.java.vidigal.code.client;
 
+import com.java.vidigal.code.exception.DeadlineExceededException;
 import com.java.vidigal.code.exception.LibreTranslateException;
 import com.java.vidigal.code.request.TranslationRequest;
 import com.java.vidigal.code.request.TranslationResponse;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Interface for interacting with the LibreTranslate translation API.
@@ -89,6 +94,62 @@ public interface LibreTranslateClient {
      */
     CompletableFuture<TranslationResponse> translateAsync(TranslationRequest request);
 
+    /**
+     * Translates text synchronously, failing if the translation does not complete within the given time.
+     * <p>
+     * The timeout bounds the whole call, including any waiting for rate limits, every retry and the backoff
+     * between retries, not only a single HTTP exchange. The default implementation waits for
+     * {@link #translateAsync(TranslationRequest, Duration)}; implementations that can stop waiting earlier,
+     * for example by not starting a retry that cannot complete in time, override it.
+     * </p>
+     *
+     * @param request the translation request. Must not be {@code null}.
+     * @param timeout the time allowed for the translation, must be positive
+     * @return the translation response. Never returns {@code null}.
+     * @throws DeadlineExceededException if the translation does not complete in time
+     * @throws LibreTranslateException   if the translation fails
+     * @throws IllegalArgumentException  if the request is {@code null} or the timeout is not positive
+     * @see #translate(TranslationRequest)
+     */
+    default TranslationResponse translate(TranslationRequest request, Duration timeout) throws LibreTranslateException {
+        try {
+            return translateAsync(request, timeout).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LibreTranslateException("Translation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LibreTranslateException translateException) {
+                throw translateException;
+            }
+            throw new LibreTranslateException("Translation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Translates text asynchronously, failing the returned future with a {@link DeadlineExceededException} if
+     * the translation does not complete within the given time.
+     * <p>
+     * The timeout bounds the whole call, like {@link #translate(TranslationRequest, Duration)}. The default
+     * implementation only stops waiting for {@link #translateAsync(TranslationRequest)} when the time is up.
+     * </p>
+     *
+     * @param request the translation request. Must not be {@code null}.
+     * @param timeout the time allowed for the translation, must be positive
+     * @return a {@link CompletableFuture} that will complete with the translation response
+     * @throws IllegalArgumentException if the request is {@code null} or the timeout is not positive
+     * @see #translateAsync(TranslationRequest)
+     */
+    default CompletableFuture<TranslationResponse> translateAsync(TranslationRequest request, Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        CompletableFuture<TranslationResponse> response = translateAsync(request).copy();
+        return response.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).exceptionallyCompose(error ->
+                CompletableFuture.failedFuture(error instanceof TimeoutException
+                        ? new DeadlineExceededException("Deadline of " + timeout.toMillis() + "ms exceeded", error)
+                        : error));
+    }
+
     /**
      * Closes the client and releases all associated resources.
      * <p>
@@ -1,26 +1,39 @@
 package com.java.vidigal.code.client;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.vidigal.code.exception.BackoffException;
+import com.java.vidigal.code.exception.DeadlineExceededException;
 import com.java.vidigal.code.exception.LibreTranslateApiException;
 import com.java.vidigal.code.exception.LibreTranslateException;
-import com.java.vidigal.code.language.Language;
-import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.RequestPriority;
 import com.java.vidigal.code.request.TranslationRequest;
 import com.java.vidigal.code.request.TranslationResponse;
+import com.java.vidigal.code.utilities.cache.PersistentTranslationStore;
+import com.java.vidigal.code.utilities.cache.TranslationCache;
 import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
 import com.java.vidigal.code.utilities.config.RetryStrategy;
+import com.java.vidigal.code.utilities.ratelimit.AdaptiveRateController;
+import com.java.vidigal.code.utilities.ratelimit.ConcurrencyLimiter;
+import com.java.vidigal.code.utilities.ratelimit.DistributedRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.PartitionedRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.PriorityRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.RateLimiter;
 import com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.WaitTimeHistogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -29,14 +42,22 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * A robust implementation of {@link LibreTranslateClient} for interacting with the LibreTranslate translation API.
  * <p>
  * This thread-safe class supports synchronous and asynchronous translations with features such as:
  * <ul>
- *     <li>Rate limiting with {@link TokenBucketRateLimiter} to respect API quotas.</li>
+ *     <li>Rate limiting with {@link TokenBucketRateLimiter} to respect API quotas, or with a
+ *     {@link DistributedRateLimiter} to share one quota between clients, optionally shared fairly between
+ *     language pairs or tenants with a {@link PartitionedRateLimiter}. Requests waiting for the rate limit are
+ *     served high {@link RequestPriority} first by a {@link PriorityRateLimiter}.</li>
+ *     <li>Bounded concurrency with {@link ConcurrencyLimiter}, queueing or rejecting requests beyond the
+ *     configured number in flight.</li>
+ *     <li>In-memory caching of translated segments with {@link TranslationCache}, optionally backed by a
+ *     {@link PersistentTranslationStore} on disk.</li>
+ *     <li>Single-flight coalescing of identical concurrent requests into one HTTP call.</li>
  *     <li>Retry logic for transient failures using exponential backoff.</li>
  *     <li>Circuit breaker pattern to prevent cascading failures.</li>
  *     <li>Monitoring statistics for operational insights.</li>
@@ -62,17 +83,56 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
 
     /** Error message constant for async translation failures */
     private static final String ASYNC_TRANSLATION_FAILED = "Async translation failed";
+    private static final String SERVICE_UNAVAILABLE = "Service temporarily unavailable";
+
+    /** Error message for requests rejected by the concurrency limiter */
+    private static final String TOO_MANY_CONCURRENT_REQUESTS = "Too many concurrent requests";
+
+    /** HTTP status codes that are retried */
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 500, 502, 503);
+
+    /** Retries the retry budget allows before any request has succeeded, and its largest balance */
+    private static final int RETRY_BUDGET_TOKENS = 10;
+
+    /** Stages of a call named in deadline errors */
+    private static final String PERMIT_STAGE = "while waiting for rate limit permits";
+    private static final String SLOT_STAGE = "while waiting for a concurrency slot";
+    private static final String SEND_STAGE = "before sending the request";
+    private static final String RESPONSE_STAGE = "while waiting for the response";
+    private static final String RETRY_STAGE = "before a retry could complete";
+
 
     /** HTTP client for making API requests */
     private final HttpClient httpClient;
 
-    /** Jackson ObjectMapper for JSON serialization/deserialization */
-    private final ObjectMapper objectMapper;
+    /** Streaming JSON codec for request and response bodies */
+    private final TranslationJsonCodec jsonCodec;
 
     /** Rate limiter to control API request frequency */
-    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimiter rateLimiter;
+
+    /** Serves requests waiting for the rate limiter by priority, with a guaranteed share for the low lane */
+    private final PriorityRateLimiter priorityLimiter;
+
+    /** Fair sharing of the priority lanes between partitions, used when rate limit partitioning is enabled */
+    private final PartitionedRateLimiter partitionedLimiter;
+
+    /** Adjusts the rate limiter to overload signals and latency, or null if adaptive rate limiting is off */
+    private volatile AdaptiveRateController adaptiveRate;
+
+    /** Hedges requests slower than the configured latency percentile, or null if hedging is off */
+    private volatile RequestHedger hedger;
+
+    /** Limits retries to a share of the successful requests, so that failures cannot multiply the load */
+    private final TrafficBudget retryBudget;
+
+    /** Concurrency limiter bounding the number of API requests in flight */
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    /** Time requests spent waiting for rate limiter permits, across priority lanes and partitions */
+    private final WaitTimeHistogram throttleWaits = new WaitTimeHistogram();
 
-    /** Virtual thread executor for async operations */
+    /** Virtual thread executor running the short continuations of delayed async stages */
     private final ExecutorService virtualThreadExecutor;
 
     /** Counter for successful translations */
@@ -84,15 +144,23 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
     /** Total latency accumulator in nanoseconds */
     private final AtomicLong totalLatencyNanos = new AtomicLong();
 
+    /** Moving average of the latency of successful requests, used to decide whether a retry fits in a deadline */
+    private final AtomicLong expectedLatencyNanos = new AtomicLong();
+
     /** Map tracking different types of errors and their counts */
     private final Map<String, AtomicLong> errorTypeCounts = new ConcurrentHashMap<>();
 
-    /** Circuit breaker to prevent cascading failures */
-    private final CircuitBreaker circuitBreaker;
+    /** Routes requests between the endpoints, each with a circuit breaker; replaced when their configuration changes */
+    private volatile EndpointRouter router;
 
     /** Atomic reference to the current configuration */
     private final AtomicReference<LibreTranslateConfig> config = new AtomicReference<>();
 
+    /** In-memory cache of translated segments, or null when caching is disabled */
+    private volatile TranslationCache cache;
+
+    /** Identical API calls currently in flight, shared by concurrent callers */
+    private final InFlightRequests inFlight = new InFlightRequests();
 
 
     /**
@@ -136,7 +204,8 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
      *
      * @param config       the client configuration, must not be null
      * @param httpClient   the HTTP client for API communication
-     * @param objectMapper the JSON mapper for serialization
+     * @param objectMapper the mapper whose {@link JsonFactory} the streaming {@link TranslationJsonCodec} reads and
+     *                     writes bodies with, or null for a default factory
      * @throws IllegalArgumentException if config is null
      */
     public LibreTranslateClientImpl(LibreTranslateConfig config, HttpClient httpClient, ObjectMapper objectMapper) {
@@ -145,15 +214,21 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
         }
         this.config.set(config);
         this.httpClient = httpClient;
-        this.objectMapper = objectMapper;
+        JsonFactory jsonFactory = objectMapper != null ? objectMapper.getFactory() : null;
+        this.jsonCodec = jsonFactory != null ? new TranslationJsonCodec(jsonFactory) : new TranslationJsonCodec();
 
-        this.rateLimiter = new TokenBucketRateLimiter(
-                config.getMaxRequestsPerSecond(),
-                config.getRateLimitCooldown()
-        );
+        this.rateLimiter = createRateLimiter(config);
+        this.priorityLimiter = new PriorityRateLimiter(rateLimiter, config.getLowPriorityShare());
+        this.partitionedLimiter = new PartitionedRateLimiter(priorityLimiter, config.getPartitionPermitsPerSecond(),
+                config.getPartitionWeights());
+        this.adaptiveRate = createAdaptiveRate(config);
+        this.hedger = createHedger(config);
+        this.retryBudget = new TrafficBudget(config.getRetryBudgetPercent(), RETRY_BUDGET_TOKENS);
+        this.concurrencyLimiter = new ConcurrencyLimiter(config.getMaxConcurrentRequests(), config.getMaxQueuedRequests());
 
         this.virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
-        this.circuitBreaker = new CircuitBreaker(5, Duration.ofSeconds(30));
+        this.router = createRouter(config);
+        this.cache = config.isCacheEnabled() ? createCache(config) : null;
         if (config.isTrackInstances()) {
             INSTANCES.add(this);
         }
@@ -184,18 +259,190 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
             throw new IllegalArgumentException("New configuration cannot be null");
         }
         synchronized (this) {
-            this.config.set(newConfig);
-            this.rateLimiter.update(newConfig.getMaxRequestsPerSecond(), newConfig.getRateLimitCooldown());
+            LibreTranslateConfig oldConfig = this.config.getAndSet(newConfig);
+            this.rateLimiter.update(newConfig.getRateLimitPermitsPerSecond(), newConfig.getRateLimitCooldown());
+            this.priorityLimiter.update(newConfig.getLowPriorityShare());
+            this.partitionedLimiter.update(newConfig.getPartitionPermitsPerSecond(), newConfig.getPartitionWeights());
+            this.adaptiveRate = createAdaptiveRate(newConfig);
+            if (hedgingChanged(oldConfig, newConfig)) {
+                this.hedger = createHedger(newConfig);
+            }
+            this.retryBudget.update(newConfig.getRetryBudgetPercent());
+            this.concurrencyLimiter.update(newConfig.getMaxConcurrentRequests(), newConfig.getMaxQueuedRequests());
+            if (routingChanged(oldConfig, newConfig)) {
+                this.router = createRouter(newConfig);
+            }
+            if (cache != null && persistenceChanged(oldConfig, newConfig)) {
+                TranslationCache previous = cache;
+                cache = null;
+                if (oldConfig.isPersistentCacheEnabled() && !newConfig.isPersistentCacheEnabled()) {
+                    try {
+                        previous.destroy();
+                    } catch (IOException e) {
+                        logger.error("Failed to delete persistent cache files: {}", e.getMessage());
+                        throw new LibreTranslateException("Failed to delete persistent cache files", e);
+                    }
+                } else {
+                    previous.close();
+                }
+            }
+            if (!newConfig.isCacheEnabled()) {
+                if (cache != null) {
+                    cache.close();
+                    cache = null;
+                }
+            } else if (cache == null) {
+                cache = createCache(newConfig);
+            } else {
+                cache.update(newConfig.getCacheTtlMillis(), newConfig.getCleanupIntervalMillis(),
+                        newConfig.getMaxCacheEntries(), newConfig.getMaxCacheBytes());
+            }
         }
     }
 
+    /**
+     * Returns the number of requests that were coalesced into an identical request already in flight
+     * instead of sending their own HTTP call.
+     *
+     * @return the coalesced request count
+     */
+    public long getCoalescedCount() {
+        return inFlight.getCoalescedCount();
+    }
+
+    /**
+     * Returns the statistics of the adaptive rate controller.
+     *
+     * @return the controller statistics, or {@code null} if adaptive rate limiting is disabled
+     */
+    public AdaptiveRateController.AdaptiveRateStats getAdaptiveRateStats() {
+        AdaptiveRateController controller = adaptiveRate;
+        return controller != null ? controller.getStats() : null;
+    }
+
+    /**
+     * Returns the statistics of request hedging.
+     *
+     * @return the hedging statistics, or {@code null} if hedging is disabled
+     */
+    public RequestHedger.HedgeStats getHedgeStats() {
+        RequestHedger current = hedger;
+        return current != null ? current.getStats() : null;
+    }
+
+    /**
+     * Returns the statistics of the retry budget, whose denied count is the number of retries it prevented.
+     *
+     * @return the retry budget statistics
+     */
+    public TrafficBudget.BudgetStats getRetryBudgetStats() {
+        return retryBudget.getStats();
+    }
+
+    /**
+     * Returns the statistics of the rate limit partitions.
+     *
+     * @return the partition statistics
+     */
+    public PartitionedRateLimiter.PartitionStats getPartitionStats() {
+        return partitionedLimiter.getStats();
+    }
+
+    /**
+     * Returns the statistics of the client's own rate limiter, including how many callers it held back and
+     * for how long.
+     *
+     * @return the rate limiter statistics, or {@code null} if the rate limit is shared through a token store
+     */
+    public TokenBucketRateLimiter.RateLimiterStats getRateLimiterStats() {
+        return rateLimiter instanceof TokenBucketRateLimiter local ? local.getStats() : null;
+    }
+
+    /**
+     * Returns how long requests waited for rate limiter permits, from asking for them until they were granted,
+     * including any wait in a priority lane or partition queue. Requests that did not wait are not counted.
+     * Compared with the request latency, this tells client-side throttling apart from a slow server.
+     *
+     * @return the throttling wait time statistics
+     */
+    public WaitTimeHistogram.WaitTimeStats getThrottleStats() {
+        return throttleWaits.getStats();
+    }
+
+    /**
+     * Returns the statistics of the priority lanes, including the number of requests waiting in each.
+     *
+     * @return the priority statistics
+     */
+    public PriorityRateLimiter.PriorityStats getPriorityStats() {
+        return priorityLimiter.getStats();
+    }
+
+    /**
+     * Returns the statistics of the circuit breaker of the first endpoint, including its state and the calls in
+     * its window. With several endpoints, see {@link #getEndpointStats()}.
+     *
+     * @return the circuit breaker statistics
+     */
+    public CircuitBreaker.CircuitBreakerStats getCircuitBreakerStats() {
+        return router.getEndpoints().getFirst().breaker().getStats();
+    }
+
+    /**
+     * Returns the statistics of every endpoint, including its requests in flight and its circuit breaker.
+     *
+     * @return the endpoint statistics, in configuration order
+     */
+    public List<EndpointRouter.EndpointStats> getEndpointStats() {
+        return router.getStats();
+    }
+
+    /**
+     * Returns the number of retries sent to another endpoint than the one their previous attempt failed on.
+     *
+     * @return the failover count
+     */
+    public long getFailoverCount() {
+        return router.getFailoverCount();
+    }
+
+    /**
+     * Returns the statistics of the concurrency limiter, including the number of requests waiting for a slot.
+     *
+     * @return the concurrency limiter statistics
+     */
+    public ConcurrencyLimiter.ConcurrencyStats getConcurrencyStats() {
+        return concurrencyLimiter.getStats();
+    }
+
+    /**
+     * Returns the statistics of the persistent cache tier.
+     *
+     * @return the store statistics, or {@code null} if persistent caching is disabled
+     */
+    public PersistentTranslationStore.StoreStats getPersistentCacheStats() {
+        TranslationCache current = cache;
+        return current != null ? current.getStoreStats() : null;
+    }
+
+    /**
+     * Returns the statistics of the in-memory translation cache.
+     *
+     * @return the cache statistics, or {@code null} if caching is disabled
+     */
+    public TranslationCache.CacheStats getCacheStats() {
+        TranslationCache current = cache;
+        return current != null ? current.getStats() : null;
+    }
+
     /**
      * Performs synchronous translation of the provided request.
      * <p>
      * This method implements the complete translation flow including:
      * <ul>
      *     <li>Circuit breaker check to prevent requests during service failures</li>
-     *     <li>Cache lookup for previously translated content</li>
+     *     <li>Per-segment cache lookup; only segments missing from the cache are sent to the API</li>
+     *     <li>Coalescing with an identical request already in flight, sharing its HTTP call</li>
      *     <li>Rate limiting to respect API quotas</li>
      *     <li>Retry logic with exponential backoff for transient failures</li>
      *     <li>Monitoring statistics updates</li>
@@ -208,27 +455,102 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
      */
     @Override
     public TranslationResponse translate(TranslationRequest request) throws LibreTranslateException {
-        if (circuitBreaker.isOpen()) {
+        return translate(request, Deadline.NONE);
+    }
+
+    /**
+     * Translates a request synchronously within a time budget.
+     * <p>
+     * The timeout bounds the whole call: waiting for an identical request in flight, for rate limiter permits
+     * and a concurrency slot, every HTTP attempt, whose timeout is shortened to the time left, and the backoff
+     * between attempts. A retry is not started if the time left does not cover its backoff and an attempt of
+     * the average duration; the call then fails at once instead of sleeping into its deadline.
+     * </p>
+     *
+     * @param request the translation request containing text and language information
+     * @param timeout the time allowed for the translation, must be positive
+     * @return the translation response
+     * @throws DeadlineExceededException if the translation does not complete in time
+     * @throws LibreTranslateException   if translation fails or service is unavailable
+     * @throws IllegalArgumentException  if the timeout is not positive
+     */
+    @Override
+    public TranslationResponse translate(TranslationRequest request, Duration timeout) throws LibreTranslateException {
+        return translate(request, deadlineAfter(timeout));
+    }
+
+    private TranslationResponse translate(TranslationRequest request, Deadline deadline) throws LibreTranslateException {
+        if (router.isOpen()) {
             logger.error("Circuit breaker is open, rejecting request");
-            throw new LibreTranslateException("Service temporarily unavailable");
+            throw new LibreTranslateException(SERVICE_UNAVAILABLE);
+        }
+        TranslationCache currentCache = cache;
+        CachedSegments cached = currentCache != null ? CachedSegments.lookup(currentCache, request) : null;
+        if (cached != null && cached.isComplete()) {
+            logger.debug("Served {} segments from cache", request.getTextSegments().size());
+            return cached.toResponse();
         }
+        TranslationRequest apiRequest = cached != null ? cached.missRequest() : request;
+        TranslationResponse response = inFlight.execute(apiRequest, partitionOf(apiRequest), deadline, () -> sendWithRetry(apiRequest, deadline));
+        return cached != null ? cached.merge(response) : response;
+    }
+
+    /**
+     * Fixes the deadline of a call from its timeout.
+     *
+     * @param timeout the time allowed for the call
+     * @return the deadline
+     * @throws IllegalArgumentException if the timeout is null or not positive
+     */
+    private static Deadline deadlineAfter(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            logger.error("Invalid translation timeout: {}", timeout);
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        return Deadline.after(timeout);
+    }
+
+    /**
+     * Sends a request to the API with rate limiting and retries, recording the outcome in the circuit
+     * breaker and the monitoring statistics.
+     *
+     * @param request  the request to send
+     * @param deadline the deadline of the call
+     * @return the API response
+     * @throws LibreTranslateException if the request fails after all retries or runs out of time
+     */
+    private TranslationResponse sendWithRetry(TranslationRequest request, Deadline deadline) throws LibreTranslateException {
+        EndpointRouter.Route route = router.route();
         try {
             TranslationResponse response = executeWithRetry(() -> {
-                rateLimiter.acquire();
-                return sendRequest(request);
-            });
-            circuitBreaker.recordSuccess();
+                acquirePermits(request, deadline);
+                acquireSlot(deadline);
+                try {
+                    return hedger != null
+                            ? await(sendHedgedAsync(request, route, deadline, () -> sendRequestAsync(request, route, route.next(), deadline)))
+                            : sendRequest(request, route, deadline);
+                } finally {
+                    concurrencyLimiter.release();
+                }
+            }, deadline);
             return response;
         } catch (InterruptedException e) {
             logger.error("Translation interrupted", e);
             Thread.currentThread().interrupt();
-            circuitBreaker.recordFailure();
             failureCount.incrementAndGet();
             incrementErrorCount("InterruptedException");
             throw new LibreTranslateException("Translation interrupted", e);
+        } catch (RejectedExecutionException e) {
+            failureCount.incrementAndGet();
+            incrementErrorCount(e.getClass().getSimpleName());
+            throw new LibreTranslateException(TOO_MANY_CONCURRENT_REQUESTS, e);
+        } catch (LibreTranslateException e) {
+            logger.error("Translation failed", e);
+            failureCount.incrementAndGet();
+            incrementErrorCount(e.getClass().getSimpleName());
+            throw e;
         } catch (Exception e) {
             logger.error("Translation failed", e);
-            circuitBreaker.recordFailure();
             failureCount.incrementAndGet();
             incrementErrorCount(e.getClass().getSimpleName());
             throw new LibreTranslateException("Translation failed", e);
@@ -240,11 +562,14 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
      * <p>
      * This method returns immediately with a CompletableFuture that will be completed
      * when the translation is finished. It implements the same features as the synchronous
-     * version but in a non-blocking manner using virtual threads.
+     * version in a fully non-blocking manner: the request is sent with {@link HttpClient#sendAsync}, and
+     * waiting for rate-limiter permits or retry backoff is scheduled on timers rather than parking threads.
      * </p>
      * <p>
-     * The method includes circuit breaker protection and cache lookup before attempting
-     * the actual API call. Failed futures will contain LibreTranslateException as the cause.
+     * The method includes circuit breaker protection and per-segment cache lookup before attempting
+     * the actual API call, sending only uncached segments. Concurrent identical requests share a single
+     * in-flight call and rate-limiter permit. Failed futures will contain
+     * LibreTranslateException as the cause.
      * </p>
      *
      * @param request the translation request containing text and language information
@@ -252,11 +577,178 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
      */
     @Override
     public CompletableFuture<TranslationResponse> translateAsync(TranslationRequest request) {
-        if (circuitBreaker.isOpen()) {
+        return translateAsync(request, Deadline.NONE);
+    }
+
+    /**
+     * Translates a request asynchronously within a time budget.
+     * <p>
+     * The timeout bounds the whole call as in {@link #translate(TranslationRequest, Duration)}: waits for
+     * permits and slots are abandoned when the deadline passes, and a retry is not scheduled if it cannot
+     * complete in time. The returned future then fails with a {@link DeadlineExceededException}.
+     * </p>
+     *
+     * @param request the translation request containing text and language information
+     * @param timeout the time allowed for the translation, must be positive
+     * @return a CompletableFuture that will complete with the translation response
+     * @throws IllegalArgumentException if the timeout is not positive
+     */
+    @Override
+    public CompletableFuture<TranslationResponse> translateAsync(TranslationRequest request, Duration timeout) {
+        return translateAsync(request, deadlineAfter(timeout));
+    }
+
+    private CompletableFuture<TranslationResponse> translateAsync(TranslationRequest request, Deadline deadline) {
+        if (router.isOpen()) {
             logger.error("Circuit breaker is open, rejecting async request");
-            return CompletableFuture.failedFuture(new LibreTranslateException("Service temporarily unavailable"));
+            return CompletableFuture.failedFuture(new LibreTranslateException(SERVICE_UNAVAILABLE));
+        }
+        TranslationCache currentCache = cache;
+        CachedSegments cached = currentCache != null ? CachedSegments.lookup(currentCache, request) : null;
+        if (cached == null) {
+            return inFlight.executeAsync(request, partitionOf(request), deadline, () -> executeWithAsyncRetry(request, 0, 0, router.route(), deadline));
+        }
+        if (cached.isComplete()) {
+            logger.debug("Served {} segments from cache", request.getTextSegments().size());
+            return CompletableFuture.completedFuture(cached.toResponse());
+        }
+        TranslationRequest apiRequest = cached.missRequest();
+        return inFlight.executeAsync(apiRequest, partitionOf(apiRequest), deadline, () -> executeWithAsyncRetry(apiRequest, 0, 0, router.route(), deadline)).thenApply(response -> {
+            try {
+                return cached.merge(response);
+            } catch (LibreTranslateException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Creates the rate limiter for a configuration: a {@link DistributedRateLimiter} drawing from a bucket
+     * named after the API URL if a shared token store is configured, otherwise a {@link TokenBucketRateLimiter}.
+     * <p>
+     * The kind of limiter is fixed at construction; {@link #reloadConfig} only updates its rate.
+     * </p>
+     *
+     * @param config the configuration
+     * @return the rate limiter
+     */
+    private static RateLimiter createRateLimiter(LibreTranslateConfig config) {
+        if (config.getTokenStore() != null) {
+            return new DistributedRateLimiter(config.getTokenStore(), config.getApiUrl(),
+                    config.getRateLimitPermitsPerSecond(), config.getRateLimitCooldown(), config.getTokenLeaseSize());
+        }
+        return new TokenBucketRateLimiter(config.getRateLimitPermitsPerSecond(), config.getRateLimitCooldown());
+    }
+
+    /**
+     * Creates the adaptive rate controller for a configuration.
+     *
+     * @param config the configuration
+     * @return a controller driving this client's rate limiter, or {@code null} if adaptive rate limiting is disabled
+     */
+    private AdaptiveRateController createAdaptiveRate(LibreTranslateConfig config) {
+        return config.isAdaptiveRateLimitEnabled()
+                ? new AdaptiveRateController(rateLimiter, config.getRateLimitPermitsPerSecond(), config.getRateLimitCooldown())
+                : null;
+    }
+
+    /**
+     * Creates the request hedger for a configuration.
+     *
+     * @param config the configuration
+     * @return a new hedger, or {@code null} if hedging is disabled
+     */
+    private static RequestHedger createHedger(LibreTranslateConfig config) {
+        return config.isHedgingEnabled()
+                ? new RequestHedger(config.getHedgingLatencyPercentile(), config.getHedgingBudgetPercent())
+                : null;
+    }
+
+    /**
+     * Indicates whether the hedging settings differ between two configurations, requiring the hedger to be
+     * recreated. The new hedger learns the latency distribution afresh.
+     */
+    private static boolean hedgingChanged(LibreTranslateConfig oldConfig, LibreTranslateConfig newConfig) {
+        return oldConfig.isHedgingEnabled() != newConfig.isHedgingEnabled()
+                || oldConfig.getHedgingLatencyPercentile() != newConfig.getHedgingLatencyPercentile()
+                || oldConfig.getHedgingBudgetPercent() != newConfig.getHedgingBudgetPercent();
+    }
+
+    /**
+     * Creates the endpoint router for a configuration, with a circuit breaker for each endpoint.
+     *
+     * @param config the configuration
+     * @return a new router whose circuit breakers are all closed
+     */
+    private static EndpointRouter createRouter(LibreTranslateConfig config) {
+        return new EndpointRouter(config.getApiUrls(), config.getEndpointSelection(), () -> createCircuitBreaker(config));
+    }
+
+    /**
+     * Creates a circuit breaker from the circuit breaker settings of a configuration.
+     *
+     * @param config the configuration
+     * @return a new, closed circuit breaker
+     */
+    private static CircuitBreaker createCircuitBreaker(LibreTranslateConfig config) {
+        return new CircuitBreaker(config.getCircuitBreakerWindowType(), config.getCircuitBreakerWindowSize(),
+                config.getCircuitBreakerMinimumCalls(), config.getCircuitBreakerFailureRateThreshold(),
+                config.getCircuitBreakerSlowCallRateThreshold(),
+                Duration.ofMillis(config.getCircuitBreakerSlowCallDurationMillis()),
+                Duration.ofMillis(config.getCircuitBreakerOpenDurationMillis()), config.getCircuitBreakerHalfOpenCalls());
+    }
+
+    /**
+     * Indicates whether the endpoints or circuit breaker settings differ between two configurations, requiring
+     * the router to be recreated. The new circuit breakers start closed.
+     */
+    private static boolean routingChanged(LibreTranslateConfig oldConfig, LibreTranslateConfig newConfig) {
+        return !oldConfig.getApiUrls().equals(newConfig.getApiUrls())
+                || oldConfig.getEndpointSelection() != newConfig.getEndpointSelection()
+                || oldConfig.getCircuitBreakerWindowType() != newConfig.getCircuitBreakerWindowType()
+                || oldConfig.getCircuitBreakerWindowSize() != newConfig.getCircuitBreakerWindowSize()
+                || oldConfig.getCircuitBreakerMinimumCalls() != newConfig.getCircuitBreakerMinimumCalls()
+                || oldConfig.getCircuitBreakerFailureRateThreshold() != newConfig.getCircuitBreakerFailureRateThreshold()
+                || oldConfig.getCircuitBreakerSlowCallRateThreshold() != newConfig.getCircuitBreakerSlowCallRateThreshold()
+                || oldConfig.getCircuitBreakerSlowCallDurationMillis() != newConfig.getCircuitBreakerSlowCallDurationMillis()
+                || oldConfig.getCircuitBreakerOpenDurationMillis() != newConfig.getCircuitBreakerOpenDurationMillis()
+                || oldConfig.getCircuitBreakerHalfOpenCalls() != newConfig.getCircuitBreakerHalfOpenCalls();
+    }
+
+    /**
+     * Creates the cache from the cache settings of a configuration.
+     * <p>
+     * If persistent caching is enabled but the store cannot be opened (for example because another
+     * client holds the directory), the error is logged and a memory-only cache is returned.
+     * </p>
+     *
+     * @param config the configuration
+     * @return a new cache instance
+     */
+    private static TranslationCache createCache(LibreTranslateConfig config) {
+        PersistentTranslationStore store = null;
+        if (config.isPersistentCacheEnabled()) {
+            try {
+                store = new PersistentTranslationStore(Path.of(config.getPersistentCacheDirectory()),
+                        config.getPersistentCacheSegmentBytes(), config.getPersistentCacheMaxBytes());
+            } catch (IOException e) {
+                logger.error("Failed to open persistent cache in {}, using memory-only cache: {}",
+                        config.getPersistentCacheDirectory(), e.getMessage());
+            }
         }
-        return executeWithAsyncRetry(request, 0);
+        return new TranslationCache(config.getCacheTtlMillis(), config.getCleanupIntervalMillis(),
+                config.getMaxCacheEntries(), config.getMaxCacheBytes(), store);
+    }
+
+    /**
+     * Indicates whether the persistent cache settings differ between two configurations, requiring
+     * the cache to be recreated.
+     */
+    private static boolean persistenceChanged(LibreTranslateConfig oldConfig, LibreTranslateConfig newConfig) {
+        return oldConfig.isPersistentCacheEnabled() != newConfig.isPersistentCacheEnabled()
+                || (newConfig.isPersistentCacheEnabled()
+                && (!oldConfig.getPersistentCacheDirectory().equals(newConfig.getPersistentCacheDirectory())
+                || oldConfig.getPersistentCacheSegmentBytes() != newConfig.getPersistentCacheSegmentBytes()));
     }
 
     /**
@@ -264,163 +756,315 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
      * <p>
      * This method handles the low-level HTTP communication including:
      * <ul>
-     *     <li>Request body construction with proper JSON format</li>
+     *     <li>Request body serialization with the streaming {@link TranslationJsonCodec}</li>
      *     <li>HTTP headers setup including Content-Type and User-Agent</li>
-     *     <li>Response parsing and error handling</li>
-     *     <li>Cache storage of successful translations</li>
+     *     <li>Streaming response parsing and error handling</li>
      *     <li>Latency measurement and statistics updates</li>
      * </ul>
+     * The response body is parsed directly from the connection stream; it is only read into a string when the
+     * API returns an error, to include it in the exception message.
      * </p>
      *
-     * @param request the translation request to send
+     * @param request  the translation request to send
+     * @param route    the route of the request, choosing the endpoint
+     * @param deadline the deadline of the call, which shortens the HTTP timeout
      * @return the parsed translation response
-     * @throws Exception if the HTTP request fails, API returns an error, or JSON parsing fails
+     * @throws Exception if the HTTP request fails, API returns an error, JSON parsing fails, or the deadline passes
      */
-    private TranslationResponse sendRequest(TranslationRequest request) throws Exception {
+    private TranslationResponse sendRequest(TranslationRequest request, EndpointRouter.Route route, Deadline deadline) throws Exception {
+        if (deadline.isExpired()) {
+            throw deadline.exceeded(SEND_STAGE, null);
+        }
+        EndpointRouter.Endpoint endpoint = route.next();
+        if (endpoint == null) {
+            logger.error("Circuit breaker is open, not sending request");
+            throw new LibreTranslateException(SERVICE_UNAVAILABLE);
+        }
+        CircuitBreaker breaker = endpoint.breaker();
         long startTime = System.nanoTime();
         try {
-            Map<String, Object> requestBody = new ConcurrentHashMap<>();
-            requestBody.put("q", request.getTextSegments());
-            requestBody.put("source", request.getSourceLang() != null ?
-                    request.getSourceLang().toLowerCase() :
-                    Language.AUTO.getCode().toLowerCase());
-            requestBody.put("target", request.getTargetLang().toLowerCase());
-            requestBody.put("format", "text");
-
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(config.get().getApiUrl()))
-                    .header("Content-Type", "application/json")
-                    .header("User-Agent", "LibreTranslateClient/1.0")
-                    .timeout(Duration.ofMillis(config.get().getSocketTimeout()))
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() != 200) {
-                String errorType = "HTTP_" + response.statusCode();
-                incrementErrorCount(errorType);
-                logger.error("LibreTranslate API request failed with status: {}, response body: {}", response.statusCode(), response.body());
-                throw new LibreTranslateApiException("LibreTranslate API request failed with status: " + response.statusCode() + ", response: " + response.body(), response.statusCode());
-            }
+            HttpResponse<InputStream> response = httpClient.send(buildHttpRequest(request, endpoint.uri(), deadline), HttpResponse.BodyHandlers.ofInputStream());
 
-            Map<String, Object> responseBody = objectMapper.readValue(response.body(), new TypeReference<Map<String, Object>>() {
-            });
-            Object translatedTextObj = responseBody.get("translatedText");
-
-            String detectedSourceLang = extractDetectedLanguage(responseBody.get("detectedLanguage"));
-
-            logger.debug("Response body structure: {}", responseBody);
-            logger.debug("DetectedLanguage extracted: {}", detectedSourceLang);
-
-            List<Translation> translations;
-            if (translatedTextObj instanceof List<?> translatedList) {
-                translations = translatedList.stream()
-                        .filter(String.class::isInstance)
-                        .map(text -> new Translation((String) text, detectedSourceLang))
-                        .collect(Collectors.toList());
-            } else if (translatedTextObj instanceof String translatedText) {
-                translations = List.of(new Translation(translatedText, detectedSourceLang));
-            } else {
-                logger.warn("Unexpected translatedText type: {}", translatedTextObj != null ? translatedTextObj.getClass() : "null");
-                translations = List.of(new Translation("", detectedSourceLang));
+            TranslationResponse translationResponse;
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw apiError(response, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                translationResponse = jsonCodec.readResponse(body);
             }
-
-            TranslationResponse translationResponse = new TranslationResponse(translations);
-
-
+            logger.debug("Parsed {} translations", translationResponse.getTranslations().size());
 
             successCount.incrementAndGet();
-            totalLatencyNanos.addAndGet(System.nanoTime() - startTime);
+            long latency = System.nanoTime() - startTime;
+            totalLatencyNanos.addAndGet(latency);
+            recordSuccess(request, latency);
+            breaker.onSuccess(latency);
             return translationResponse;
         } catch (Exception e) {
+            if (timedOut(e, deadline) instanceof DeadlineExceededException exceeded) {
+                breaker.releasePermission();
+                throw exceeded;
+            }
+            if (e instanceof HttpTimeoutException) {
+                recordOverload(-1);
+            }
             incrementErrorCount(e.getClass().getSimpleName());
             logger.error("Failed to send translation request", e);
-            totalLatencyNanos.addAndGet(System.nanoTime() - startTime);
+            long latency = System.nanoTime() - startTime;
+            totalLatencyNanos.addAndGet(latency);
+            recordOutcome(breaker, e, latency);
+            route.failed(endpoint);
             throw e;
+        } finally {
+            endpoint.complete();
         }
     }
 
     /**
-     * Extracts the detected source language from the API response.
+     * Sends the HTTP request to the LibreTranslate API without blocking the calling thread.
      * <p>
-     * The LibreTranslate API may return detected language information in various formats:
-     * <ul>
-     *     <li>As a Map with a "language" key</li>
-     *     <li>As a List of Maps containing language information</li>
-     *     <li>As a simple String</li>
-     *     <li>As null if no detection was performed</li>
-     * </ul>
-     * This method handles all these cases robustly.
+     * The asynchronous counterpart of {@link #sendRequest(TranslationRequest, EndpointRouter.Route, Deadline)}: the request is sent with
+     * {@link HttpClient#sendAsync}, the body is collected by the HTTP client's own I/O machinery and parsed
+     * when it has fully arrived, so no thread waits for the response.
+     * </p>
+     *
+     * <p>
+     * Cancelling the returned future cancels the HTTP exchange.
      * </p>
      *
-     * @param detectedLanguageObj the detected language object from the API response
-     * @return the detected language code as a String, or null if not available
-     * @throws LibreTranslateException if parsing the detected language fails
+     * @param request  the translation request to send
+     * @param route    the route of the request
+     * @param endpoint the endpoint chosen from the route, or null if none is available
+     * @param deadline the deadline of the call, which shortens the HTTP timeout
+     * @return a future completing with the parsed response, or failing with the request or parsing error
      */
-    private String extractDetectedLanguage(Object detectedLanguageObj) throws LibreTranslateException {
-        if (detectedLanguageObj == null) {
-            return null;
+    private CompletableFuture<TranslationResponse> sendRequestAsync(TranslationRequest request, EndpointRouter.Route route,
+                                                                    EndpointRouter.Endpoint endpoint, Deadline deadline) {
+        if (endpoint == null) {
+            logger.error("Circuit breaker is open, not sending async request");
+            return CompletableFuture.failedFuture(new LibreTranslateException(SERVICE_UNAVAILABLE));
         }
-
+        CircuitBreaker breaker = endpoint.breaker();
+        if (deadline.isExpired()) {
+            endpoint.complete();
+            breaker.releasePermission();
+            return CompletableFuture.failedFuture(deadline.exceeded(SEND_STAGE, null));
+        }
+        long startTime = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> sending;
         try {
-            if (detectedLanguageObj instanceof Map<?, ?> detectedLanguageMap) {
-                Object languageValue = detectedLanguageMap.get("language");
-                return languageValue instanceof String ? (String) languageValue : null;
+            sending = httpClient.sendAsync(buildHttpRequest(request, endpoint.uri(), deadline), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (Exception e) {
+            sending = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<HttpResponse<byte[]>> sent = sending;
+        CompletableFuture<TranslationResponse> completed = sent.thenApply(response -> {
+            try {
+                if (response.statusCode() != 200) {
+                    throw apiError(response, new String(response.body(), StandardCharsets.UTF_8));
+                }
+                TranslationResponse translationResponse = jsonCodec.readResponse(response.body());
+                logger.debug("Parsed {} translations", translationResponse.getTranslations().size());
+                return translationResponse;
+            } catch (LibreTranslateException | IOException e) {
+                throw new CompletionException(e);
             }
-
-            if (detectedLanguageObj instanceof List<?> detectedLanguageList && !detectedLanguageList.isEmpty()) {
-                Object firstElement = detectedLanguageList.get(0);
-                if (firstElement instanceof Map<?, ?> firstLanguageMap) {
-                    Object languageValue = firstLanguageMap.get("language");
-                    return languageValue instanceof String ? (String) languageValue : null;
-                } else if (firstElement instanceof String) {
-                    return (String) firstElement;
+        }).whenComplete((response, throwable) -> {
+            endpoint.complete();
+            long latency = System.nanoTime() - startTime;
+            totalLatencyNanos.addAndGet(latency);
+            if (throwable == null) {
+                successCount.incrementAndGet();
+                recordSuccess(request, latency);
+                breaker.onSuccess(latency);
+            } else {
+                Throwable cause = unwrap(throwable);
+                if (timedOut(cause, deadline) != cause) {
+                    breaker.releasePermission();
+                    logger.debug("Translation request to {} ran out of time", endpoint.url());
+                    return;
+                }
+                recordOutcome(breaker, cause, latency);
+                if (cause instanceof CancellationException) {
+                    logger.debug("Translation request to {} cancelled", endpoint.url());
+                    return;
+                }
+                route.failed(endpoint);
+                if (cause instanceof HttpTimeoutException) {
+                    recordOverload(-1);
                 }
+                incrementErrorCount(cause.getClass().getSimpleName());
+                logger.error("Failed to send translation request", cause);
             }
-
-            if (detectedLanguageObj instanceof String) {
-                return (String) detectedLanguageObj;
+        });
+        CompletableFuture<TranslationResponse> result = deadline.isBounded()
+                ? completed.exceptionallyCompose(throwable -> CompletableFuture.failedFuture(timedOut(unwrap(throwable), deadline)))
+                : completed.copy();
+        result.whenComplete((response, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                sent.cancel(true);
             }
+        });
+        return result;
+    }
 
-            logger.warn("Unsupported detectedLanguage format: {} with value: {}",
-                    detectedLanguageObj.getClass().getSimpleName(), detectedLanguageObj);
-            return null;
+    /**
+     * Builds the HTTP request for a translation request, with the body written by the streaming codec.
+     *
+     * @param request  the translation request
+     * @param uri      the endpoint to send it to
+     * @param deadline the deadline of the call; the socket timeout is shortened to the time left
+     * @return the HTTP request
+     * @throws IOException if the request body cannot be serialized
+     */
+    private HttpRequest buildHttpRequest(TranslationRequest request, URI uri, Deadline deadline) throws IOException {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .header("Content-Type", "application/json")
+                .header("User-Agent", "LibreTranslateClient/1.0")
+                .timeout(deadline.cap(Duration.ofMillis(config.get().getSocketTimeout())))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonCodec.writeRequest(request)))
+                .build();
+    }
 
-        } catch (Exception e) {
-            logger.error("Error parsing detected language: {}", e.getMessage(), e);
-            throw new LibreTranslateException("Error parsing detected language", e);
+    /**
+     * Records and builds the exception for a non-200 API response.
+     * <p>
+     * The exception carries the response headers and, if the server requested a pause with a
+     * {@code Retry-After} header or an exhausted rate limit, a {@link BackoffException} with that pause, which
+     * the retry loops wait for instead of the retry strategy's delay. 429 and 503 responses are reported as
+     * overload, which pauses the rate limiter for the requested time.
+     * </p>
+     *
+     * @param response the HTTP response
+     * @param body     the response body
+     * @return the exception to throw
+     */
+    private LibreTranslateApiException apiError(HttpResponse<?> response, String body) {
+        int statusCode = response.statusCode();
+        long retryAfter = RetryAfter.parseMillis(response.headers());
+        if (statusCode == 429 || statusCode == 503) {
+            recordOverload(retryAfter);
+        }
+        incrementErrorCount("HTTP_" + statusCode);
+        logger.error("LibreTranslate API request failed with status: {}, response body: {}", statusCode, body);
+        return new LibreTranslateApiException("LibreTranslate API request failed with status: " + statusCode + ", response: " + body,
+                statusCode, response.headers().map(), retryAfter >= 0 ? new BackoffException(retryAfter) : null);
+    }
+
+    /**
+     * Returns the pause the server requested after a failed attempt.
+     *
+     * @param error the error the attempt failed with
+     * @return the pause in milliseconds, or -1 if the server did not request one
+     */
+    private static long requestedBackoff(Throwable error) {
+        return error instanceof LibreTranslateApiException apiException ? apiException.getRetryAfterMillis() : -1;
+    }
+
+    /**
+     * Turns the timeout of an HTTP exchange that was cut short by the deadline of its call into a
+     * {@link DeadlineExceededException}. Such a timeout says nothing about the server, so it is neither retried
+     * nor counted against the endpoint.
+     *
+     * @param error    the error the exchange failed with
+     * @param deadline the deadline of the call
+     * @return the deadline error, or the error itself if it is not a timeout or the deadline has not passed
+     */
+    private static Throwable timedOut(Throwable error, Deadline deadline) {
+        return error instanceof HttpTimeoutException && deadline.isBounded() && deadline.isExpired()
+                ? deadline.exceeded(RESPONSE_STAGE, error)
+                : error;
+    }
+
+    /**
+     * Records a failed call in the circuit breaker. I/O errors, including timeouts and unreadable responses, and
+     * 5xx responses count as failures. Any other response shows that the server is up and counts as a success,
+     * while an interrupted or cancelled call gives its permission back.
+     *
+     * @param breaker      the circuit breaker that permitted the call
+     * @param error        the error the call failed with
+     * @param latencyNanos the call duration in nanoseconds
+     */
+    private static void recordOutcome(CircuitBreaker breaker, Throwable error, long latencyNanos) {
+        if (error instanceof IOException
+                || (error instanceof LibreTranslateApiException apiException && apiException.getStatusCode() >= 500)) {
+            breaker.onError(latencyNanos);
+        } else if (error instanceof InterruptedException || error instanceof CancellationException) {
+            breaker.releasePermission();
+        } else {
+            breaker.onSuccess(latencyNanos);
+        }
+    }
+
+    /**
+     * Reports a successful request to the retry budget, and its latency to the moving average retries are
+     * planned with, the adaptive rate controller and the hedger, if enabled.
+     *
+     * @param request      the request that succeeded, whose permits count towards the adaptive success window
+     * @param latencyNanos the request latency in nanoseconds
+     */
+    private void recordSuccess(TranslationRequest request, long latencyNanos) {
+        retryBudget.onRequest();
+        expectedLatencyNanos.getAndUpdate(current -> current == 0 ? latencyNanos : current + (latencyNanos - current) / 8);
+        AdaptiveRateController controller = adaptiveRate;
+        if (controller != null) {
+            controller.onSuccess(latencyNanos, config.get().getRateLimitMode().permitsFor(request));
+        }
+        RequestHedger currentHedger = hedger;
+        if (currentHedger != null) {
+            currentHedger.recordLatency(latencyNanos);
+        }
+    }
+
+    /**
+     * Reports an overload signal to the adaptive rate controller, if enabled, and pauses the rate limiter for
+     * the time requested by the server, at most {@link LibreTranslateConfig#getMaxRetryAfterMillis()}.
+     *
+     * @param retryAfterMillis the pause requested by the server, or -1 if none
+     */
+    private void recordOverload(long retryAfterMillis) {
+        long pause = Math.min(retryAfterMillis, config.get().getMaxRetryAfterMillis());
+        AdaptiveRateController controller = adaptiveRate;
+        if (controller != null) {
+            controller.onOverload(pause);
+        } else if (pause > 0) {
+            rateLimiter.pauseFor(pause, TimeUnit.MILLISECONDS);
+            logger.warn("Server requested a pause of {}ms", pause);
         }
     }
 
     /**
      * Executes a supplier with retry logic for synchronous operations.
      * <p>
-     * This method implements exponential backoff retry strategy for transient failures.
-     * It only retries on specific HTTP status codes (429, 500, 502, 503) and IO exceptions.
-     * Non-retryable errors are immediately propagated to the caller.
+     * This method waits between attempts as the configured {@link RetryStrategy} says, passing it the previous
+     * delay, or exactly as long as the server requested. It only retries on specific HTTP status codes (429, 500,
+     * 502, 503) and IO exceptions, only while the retry budget allows it, and not if the server requested a
+     * longer pause than {@link LibreTranslateConfig#getMaxRetryAfterMillis()}. Non-retryable errors are
+     * immediately propagated to the caller. A retry whose backoff and an attempt of the average successful
+     * latency do not fit in the time left before the deadline is not started; the call fails with a
+     * {@link DeadlineExceededException} instead.
      * </p>
      *
      * @param <T> the return type of the supplier
      * @param supplier the operation to execute with retry logic
+     * @param deadline the deadline of the call
      * @return the result of the successful operation
-     * @throws Exception if all retry attempts fail or a non-retryable error occurs
+     * @throws Exception if all retry attempts fail, a non-retryable error occurs or the deadline passes
      */
-    private <T> T executeWithRetry(SupplierWithException<T> supplier) throws Exception {
+    private <T> T executeWithRetry(SupplierWithException<T> supplier, Deadline deadline) throws Exception {
         if (!config.get().isRetryEnabled()) {
             return supplier.get();
         }
         int attempts = 0;
+        long backoff = 0;
         Exception lastException = null;
-        Set<Integer> retryableStatusCodes = Set.of(429, 500, 502, 503);
         RetryStrategy retryStrategy = config.get().getRetryStrategy();
         while (attempts <= config.get().getMaxRetries()) {
             try {
                 return supplier.get();
             } catch (LibreTranslateApiException e) {
-                if (!retryableStatusCodes.contains(e.getStatusCode())) {
+                if (!RETRYABLE_STATUS_CODES.contains(e.getStatusCode())) {
                     logger.error("Non-retryable API error: {}", e.getStatusCode());
                     throw e;
                 }
@@ -431,20 +1075,36 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new LibreTranslateException("Retry execution interrupted", e);
+            } catch (DeadlineExceededException e) {
+                logger.warn(e.getMessage());
+                throw e;
             } catch (Exception e) {
                 logger.error("Non-retryable error", e);
                 throw e;
             }
             attempts++;
             if (attempts <= config.get().getMaxRetries()) {
-                long backoff = retryStrategy.getNextDelay(attempts);
+                long requested = requestedBackoff(lastException);
+                if (requested > config.get().getMaxRetryAfterMillis()) {
+                    logger.warn("Server requested a pause of {}ms, not retrying", requested);
+                    break;
+                }
+                long delay = requested >= 0 ? requested : retryStrategy.getNextDelay(attempts, backoff);
+                if (!deadline.allows(delay, expectedLatencyNanos.get())) {
+                    logger.warn("Retry after {}ms cannot complete before the deadline, not retrying", delay);
+                    throw deadline.exceeded(RETRY_STAGE, lastException);
+                }
+                if (!retryBudget.tryAcquire()) {
+                    logger.warn("Retry budget exhausted, not retrying");
+                    break;
+                }
+                backoff = delay;
                 logger.warn("Retry attempt {}/{} after {}ms", attempts, config.get().getMaxRetries(), backoff);
                 Thread.sleep(backoff);
             }
         }
         if (lastException != null) {
             logger.error("All retries failed", lastException);
-            circuitBreaker.recordFailure();
             failureCount.incrementAndGet();
             incrementErrorCount(lastException.getClass().getSimpleName());
             throw lastException;
@@ -455,78 +1115,287 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
     /**
      * Executes asynchronous retry logic for translation requests.
      * <p>
-     * This method implements retry logic for async operations using CompletableFuture.
-     * It uses delayed execution for backoff timing and recursively calls itself
-     * for retry attempts. The method handles both retryable and non-retryable errors
-     * appropriately.
+     * The whole pipeline is non-blocking: the rate-limiter permit is obtained with
+     * {@link #acquirePermitsAsync(TranslationRequest)}, a concurrency slot with {@link ConcurrencyLimiter#acquireAsync()},
+     * the request is sent with {@link #sendRequestAsync(TranslationRequest, EndpointRouter.Route, EndpointRouter.Endpoint, Deadline)},
+     * and retries are scheduled after their backoff with {@link CompletableFuture#delayedExecutor}, so no
+     * thread is parked while waiting for quota, the response, or the next attempt. Only 429, 500, 502 and
+     * 503 responses and I/O errors are retried, and only while the retry budget allows it. A pause requested by
+     * the server replaces the retry strategy's delay, and a request is not retried if the pause is longer than
+     * {@link LibreTranslateConfig#getMaxRetryAfterMillis()}. Waits for permits and slots end at the deadline,
+     * and a retry that cannot complete before it is not scheduled; the future then fails with a
+     * {@link DeadlineExceededException} rather than the generic async failure.
      * </p>
      *
-     * @param request the translation request to retry
-     * @param attempt the current retry attempt number (0-based)
+     * @param request       the translation request to retry
+     * @param attempt       the current retry attempt number (0-based)
+     * @param previousDelay the backoff before this attempt in milliseconds, or 0 for the first attempt
+     * @param route         the route of the request, sending a retry to another endpoint than the one that failed
+     * @param deadline      the deadline of the call
      * @return a CompletableFuture that will complete with the translation response or error
      */
-    private CompletableFuture<TranslationResponse> executeWithAsyncRetry(TranslationRequest request, int attempt) {
-        if (!config.get().isRetryEnabled() || attempt > config.get().getMaxRetries()) {
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    rateLimiter.acquire();
-                    return sendRequest(request);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new CompletionException(new LibreTranslateException(ASYNC_TRANSLATION_FAILED, e));
-                } catch (Exception e) {
-                    throw new CompletionException(new LibreTranslateException(ASYNC_TRANSLATION_FAILED, e));
+    private CompletableFuture<TranslationResponse> executeWithAsyncRetry(TranslationRequest request, int attempt, long previousDelay,
+                                                                         EndpointRouter.Route route, Deadline deadline) {
+        CompletableFuture<Void> permit = deadline.within(acquirePermitsAsync(request), PERMIT_STAGE)
+                .thenCompose(v -> deadline.within(concurrencyLimiter.acquireAsync(), SLOT_STAGE));
+        CompletableFuture<TranslationResponse> sent = permit.isDone()
+                ? permit.thenCompose(v -> sendHedgedAsync(request, route, deadline, () -> sendWithSlotAsync(request, route, deadline)))
+                : permit.thenComposeAsync(v -> sendHedgedAsync(request, route, deadline, () -> sendWithSlotAsync(request, route, deadline)), virtualThreadExecutor);
+        return sent.exceptionallyCompose(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    LibreTranslateConfig current = config.get();
+                    if (current.isRetryEnabled() && attempt < current.getMaxRetries() && isRetryable(cause)) {
+                        long requested = requestedBackoff(cause);
+                        long backoff = requested >= 0 ? requested : current.getRetryStrategy().getNextDelay(attempt + 1, previousDelay);
+                        if (requested > current.getMaxRetryAfterMillis()) {
+                            logger.warn("Server requested a pause of {}ms, not retrying", requested);
+                        } else if (!deadline.allows(backoff, expectedLatencyNanos.get())) {
+                            logger.warn("Retry after {}ms cannot complete before the deadline, not retrying", backoff);
+                            cause = deadline.exceeded(RETRY_STAGE, cause);
+                        } else if (retryBudget.tryAcquire()) {
+                            logger.warn("Async retry attempt {}/{} after {}ms", attempt + 1, current.getMaxRetries(), backoff);
+                            return CompletableFuture.supplyAsync(() -> null,
+                                            CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS, virtualThreadExecutor))
+                                    .thenCompose(v -> executeWithAsyncRetry(request, attempt + 1, backoff, route, deadline));
+                        } else {
+                            logger.warn("Retry budget exhausted, not retrying");
+                        }
+                    }
+                    failureCount.incrementAndGet();
+                    incrementErrorCount(cause.getClass().getSimpleName());
+                    if (cause instanceof DeadlineExceededException) {
+                        logger.warn(cause.getMessage());
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        return CompletableFuture.failedFuture(new LibreTranslateException(TOO_MANY_CONCURRENT_REQUESTS, cause));
+                    }
+                    logger.error(ASYNC_TRANSLATION_FAILED, cause);
+                    return CompletableFuture.failedFuture(new LibreTranslateException(ASYNC_TRANSLATION_FAILED, cause));
+                });
+    }
+
+    /**
+     * Acquires the rate limiter permits a request costs, blocking until they are granted. Waiting requests are
+     * served by their {@link RequestPriority} through the {@link PriorityRateLimiter}. With rate limit
+     * partitioning enabled, the permits are taken through the {@link PartitionedRateLimiter}, which shares
+     * the priority lanes fairly between partitions.
+     *
+     * @param request  the translation request
+     * @param deadline the deadline of the call, which ends the wait
+     * @throws InterruptedException      if the thread is interrupted while waiting
+     * @throws DeadlineExceededException if the deadline passes before the permits are granted
+     */
+    private void acquirePermits(TranslationRequest request, Deadline deadline) throws InterruptedException, DeadlineExceededException {
+        CompletableFuture<Void> permit = deadline.bound(acquirePermitsAsync(request));
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            permit.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw deadline.exceeded(PERMIT_STAGE, null);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Permit acquisition failed", e.getCause());
+        }
+    }
+
+    /**
+     * Acquires a concurrency slot, blocking in the wait queue until one is free or the deadline passes.
+     *
+     * @param deadline the deadline of the call, which ends the wait
+     * @throws InterruptedException       if the thread is interrupted while waiting; no slot is held then
+     * @throws DeadlineExceededException  if the deadline passes before a slot is free
+     * @throws RejectedExecutionException if all slots are taken and the wait queue is full
+     */
+    private void acquireSlot(Deadline deadline) throws InterruptedException, DeadlineExceededException {
+        if (!deadline.isBounded()) {
+            concurrencyLimiter.acquire();
+            return;
+        }
+        CompletableFuture<Void> slot = deadline.bound(concurrencyLimiter.acquireAsync());
+        try {
+            slot.get();
+        } catch (InterruptedException e) {
+            if (!slot.cancel(false) && !slot.isCompletedExceptionally()) {
+                concurrencyLimiter.release();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw deadline.exceeded(SLOT_STAGE, null);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Slot acquisition failed", e.getCause());
+        }
+    }
+
+    /**
+     * Acquires the rate limiter permits a request costs without blocking the calling thread.
+     *
+     * @param request the translation request
+     * @return a future completing when the permits have been granted
+     * @see #acquirePermits(TranslationRequest, Deadline)
+     */
+    private CompletableFuture<Void> acquirePermitsAsync(TranslationRequest request) {
+        LibreTranslateConfig current = config.get();
+        int permits = current.getRateLimitMode().permitsFor(request);
+        String partition = current.getRateLimitPartitioning().partitionOf(request);
+        CompletableFuture<Void> permit = partition == null
+                ? priorityLimiter.acquireAsync(request.getPriority(), permits)
+                : partitionedLimiter.acquireAsync(partition, request.getPriority(), permits);
+        if (!permit.isDone()) {
+            long start = System.nanoTime();
+            permit.whenComplete((v, error) -> {
+                if (error == null) {
+                    throttleWaits.record(System.nanoTime() - start);
                 }
-            }, virtualThreadExecutor).thenApply(response -> {
-                circuitBreaker.recordSuccess();
-                return response;
-            }).exceptionallyCompose(throwable -> {
-                circuitBreaker.recordFailure();
-                failureCount.incrementAndGet();
-                incrementErrorCount(throwable.getCause().getClass().getSimpleName());
-                logger.error(ASYNC_TRANSLATION_FAILED, throwable);
-                return CompletableFuture.failedFuture(new LibreTranslateException(ASYNC_TRANSLATION_FAILED, throwable.getCause()));
             });
         }
+        return permit;
+    }
 
-        Set<Integer> retryableStatusCodes = Set.of(429, 500, 502, 503);
-        RetryStrategy retryStrategy = config.get().getRetryStrategy();
+    /**
+     * Acquires the rate limiter permits a request costs if they can be granted at once, through the same
+     * priority lane and partition as {@link #acquirePermitsAsync(TranslationRequest)}. Fails while requests
+     * are queued for permits, so that optional work such as a hedge never takes permits ahead of them.
+     *
+     * @param request the translation request
+     * @return true if the permits were granted
+     */
+    private boolean tryAcquirePermits(TranslationRequest request) {
+        LibreTranslateConfig current = config.get();
+        int permits = current.getRateLimitMode().permitsFor(request);
+        String partition = current.getRateLimitPartitioning().partitionOf(request);
+        return partition == null
+                ? priorityLimiter.tryAcquire(request.getPriority(), permits)
+                : partitionedLimiter.tryAcquire(partition, request.getPriority(), permits);
+    }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                rateLimiter.acquire();
-                return sendRequest(request);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new CompletionException(new LibreTranslateException("Async retry execution interrupted", e));
-            } catch (Exception e) {
-                if (e instanceof LibreTranslateApiException apiEx && !retryableStatusCodes.contains(apiEx.getStatusCode())) {
-                    logger.error("Non-retryable API error: {}", apiEx.getStatusCode());
-                    throw new CompletionException(new LibreTranslateException("Non-retryable API error: " + apiEx.getStatusCode(), e));
-                } else if (!(e instanceof IOException)) {
-                    logger.error("Non-retryable error: {}", e);
-                    throw new CompletionException(new LibreTranslateException("Non-retryable error", e));
-                }
-                logger.error("Retry execution failed", e);
-                throw new CompletionException(e);
-            }
-        }, virtualThreadExecutor).thenApply(response -> {
-            circuitBreaker.recordSuccess();
-            return response;
-        }).exceptionallyCompose(throwable -> {
-            if (attempt < config.get().getMaxRetries()) {
-                long backoff = retryStrategy.getNextDelay(attempt + 1);
-                logger.warn("Async retry attempt {}/{} after {}ms", attempt + 1, config.get().getMaxRetries(), backoff);
-                return CompletableFuture.runAsync(() -> {
-                        }, CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS, virtualThreadExecutor))
-                        .thenCompose(v -> executeWithAsyncRetry(request, attempt + 1));
+    /**
+     * Returns the rate limit partition a request is charged to under the current configuration.
+     *
+     * @param request the translation request
+     * @return the partition key, or {@code null} if the rate limit is not partitioned
+     */
+    private String partitionOf(TranslationRequest request) {
+        return config.get().getRateLimitPartitioning().partitionOf(request);
+    }
+
+    /**
+     * Sends a request asynchronously while holding a concurrency slot, releasing the slot when the response
+     * has been processed or the request has failed.
+     *
+     * @param request  the translation request to send
+     * @param route    the route of the request, choosing the endpoint
+     * @param deadline the deadline of the call
+     * @return a future completing with the parsed response; cancelling it cancels the HTTP exchange
+     */
+    private CompletableFuture<TranslationResponse> sendWithSlotAsync(TranslationRequest request, EndpointRouter.Route route,
+                                                                     Deadline deadline) {
+        return sendWithSlotAsync(request, route, route.next(), deadline);
+    }
+
+    private CompletableFuture<TranslationResponse> sendWithSlotAsync(TranslationRequest request, EndpointRouter.Route route,
+                                                                     EndpointRouter.Endpoint endpoint, Deadline deadline) {
+        CompletableFuture<TranslationResponse> response = sendRequestAsync(request, route, endpoint, deadline);
+        response.whenComplete((value, throwable) -> concurrencyLimiter.release());
+        return response;
+    }
+
+    /**
+     * Sends a request, hedging it with a duplicate if hedging is enabled and the request is slower than usual.
+     *
+     * @param request  the translation request to send
+     * @param route    the route of the request
+     * @param deadline the deadline of the call
+     * @param primary  sends the request itself
+     * @return a future completing with the first successful response
+     * @see RequestHedger
+     */
+    private CompletableFuture<TranslationResponse> sendHedgedAsync(TranslationRequest request, EndpointRouter.Route route, Deadline deadline,
+                                                                   Supplier<CompletableFuture<TranslationResponse>> primary) {
+        RequestHedger current = hedger;
+        if (current == null) {
+            return primary.get();
+        }
+        return current.execute(primary, () -> sendHedge(request, route, deadline), virtualThreadExecutor);
+    }
+
+    /**
+     * Sends the hedge of a request to an alternate endpoint, if a concurrency slot and rate limiter permits of
+     * the request's priority lane and partition are available at once and no other request is waiting for
+     * permits. A hedge never waits: by the time it could, the original request may have answered.
+     *
+     * @param request  the translation request to send
+     * @param route    the route of the request
+     * @param deadline the deadline of the call
+     * @return a future completing with the parsed response, or null if the hedge cannot be sent now
+     */
+    private CompletableFuture<TranslationResponse> sendHedge(TranslationRequest request, EndpointRouter.Route route, Deadline deadline) {
+        if (!concurrencyLimiter.tryAcquire()) {
+            return null;
+        }
+        EndpointRouter.Endpoint endpoint = null;
+        if (tryAcquirePermits(request)) {
+            endpoint = route.alternate();
+        }
+        if (endpoint == null) {
+            concurrencyLimiter.release();
+            return null;
+        }
+        logger.debug("Hedging slow request to {}", endpoint.url());
+        return sendWithSlotAsync(request, route, endpoint, deadline);
+    }
+
+    /**
+     * Waits for a response on the calling thread, rethrowing the cause of a failure so that it can be retried.
+     *
+     * @param response the future response
+     * @return the response
+     * @throws Exception the failure cause, or InterruptedException if the wait is interrupted
+     */
+    private static TranslationResponse await(CompletableFuture<TranslationResponse> response) throws Exception {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (unwrap(e.getCause()) instanceof Exception cause) {
+                throw cause;
             }
-            circuitBreaker.recordFailure();
-            failureCount.incrementAndGet();
-            incrementErrorCount(throwable.getCause().getClass().getSimpleName());
-            logger.error(ASYNC_TRANSLATION_FAILED, throwable);
-            return CompletableFuture.failedFuture(new LibreTranslateException(ASYNC_TRANSLATION_FAILED, throwable.getCause()));
-        });
+            throw e;
+        }
+    }
+
+    /**
+     * Determines whether a failed attempt may be retried.
+     *
+     * @param error the failure cause
+     * @return true for retryable HTTP status codes and I/O errors
+     */
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof LibreTranslateApiException apiException) {
+            return RETRYABLE_STATUS_CODES.contains(apiException.getStatusCode());
+        }
+        return error instanceof IOException;
+    }
+
+    /**
+     * Unwraps the {@link CompletionException} added by asynchronous stages.
+     *
+     * @param error the error
+     * @return its cause if it is a completion exception with a cause, otherwise the error itself
+     */
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
     /**
@@ -556,6 +1425,10 @@ public class LibreTranslateClientImpl implements LibreTranslateClient, Closeable
      * </p>
      */
     public void shutdown() {
+        TranslationCache current = cache;
+        if (current != null) {
+            current.close();
+        }
         virtualThreadExecutor.shutdown();
         try {
             if (!virtualThreadExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
@@ -0,0 +1,249 @@
+package com.java.vidigal.code.client;
+
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects single-text translations with the same language pair into multi-segment requests.
+ * <p>
+ * The first text submitted for a language pair opens a batch and schedules it to be sent after a short
+ * window. Texts submitted for the same pair during that window join the batch, and a batch reaching the
+ * maximum size is sent immediately. Each batch is sent as one {@link TranslationRequest} through
+ * {@link LibreTranslateClient#translateAsync(TranslationRequest)}, consuming a single rate-limiter permit,
+ * and the translations are fanned back out to the waiting futures. Identical texts within a batch are sent
+ * once.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public final class MicroBatcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MicroBatcher.class);
+
+    private final LibreTranslateClient client;
+    private final long windowMillis;
+    private final int maxSize;
+    private final Map<LanguagePair, Batch> open = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService timer;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong segments = new AtomicLong();
+    private boolean closed;
+
+    /**
+     * Constructs a new micro-batcher.
+     *
+     * @param client       the client used to send the batches
+     * @param windowMillis how long a batch waits for more texts before it is sent, in milliseconds, must be positive
+     * @param maxSize      the maximum number of distinct texts per batch, must be positive
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public MicroBatcher(LibreTranslateClient client, long windowMillis, int maxSize) {
+        if (client == null) {
+            throw new IllegalArgumentException("Client cannot be null");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("Micro-batch window must be positive");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Micro-batch max size must be positive");
+        }
+        this.client = client;
+        this.windowMillis = windowMillis;
+        this.maxSize = maxSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("libretranslate-micro-batcher").factory());
+    }
+
+    /**
+     * Submits a text for translation as part of the next batch for its language pair.
+     *
+     * @param text       the text to translate
+     * @param targetLang the target language code
+     * @param sourceLang the source language code, or null for auto-detection
+     * @return a future completing with the translation of {@code text}; failed futures contain a
+     * {@link LibreTranslateException} as the cause
+     */
+    public CompletableFuture<Translation> submit(String text, String targetLang, String sourceLang) {
+        CompletableFuture<Translation> future = new CompletableFuture<>();
+        LanguagePair pair = LanguagePair.of(targetLang, sourceLang);
+        Batch full = null;
+        lock.lock();
+        try {
+            if (closed) {
+                future.completeExceptionally(new LibreTranslateException("Micro-batcher is closed"));
+                return future;
+            }
+            submitted.incrementAndGet();
+            Batch batch = open.get(pair);
+            if (batch == null) {
+                batch = new Batch(targetLang, sourceLang);
+                Batch scheduled = batch;
+                batch.timeout = timer.schedule(() -> flush(pair, scheduled), windowMillis, TimeUnit.MILLISECONDS);
+                open.put(pair, batch);
+            }
+            batch.add(text, future);
+            if (batch.size() >= maxSize) {
+                open.remove(pair);
+                batch.timeout.cancel(false);
+                full = batch;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    /**
+     * Retrieves the current micro-batching statistics.
+     *
+     * @return a {@link MicroBatchStats} snapshot
+     */
+    public MicroBatchStats getStats() {
+        return new MicroBatchStats(submitted.get(), batches.get(), segments.get());
+    }
+
+    /**
+     * Stops the batcher. Texts still waiting for their batch to be sent fail with a
+     * {@link LibreTranslateException}; batches already sent are unaffected.
+     */
+    @Override
+    public void close() {
+        List<Batch> pending;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending = new ArrayList<>(open.values());
+            open.clear();
+        } finally {
+            lock.unlock();
+        }
+        timer.shutdownNow();
+        LibreTranslateException closedException = new LibreTranslateException("Micro-batcher is closed");
+        for (Batch batch : pending) {
+            batch.fail(closedException);
+        }
+    }
+
+    private void flush(LanguagePair pair, Batch batch) {
+        lock.lock();
+        try {
+            if (!open.remove(pair, batch)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        batches.incrementAndGet();
+        segments.addAndGet(batch.size());
+        List<String> texts = new ArrayList<>(batch.waiters.keySet());
+        logger.debug("Sending micro-batch of {} texts to {}", texts.size(), batch.targetLang);
+        CompletableFuture<TranslationResponse> response;
+        try {
+            response = client.translateAsync(new TranslationRequest(texts, batch.targetLang, batch.sourceLang));
+        } catch (RuntimeException e) {
+            batch.fail(e);
+            return;
+        }
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                batch.fail(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+            List<Translation> translations = result.getTranslations();
+            if (translations == null || translations.size() != texts.size()) {
+                logger.error("Invalid translation count: expected {}, got {}", texts.size(),
+                        translations == null ? 0 : translations.size());
+                batch.fail(new LibreTranslateException("Invalid translation count"));
+                return;
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                for (CompletableFuture<Translation> waiter : batch.waiters.get(texts.get(i))) {
+                    waiter.complete(translations.get(i));
+                }
+            }
+        });
+    }
+
+    /**
+     * Texts collected for one language pair, keyed by distinct text in submission order.
+     */
+    private static final class Batch {
+        private final String targetLang;
+        private final String sourceLang;
+        private final LinkedHashMap<String, List<CompletableFuture<Translation>>> waiters = new LinkedHashMap<>();
+        private ScheduledFuture<?> timeout;
+
+        private Batch(String targetLang, String sourceLang) {
+            this.targetLang = targetLang;
+            this.sourceLang = sourceLang;
+        }
+
+        private void add(String text, CompletableFuture<Translation> future) {
+            waiters.computeIfAbsent(text, key -> new ArrayList<>(1)).add(future);
+        }
+
+        private int size() {
+            return waiters.size();
+        }
+
+        private void fail(Throwable error) {
+            for (List<CompletableFuture<Translation>> futures : waiters.values()) {
+                for (CompletableFuture<Translation> future : futures) {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Normalized language pair used to group texts into batches.
+     */
+    private record LanguagePair(String target, String source) {
+        static LanguagePair of(String targetLang, String sourceLang) {
+            return new LanguagePair(targetLang.toLowerCase(Locale.ROOT),
+                    sourceLang == null ? "auto" : sourceLang.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Record representing micro-batching statistics.
+     *
+     * @param submitted the number of texts submitted
+     * @param batches   the number of batches sent
+     * @param segments  the number of distinct texts sent across all batches
+     */
+    public record MicroBatchStats(long submitted, long batches, long segments) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.java.vidigal.code.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate of a request that is slower than usual, and takes whichever response arrives first.
+ * <p>
+ * The hedger keeps the latencies of the last {@value #SAMPLE_SIZE} successful calls and, once it has seen
+ * {@value #MIN_SAMPLES}, waits for the configured percentile of them before hedging a call. If the call has
+ * not completed by then, a second copy is sent, usually to another endpoint; the first success completes the
+ * request and the other call is cancelled. A failure only completes the request once the other call has
+ * failed too. Hedges are paid for from a {@link TrafficBudget} funded by every call, so that hedging adds at
+ * most the budgeted share of extra load and stops by itself when the server is overloaded.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class RequestHedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestHedger.class);
+
+    /** The number of recent latencies the hedge delay is computed from. */
+    public static final int SAMPLE_SIZE = 256;
+
+    /** The number of latencies needed before any call is hedged. */
+    public static final int MIN_SAMPLES = 20;
+
+    /** The number of latencies recorded between updates of the hedge delay. */
+    private static final int REFRESH_INTERVAL = 16;
+
+    private final int percentile;
+    private final TrafficBudget budget;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong recorded = new AtomicLong();
+    private final LongAdder hedged = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private volatile long delayNanos = -1;
+
+    /**
+     * Constructs a hedger.
+     *
+     * @param percentile    the latency percentile after which a call is hedged, between 50 and 99
+     * @param budgetPercent the hedges allowed in percent of the calls, between 1 and 100
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public RequestHedger(int percentile, int budgetPercent) {
+        if (percentile < 50 || percentile > 99) {
+            logger.error("Invalid hedging percentile: {}", percentile);
+            throw new IllegalArgumentException("Hedging percentile must be between 50 and 99");
+        }
+        this.percentile = percentile;
+        this.budget = new TrafficBudget(budgetPercent, 10);
+    }
+
+    /**
+     * Records the latency of a successful call.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public void recordLatency(long latencyNanos) {
+        long count = recorded.getAndIncrement() + 1;
+        samples.set((int) ((count - 1) % SAMPLE_SIZE), latencyNanos);
+        if (count == MIN_SAMPLES || (count > MIN_SAMPLES && count % REFRESH_INTERVAL == 0)) {
+            refreshDelay(count);
+        }
+    }
+
+    /**
+     * Returns how long a call may run before it is hedged.
+     *
+     * @return the hedge delay in nanoseconds, or -1 while too few latencies have been recorded
+     */
+    public long getHedgeDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Runs a call, hedging it with a second call if it is still running after the hedge delay and the budget
+     * allows it.
+     * <p>
+     * The hedge supplier may return null if the hedge cannot be sent, for example for lack of rate limiter
+     * permits; the token spent on it is not returned. Cancelling the returned future cancels both calls.
+     * </p>
+     *
+     * @param primary  starts the call
+     * @param hedge    starts the hedge, or returns null if it cannot be sent
+     * @param executor the executor the hedge is started on
+     * @param <T>      the response type
+     * @return a future completing with the first successful response, or the error of the primary call if
+     * both calls fail
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> primary, Supplier<CompletableFuture<T>> hedge,
+                                            Executor executor) {
+        budget.onRequest();
+        CompletableFuture<T> first = primary.get();
+        long delay = delayNanos;
+        if (delay < 0 || first.isDone()) {
+            return first;
+        }
+        Race<T> race = new Race<>(first);
+        first.whenComplete((value, error) -> race.complete(first, value, error));
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor).execute(() -> race.launch(hedge));
+        return race.result;
+    }
+
+    /**
+     * Returns the current hedging statistics.
+     *
+     * @return a {@link HedgeStats} record
+     */
+    public HedgeStats getStats() {
+        long delay = delayNanos;
+        return new HedgeStats(delay < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delay), hedged.sum(), won.sum(),
+                budget.getStats().denied());
+    }
+
+    private void refreshDelay(long count) {
+        int size = (int) Math.min(count, SAMPLE_SIZE);
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(size * percentile / 100.0) - 1;
+        delayNanos = sorted[Math.max(0, rank)];
+    }
+
+    /**
+     * A call and its hedge racing for the result.
+     */
+    private final class Race<T> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final CompletableFuture<T> primary;
+        private CompletableFuture<T> backup;
+        private int running = 1;
+        private boolean settled;
+        private Throwable primaryError;
+
+        private Race(CompletableFuture<T> primary) {
+            this.primary = primary;
+            result.whenComplete((value, error) -> {
+                if (error instanceof CancellationException) {
+                    cancel(primary);
+                    cancel(backupOrNull());
+                }
+            });
+        }
+
+        private void launch(Supplier<CompletableFuture<T>> hedge) {
+            lock.lock();
+            try {
+                if (settled || !budget.tryAcquire()) {
+                    return;
+                }
+                running++;
+            } finally {
+                lock.unlock();
+            }
+            CompletableFuture<T> started = start(hedge);
+            if (started == null) {
+                complete(null, null, null);
+                return;
+            }
+            hedged.increment();
+            lock.lock();
+            try {
+                backup = started;
+            } finally {
+                lock.unlock();
+            }
+            started.whenComplete((value, error) -> complete(started, value, error));
+            if (isSettled() && !started.isDone()) {
+                cancel(started);
+            }
+        }
+
+        private CompletableFuture<T> start(Supplier<CompletableFuture<T>> hedge) {
+            try {
+                return hedge.get();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to send hedged request", e);
+                return null;
+            }
+        }
+
+        /**
+         * Settles one call. A null source stands for a hedge that could not be sent.
+         */
+        private void complete(CompletableFuture<T> source, T value, Throwable error) {
+            CompletableFuture<T> loser = null;
+            boolean succeeded = source != null && error == null;
+            lock.lock();
+            try {
+                if (settled || result.isDone()) {
+                    return;
+                }
+                if (succeeded) {
+                    loser = source == primary ? backup : primary;
+                    if (source != primary) {
+                        won.increment();
+                    }
+                } else {
+                    running--;
+                    if (source == primary) {
+                        primaryError = error;
+                    } else if (primaryError == null && source != null) {
+                        primaryError = error;
+                    }
+                    if (running > 0) {
+                        return;
+                    }
+                }
+                settled = true;
+            } finally {
+                lock.unlock();
+            }
+            if (succeeded) {
+                cancel(loser);
+                result.complete(value);
+            } else {
+                result.completeExceptionally(primaryError);
+            }
+        }
+
+        private boolean isSettled() {
+            lock.lock();
+            try {
+                return settled || result.isDone();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private CompletableFuture<T> backupOrNull() {
+            lock.lock();
+            try {
+                return backup;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void cancel(CompletableFuture<T> call) {
+            if (call != null && !call.isDone()) {
+                call.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Record representing hedging statistics.
+     *
+     * @param delayMillis  the current hedge delay in milliseconds, or -1 while too few latencies are known
+     * @param hedgesSent   the number of hedges sent
+     * @param hedgesWon    the number of hedges that answered before the call they duplicated
+     * @param budgetDenied the number of hedges not sent because the budget was exhausted
+     */
+    public record HedgeStats(long delayMillis, long hedgesSent, long hedgesWon, long budgetDenied) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.java.vidigal.code.client;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Parses the HTTP {@code Retry-After} response header, and the rate-limit headers as a fallback.
+ * <p>
+ * The header holds either a number of seconds or an HTTP date (RFC 1123). Both forms are converted to a
+ * delay in milliseconds from now; dates in the past yield zero.
+ * </p>
+ * <p>
+ * Without a {@code Retry-After} header, a response reporting that no requests remain in the current rate-limit
+ * window, with {@code RateLimit-Remaining} or {@code X-RateLimit-Remaining} set to zero, asks for a pause until
+ * the window resets. {@code RateLimit-Reset} holds the seconds until then; {@code X-RateLimit-Reset}, as sent by
+ * LibreTranslate, holds either seconds or, for values too large to be a delay, the Unix time of the reset.
+ * </p>
+ *
+ * @author Vidigal
+ */
+final class RetryAfter {
+
+    /** Reset values above this many seconds, about 31 years, are Unix times rather than delays. */
+    private static final long MAX_RESET_DELAY_SECONDS = 1_000_000_000L;
+
+    private RetryAfter() {
+    }
+
+    /**
+     * Returns the delay requested by the {@code Retry-After} header of a response, or else by its rate-limit
+     * headers.
+     *
+     * @param headers the response headers
+     * @return the delay in milliseconds, or -1 if the response does not request one or its headers are malformed
+     */
+    static long parseMillis(HttpHeaders headers) {
+        Optional<String> retryAfter = headers.firstValue("Retry-After");
+        if (retryAfter.isPresent()) {
+            return parseMillis(retryAfter.get());
+        }
+        if (isExhausted(headers, "RateLimit-Remaining")) {
+            return headers.firstValue("RateLimit-Reset").map(RetryAfter::parseResetMillis).orElse(-1L);
+        }
+        if (isExhausted(headers, "X-RateLimit-Remaining")) {
+            return headers.firstValue("X-RateLimit-Reset").map(RetryAfter::parseResetMillis).orElse(-1L);
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a {@code Retry-After} header value.
+     *
+     * @param value the header value
+     * @return the delay in milliseconds, or -1 if the value is malformed
+     */
+    static long parseMillis(String value) {
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds >= 0 ? Duration.ofSeconds(seconds).toMillis() : -1;
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try an HTTP date below
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses a rate-limit reset header value, in seconds from now or as a Unix time in seconds.
+     *
+     * @param value the header value
+     * @return the delay in milliseconds, or -1 if the value is malformed
+     */
+    static long parseResetMillis(String value) {
+        try {
+            long seconds = Long.parseLong(value.trim());
+            if (seconds < 0 || seconds > Long.MAX_VALUE / 1000) {
+                return -1;
+            }
+            if (seconds > MAX_RESET_DELAY_SECONDS) {
+                return Math.max(0, seconds * 1000 - System.currentTimeMillis());
+            }
+            return seconds * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean isExhausted(HttpHeaders headers, String remainingHeader) {
+        return headers.firstValue(remainingHeader).map(value -> value.trim().equals("0")).orElse(false);
+    }
+}
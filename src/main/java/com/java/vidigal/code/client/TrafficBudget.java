@@ -0,0 +1,116 @@
+package com.java.vidigal.code.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket that limits extra requests, such as hedges or retries, to a percentage of the regular traffic.
+ * <p>
+ * Every regular request deposits {@code percent / 100} of a token, up to a maximum balance, and every extra
+ * request withdraws a whole token. With a budget of 5 percent, at most one extra request is sent for every
+ * twenty regular ones over time, plus the initial balance as a burst. When the server slows down or fails,
+ * regular traffic and therefore the budget shrink with it, so that extra requests cannot amplify an overload.
+ * </p>
+ * <p>
+ * The balance is counted in hundredths of a token in a single atomic, so the budget is lock-free.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class TrafficBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficBudget.class);
+
+    /** Hundredths of a token per token. */
+    private static final long SCALE = 100;
+
+    private final long maxBalance;
+    private final AtomicLong balance;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private volatile int percent;
+
+    /**
+     * Constructs a budget with a full balance.
+     *
+     * @param percent   the extra requests allowed in percent of the regular requests, between 1 and 100
+     * @param maxTokens the largest balance in whole tokens, which bounds a burst of extra requests, must be positive
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public TrafficBudget(int percent, int maxTokens) {
+        validate(percent);
+        if (maxTokens <= 0) {
+            logger.error("Invalid traffic budget balance: {}", maxTokens);
+            throw new IllegalArgumentException("Maximum tokens must be positive");
+        }
+        this.percent = percent;
+        this.maxBalance = maxTokens * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Updates the percentage of extra requests allowed. The current balance is kept.
+     *
+     * @param percent the new percentage, between 1 and 100
+     * @throws IllegalArgumentException if the percentage is out of range
+     */
+    public void update(int percent) {
+        validate(percent);
+        this.percent = percent;
+    }
+
+    /**
+     * Records a regular request, depositing its share of a token.
+     */
+    public void onRequest() {
+        int deposit = percent;
+        balance.getAndUpdate(current -> Math.min(maxBalance, current + deposit));
+    }
+
+    /**
+     * Withdraws a token for an extra request if the balance allows it.
+     *
+     * @return true if the extra request may be sent
+     */
+    public boolean tryAcquire() {
+        long current = balance.get();
+        while (current >= SCALE) {
+            if (balance.compareAndSet(current, current - SCALE)) {
+                acquired.increment();
+                return true;
+            }
+            current = balance.get();
+        }
+        denied.increment();
+        return false;
+    }
+
+    /**
+     * Returns the current budget statistics.
+     *
+     * @return a {@link BudgetStats} record
+     */
+    public BudgetStats getStats() {
+        return new BudgetStats((double) balance.get() / SCALE, acquired.sum(), denied.sum());
+    }
+
+    private static void validate(int percent) {
+        if (percent < 1 || percent > 100) {
+            logger.error("Invalid traffic budget percentage: {}", percent);
+            throw new IllegalArgumentException("Budget percentage must be between 1 and 100");
+        }
+    }
+
+    /**
+     * Record representing traffic budget statistics.
+     *
+     * @param tokens   the current balance in tokens
+     * @param acquired the number of extra requests allowed
+     * @param denied   the number of extra requests refused for lack of budget
+     */
+    public record BudgetStats(double tokens, long acquired, long denied) {
+    }
+}
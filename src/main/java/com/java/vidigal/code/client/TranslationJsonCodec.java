@@ -0,0 +1,228 @@
+package com.java.vidigal.code.client;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.java.vidigal.code.language.Language;
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Streaming JSON codec for the LibreTranslate {@code /translate} endpoint.
+ * <p>
+ * Requests are written token by token with a {@link JsonGenerator} into pooled {@link ByteArrayBuilder}
+ * buffers, so serializing a request allocates only the final body array. Responses are read with a
+ * {@link JsonParser} directly into {@link Translation} objects, without materializing the whole body as a
+ * {@code String} or an intermediate {@code Map}. Unknown fields are skipped.
+ * </p>
+ * <p>
+ * Both {@code translatedText} and {@code detectedLanguage} may be a single value or an array (one entry per
+ * segment). When the detected languages are an array of the same length as the translations, each
+ * translation gets its own detected language; otherwise the first detected language applies to all.
+ * </p>
+ * <p>
+ * Instances are thread-safe and intended to be shared. The {@link JsonFactory} can be supplied, for example
+ * the factory of an application's {@code ObjectMapper}, so that its parser and generator features and
+ * stream constraints apply.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public final class TranslationJsonCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationJsonCodec.class);
+
+    /** Default factory; Jackson factories are thread-safe and recycle their internal buffers. */
+    private static final JsonFactory DEFAULT_FACTORY = new JsonFactory();
+
+    /** Number of idle request buffers kept for reuse. */
+    private static final int POOL_SIZE = 32;
+
+    /** Buffers that grew beyond this size are dropped instead of pooled, to avoid pinning memory. */
+    private static final int MAX_POOLED_BUFFER_BYTES = 256 * 1024;
+
+    private final JsonFactory factory;
+    private final ArrayBlockingQueue<ByteArrayBuilder> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * Constructs a codec using a default {@link JsonFactory}.
+     */
+    public TranslationJsonCodec() {
+        this(DEFAULT_FACTORY);
+    }
+
+    /**
+     * Constructs a codec creating its parsers and generators with the given factory.
+     *
+     * @param factory the JSON factory, must not be null
+     * @throws IllegalArgumentException if the factory is null
+     */
+    public TranslationJsonCodec(JsonFactory factory) {
+        if (factory == null) {
+            logger.error("JSON factory is null");
+            throw new IllegalArgumentException("JSON factory cannot be null");
+        }
+        this.factory = factory;
+    }
+
+    /**
+     * Serializes a translation request to a UTF-8 JSON body.
+     *
+     * @param request the translation request
+     * @return the request body
+     * @throws IOException if the request cannot be written
+     */
+    public byte[] writeRequest(TranslationRequest request) throws IOException {
+        ByteArrayBuilder buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new ByteArrayBuilder(1024);
+        }
+        try {
+            try (JsonGenerator generator = factory.createGenerator(buffer, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("q");
+                for (String segment : request.getTextSegments()) {
+                    generator.writeString(segment);
+                }
+                generator.writeEndArray();
+                generator.writeStringField("source", request.getSourceLang() != null
+                        ? request.getSourceLang().toLowerCase(Locale.ROOT)
+                        : Language.AUTO.getCode().toLowerCase(Locale.ROOT));
+                generator.writeStringField("target", request.getTargetLang().toLowerCase(Locale.ROOT));
+                generator.writeStringField("format", "text");
+                generator.writeEndObject();
+            }
+            return buffer.toByteArray();
+        } finally {
+            buffer.reset();
+            if (buffer.getCurrentSegment().length <= MAX_POOLED_BUFFER_BYTES) {
+                buffers.offer(buffer);
+            }
+        }
+    }
+
+    /**
+     * Parses a response body from a stream. The stream is not closed.
+     *
+     * @param body the response body
+     * @return the parsed response
+     * @throws IOException if the body is not valid JSON
+     */
+    public TranslationResponse readResponse(InputStream body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            return readResponse(parser);
+        }
+    }
+
+    /**
+     * Parses a response body.
+     *
+     * @param body the response body
+     * @return the parsed response
+     * @throws IOException if the body is not valid JSON
+     */
+    public TranslationResponse readResponse(byte[] body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            return readResponse(parser);
+        }
+    }
+
+    private TranslationResponse readResponse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object in translation response");
+        }
+        List<String> texts = null;
+        List<String> detected = List.of();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "translatedText" -> texts = readTexts(parser, value);
+                case "detectedLanguage" -> detected = readDetectedLanguages(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        if (texts == null) {
+            logger.warn("Translation response has no usable translatedText");
+            texts = List.of("");
+        }
+        List<Translation> translations = new ArrayList<>(texts.size());
+        boolean perSegment = detected.size() == texts.size();
+        String first = detected.isEmpty() ? null : detected.getFirst();
+        for (int i = 0; i < texts.size(); i++) {
+            translations.add(new Translation(texts.get(i), perSegment ? detected.get(i) : first));
+        }
+        return new TranslationResponse(translations);
+    }
+
+    private static List<String> readTexts(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return List.of(parser.getText());
+        }
+        if (value == JsonToken.START_ARRAY) {
+            List<String> texts = new ArrayList<>();
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (element == JsonToken.VALUE_STRING) {
+                    texts.add(parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return texts;
+        }
+        logger.warn("Unexpected translatedText token: {}", value);
+        parser.skipChildren();
+        return null;
+    }
+
+    private static List<String> readDetectedLanguages(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.START_ARRAY) {
+            List<String> languages = new ArrayList<>();
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                languages.add(readDetectedLanguage(parser, element));
+            }
+            return languages;
+        }
+        String language = readDetectedLanguage(parser, value);
+        return language != null ? List.of(language) : List.of();
+    }
+
+    private static String readDetectedLanguage(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (value == JsonToken.START_OBJECT) {
+            String language = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken fieldValue = parser.nextToken();
+                if ("language".equals(field) && fieldValue == JsonToken.VALUE_STRING) {
+                    language = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return language;
+        }
+        if (value != JsonToken.VALUE_NULL) {
+            logger.warn("Unsupported detectedLanguage token: {}", value);
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
@@ -3,7 +3,9 @@ package com.java.vidigal.code.exception;
 /**
  * An exception to encapsulate backoff duration for retry operations.
  * <p>
- * Used in asynchronous retry mechanisms to indicate the delay before the next attempt.
+ * Used in retry mechanisms to indicate the delay before the next attempt. The client attaches it as the cause
+ * of a {@link LibreTranslateApiException} when the server requested a pause, and waits exactly that long
+ * before retrying instead of using its own backoff.
  * </p>
  *
  * @author Vidigal
@@ -19,9 +21,7 @@ public class BackoffException extends Exception {
      * @throws IllegalArgumentException if backoff is negative
      */
     public BackoffException(long backoff) {
-        if (backoff < 0) {
-            throw new IllegalArgumentException("Backoff duration cannot be negative: " + backoff);
-        }
+        super(message(backoff));
         this.backoff = backoff;
     }
 
@@ -33,4 +33,11 @@ public class BackoffException extends Exception {
     public long getBackoff() {
         return backoff;
     }
+
+    private static String message(long backoff) {
+        if (backoff < 0) {
+            throw new IllegalArgumentException("Backoff duration cannot be negative: " + backoff);
+        }
+        return "Backoff of " + backoff + "ms requested";
+    }
 }
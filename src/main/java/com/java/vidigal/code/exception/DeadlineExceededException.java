@@ -0,0 +1,33 @@
+package com.java.vidigal.code.exception;
+
+/**
+ * Exception thrown when a translation does not complete within the time its caller allowed for it.
+ * <p>
+ * The deadline covers the whole call: waiting for an identical request in flight, for rate limiter permits
+ * and a concurrency slot, every HTTP attempt and the backoff between them. The cause, if any, is the error of
+ * the last attempt that the remaining time did not allow to retry.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class DeadlineExceededException extends LibreTranslateException {
+
+    /**
+     * Constructs a new DeadlineExceededException with the specified message.
+     *
+     * @param message The detail message.
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new DeadlineExceededException with the specified message and cause.
+     *
+     * @param message The detail message.
+     * @param cause   The error of the last attempt.
+     */
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
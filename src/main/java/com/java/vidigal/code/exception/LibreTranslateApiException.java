@@ -1,10 +1,21 @@
 package com.java.vidigal.code.exception;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Exception for failures in LibreTranslate API requests, including HTTP status code.
+ * <p>
+ * The response headers are kept so that callers can inspect rate-limit information. When the server asked
+ * the client to wait before trying again, with a {@code Retry-After} header or an exhausted rate limit and its
+ * reset time, the cause is a {@link BackoffException} holding the requested pause.
+ * </p>
  */
 public class LibreTranslateApiException extends LibreTranslateException {
     private final int statusCode;
+    /** Not serialized: header maps are not guaranteed to be serializable. */
+    private final transient Map<String, List<String>> headers;
 
     /**
      * Constructs a new LibreTranslateApiException with the specified message and status code.
@@ -13,8 +24,22 @@ public class LibreTranslateApiException extends LibreTranslateException {
      * @param statusCode The HTTP status code of the failed request.
      */
     public LibreTranslateApiException(String message, int statusCode) {
-        super(message);
+        this(message, statusCode, Map.of(), null);
+    }
+
+    /**
+     * Constructs a new LibreTranslateApiException with the response headers and the pause requested by the server.
+     *
+     * @param message    The detail message.
+     * @param statusCode The HTTP status code of the failed request.
+     * @param headers    The response headers, keyed by header name.
+     * @param backoff    The pause requested by the server, or {@code null} if none.
+     */
+    public LibreTranslateApiException(String message, int statusCode, Map<String, List<String>> headers,
+                                      BackoffException backoff) {
+        super(message, backoff);
         this.statusCode = statusCode;
+        this.headers = headers == null ? Map.of() : headers;
     }
 
     /**
@@ -25,4 +50,37 @@ public class LibreTranslateApiException extends LibreTranslateException {
     public int getStatusCode() {
         return statusCode;
     }
+
+    /**
+     * Returns the headers of the failed response.
+     *
+     * @return The response headers, keyed by header name; empty if unknown or after deserialization.
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers == null ? Map.of() : headers;
+    }
+
+    /**
+     * Returns the first value of a response header, ignoring the case of its name.
+     *
+     * @param name The header name.
+     * @return The header value, or empty if the response did not have the header.
+     */
+    public Optional<String> getHeader(String name) {
+        for (Map.Entry<String, List<String>> header : getHeaders().entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return Optional.of(header.getValue().getFirst());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns how long the server asked the client to wait before trying again.
+     *
+     * @return The pause in milliseconds, or -1 if the server did not request one.
+     */
+    public long getRetryAfterMillis() {
+        return getCause() instanceof BackoffException backoff ? backoff.getBackoff() : -1;
+    }
 }
@@ -0,0 +1,19 @@
+package com.java.vidigal.code.request;
+
+/**
+ * The priority lane of a translation request while it waits for the client's rate limit.
+ * <p>
+ * Requests are {@link #HIGH} priority unless marked otherwise, so that latency-sensitive traffic keeps its
+ * behaviour when a throughput-oriented job such as a backfill marks its requests {@link #LOW}.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public enum RequestPriority {
+
+    /** Latency-sensitive requests, served first. */
+    HIGH,
+
+    /** Throughput-oriented requests, served when no high-priority request waits or by their guaranteed share. */
+    LOW
+}
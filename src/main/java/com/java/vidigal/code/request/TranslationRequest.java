@@ -1,5 +1,6 @@
 package com.java.vidigal.code.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -18,10 +19,52 @@ public class TranslationRequest {
     @JsonProperty("source_lang")
     private final String sourceLang;
 
+    @JsonIgnore
+    private final String tenant;
+
+    @JsonIgnore
+    private final RequestPriority priority;
+
     public TranslationRequest(List<String> text, String targetLang, String sourceLang) {
+        this(text, targetLang, sourceLang, null);
+    }
+
+    /**
+     * Creates a request tagged with the tenant it is made for.
+     * <p>
+     * The tenant is not sent to the API; it selects the rate limit partition when the client partitions its
+     * rate limit by tenant.
+     * </p>
+     *
+     * @param text       the text segments to translate
+     * @param targetLang the target language code
+     * @param sourceLang the source language code, or null for auto-detection
+     * @param tenant     the tenant tag, or null for the default partition
+     */
+    public TranslationRequest(List<String> text, String targetLang, String sourceLang, String tenant) {
+        this(text, targetLang, sourceLang, tenant, RequestPriority.HIGH);
+    }
+
+    /**
+     * Creates a request tagged with its tenant and priority.
+     * <p>
+     * Neither is sent to the API. The priority selects the lane the request waits in for the client's rate
+     * limit; low-priority requests yield to high-priority ones.
+     * </p>
+     *
+     * @param text       the text segments to translate
+     * @param targetLang the target language code
+     * @param sourceLang the source language code, or null for auto-detection
+     * @param tenant     the tenant tag, or null for the default partition
+     * @param priority   the priority, or null for {@link RequestPriority#HIGH}
+     */
+    public TranslationRequest(List<String> text, String targetLang, String sourceLang, String tenant,
+                              RequestPriority priority) {
         this.text = text;
         this.targetLang = targetLang;
         this.sourceLang = sourceLang;
+        this.tenant = tenant;
+        this.priority = priority == null ? RequestPriority.HIGH : priority;
     }
 
     /**
@@ -50,4 +93,22 @@ public class TranslationRequest {
     public String getSourceLang() {
         return sourceLang;
     }
+
+    /**
+     * Gets the tenant tag used for rate limit partitioning.
+     *
+     * @return The tenant tag, or null if not specified.
+     */
+    public String getTenant() {
+        return tenant;
+    }
+
+    /**
+     * Gets the priority lane of the request.
+     *
+     * @return The request priority.
+     */
+    public RequestPriority getPriority() {
+        return priority;
+    }
 }
@@ -0,0 +1,46 @@
+package com.java.vidigal.code.utilities.cache;
+
+import com.java.vidigal.code.language.Language;
+
+/**
+ * Identifies a single cached translation segment by its language pair and source text.
+ * <p>
+ * Language codes are normalized to lower case, and a missing source language is stored as
+ * {@link Language#AUTO}, so that equivalent requests always map to the same key.
+ * </p>
+ *
+ * @param source the normalized source language code
+ * @param target the normalized target language code
+ * @param text   the untranslated text segment
+ * @author Vidigal
+ */
+public record CacheKey(String source, String target, String text) {
+
+    /**
+     * Creates a normalized cache key.
+     *
+     * @param source the source language code, or null for auto-detection
+     * @param target the target language code, must not be null
+     * @param text   the untranslated text segment, must not be null
+     * @return the normalized key
+     * @throws IllegalArgumentException if {@code target} or {@code text} is null
+     */
+    public static CacheKey of(String source, String target, String text) {
+        if (target == null || text == null) {
+            throw new IllegalArgumentException("Target language and text must not be null");
+        }
+        String normalizedSource = source == null || source.isBlank()
+                ? Language.AUTO.getCode().toLowerCase()
+                : source.toLowerCase();
+        return new CacheKey(normalizedSource, target.toLowerCase(), text);
+    }
+
+    /**
+     * Estimates the heap footprint of this key in bytes, used for cache size accounting.
+     *
+     * @return the approximate size in bytes
+     */
+    long estimatedBytes() {
+        return 2L * (source.length() + target.length() + text.length());
+    }
+}
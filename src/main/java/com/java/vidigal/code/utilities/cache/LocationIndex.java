@@ -0,0 +1,149 @@
+package com.java.vidigal.code.utilities.cache;
+
+/**
+ * Open-addressing hash map from 64-bit key hashes to packed record locations, the in-memory index of a
+ * {@link PersistentTranslationStore}.
+ * <p>
+ * Keys and locations live in two parallel {@code long} arrays probed linearly, so an entry costs 16 bytes
+ * per slot instead of a map node and two boxed {@code Long}s. A location of 0 marks an empty slot; it never
+ * names a real record because segment ids start at 1. Removal shifts the following entries of a probe run
+ * back into the freed slot, so no tombstones are left behind.
+ * </p>
+ * <p>
+ * Not thread-safe; the store guards it with its lock.
+ * </p>
+ *
+ * @author Vidigal
+ */
+final class LocationIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] locations;
+    private int mask;
+    private int size;
+
+    LocationIndex() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the location stored for a key.
+     *
+     * @param key the key hash
+     * @return the location, or 0 if the key is absent
+     */
+    long get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long location = locations[slot];
+            if (location == 0 || keys[slot] == key) {
+                return location;
+            }
+        }
+    }
+
+    /**
+     * Stores the location of a key, replacing any previous one.
+     *
+     * @param key      the key hash
+     * @param location the location, must not be 0
+     * @return the previous location, or 0 if the key was absent
+     */
+    long put(long key, long location) {
+        if ((size + 1) * 2 > locations.length) {
+            grow();
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long previous = locations[slot];
+            if (previous == 0) {
+                keys[slot] = key;
+                locations[slot] = location;
+                size++;
+                return 0;
+            }
+            if (keys[slot] == key) {
+                locations[slot] = location;
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * Removes a key if it is still stored at the given location.
+     *
+     * @param key      the key hash
+     * @param location the expected location
+     * @return true if the key was removed
+     */
+    boolean remove(long key, long location) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long stored = locations[slot];
+            if (stored == 0) {
+                return false;
+            }
+            if (keys[slot] == key) {
+                if (stored != location) {
+                    return false;
+                }
+                delete(slot);
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Frees a slot, moving back every later entry of the probe run that may take its place.
+     */
+    private void delete(int slot) {
+        int hole = slot;
+        for (int next = (hole + 1) & mask; locations[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                locations[hole] = locations[next];
+                hole = next;
+            }
+        }
+        keys[hole] = 0;
+        locations[hole] = 0;
+        size--;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldLocations = locations;
+        allocate(oldLocations.length * 2);
+        for (int i = 0; i < oldLocations.length; i++) {
+            if (oldLocations[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (locations[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                locations[slot] = oldLocations[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        locations = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,672 @@
+package com.java.vidigal.code.utilities.cache;
+
+import com.java.vidigal.code.request.Translation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A disk-backed store of translated segments that survives process restarts.
+ * <p>
+ * Translations are appended to fixed-size, memory-mapped segment files ({@code segment-NNNNNN.seg}) in a
+ * directory owned exclusively by one store. Each record carries a 64-bit hash of its {@link CacheKey},
+ * its expiry time and the UTF-8 encoded key and translation. An in-memory {@link LocationIndex} maps each
+ * key hash to a packed {@code (segment, offset)} location in primitive arrays; it is rebuilt at startup by
+ * scanning only the fixed-size record headers, so warm-loading never decodes the stored text. The full key
+ * is compared on read to rule out hash collisions.
+ * </p>
+ * <p>
+ * Records are never modified in place. Overwritten and expired records become garbage, which
+ * {@link #compact()} reclaims by copying the live records of mostly-dead segments into the active
+ * segment and deleting the old files. Records are published by writing their length field last, so a
+ * crash mid-write leaves an unterminated tail that is ignored on the next scan.
+ * </p>
+ * <p>
+ * The segment files never exceed a maximum total size: when a new segment would take the store over it,
+ * the oldest segments are deleted together with the entries they still hold, like a FIFO cache. The memory
+ * tier in front of the store keeps the entries that are in use.
+ * </p>
+ * <p>
+ * Reads take a shared lock and writes an exclusive {@link ReentrantReadWriteLock}.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class PersistentTranslationStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentTranslationStore.class);
+
+    private static final int FILE_MAGIC = 0x4C544331; // "LTC1"
+    private static final int FILE_HEADER_BYTES = 8;
+    /** Record header: length (4), key hash (8), expiry (8). */
+    private static final int RECORD_HEADER_BYTES = 20;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String LOCK_FILE = "store.lock";
+    private static final double COMPACTION_GARBAGE_RATIO = 0.5;
+    private static final int MIN_SEGMENT_BYTES = 64 * 1024;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long maxBytes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final LocationIndex index = new LocationIndex();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong compactions = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+    private Segment active;
+    private long storeBytes;
+    private boolean closed;
+
+    /**
+     * Opens (or creates) a store in the given directory and loads its index.
+     *
+     * @param directory    the directory holding the segment files; created if missing
+     * @param segmentBytes the size of each segment file in bytes, at least 64 KiB
+     * @param maxBytes     the maximum total size of the segment files in bytes, at least two segments
+     * @throws IOException              if the directory cannot be created, is used by another store, or a
+     *                                  segment cannot be mapped
+     * @throws IllegalArgumentException if {@code segmentBytes} or {@code maxBytes} is out of range
+     */
+    public PersistentTranslationStore(Path directory, int segmentBytes, long maxBytes) throws IOException {
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_BYTES + " bytes");
+        }
+        if (maxBytes < 2L * segmentBytes) {
+            throw new IllegalArgumentException("Maximum store size must hold at least two segments");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lockChannel.close();
+            throw new IOException("Persistent cache directory is already open in this process: " + directory, e);
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IOException("Persistent cache directory is in use by another process: " + directory);
+        }
+        this.fileLock = acquired;
+        try {
+            load();
+        } catch (IOException e) {
+            releaseFiles();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the stored translation for a key, or {@code null} if absent or expired.
+     *
+     * @param key the cache key
+     * @return the stored entry, or {@code null}
+     */
+    public StoredTranslation get(CacheKey key) {
+        long hash = hash(key);
+        long now = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            long location = closed ? 0 : index.get(hash);
+            if (location != 0) {
+                Segment segment = segments.get(segmentId(location));
+                StoredTranslation stored = segment != null ? segment.read(offset(location), key) : null;
+                if (stored != null && stored.expiresAt() > now) {
+                    hits.incrementAndGet();
+                    return stored;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Appends a translation to the active segment, replacing any previous record for the same key.
+     * <p>
+     * Records larger than a segment are skipped. If the store has grown past its maximum size, the oldest
+     * segments are evicted. Write failures are logged and otherwise ignored, since the store is only a cache.
+     * </p>
+     *
+     * @param key         the cache key
+     * @param translation the translation to store
+     * @param expiresAt   the expiry time in epoch milliseconds; {@link Long#MAX_VALUE} for no expiry
+     */
+    public void put(CacheKey key, Translation translation, long expiresAt) {
+        if (translation == null || translation.getText() == null) {
+            return;
+        }
+        byte[] record = encode(hash(key), expiresAt, key, translation);
+        if (record.length > segmentBytes - FILE_HEADER_BYTES) {
+            logger.debug("Skipping persistent cache record of {} bytes, larger than a segment", record.length);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                append(record);
+                evictOverflow();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write persistent cache record", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reclaims space held by overwritten and expired records.
+     * <p>
+     * Sealed segments are processed one at a time, each under its own acquisition of the write lock, so that
+     * readers and writers are held up by at most one segment copy. A segment's expired records are dropped
+     * from the index first; if its garbage then exceeds half of its used space, its live records are copied
+     * to the active segment and the file is deleted. Live records are found by scanning the segment itself
+     * rather than the whole index.
+     * </p>
+     *
+     * @return the number of segment files deleted
+     */
+    public int compact() {
+        List<Integer> sealed;
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return 0;
+            }
+            sealed = new ArrayList<>(segments.headMap(active.id).keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long now = System.currentTimeMillis();
+        int deleted = 0;
+        for (int id : sealed) {
+            lock.writeLock().lock();
+            try {
+                Segment segment = closed ? null : segments.get(id);
+                if (segment == null || segment == active) {
+                    continue;
+                }
+                dropExpired(segment, now);
+                if (segment.garbageRatio() < COMPACTION_GARBAGE_RATIO) {
+                    continue;
+                }
+                segment.scan((hash, offset, length, expiresAt) -> {
+                    if (index.get(hash) == location(segment.id, offset)) {
+                        append(segment.copyRecord(offset));
+                    }
+                });
+                active.force();
+                discard(segment);
+                deleted++;
+                evictOverflow();
+            } catch (IOException e) {
+                logger.error("Persistent cache compaction failed", e);
+                break;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        if (deleted > 0) {
+            compactions.incrementAndGet();
+            logger.debug("Persistent cache compaction deleted {} segments", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * Retrieves the current store statistics.
+     *
+     * @return a {@link StoreStats} snapshot
+     */
+    public StoreStats getStats() {
+        lock.readLock().lock();
+        try {
+            long live = 0;
+            long used = 0;
+            for (Segment segment : segments.values()) {
+                live += segment.liveBytes;
+                used += segment.writePosition - FILE_HEADER_BYTES;
+            }
+            return new StoreStats(index.size(), segments.size(), live, used, hits.get(), misses.get(),
+                    compactions.get(), evictions.get());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes all segments to disk and releases the directory.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.force();
+            }
+            releaseFiles();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes the store and deletes all of its files.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    public void destroy() throws IOException {
+        close();
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.delete();
+            }
+            segments.clear();
+            index.clear();
+            storeBytes = 0;
+            Files.deleteIfExists(directory.resolve(LOCK_FILE));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        long now = System.currentTimeMillis();
+        for (Path file : files) {
+            int id = parseSegmentId(file);
+            if (id < 0) {
+                continue;
+            }
+            Segment segment = Segment.open(file, id, segmentBytes);
+            if (segment == null) {
+                logger.warn("Ignoring unreadable persistent cache segment {}", file);
+                continue;
+            }
+            segments.put(id, segment);
+            storeBytes += segment.size();
+        }
+        for (Segment segment : segments.values()) {
+            segment.scan((hash, offset, length, expiresAt) -> {
+                if (expiresAt <= now) {
+                    return;
+                }
+                long previous = index.put(hash, location(segment.id, offset));
+                segment.liveBytes += length;
+                if (previous != 0) {
+                    release(previous);
+                }
+            });
+        }
+        active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        if (active == null || active.remaining() < RECORD_HEADER_BYTES * 4) {
+            rollSegment();
+        }
+        evictOverflow();
+        logger.debug("Loaded persistent cache index with {} entries from {} segments", index.size(), segments.size());
+    }
+
+    private void append(byte[] record) throws IOException {
+        if (active.remaining() < record.length + 4) {
+            rollSegment();
+        }
+        long hash = ByteBuffer.wrap(record, 4, 8).getLong();
+        int offset = active.append(record);
+        long previous = index.put(hash, location(active.id, offset));
+        active.liveBytes += record.length;
+        if (previous != 0) {
+            release(previous);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        if (active != null) {
+            active.force();
+        }
+        int id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        active = Segment.create(directory.resolve(segmentFileName(id)), id, segmentBytes);
+        segments.put(id, active);
+        storeBytes += active.size();
+    }
+
+    /**
+     * Evicts the oldest sealed segments, with the entries they hold, while the store exceeds its maximum size.
+     */
+    private void evictOverflow() throws IOException {
+        while (storeBytes > maxBytes && segments.firstEntry().getValue() != active) {
+            Segment oldest = segments.firstEntry().getValue();
+            oldest.scan((hash, offset, length, expiresAt) -> index.remove(hash, location(oldest.id, offset)));
+            discard(oldest);
+            evictions.incrementAndGet();
+            logger.debug("Evicted persistent cache segment {} to stay within {} bytes", oldest.id, maxBytes);
+        }
+    }
+
+    /**
+     * Drops the expired records of a segment from the index.
+     */
+    private void dropExpired(Segment segment, long now) throws IOException {
+        segment.scan((hash, offset, length, expiresAt) -> {
+            if (expiresAt <= now && index.remove(hash, location(segment.id, offset))) {
+                segment.liveBytes -= length;
+            }
+        });
+    }
+
+    /**
+     * Deletes a segment that no longer holds any indexed record.
+     */
+    private void discard(Segment segment) throws IOException {
+        segments.remove(segment.id);
+        storeBytes -= segment.size();
+        segment.delete();
+    }
+
+    private void release(long location) {
+        Segment segment = segments.get(segmentId(location));
+        if (segment != null) {
+            segment.liveBytes -= segment.recordLength(offset(location));
+        }
+    }
+
+    private void releaseFiles() {
+        try {
+            fileLock.release();
+        } catch (IOException e) {
+            logger.warn("Failed to release persistent cache lock", e);
+        }
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close persistent cache lock file", e);
+        }
+        for (Segment segment : segments.values()) {
+            segment.closeChannel();
+        }
+    }
+
+    private static byte[] encode(long hash, long expiresAt, CacheKey key, Translation translation) {
+        byte[] source = key.source().getBytes(StandardCharsets.UTF_8);
+        byte[] target = key.target().getBytes(StandardCharsets.UTF_8);
+        byte[] text = key.text().getBytes(StandardCharsets.UTF_8);
+        byte[] translated = translation.getText().getBytes(StandardCharsets.UTF_8);
+        String detectedLanguage = translation.getDetectedSourceLanguage();
+        byte[] detected = detectedLanguage != null ? detectedLanguage.getBytes(StandardCharsets.UTF_8) : null;
+        int length = RECORD_HEADER_BYTES + 2 + source.length + 2 + target.length + 4 + text.length
+                + 4 + translated.length + 2 + (detected != null ? detected.length : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length).putLong(hash).putLong(expiresAt);
+        buffer.putShort((short) source.length).put(source);
+        buffer.putShort((short) target.length).put(target);
+        buffer.putInt(text.length).put(text);
+        buffer.putInt(translated.length).put(translated);
+        if (detected != null) {
+            buffer.putShort((short) detected.length).put(detected);
+        } else {
+            buffer.putShort((short) -1);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of a key.
+     */
+    static long hash(CacheKey key) {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, key.source());
+        hash = mix(hash, key.target());
+        return mix(hash, key.text());
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * 0x100000001b3L;
+            hash = (hash ^ (c >>> 8)) * 0x100000001b3L;
+        }
+        return (hash ^ 0xff) * 0x100000001b3L;
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xffffffffL);
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    private static String segmentFileName(int id) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    }
+
+    private static int parseSegmentId(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A translation read from the store, with its expiry time.
+     *
+     * @param translation the stored translation
+     * @param expiresAt   the expiry time in epoch milliseconds
+     */
+    public record StoredTranslation(Translation translation, long expiresAt) {
+    }
+
+    /**
+     * Record representing persistent store statistics.
+     *
+     * @param entries     the number of live keys in the index
+     * @param segments    the number of segment files
+     * @param liveBytes   the bytes held by live records
+     * @param usedBytes   the bytes written to all segments, including garbage
+     * @param hits        the number of successful lookups
+     * @param misses      the number of lookups that found no live record
+     * @param compactions the number of compaction runs that deleted at least one segment
+     * @param evictions   the number of segments evicted to stay within the maximum store size
+     */
+    public record StoreStats(long entries, int segments, long liveBytes, long usedBytes,
+                             long hits, long misses, long compactions, long evictions) {
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(long hash, int offset, int length, long expiresAt) throws IOException;
+    }
+
+    /**
+     * A single memory-mapped segment file.
+     */
+    private static final class Segment {
+        private final Path file;
+        private final int id;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private long liveBytes;
+
+        private Segment(Path file, int id, FileChannel channel, MappedByteBuffer buffer, int writePosition) {
+            this.file = file;
+            this.id = id;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.writePosition = writePosition;
+        }
+
+        static Segment create(Path file, int id, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, FILE_MAGIC);
+            buffer.putInt(4, size);
+            return new Segment(file, id, channel, buffer, FILE_HEADER_BYTES);
+        }
+
+        static Segment open(Path file, int id, int defaultSize) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long fileSize = channel.size();
+            if (fileSize < FILE_HEADER_BYTES) {
+                channel.close();
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (buffer.getInt(0) != FILE_MAGIC || buffer.getInt(4) != fileSize) {
+                channel.close();
+                return null;
+            }
+            return new Segment(file, id, channel, buffer, FILE_HEADER_BYTES);
+        }
+
+        /**
+         * Visits every published record and positions the write cursor after the last one.
+         */
+        void scan(RecordVisitor visitor) throws IOException {
+            int position = FILE_HEADER_BYTES;
+            int limit = buffer.capacity();
+            while (position + RECORD_HEADER_BYTES <= limit) {
+                int length = buffer.getInt(position);
+                if (length < RECORD_HEADER_BYTES || position + length > limit) {
+                    break;
+                }
+                visitor.visit(buffer.getLong(position + 4), position, length, buffer.getLong(position + 12));
+                position += length;
+            }
+            writePosition = position;
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        int size() {
+            return buffer.capacity();
+        }
+
+        /**
+         * Writes a record body first and its length last, publishing it atomically for later scans.
+         */
+        int append(byte[] record) {
+            int offset = writePosition;
+            buffer.put(offset + 4, record, 4, record.length - 4);
+            buffer.putInt(offset, record.length);
+            writePosition += record.length;
+            return offset;
+        }
+
+        int recordLength(int offset) {
+            return buffer.getInt(offset);
+        }
+
+        long expiresAt(int offset) {
+            return buffer.getLong(offset + 12);
+        }
+
+        byte[] copyRecord(int offset) {
+            byte[] record = new byte[recordLength(offset)];
+            buffer.get(offset, record);
+            return record;
+        }
+
+        /**
+         * Decodes the record at an offset if it belongs to the given key.
+         */
+        StoredTranslation read(int offset, CacheKey key) {
+            int position = offset + RECORD_HEADER_BYTES;
+            long expiresAt = expiresAt(offset);
+            String source = readString(position, buffer.getShort(position));
+            position += 2 + Math.max(0, buffer.getShort(position));
+            String target = readString(position, buffer.getShort(position));
+            position += 2 + Math.max(0, buffer.getShort(position));
+            int textLength = buffer.getInt(position);
+            String text = readString(position, textLength, 4);
+            position += 4 + textLength;
+            if (!key.source().equals(source) || !key.target().equals(target) || !key.text().equals(text)) {
+                return null;
+            }
+            int translatedLength = buffer.getInt(position);
+            String translated = readString(position, translatedLength, 4);
+            position += 4 + translatedLength;
+            String detected = readString(position, buffer.getShort(position));
+            return new StoredTranslation(new Translation(translated, detected), expiresAt);
+        }
+
+        private String readString(int lengthPosition, short length) {
+            return length < 0 ? null : readString(lengthPosition, length, 2);
+        }
+
+        private String readString(int lengthPosition, int length, int lengthBytes) {
+            byte[] bytes = new byte[length];
+            buffer.get(lengthPosition + lengthBytes, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        double garbageRatio() {
+            int used = writePosition - FILE_HEADER_BYTES;
+            return used == 0 ? 0 : 1.0 - (double) liveBytes / used;
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void closeChannel() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close persistent cache segment {}", file, e);
+            }
+        }
+
+        void delete() throws IOException {
+            closeChannel();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.java.vidigal.code.utilities.cache;
+
+import com.java.vidigal.code.request.Translation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe, bounded in-memory cache of translated text segments.
+ * <p>
+ * Entries are keyed by {@link CacheKey} (source language, target language, text) and kept in an
+ * access-ordered {@link LinkedHashMap}, giving O(1) lookups and O(1) least-recently-used eviction.
+ * The cache is bounded both by entry count and by an estimate of the retained heap bytes. Entries
+ * expire after a configurable time-to-live, and a background sweeper removes expired entries at a
+ * fixed interval so that idle entries do not pin memory until they are next accessed.
+ * </p>
+ * <p>
+ * An optional {@link PersistentTranslationStore} acts as a second tier: entries are written through to
+ * disk, memory misses fall back to the store (promoting found entries into memory), and the sweeper
+ * also compacts the store.
+ * </p>
+ * <p>
+ * All access to the in-memory entries is guarded by a single {@link ReentrantLock}; the persistent tier is
+ * consulted outside that lock so that disk reads never block memory hits.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public final class TranslationCache implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationCache.class);
+
+    /** Fixed per-entry overhead added to the size estimate (map node, entry object, key record). */
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final ScheduledExecutorService sweeper;
+    private final PersistentTranslationStore store;
+    private ScheduledFuture<?> sweepTask;
+    private long currentBytes;
+    private volatile long ttlMillis;
+    private volatile int maxEntries;
+    private volatile long maxBytes;
+
+    /**
+     * Constructs a new cache with the given expiry and size bounds.
+     *
+     * @param ttlMillis             the time-to-live for entries in milliseconds; 0 disables expiry
+     * @param cleanupIntervalMillis the interval between background sweeps in milliseconds, must be positive
+     * @param maxEntries            the maximum number of entries, must be positive
+     * @param maxBytes              the maximum estimated size of all entries in bytes, must be positive
+     * @throws IllegalArgumentException if any parameter is out of range
+     */
+    public TranslationCache(long ttlMillis, long cleanupIntervalMillis, int maxEntries, long maxBytes) {
+        this(ttlMillis, cleanupIntervalMillis, maxEntries, maxBytes, null);
+    }
+
+    /**
+     * Constructs a new cache backed by a persistent store.
+     * <p>
+     * The cache takes ownership of the store and closes it in {@link #close()}.
+     * </p>
+     *
+     * @param ttlMillis             the time-to-live for entries in milliseconds; 0 disables expiry
+     * @param cleanupIntervalMillis the interval between background sweeps in milliseconds, must be positive
+     * @param maxEntries            the maximum number of entries, must be positive
+     * @param maxBytes              the maximum estimated size of all entries in bytes, must be positive
+     * @param store                 the persistent second tier, or null for a memory-only cache
+     * @throws IllegalArgumentException if any parameter is out of range
+     */
+    public TranslationCache(long ttlMillis, long cleanupIntervalMillis, int maxEntries, long maxBytes,
+                            PersistentTranslationStore store) {
+        validate(ttlMillis, cleanupIntervalMillis, maxEntries, maxBytes);
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.store = store;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("libretranslate-cache-sweeper").factory());
+        scheduleSweep(cleanupIntervalMillis);
+    }
+
+    /**
+     * Updates the expiry and size bounds dynamically.
+     * <p>
+     * Shrinking the bounds evicts least-recently-used entries immediately; the sweeper is rescheduled
+     * with the new interval.
+     * </p>
+     *
+     * @param ttlMillis             the new time-to-live in milliseconds; 0 disables expiry
+     * @param cleanupIntervalMillis the new sweep interval in milliseconds, must be positive
+     * @param maxEntries            the new maximum number of entries, must be positive
+     * @param maxBytes              the new maximum estimated size in bytes, must be positive
+     * @throws IllegalArgumentException if any parameter is out of range
+     */
+    public void update(long ttlMillis, long cleanupIntervalMillis, int maxEntries, long maxBytes) {
+        validate(ttlMillis, cleanupIntervalMillis, maxEntries, maxBytes);
+        lock.lock();
+        try {
+            this.ttlMillis = ttlMillis;
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+            evictToBounds();
+            if (sweepTask != null) {
+                sweepTask.cancel(false);
+            }
+            scheduleSweep(cleanupIntervalMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached translation for a key, or {@code null} if absent or expired.
+     *
+     * @param key the cache key
+     * @return the cached translation, or {@code null}
+     */
+    public Translation get(CacheKey key) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                hits.incrementAndGet();
+                return entry.translation();
+            }
+            if (entry != null) {
+                removeEntry(key, entry);
+                expirations.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+        PersistentTranslationStore.StoredTranslation stored = store != null ? store.get(key) : null;
+        if (stored == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        insert(key, stored.translation(), stored.expiresAt());
+        return stored.translation();
+    }
+
+    /**
+     * Stores a translation, evicting least-recently-used entries if a bound is exceeded.
+     * <p>
+     * Entries larger than the whole byte budget are not cached in memory. The entry is written through
+     * to the persistent tier, if any.
+     * </p>
+     *
+     * @param key         the cache key
+     * @param translation the translation to store, ignored if null or without text
+     */
+    public void put(CacheKey key, Translation translation) {
+        if (key == null || translation == null || translation.getText() == null) {
+            return;
+        }
+        long ttl = ttlMillis;
+        long expiresAt = ttl > 0 ? System.currentTimeMillis() + ttl : Long.MAX_VALUE;
+        insert(key, translation, expiresAt);
+        if (store != null) {
+            store.put(key, translation, expiresAt);
+        }
+    }
+
+    /**
+     * Returns the statistics of the persistent tier.
+     *
+     * @return the store statistics, or {@code null} if the cache is memory-only
+     */
+    public PersistentTranslationStore.StoreStats getStoreStats() {
+        return store != null ? store.getStats() : null;
+    }
+
+    private void insert(CacheKey key, Translation translation, long expiresAt) {
+        long bytes = estimateBytes(key, translation);
+        if (bytes > maxBytes) {
+            logger.debug("Skipping cache entry of {} bytes, larger than the cache budget", bytes);
+            return;
+        }
+        lock.lock();
+        try {
+            CacheEntry previous = entries.put(key, new CacheEntry(translation, expiresAt, bytes));
+            if (previous != null) {
+                currentBytes -= previous.bytes();
+            }
+            currentBytes += bytes;
+            evictToBounds();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all expired entries.
+     *
+     * @return the number of entries removed
+     */
+    public int evictExpired() {
+        if (ttlMillis == 0) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        lock.lock();
+        try {
+            Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                CacheEntry entry = iterator.next().getValue();
+                if (entry.isExpired(now)) {
+                    iterator.remove();
+                    currentBytes -= entry.bytes();
+                    removed++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed > 0) {
+            expirations.addAndGet(removed);
+            logger.debug("Cache sweep removed {} expired entries", removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all entries. Statistics counters are preserved.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            currentBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held, including expired entries not yet swept.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the current cache statistics.
+     *
+     * @return a {@link CacheStats} snapshot
+     */
+    public CacheStats getStats() {
+        lock.lock();
+        try {
+            return new CacheStats(entries.size(), currentBytes, hits.get(), misses.get(), evictions.get(), expirations.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the background sweeper, clears the cache and closes the persistent tier, if any.
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        clear();
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    /**
+     * Closes the cache and deletes the files of the persistent tier, if any.
+     *
+     * @throws IOException if a persistent file cannot be deleted
+     */
+    public void destroy() throws IOException {
+        close();
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    private void scheduleSweep(long cleanupIntervalMillis) {
+        sweepTask = sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                evictExpired();
+                if (store != null) {
+                    store.compact();
+                }
+            } catch (RuntimeException e) {
+                logger.error("Cache sweep failed", e);
+            }
+        }, cleanupIntervalMillis, cleanupIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Evicts least-recently-used entries until both bounds are satisfied. Caller must hold the lock.
+     */
+    private void evictToBounds() {
+        Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || currentBytes > maxBytes) && iterator.hasNext()) {
+            CacheEntry eldest = iterator.next().getValue();
+            iterator.remove();
+            currentBytes -= eldest.bytes();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void removeEntry(CacheKey key, CacheEntry entry) {
+        entries.remove(key);
+        currentBytes -= entry.bytes();
+    }
+
+    private static long estimateBytes(CacheKey key, Translation translation) {
+        String detected = translation.getDetectedSourceLanguage();
+        return ENTRY_OVERHEAD_BYTES + key.estimatedBytes()
+                + 2L * translation.getText().length()
+                + (detected != null ? 2L * detected.length() : 0);
+    }
+
+    private static void validate(long ttlMillis, long cleanupIntervalMillis, int maxEntries, long maxBytes) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("Cache TTL must be non-negative");
+        }
+        if (cleanupIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Cleanup interval must be positive");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max cache entries must be positive");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max cache bytes must be positive");
+        }
+    }
+
+    /**
+     * A cached translation together with its expiry time and estimated size.
+     */
+    private record CacheEntry(Translation translation, long expiresAt, long bytes) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * Record representing cache statistics.
+     *
+     * @param size        the number of entries currently held
+     * @param bytes       the estimated size of all entries in bytes
+     * @param hits        the number of successful lookups
+     * @param misses      the number of lookups that found no live entry
+     * @param evictions   the number of entries evicted to respect the size bounds
+     * @param expirations the number of entries removed because their TTL elapsed
+     */
+    public record CacheStats(long size, long bytes, long hits, long misses, long evictions, long expirations) {
+    }
+}
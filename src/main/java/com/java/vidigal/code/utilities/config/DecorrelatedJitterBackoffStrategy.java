@@ -0,0 +1,88 @@
+package com.java.vidigal.code.utilities.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A backoff strategy that draws each delay at random from the base delay up to three times the previous delay.
+ * <p>
+ * Like {@link FullJitterBackoffStrategy}, decorrelated jitter keeps clients that fail together from retrying in
+ * lock-step, but it never retries sooner than the base delay and its delays still grow by about 1.5 per attempt
+ * on average. The delay for each attempt is a uniformly random value between {@code baseDelayMillis} and
+ * {@code min(maxDelayMillis, 3 * previousDelay)}, where the delay before the first attempt counts as
+ * {@code baseDelayMillis}.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>{@code
+ * DecorrelatedJitterBackoffStrategy strategy = new DecorrelatedJitterBackoffStrategy(100, 10000);
+ * long delay = strategy.getNextDelay(2, 250); // Returns a value between 100 and 750 ms
+ * }</pre>
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class DecorrelatedJitterBackoffStrategy implements RetryStrategy {
+
+    /**
+     * The smallest delay in milliseconds.
+     */
+    private final long baseDelayMillis;
+
+    /**
+     * The maximum delay allowed in milliseconds.
+     */
+    private final long maxDelayMillis;
+
+    /**
+     * Constructs a {@code DecorrelatedJitterBackoffStrategy} with specified parameters.
+     *
+     * @param baseDelayMillis the smallest delay in milliseconds, must be positive
+     * @param maxDelayMillis  the maximum delay allowed in milliseconds, must be at least baseDelayMillis
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public DecorrelatedJitterBackoffStrategy(long baseDelayMillis, long maxDelayMillis) {
+        if (baseDelayMillis <= 0) {
+            throw new IllegalArgumentException("Base delay must be positive");
+        }
+        if (maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Maximum delay must be at least equal to base delay");
+        }
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Calculates a random delay without knowing the previous one, as if the previous delay was the largest it
+     * could have been for this attempt.
+     *
+     * @param attempt the current attempt number, starting from 1
+     * @return the delay in milliseconds, between the base and the maximum delay
+     * @throws IllegalArgumentException if attempt is not positive
+     */
+    @Override
+    public long getNextDelay(int attempt) {
+        if (attempt <= 0) {
+            throw new IllegalArgumentException("Attempt number must be positive");
+        }
+        double previous = baseDelayMillis * Math.pow(3, (double) attempt - 2);
+        return getNextDelay(attempt, (long) Math.min(previous, maxDelayMillis));
+    }
+
+    /**
+     * Calculates a random delay from the delay before the previous attempt.
+     *
+     * @param attempt             the current attempt number, starting from 1
+     * @param previousDelayMillis the delay before the previous attempt in milliseconds, or 0 for the first retry
+     * @return the delay in milliseconds, between the base and the maximum delay
+     * @throws IllegalArgumentException if attempt is not positive
+     */
+    @Override
+    public long getNextDelay(int attempt, long previousDelayMillis) {
+        if (attempt <= 0) {
+            throw new IllegalArgumentException("Attempt number must be positive");
+        }
+        long previous = Math.max(previousDelayMillis, baseDelayMillis);
+        long upper = Math.min(maxDelayMillis, previous > maxDelayMillis / 3 ? maxDelayMillis : previous * 3);
+        return upper <= baseDelayMillis ? baseDelayMillis : ThreadLocalRandom.current().nextLong(baseDelayMillis, upper + 1);
+    }
+}
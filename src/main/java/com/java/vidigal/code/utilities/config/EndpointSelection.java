@@ -0,0 +1,19 @@
+package com.java.vidigal.code.utilities.config;
+
+/**
+ * How the client chooses between several LibreTranslate endpoints for each request.
+ * <p>
+ * Both strategies only consider endpoints whose circuit breaker permits the call, and both send more
+ * requests to the endpoints that answer faster, because slow endpoints accumulate outstanding requests.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public enum EndpointSelection {
+
+    /** The endpoint with the fewest requests in flight from this client, ties broken at random. */
+    LEAST_OUTSTANDING,
+
+    /** The less busy of two endpoints picked at random, which spreads load across many clients. */
+    POWER_OF_TWO_CHOICES
+}
@@ -0,0 +1,49 @@
+package com.java.vidigal.code.utilities.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An exponential backoff strategy that waits a random time between zero and the exponential delay.
+ * <p>
+ * Without jitter, all clients that fail at the same moment, for example when the server restarts, retry at the
+ * same moments too and hit the server in synchronized waves. Full jitter spreads each wave evenly over the
+ * whole backoff interval, which keeps the load on a recovering server flat at the cost of a lower average delay.
+ * The delay for each attempt is a uniformly random value between 0 and
+ * {@code min(maxDelayMillis, baseDelayMillis * multiplier^(attempt-1))}.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>{@code
+ * FullJitterBackoffStrategy strategy = new FullJitterBackoffStrategy(100, 2.0, 10000);
+ * long delay = strategy.getNextDelay(3); // Returns a value between 0 and 400 ms
+ * }</pre>
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class FullJitterBackoffStrategy extends ExponentialBackoffStrategy {
+
+    /**
+     * Constructs a {@code FullJitterBackoffStrategy} with specified parameters.
+     *
+     * @param baseDelayMillis the upper bound of the first delay in milliseconds, must be positive
+     * @param multiplier      the factor by which the upper bound increases per attempt, must be greater than 1.0
+     * @param maxDelayMillis  the maximum delay allowed in milliseconds, must be positive and at least baseDelayMillis
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public FullJitterBackoffStrategy(long baseDelayMillis, double multiplier, long maxDelayMillis) {
+        super(baseDelayMillis, multiplier, maxDelayMillis);
+    }
+
+    /**
+     * Calculates a random delay up to the exponential delay of the retry attempt.
+     *
+     * @param attempt the current attempt number, starting from 1
+     * @return the delay in milliseconds, between 0 and the capped exponential delay
+     * @throws IllegalArgumentException if attempt is not positive
+     */
+    @Override
+    public long getNextDelay(int attempt) {
+        return ThreadLocalRandom.current().nextLong(super.getNextDelay(attempt) + 1);
+    }
+}
@@ -1,9 +1,16 @@
 package com.java.vidigal.code.utilities.config;
 
 import com.java.vidigal.code.client.LibreTranslateClientImpl;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitMode;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitPartitioning;
+import com.java.vidigal.code.utilities.ratelimit.TokenStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -70,7 +77,7 @@ public class LibreTranslateConfig {
     /**
      * Strategy for calculating retry delay intervals using exponential backoff.
      */
-    private final ExponentialBackoffStrategy retryStrategy;
+    private final RetryStrategy retryStrategy;
 
 
     /**
@@ -88,6 +95,191 @@ public class LibreTranslateConfig {
      */
     private final long cleanupIntervalMillis;
 
+    /**
+     * Flag indicating whether translated segments are cached in memory.
+     */
+    private final boolean cacheEnabled;
+
+    /**
+     * Maximum number of cached translation segments.
+     */
+    private final int maxCacheEntries;
+
+    /**
+     * Maximum estimated size of the cache, in bytes.
+     */
+    private final long maxCacheBytes;
+
+    /**
+     * Flag indicating whether cached segments are also persisted to disk.
+     */
+    private final boolean persistentCacheEnabled;
+
+    /**
+     * Directory holding the persistent cache segment files.
+     */
+    private final String persistentCacheDirectory;
+
+    /**
+     * Size of each persistent cache segment file, in bytes.
+     */
+    private final int persistentCacheSegmentBytes;
+
+    /**
+     * Maximum total size of the persistent cache segment files, in bytes.
+     */
+    private final long persistentCacheMaxBytes;
+
+    /**
+     * Flag indicating whether single-text translations are micro-batched.
+     */
+    private final boolean microBatchEnabled;
+
+    /**
+     * Time window for collecting single-text calls into a micro-batch, in milliseconds.
+     */
+    private final long microBatchWindowMillis;
+
+    /**
+     * Maximum number of distinct texts per micro-batch.
+     */
+    private final int microBatchMaxSize;
+
+    /**
+     * Maximum total characters of the texts packed into one request.
+     */
+    private final int maxCharactersPerRequest;
+
+    /**
+     * What each rate limiter permit stands for: a request, a text segment, or a character.
+     */
+    private final RateLimitMode rateLimitMode;
+
+    /**
+     * Maximum segments or characters per second when the rate limit mode is not REQUESTS.
+     */
+    private final int rateLimitUnitsPerSecond;
+
+    /**
+     * Flag indicating whether the rate limit adapts to 429/503 responses, timeouts and latency.
+     */
+    private final boolean adaptiveRateLimitEnabled;
+
+    /**
+     * Maximum number of API requests in flight at the same time, or 0 for no limit.
+     */
+    private final int maxConcurrentRequests;
+
+    /**
+     * Maximum number of API requests waiting for a concurrency slot.
+     */
+    private final int maxQueuedRequests;
+
+    /**
+     * Shared token store enforcing one rate limit across clients, or null for a per-client limit.
+     */
+    private final TokenStore tokenStore;
+
+    /**
+     * Maximum number of tokens leased from the shared token store at once.
+     */
+    private final int tokenLeaseSize;
+
+    /**
+     * How the rate limit is shared between partitions: not at all, per language pair, or per tenant.
+     */
+    private final RateLimitPartitioning rateLimitPartitioning;
+
+    /**
+     * Rate limit of each partition in permits per second, or 0 for none.
+     */
+    private final int partitionPermitsPerSecond;
+
+    /**
+     * Weights of named partitions in the fair sharing of the rate limit; other partitions have weight 1.
+     */
+    private final Map<String, Integer> partitionWeights;
+
+    /**
+     * Share of the rate limit in percent guaranteed to waiting low-priority requests while high-priority requests wait too.
+     */
+    private final int lowPriorityShare;
+
+    /**
+     * Whether the circuit breaker window holds the last calls or the calls of the last seconds.
+     */
+    private final SlidingWindowType circuitBreakerWindowType;
+
+    /**
+     * Size of the circuit breaker window, in calls or seconds.
+     */
+    private final int circuitBreakerWindowSize;
+
+    /**
+     * Calls the circuit breaker window must hold before its rates are evaluated.
+     */
+    private final int circuitBreakerMinimumCalls;
+
+    /**
+     * Failure rate in percent at which the circuit breaker opens.
+     */
+    private final int circuitBreakerFailureRateThreshold;
+
+    /**
+     * Slow-call rate in percent at which the circuit breaker opens.
+     */
+    private final int circuitBreakerSlowCallRateThreshold;
+
+    /**
+     * Duration in milliseconds from which a call counts as slow for the circuit breaker.
+     */
+    private final long circuitBreakerSlowCallDurationMillis;
+
+    /**
+     * Time in milliseconds the circuit breaker stays open before probing the server.
+     */
+    private final long circuitBreakerOpenDurationMillis;
+
+    /**
+     * Number of probe calls the circuit breaker permits when half-open.
+     */
+    private final int circuitBreakerHalfOpenCalls;
+
+    /**
+     * LibreTranslate endpoint URLs requests are routed between.
+     */
+    private final List<String> apiUrls;
+
+    /**
+     * How requests choose between several endpoints.
+     */
+    private final EndpointSelection endpointSelection;
+
+    /**
+     * Flag indicating whether slow requests are hedged with a duplicate request.
+     */
+    private final boolean hedgingEnabled;
+
+    /**
+     * Percentile of recent latencies after which a request is hedged.
+     */
+    private final int hedgingLatencyPercentile;
+
+    /**
+     * Maximum hedged requests in percent of all requests.
+     */
+    private final int hedgingBudgetPercent;
+
+    /**
+     * Maximum retries in percent of successful requests.
+     */
+    private final int retryBudgetPercent;
+
+    /**
+     * Longest pause requested by the server that a retry waits for, in milliseconds.
+     */
+    private final long maxRetryAfterMillis;
+
     /**
      * Flag indicating whether client instances should be tracked for automatic shutdown.
      */
@@ -116,7 +308,10 @@ public class LibreTranslateConfig {
      * @since 1.0
      */
     LibreTranslateConfig(LibreTranslateConfigBuilder builder) {
-        this.apiUrl = builder.getApiUrl();
+        this.apiUrls = builder.getApiUrls().isEmpty() && builder.getApiUrl() != null
+                ? List.of(builder.getApiUrl())
+                : builder.getApiUrls();
+        this.apiUrl = builder.getApiUrl() == null && !apiUrls.isEmpty() ? apiUrls.getFirst() : builder.getApiUrl();
         this.apiKey = builder.getApiKey();
         this.connectionTimeout = builder.getConnectionTimeout();
         this.socketTimeout = builder.getSocketTimeout();
@@ -129,6 +324,42 @@ public class LibreTranslateConfig {
         this.cleanupIntervalMillis = builder.getCleanupIntervalMillis();
         this.retryStrategy = builder.getRetryStrategy();
         this.trackInstances = builder.isTrackInstances();
+        this.cacheEnabled = builder.isCacheEnabled();
+        this.maxCacheEntries = builder.getMaxCacheEntries();
+        this.maxCacheBytes = builder.getMaxCacheBytes();
+        this.persistentCacheEnabled = builder.isPersistentCacheEnabled();
+        this.persistentCacheDirectory = builder.getPersistentCacheDirectory();
+        this.persistentCacheSegmentBytes = builder.getPersistentCacheSegmentBytes();
+        this.persistentCacheMaxBytes = builder.getPersistentCacheMaxBytes();
+        this.microBatchEnabled = builder.isMicroBatchEnabled();
+        this.microBatchWindowMillis = builder.getMicroBatchWindowMillis();
+        this.microBatchMaxSize = builder.getMicroBatchMaxSize();
+        this.maxCharactersPerRequest = builder.getMaxCharactersPerRequest();
+        this.rateLimitMode = builder.getRateLimitMode();
+        this.rateLimitUnitsPerSecond = builder.getRateLimitUnitsPerSecond();
+        this.adaptiveRateLimitEnabled = builder.isAdaptiveRateLimitEnabled();
+        this.maxConcurrentRequests = builder.getMaxConcurrentRequests();
+        this.maxQueuedRequests = builder.getMaxQueuedRequests();
+        this.tokenStore = builder.getTokenStore();
+        this.tokenLeaseSize = builder.getTokenLeaseSize();
+        this.rateLimitPartitioning = builder.getRateLimitPartitioning();
+        this.partitionPermitsPerSecond = builder.getPartitionPermitsPerSecond();
+        this.partitionWeights = builder.getPartitionWeights();
+        this.lowPriorityShare = builder.getLowPriorityShare();
+        this.circuitBreakerWindowType = builder.getCircuitBreakerWindowType();
+        this.circuitBreakerWindowSize = builder.getCircuitBreakerWindowSize();
+        this.circuitBreakerMinimumCalls = builder.getCircuitBreakerMinimumCalls();
+        this.circuitBreakerFailureRateThreshold = builder.getCircuitBreakerFailureRateThreshold();
+        this.circuitBreakerSlowCallRateThreshold = builder.getCircuitBreakerSlowCallRateThreshold();
+        this.circuitBreakerSlowCallDurationMillis = builder.getCircuitBreakerSlowCallDurationMillis();
+        this.circuitBreakerOpenDurationMillis = builder.getCircuitBreakerOpenDurationMillis();
+        this.circuitBreakerHalfOpenCalls = builder.getCircuitBreakerHalfOpenCalls();
+        this.endpointSelection = builder.getEndpointSelection();
+        this.hedgingEnabled = builder.isHedgingEnabled();
+        this.hedgingLatencyPercentile = builder.getHedgingLatencyPercentile();
+        this.hedgingBudgetPercent = builder.getHedgingBudgetPercent();
+        this.retryBudgetPercent = builder.getRetryBudgetPercent();
+        this.maxRetryAfterMillis = builder.getMaxRetryAfterMillis();
         validate();
     }
 
@@ -177,6 +408,40 @@ public class LibreTranslateConfig {
      *     <li>{@code libretranslate.cache.ttl.millis}: Cache TTL in milliseconds</li>
      *     <li>{@code libretranslate.cleanup.interval.millis}: Cache cleanup interval in milliseconds</li>
      *     <li>{@code libretranslate.track.instances}: Track client instances (true/false)</li>
+     *     <li>{@code libretranslate.cache.enabled}: Enable the in-memory cache (true/false)</li>
+     *     <li>{@code libretranslate.max.cache.entries}: Maximum number of cache entries</li>
+     *     <li>{@code libretranslate.max.cache.bytes}: Maximum estimated cache size in bytes</li>
+     *     <li>{@code libretranslate.persistent.cache.enabled}: Enable the on-disk cache tier (true/false)</li>
+     *     <li>{@code libretranslate.persistent.cache.directory}: Directory for persistent cache segments</li>
+     *     <li>{@code libretranslate.persistent.cache.segment.bytes}: Persistent cache segment size in bytes</li>
+     *     <li>{@code libretranslate.micro.batch.enabled}: Enable micro-batching of single-text calls (true/false)</li>
+     *     <li>{@code libretranslate.micro.batch.window.millis}: Micro-batch window in milliseconds</li>
+     *     <li>{@code libretranslate.micro.batch.max.size}: Maximum number of texts per micro-batch</li>
+     *     <li>{@code libretranslate.max.characters.per.request}: Character budget per packed request</li>
+     *     <li>{@code libretranslate.rate.limit.mode}: Rate limit mode: REQUESTS, SEGMENTS or CHARACTERS</li>
+     *     <li>{@code libretranslate.rate.limit.units.per.second}: Segments or characters per second for volume-based rate limiting</li>
+     *     <li>{@code libretranslate.rate.limit.adaptive}: Enable adaptive rate limiting (true/false)</li>
+     *     <li>{@code libretranslate.max.concurrent.requests}: Maximum requests in flight, 0 for no limit</li>
+     *     <li>{@code libretranslate.max.queued.requests}: Maximum requests waiting for a concurrency slot</li>
+     *     <li>{@code libretranslate.rate.limit.lease.size}: Tokens leased from a shared token store at once</li>
+     *     <li>{@code libretranslate.rate.limit.partitioning}: Rate limit partitioning: NONE, LANGUAGE_PAIR or TENANT</li>
+     *     <li>{@code libretranslate.rate.limit.partition.permits.per.second}: Rate limit of each partition, 0 for none</li>
+     *     <li>{@code libretranslate.rate.limit.low.priority.share}: Share of the rate limit in percent guaranteed to low-priority requests</li>
+     *     <li>{@code libretranslate.circuit.breaker.window.type}: Circuit breaker window type: COUNT_BASED or TIME_BASED</li>
+     *     <li>{@code libretranslate.circuit.breaker.window.size}: Circuit breaker window size, in calls or seconds</li>
+     *     <li>{@code libretranslate.circuit.breaker.minimum.calls}: Calls required before the circuit breaker evaluates its rates</li>
+     *     <li>{@code libretranslate.circuit.breaker.failure.rate.threshold}: Failure rate in percent at which the circuit breaker opens</li>
+     *     <li>{@code libretranslate.circuit.breaker.slow.call.rate.threshold}: Slow-call rate in percent at which the circuit breaker opens</li>
+     *     <li>{@code libretranslate.circuit.breaker.slow.call.duration}: Duration in milliseconds from which a call counts as slow</li>
+     *     <li>{@code libretranslate.circuit.breaker.open.duration}: Time in milliseconds the circuit breaker stays open</li>
+     *     <li>{@code libretranslate.circuit.breaker.half.open.calls}: Number of probe calls permitted when the circuit breaker is half-open</li>
+     *     <li>{@code libretranslate.api.urls}: Comma-separated LibreTranslate endpoint URLs to route requests between</li>
+     *     <li>{@code libretranslate.endpoint.selection}: Endpoint selection: LEAST_OUTSTANDING or POWER_OF_TWO_CHOICES</li>
+     *     <li>{@code libretranslate.hedging.enabled}: Enable request hedging (true/false)</li>
+     *     <li>{@code libretranslate.hedging.latency.percentile}: Percentile of recent latencies after which a request is hedged</li>
+     *     <li>{@code libretranslate.hedging.budget.percent}: Maximum hedged requests in percent of all requests</li>
+     *     <li>{@code libretranslate.retry.budget.percent}: Maximum retries in percent of successful requests</li>
+     *     <li>{@code libretranslate.max.retry.after.millis}: Longest server-requested pause a retry waits for (ms)</li>
      * </ul>
      * </p>
      * <p>
@@ -242,6 +507,111 @@ public class LibreTranslateConfig {
         String trackInstances = getProperty.apply("libretranslate.track.instances");
         if (trackInstances != null) builder.trackInstances(Boolean.parseBoolean(trackInstances));
 
+        String cacheEnabled = getProperty.apply("libretranslate.cache.enabled");
+        if (cacheEnabled != null) builder.enableCache(Boolean.parseBoolean(cacheEnabled));
+
+        String maxCacheEntries = getProperty.apply("libretranslate.max.cache.entries");
+        if (maxCacheEntries != null) builder.maxCacheEntries(Integer.parseInt(maxCacheEntries));
+
+        String maxCacheBytes = getProperty.apply("libretranslate.max.cache.bytes");
+        if (maxCacheBytes != null) builder.maxCacheBytes(Long.parseLong(maxCacheBytes));
+
+        String persistentCacheEnabled = getProperty.apply("libretranslate.persistent.cache.enabled");
+        if (persistentCacheEnabled != null) builder.enablePersistentCache(Boolean.parseBoolean(persistentCacheEnabled));
+
+        String persistentCacheDirectory = getProperty.apply("libretranslate.persistent.cache.directory");
+        if (persistentCacheDirectory != null) builder.persistentCacheDirectory(persistentCacheDirectory);
+
+        String persistentCacheSegmentBytes = getProperty.apply("libretranslate.persistent.cache.segment.bytes");
+        if (persistentCacheSegmentBytes != null) builder.persistentCacheSegmentBytes(Integer.parseInt(persistentCacheSegmentBytes));
+
+        String persistentCacheMaxBytes = getProperty.apply("libretranslate.persistent.cache.max.bytes");
+        if (persistentCacheMaxBytes != null) builder.persistentCacheMaxBytes(Long.parseLong(persistentCacheMaxBytes));
+
+        String microBatchEnabled = getProperty.apply("libretranslate.micro.batch.enabled");
+        if (microBatchEnabled != null) builder.enableMicroBatching(Boolean.parseBoolean(microBatchEnabled));
+
+        String microBatchWindowMillis = getProperty.apply("libretranslate.micro.batch.window.millis");
+        if (microBatchWindowMillis != null) builder.microBatchWindowMillis(Long.parseLong(microBatchWindowMillis));
+
+        String microBatchMaxSize = getProperty.apply("libretranslate.micro.batch.max.size");
+        if (microBatchMaxSize != null) builder.microBatchMaxSize(Integer.parseInt(microBatchMaxSize));
+
+        String maxCharactersPerRequest = getProperty.apply("libretranslate.max.characters.per.request");
+        if (maxCharactersPerRequest != null) builder.maxCharactersPerRequest(Integer.parseInt(maxCharactersPerRequest));
+
+        String rateLimitMode = getProperty.apply("libretranslate.rate.limit.mode");
+        if (rateLimitMode != null) builder.rateLimitMode(RateLimitMode.valueOf(rateLimitMode.trim().toUpperCase(Locale.ROOT)));
+
+        String rateLimitUnitsPerSecond = getProperty.apply("libretranslate.rate.limit.units.per.second");
+        if (rateLimitUnitsPerSecond != null) builder.rateLimitUnitsPerSecond(Integer.parseInt(rateLimitUnitsPerSecond));
+
+        String adaptiveRateLimitEnabled = getProperty.apply("libretranslate.rate.limit.adaptive");
+        if (adaptiveRateLimitEnabled != null) builder.enableAdaptiveRateLimit(Boolean.parseBoolean(adaptiveRateLimitEnabled));
+
+        String maxConcurrentRequests = getProperty.apply("libretranslate.max.concurrent.requests");
+        if (maxConcurrentRequests != null) builder.maxConcurrentRequests(Integer.parseInt(maxConcurrentRequests));
+
+        String maxQueuedRequests = getProperty.apply("libretranslate.max.queued.requests");
+        if (maxQueuedRequests != null) builder.maxQueuedRequests(Integer.parseInt(maxQueuedRequests));
+
+        String tokenLeaseSize = getProperty.apply("libretranslate.rate.limit.lease.size");
+        if (tokenLeaseSize != null) builder.tokenLeaseSize(Integer.parseInt(tokenLeaseSize));
+
+        String rateLimitPartitioning = getProperty.apply("libretranslate.rate.limit.partitioning");
+        if (rateLimitPartitioning != null) builder.rateLimitPartitioning(RateLimitPartitioning.valueOf(rateLimitPartitioning.trim().toUpperCase(Locale.ROOT)));
+
+        String partitionPermitsPerSecond = getProperty.apply("libretranslate.rate.limit.partition.permits.per.second");
+        if (partitionPermitsPerSecond != null) builder.partitionPermitsPerSecond(Integer.parseInt(partitionPermitsPerSecond));
+
+        String lowPriorityShare = getProperty.apply("libretranslate.rate.limit.low.priority.share");
+        if (lowPriorityShare != null) builder.lowPriorityShare(Integer.parseInt(lowPriorityShare));
+
+        String circuitBreakerWindowType = getProperty.apply("libretranslate.circuit.breaker.window.type");
+        if (circuitBreakerWindowType != null) builder.circuitBreakerWindowType(SlidingWindowType.valueOf(circuitBreakerWindowType.trim().toUpperCase(Locale.ROOT)));
+
+        String circuitBreakerWindowSize = getProperty.apply("libretranslate.circuit.breaker.window.size");
+        if (circuitBreakerWindowSize != null) builder.circuitBreakerWindowSize(Integer.parseInt(circuitBreakerWindowSize));
+
+        String circuitBreakerMinimumCalls = getProperty.apply("libretranslate.circuit.breaker.minimum.calls");
+        if (circuitBreakerMinimumCalls != null) builder.circuitBreakerMinimumCalls(Integer.parseInt(circuitBreakerMinimumCalls));
+
+        String circuitBreakerFailureRateThreshold = getProperty.apply("libretranslate.circuit.breaker.failure.rate.threshold");
+        if (circuitBreakerFailureRateThreshold != null) builder.circuitBreakerFailureRateThreshold(Integer.parseInt(circuitBreakerFailureRateThreshold));
+
+        String circuitBreakerSlowCallRateThreshold = getProperty.apply("libretranslate.circuit.breaker.slow.call.rate.threshold");
+        if (circuitBreakerSlowCallRateThreshold != null) builder.circuitBreakerSlowCallRateThreshold(Integer.parseInt(circuitBreakerSlowCallRateThreshold));
+
+        String circuitBreakerSlowCallDurationMillis = getProperty.apply("libretranslate.circuit.breaker.slow.call.duration");
+        if (circuitBreakerSlowCallDurationMillis != null) builder.circuitBreakerSlowCallDurationMillis(Long.parseLong(circuitBreakerSlowCallDurationMillis));
+
+        String circuitBreakerOpenDurationMillis = getProperty.apply("libretranslate.circuit.breaker.open.duration");
+        if (circuitBreakerOpenDurationMillis != null) builder.circuitBreakerOpenDurationMillis(Long.parseLong(circuitBreakerOpenDurationMillis));
+
+        String circuitBreakerHalfOpenCalls = getProperty.apply("libretranslate.circuit.breaker.half.open.calls");
+        if (circuitBreakerHalfOpenCalls != null) builder.circuitBreakerHalfOpenCalls(Integer.parseInt(circuitBreakerHalfOpenCalls));
+
+        String apiUrls = getProperty.apply("libretranslate.api.urls");
+        if (apiUrls != null) builder.apiUrls(Arrays.stream(apiUrls.split(",")).map(String::trim).toList());
+
+        String endpointSelection = getProperty.apply("libretranslate.endpoint.selection");
+        if (endpointSelection != null) builder.endpointSelection(EndpointSelection.valueOf(endpointSelection.trim().toUpperCase(Locale.ROOT)));
+
+        String hedgingEnabled = getProperty.apply("libretranslate.hedging.enabled");
+        if (hedgingEnabled != null) builder.enableHedging(Boolean.parseBoolean(hedgingEnabled));
+
+        String hedgingLatencyPercentile = getProperty.apply("libretranslate.hedging.latency.percentile");
+        if (hedgingLatencyPercentile != null) builder.hedgingLatencyPercentile(Integer.parseInt(hedgingLatencyPercentile));
+
+        String hedgingBudgetPercent = getProperty.apply("libretranslate.hedging.budget.percent");
+        if (hedgingBudgetPercent != null) builder.hedgingBudgetPercent(Integer.parseInt(hedgingBudgetPercent));
+
+        String retryBudgetPercent = getProperty.apply("libretranslate.retry.budget.percent");
+        if (retryBudgetPercent != null) builder.retryBudgetPercent(Integer.parseInt(retryBudgetPercent));
+
+        String maxRetryAfterMillis = getProperty.apply("libretranslate.max.retry.after.millis");
+        if (maxRetryAfterMillis != null) builder.maxRetryAfterMillis(Long.parseLong(maxRetryAfterMillis));
+
         return builder.build();
     }
 
@@ -273,6 +643,15 @@ public class LibreTranslateConfig {
             logger.error("Cache TTL must be non-negative");
             throw new IllegalArgumentException("Cache TTL must be non-negative");
         }
+        if (persistentCacheEnabled && !cacheEnabled) {
+            logger.error("Persistent cache requires the in-memory cache to be enabled");
+            throw new IllegalArgumentException("Persistent cache requires the in-memory cache to be enabled");
+        }
+        if (persistentCacheMaxBytes < 2L * persistentCacheSegmentBytes) {
+            logger.error("Persistent cache max size {} is less than two segments of {} bytes",
+                    persistentCacheMaxBytes, persistentCacheSegmentBytes);
+            throw new IllegalArgumentException("Persistent cache max size must hold at least two segments");
+        }
     }
 
     /**
@@ -368,11 +747,11 @@ public class LibreTranslateConfig {
     /**
      * Returns the retry strategy used when retry is enabled.
      *
-     * @return The {@link ExponentialBackoffStrategy} for retry delays, or {@code null} if retries are disabled.
-     * @see ExponentialBackoffStrategy
+     * @return The {@link RetryStrategy} for retry delays, or {@code null} if retries are disabled.
+     * @see FullJitterBackoffStrategy
      * @since 1.0
      */
-    public ExponentialBackoffStrategy getRetryStrategy() {
+    public RetryStrategy getRetryStrategy() {
         return retryStrategy;
     }
 
@@ -406,4 +785,386 @@ public class LibreTranslateConfig {
     public long getCleanupIntervalMillis() {
         return cleanupIntervalMillis;
     }
+
+    /**
+     * Checks if the in-memory translation cache is enabled.
+     *
+     * @return {@code true} if caching is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Returns the maximum number of translated segments held in the cache.
+     *
+     * @return The maximum number of cache entries.
+     * @since 1.0
+     */
+    public int getMaxCacheEntries() {
+        return maxCacheEntries;
+    }
+
+    /**
+     * Returns the maximum estimated size of the cache.
+     *
+     * @return The cache size budget in bytes.
+     * @since 1.0
+     */
+    public long getMaxCacheBytes() {
+        return maxCacheBytes;
+    }
+
+    /**
+     * Checks if the persistent (on-disk) cache tier is enabled.
+     *
+     * @return {@code true} if persistence is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    public boolean isPersistentCacheEnabled() {
+        return persistentCacheEnabled;
+    }
+
+    /**
+     * Returns the directory holding the persistent cache segment files.
+     *
+     * @return The persistent cache directory path.
+     * @since 1.0
+     */
+    public String getPersistentCacheDirectory() {
+        return persistentCacheDirectory;
+    }
+
+    /**
+     * Returns the size of each persistent cache segment file.
+     *
+     * @return The segment size in bytes.
+     * @since 1.0
+     */
+    public int getPersistentCacheSegmentBytes() {
+        return persistentCacheSegmentBytes;
+    }
+
+    /**
+     * Returns the maximum total size of the persistent cache segment files.
+     *
+     * @return The maximum size in bytes.
+     * @since 1.0
+     */
+    public long getPersistentCacheMaxBytes() {
+        return persistentCacheMaxBytes;
+    }
+
+    /**
+     * Checks if single-text translations are micro-batched.
+     *
+     * @return {@code true} if micro-batching is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    public boolean isMicroBatchEnabled() {
+        return microBatchEnabled;
+    }
+
+    /**
+     * Returns the time window for collecting single-text calls into a micro-batch.
+     *
+     * @return The micro-batch window in milliseconds.
+     * @since 1.0
+     */
+    public long getMicroBatchWindowMillis() {
+        return microBatchWindowMillis;
+    }
+
+    /**
+     * Returns the maximum number of distinct texts per micro-batch.
+     *
+     * @return The maximum micro-batch size.
+     * @since 1.0
+     */
+    public int getMicroBatchMaxSize() {
+        return microBatchMaxSize;
+    }
+
+    /**
+     * Returns the maximum total characters of the texts packed into one request.
+     *
+     * @return The character budget per request.
+     * @since 1.0
+     */
+    public int getMaxCharactersPerRequest() {
+        return maxCharactersPerRequest;
+    }
+
+    /**
+     * Returns what each rate limiter permit stands for.
+     *
+     * @return The rate limit mode.
+     * @since 1.0
+     */
+    public RateLimitMode getRateLimitMode() {
+        return rateLimitMode;
+    }
+
+    /**
+     * Returns the maximum segments or characters per second used when the rate limit mode is not REQUESTS.
+     *
+     * @return The segments or characters per second.
+     * @since 1.0
+     */
+    public int getRateLimitUnitsPerSecond() {
+        return rateLimitUnitsPerSecond;
+    }
+
+    /**
+     * Returns the rate limiter capacity in permits per second for the configured {@link RateLimitMode}:
+     * {@link #getMaxRequestsPerSecond()} in {@code REQUESTS} mode, otherwise {@link #getRateLimitUnitsPerSecond()}.
+     *
+     * @return The permits per second.
+     * @since 1.0
+     */
+    public int getRateLimitPermitsPerSecond() {
+        return rateLimitMode == RateLimitMode.REQUESTS ? maxRequestsPerSecond : rateLimitUnitsPerSecond;
+    }
+
+    /**
+     * Returns whether the rate limit adapts to overload signals and latency.
+     *
+     * @return {@code true} if adaptive rate limiting is enabled.
+     * @since 1.0
+     */
+    public boolean isAdaptiveRateLimitEnabled() {
+        return adaptiveRateLimitEnabled;
+    }
+
+    /**
+     * Returns the maximum number of concurrent API requests, 0 meaning no limit.
+     *
+     * @return The maximum number of requests in flight, or 0 if unlimited.
+     * @since 1.0
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Returns the size of the queue of requests waiting for a concurrency slot.
+     *
+     * @return The maximum number of waiting requests.
+     * @since 1.0
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Returns the shared token store enforcing one rate limit across clients.
+     *
+     * @return The token store, or {@code null} for a per-client rate limit.
+     * @since 1.0
+     */
+    public TokenStore getTokenStore() {
+        return tokenStore;
+    }
+
+    /**
+     * Returns the maximum number of tokens leased from the shared token store at once.
+     *
+     * @return The token lease size.
+     * @since 1.0
+     */
+    public int getTokenLeaseSize() {
+        return tokenLeaseSize;
+    }
+
+    /**
+     * Returns how the rate limit is shared between partitions of the traffic.
+     *
+     * @return The rate limit partitioning mode.
+     * @since 1.0
+     */
+    public RateLimitPartitioning getRateLimitPartitioning() {
+        return rateLimitPartitioning;
+    }
+
+    /**
+     * Returns the rate limit applying to each partition on its own.
+     *
+     * @return The per-partition permits per second, or 0 for none.
+     * @since 1.0
+     */
+    public int getPartitionPermitsPerSecond() {
+        return partitionPermitsPerSecond;
+    }
+
+    /**
+     * Returns the weights of named partitions in the fair sharing of the rate limit.
+     *
+     * @return The partition weights.
+     * @since 1.0
+     */
+    public Map<String, Integer> getPartitionWeights() {
+        return partitionWeights;
+    }
+
+    /**
+     * Returns the share of the rate limit in percent guaranteed to low-priority requests while high-priority requests wait.
+     *
+     * @return The low priority share in percent.
+     * @since 1.0
+     */
+    public int getLowPriorityShare() {
+        return lowPriorityShare;
+    }
+
+    /**
+     * Returns whether the circuit breaker window holds the last calls or the calls of the last seconds.
+     *
+     * @return The circuit breaker window type.
+     * @since 1.0
+     */
+    public SlidingWindowType getCircuitBreakerWindowType() {
+        return circuitBreakerWindowType;
+    }
+
+    /**
+     * Returns the size of the circuit breaker window, in calls or seconds.
+     *
+     * @return The window size.
+     * @since 1.0
+     */
+    public int getCircuitBreakerWindowSize() {
+        return circuitBreakerWindowSize;
+    }
+
+    /**
+     * Returns the number of calls the circuit breaker window must hold before its rates are evaluated.
+     *
+     * @return The minimum number of calls.
+     * @since 1.0
+     */
+    public int getCircuitBreakerMinimumCalls() {
+        return circuitBreakerMinimumCalls;
+    }
+
+    /**
+     * Returns the failure rate in percent at which the circuit breaker opens.
+     *
+     * @return The failure rate threshold in percent.
+     * @since 1.0
+     */
+    public int getCircuitBreakerFailureRateThreshold() {
+        return circuitBreakerFailureRateThreshold;
+    }
+
+    /**
+     * Returns the slow-call rate in percent at which the circuit breaker opens.
+     *
+     * @return The slow-call rate threshold in percent.
+     * @since 1.0
+     */
+    public int getCircuitBreakerSlowCallRateThreshold() {
+        return circuitBreakerSlowCallRateThreshold;
+    }
+
+    /**
+     * Returns the duration in milliseconds from which a call counts as slow for the circuit breaker.
+     *
+     * @return The slow-call duration in milliseconds.
+     * @since 1.0
+     */
+    public long getCircuitBreakerSlowCallDurationMillis() {
+        return circuitBreakerSlowCallDurationMillis;
+    }
+
+    /**
+     * Returns the time in milliseconds the circuit breaker stays open before probing the server.
+     *
+     * @return The open duration in milliseconds.
+     * @since 1.0
+     */
+    public long getCircuitBreakerOpenDurationMillis() {
+        return circuitBreakerOpenDurationMillis;
+    }
+
+    /**
+     * Returns the number of probe calls the circuit breaker permits when half-open.
+     *
+     * @return The number of probe calls.
+     * @since 1.0
+     */
+    public int getCircuitBreakerHalfOpenCalls() {
+        return circuitBreakerHalfOpenCalls;
+    }
+
+    /**
+     * Returns the LibreTranslate endpoint URLs requests are routed between: the configured endpoint URLs, or
+     * the API URL alone.
+     *
+     * @return The endpoint URLs.
+     * @since 1.0
+     */
+    public List<String> getApiUrls() {
+        return apiUrls;
+    }
+
+    /**
+     * Returns how requests choose between several endpoints.
+     *
+     * @return The endpoint selection strategy.
+     * @since 1.0
+     */
+    public EndpointSelection getEndpointSelection() {
+        return endpointSelection;
+    }
+
+    /**
+     * Returns whether slow requests are hedged with a duplicate request.
+     *
+     * @return {@code true} if request hedging is enabled.
+     * @since 1.0
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Returns the percentile of recent latencies after which a request is hedged.
+     *
+     * @return The hedging latency percentile.
+     * @since 1.0
+     */
+    public int getHedgingLatencyPercentile() {
+        return hedgingLatencyPercentile;
+    }
+
+    /**
+     * Returns the maximum number of hedged requests in percent of all requests.
+     *
+     * @return The hedging budget in percent.
+     * @since 1.0
+     */
+    public int getHedgingBudgetPercent() {
+        return hedgingBudgetPercent;
+    }
+
+    /**
+     * Returns the maximum number of retries in percent of successful requests.
+     *
+     * @return The retry budget in percent.
+     * @since 1.0
+     */
+    public int getRetryBudgetPercent() {
+        return retryBudgetPercent;
+    }
+
+    /**
+     * Returns the longest pause requested by the server that a retry waits for.
+     *
+     * @return The longest pause in milliseconds.
+     * @since 1.0
+     */
+    public long getMaxRetryAfterMillis() {
+        return maxRetryAfterMillis;
+    }
 }
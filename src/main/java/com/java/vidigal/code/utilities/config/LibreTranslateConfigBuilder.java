@@ -1,8 +1,17 @@
 package com.java.vidigal.code.utilities.config;
 
+import com.java.vidigal.code.request.RequestPriority;
+import com.java.vidigal.code.utilities.ratelimit.PriorityRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitMode;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitPartitioning;
+import com.java.vidigal.code.utilities.ratelimit.TokenStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * A builder class for creating {@link LibreTranslateConfig} instances with validated configuration settings.
  * <p>
@@ -83,11 +92,68 @@ public class LibreTranslateConfigBuilder {
      * Minimum allowed cache cleanup interval in milliseconds (1,000ms).
      */
     private static final long MIN_CLEANUP_INTERVAL = 1000;
+    /**
+     * Minimum allowed number of cache entries (1).
+     */
+    private static final int MIN_CACHE_ENTRIES = 1;
+    /**
+     * Minimum allowed cache size budget in bytes (1 KiB).
+     */
+    private static final long MIN_CACHE_BYTES = 1024;
+    /**
+     * Minimum allowed persistent cache segment size in bytes (64 KiB).
+     */
+    private static final int MIN_SEGMENT_BYTES = 64 * 1024;
+    /**
+     * Minimum allowed micro-batch window in milliseconds.
+     */
+    private static final long MIN_MICRO_BATCH_WINDOW = 1;
+    /**
+     * Maximum allowed micro-batch window in milliseconds.
+     */
+    private static final long MAX_MICRO_BATCH_WINDOW = 1000;
+    /**
+     * Maximum allowed number of texts per micro-batch (the API batch limit).
+     */
+    private static final int MAX_MICRO_BATCH_SIZE = 50;
+    /**
+     * Minimum allowed character budget per request.
+     */
+    private static final int MIN_CHARACTERS_PER_REQUEST = 100;
+    /**
+     * Maximum allowed character budget per request.
+     */
+    private static final int MAX_CHARACTERS_PER_REQUEST = 1_000_000;
+    /**
+     * Minimum allowed segments or characters per second when rate limiting by text volume.
+     */
+    private static final int MIN_UNITS_PER_SECOND = 1;
+    /**
+     * Maximum allowed segments or characters per second when rate limiting by text volume.
+     */
+    private static final int MAX_UNITS_PER_SECOND = 100_000_000;
+    /**
+     * Maximum allowed number of concurrent API requests.
+     */
+    private static final int MAX_CONCURRENT_REQUESTS_LIMIT = 10_000;
+    /**
+     * Maximum allowed number of API requests waiting for a concurrency slot.
+     */
+    private static final int MAX_QUEUED_REQUESTS_LIMIT = 1_000_000;
+    /**
+     * Maximum allowed number of tokens leased from a shared token store at once.
+     */
+    private static final int MAX_TOKEN_LEASE_SIZE = 10_000;
+    /**
+     * Maximum circuit breaker window size, in calls or seconds.
+     */
+    private static final int MAX_CIRCUIT_BREAKER_WINDOW = 10_000;
+
     /**
      * The retry strategy used for handling failed requests with exponential backoff.
      * Initialized with default values: initial delay of 1000ms, multiplier of 2.0, and max delay of 30,000ms.
      */
-    private ExponentialBackoffStrategy retryStrategy = new ExponentialBackoffStrategy(1000, 2.0, 30_000);
+    private RetryStrategy retryStrategy = new FullJitterBackoffStrategy(1000, 2.0, 30_000);
     /**
      * The LibreTranslate API endpoint URL (e.g., "https://translate.fedilab.app/translate").
      */
@@ -143,6 +209,192 @@ public class LibreTranslateConfigBuilder {
      */
     private long cleanupIntervalMillis = 1_800_000;
 
+    /**
+     * Flag indicating whether translated segments are cached in memory (default: false).
+     */
+    private boolean cacheEnabled = false;
+
+    /**
+     * Maximum number of cached translation segments (default: 10,000).
+     */
+    private int maxCacheEntries = 10_000;
+
+    /**
+     * Maximum estimated size of the cache in bytes (default: 33,554,432 bytes or 32 MiB).
+     */
+    private long maxCacheBytes = 32L * 1024 * 1024;
+
+    /**
+     * Flag indicating whether cached segments are also persisted to disk (default: false).
+     */
+    private boolean persistentCacheEnabled = false;
+
+    /**
+     * Directory holding the persistent cache segment files (default: {@code libretranslate-cache} under
+     * {@code java.io.tmpdir}).
+     */
+    private String persistentCacheDirectory = System.getProperty("java.io.tmpdir") + "/libretranslate-cache";
+
+    /**
+     * Size of each persistent cache segment file, in bytes (default: 16,777,216 bytes or 16 MiB).
+     */
+    private int persistentCacheSegmentBytes = 16 * 1024 * 1024;
+
+    /**
+     * Maximum total size of the persistent cache segment files, in bytes (default: 536,870,912 bytes or 512 MiB).
+     */
+    private long persistentCacheMaxBytes = 512L * 1024 * 1024;
+
+    /**
+     * Flag indicating whether single-text translations are micro-batched (default: false).
+     */
+    private boolean microBatchEnabled = false;
+
+    /**
+     * Time window for collecting single-text calls into a micro-batch, in milliseconds (default: 10ms).
+     */
+    private long microBatchWindowMillis = 10;
+
+    /**
+     * Maximum number of distinct texts per micro-batch (default: 50).
+     */
+    private int microBatchMaxSize = MAX_MICRO_BATCH_SIZE;
+
+    /**
+     * Maximum total characters of the texts packed into one request (default: 10,000).
+     */
+    private int maxCharactersPerRequest = 10_000;
+
+    /**
+     * What each rate limiter permit stands for: a request, a text segment, or a character (default: REQUESTS).
+     */
+    private RateLimitMode rateLimitMode = RateLimitMode.REQUESTS;
+
+    /**
+     * Maximum segments or characters per second when the rate limit mode is not REQUESTS (default: 10,000).
+     */
+    private int rateLimitUnitsPerSecond = 10_000;
+
+    /**
+     * Flag indicating whether the rate limit adapts to 429/503 responses, timeouts and latency (default: false).
+     */
+    private boolean adaptiveRateLimitEnabled = false;
+
+    /**
+     * Maximum number of API requests in flight at the same time, or 0 for no limit (default: 0).
+     */
+    private int maxConcurrentRequests = 0;
+
+    /**
+     * Maximum number of API requests waiting for a concurrency slot (default: 1000).
+     */
+    private int maxQueuedRequests = 1_000;
+
+    /**
+     * Shared token store enforcing one rate limit across clients, or null for a per-client limit (default: null).
+     */
+    private TokenStore tokenStore = null;
+
+    /**
+     * Maximum number of tokens leased from the shared token store at once (default: 1).
+     */
+    private int tokenLeaseSize = 1;
+
+    /**
+     * How the rate limit is shared between partitions: not at all, per language pair, or per tenant (default: NONE).
+     */
+    private RateLimitPartitioning rateLimitPartitioning = RateLimitPartitioning.NONE;
+
+    /**
+     * Rate limit of each partition in permits per second, or 0 for none (default: 0).
+     */
+    private int partitionPermitsPerSecond = 0;
+
+    /**
+     * Weights of named partitions in the fair sharing of the rate limit; other partitions have weight 1 (default: empty).
+     */
+    private Map<String, Integer> partitionWeights = Map.of();
+
+    /**
+     * Share of the rate limit in percent guaranteed to waiting low-priority requests while high-priority requests wait too (default: 10).
+     */
+    private int lowPriorityShare = 10;
+
+    /**
+     * Whether the circuit breaker window holds the last calls or the calls of the last seconds (default: COUNT_BASED).
+     */
+    private SlidingWindowType circuitBreakerWindowType = SlidingWindowType.COUNT_BASED;
+
+    /**
+     * Size of the circuit breaker window, in calls or seconds (default: 20).
+     */
+    private int circuitBreakerWindowSize = 20;
+
+    /**
+     * Calls the circuit breaker window must hold before its rates are evaluated (default: 10).
+     */
+    private int circuitBreakerMinimumCalls = 10;
+
+    /**
+     * Failure rate in percent at which the circuit breaker opens (default: 50).
+     */
+    private int circuitBreakerFailureRateThreshold = 50;
+
+    /**
+     * Slow-call rate in percent at which the circuit breaker opens (default: 100).
+     */
+    private int circuitBreakerSlowCallRateThreshold = 100;
+
+    /**
+     * Duration in milliseconds from which a call counts as slow for the circuit breaker (default: 10_000).
+     */
+    private long circuitBreakerSlowCallDurationMillis = 10_000L;
+
+    /**
+     * Time in milliseconds the circuit breaker stays open before probing the server (default: 30_000).
+     */
+    private long circuitBreakerOpenDurationMillis = 30_000L;
+
+    /**
+     * Number of probe calls the circuit breaker permits when half-open (default: 3).
+     */
+    private int circuitBreakerHalfOpenCalls = 3;
+
+    /**
+     * LibreTranslate endpoint URLs requests are routed between (default: the API URL only).
+     */
+    private List<String> apiUrls = List.of();
+
+    /**
+     * How requests choose between several endpoints (default: LEAST_OUTSTANDING).
+     */
+    private EndpointSelection endpointSelection = EndpointSelection.LEAST_OUTSTANDING;
+
+    /**
+     * Flag indicating whether slow requests are hedged with a duplicate request (default: false).
+     */
+    private boolean hedgingEnabled = false;
+
+    /**
+     * Percentile of recent latencies after which a request is hedged (default: 95).
+     */
+    private int hedgingLatencyPercentile = 95;
+
+    /**
+     * Maximum hedged requests in percent of all requests (default: 5).
+     */
+    private int hedgingBudgetPercent = 5;
+
+    /**
+     * Maximum retries in percent of successful requests (default: 20).
+     */
+    private int retryBudgetPercent = 20;
+
+    /**
+     * Longest pause requested by the server that a retry waits for, in milliseconds (default: 60_000).
+     */
+    private long maxRetryAfterMillis = 60_000L;
+
     /**
      * Flag indicating whether client instances should be tracked for automatic shutdown (default: false).
      */
@@ -163,8 +415,41 @@ public class LibreTranslateConfigBuilder {
      *     <li>Persistent cache enabled: false</li>
      *     <li>Cache TTL: 3,600,000ms (1 hour)</li>
      *     <li>Cache cleanup interval: 1,800,000ms (30 minutes)</li>
+     *     <li>Max cache entries: 10,000</li>
+     *     <li>Max cache size: 32 MiB</li>
+     *     <li>Persistent cache directory: {@code libretranslate-cache} under {@code java.io.tmpdir}</li>
+     *     <li>Persistent cache segment size: 16 MiB</li>
+     *     <li>Micro-batching enabled: false</li>
+     *     <li>Micro-batch window: 10ms</li>
+     *     <li>Micro-batch max size: 50</li>
+     *     <li>Max characters per request: 10,000</li>
+     *     <li>Rate limit mode: REQUESTS</li>
+     *     <li>Rate limit units per second: 10,000</li>
+     *     <li>Adaptive rate limiting: false</li>
+     *     <li>Max concurrent requests: 0 (unlimited)</li>
+     *     <li>Max queued requests: 1000</li>
+     *     <li>Token store: null (per-client rate limit)</li>
+     *     <li>Token lease size: 1</li>
+     *     <li>Rate limit partitioning: NONE</li>
+     *     <li>Partition permits per second: 0 (no per-partition limit)</li>
+     *     <li>Partition weights: empty (all partitions weigh 1)</li>
+     *     <li>Low priority share: 10 percent</li>
+     *     <li>Circuit breaker window type: COUNT_BASED</li>
+     *     <li>Circuit breaker window size: 20</li>
+     *     <li>Circuit breaker minimum calls: 10</li>
+     *     <li>Circuit breaker failure rate threshold: 50%</li>
+     *     <li>Circuit breaker slow-call rate threshold: 100%</li>
+     *     <li>Circuit breaker slow-call duration: 10000ms</li>
+     *     <li>Circuit breaker open duration: 30000ms</li>
+     *     <li>Circuit breaker half-open calls: 3</li>
+     *     <li>Endpoint selection: LEAST_OUTSTANDING</li>
+     *     <li>Hedging: false</li>
+     *     <li>Hedging latency percentile: 95</li>
+     *     <li>Hedging budget: 5%</li>
+     *     <li>Retry budget: 20%</li>
+     *     <li>Max Retry-After: 60000ms</li>
      *     <li>Track instances: false</li>
-     *     <li>Retry strategy: {@link ExponentialBackoffStrategy} with initial delay 1,000ms, multiplier 2.0, max delay 30,000ms</li>
+     *     <li>Retry strategy: {@link FullJitterBackoffStrategy} with initial delay 1,000ms, multiplier 2.0, max delay 30,000ms</li>
      * </ul>
      * </p>
      *
@@ -190,27 +475,32 @@ public class LibreTranslateConfigBuilder {
     }
 
     /**
-     * Sets the retry strategy for handling failed requests with exponential backoff.
+     * Sets the retry strategy for handling failed requests.
      * <p>
-     * The retry strategy defines the delay between retry attempts, including the initial delay,
-     * multiplier for subsequent retries, and maximum delay to prevent excessive waiting.
+     * The retry strategy defines the delay between retry attempts, typically an exponential backoff with an
+     * initial delay, a multiplier for subsequent retries, and a maximum delay to prevent excessive waiting.
+     * The default {@link FullJitterBackoffStrategy} randomizes each delay so that clients failing together do
+     * not retry in lock-step; {@link DecorrelatedJitterBackoffStrategy} does the same with a minimum delay, and
+     * {@link ExponentialBackoffStrategy} uses fixed delays.
      * </p>
      * <p>
      * Example:
      * <pre>{@code
      * LibreTranslateConfig config = LibreTranslateConfig.builder()
-     *     .retryStrategy(new ExponentialBackoffStrategy(500, 1.5, 10_000))
+     *     .retryStrategy(new DecorrelatedJitterBackoffStrategy(500, 10_000))
      *     .build();
      * }</pre>
      * </p>
      *
-     * @param retryStrategy The exponential backoff strategy to use; must not be null.
+     * @param retryStrategy The retry strategy to use; must not be null.
      * @return This builder instance for method chaining.
      * @throws IllegalArgumentException if {@code retryStrategy} is null.
+     * @see FullJitterBackoffStrategy
+     * @see DecorrelatedJitterBackoffStrategy
      * @see ExponentialBackoffStrategy
      * @since 1.0
      */
-    public LibreTranslateConfigBuilder retryStrategy(ExponentialBackoffStrategy retryStrategy) {
+    public LibreTranslateConfigBuilder retryStrategy(RetryStrategy retryStrategy) {
         if (retryStrategy == null) {
             logger.error("Retry strategy cannot be null");
             throw new IllegalArgumentException("Retry strategy cannot be null");
@@ -480,197 +770,1480 @@ public class LibreTranslateConfigBuilder {
     }
 
     /**
-     * Returns the configured retry strategy.
+     * Enables or disables the in-memory translation cache.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * When enabled, translated segments are cached by source language, target language and text, so
+     * repeated translations are served without an API call until their TTL elapses.
      * </p>
      *
-     * @return The {@link ExponentialBackoffStrategy} for retry delays.
+     * @param cacheEnabled {@code true} to enable caching; {@code false} to disable.
+     * @return This builder instance for method chaining.
      * @since 1.0
      */
-    ExponentialBackoffStrategy getRetryStrategy() {
-        return retryStrategy;
+    public LibreTranslateConfigBuilder enableCache(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        return this;
     }
 
     /**
-     * Builds a new {@link LibreTranslateConfig} instance with the configured settings.
-     * <p>
-     * This method creates an immutable configuration object. The builder can be reused after
-     * calling this method to create additional configurations. Validation is performed by
-     * the {@link LibreTranslateConfig} constructor.
-     * </p>
+     * Sets the maximum number of translated segments held in the cache.
      * <p>
-     * Example:
-     * <pre>{@code
-     * LibreTranslateConfig config = LibreTranslateConfig.builder()
-     *     .apiUrl("https://translate.fedilab.app/translate")
-     *     .authKey("your-auth-key")
-     *     .build();
-     * }</pre>
+     * When the limit is reached, the least recently used entries are evicted.
      * </p>
      *
-     * @return A new {@link LibreTranslateConfig} instance with the current configuration.
-     * @throws IllegalStateException if required configuration values (e.g., {@code apiUrl}, {@code authKey}) are not set.
-     * @see LibreTranslateConfig
+     * @param maxCacheEntries The maximum number of entries; must be at least {@value #MIN_CACHE_ENTRIES}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code maxCacheEntries} is less than {@value #MIN_CACHE_ENTRIES}.
      * @since 1.0
      */
-    public LibreTranslateConfig build() {
-        return new LibreTranslateConfig(this);
+    public LibreTranslateConfigBuilder maxCacheEntries(int maxCacheEntries) {
+        if (maxCacheEntries < MIN_CACHE_ENTRIES) {
+            logger.error("Max cache entries too low: {}", maxCacheEntries);
+            throw new IllegalArgumentException("Max cache entries must be at least " + MIN_CACHE_ENTRIES);
+        }
+        this.maxCacheEntries = maxCacheEntries;
+        return this;
     }
 
     /**
-     * Returns the configured API URL.
+     * Sets the maximum estimated heap size of the cache.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * The size of each entry is estimated from the lengths of its key and translated text. When the
+     * budget is exceeded, the least recently used entries are evicted.
      * </p>
      *
-     * @return The API URL, or {@code null} if not set.
+     * @param maxCacheBytes The size budget in bytes; must be at least {@value #MIN_CACHE_BYTES}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code maxCacheBytes} is less than {@value #MIN_CACHE_BYTES}.
      * @since 1.0
      */
-    String getApiUrl() {
-        return apiUrl;
+    public LibreTranslateConfigBuilder maxCacheBytes(long maxCacheBytes) {
+        if (maxCacheBytes < MIN_CACHE_BYTES) {
+            logger.error("Max cache bytes too low: {}", maxCacheBytes);
+            throw new IllegalArgumentException("Max cache bytes must be at least " + MIN_CACHE_BYTES);
+        }
+        this.maxCacheBytes = maxCacheBytes;
+        return this;
     }
 
     /**
-     * Returns the configured authentication key.
+     * Enables or disables the persistent (on-disk) cache tier.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * When enabled, cached segments are also written to memory-mapped segment files in
+     * {@link #persistentCacheDirectory(String)} and reloaded on startup, so a restarted client begins
+     * with a warm cache. Requires the in-memory cache to be enabled. The directory must not be shared by
+     * two clients at the same time.
      * </p>
      *
-     * @return The authentication key, or {@code null} if not set.
+     * @param persistentCacheEnabled {@code true} to enable persistence; {@code false} to disable.
+     * @return This builder instance for method chaining.
      * @since 1.0
      */
-    String getApiKey() {
-        return apiKey;
+    public LibreTranslateConfigBuilder enablePersistentCache(boolean persistentCacheEnabled) {
+        this.persistentCacheEnabled = persistentCacheEnabled;
+        return this;
     }
 
     /**
-     * Returns the configured connection timeout.
-     * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
-     * </p>
+     * Sets the directory holding the persistent cache segment files.
      *
-     * @return The connection timeout in milliseconds.
+     * @param persistentCacheDirectory The directory path; must not be null or blank.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code persistentCacheDirectory} is null or blank.
      * @since 1.0
      */
-    int getConnectionTimeout() {
-        return connectionTimeout;
+    public LibreTranslateConfigBuilder persistentCacheDirectory(String persistentCacheDirectory) {
+        if (persistentCacheDirectory == null || persistentCacheDirectory.isBlank()) {
+            logger.error("Persistent cache directory is null or empty");
+            throw new IllegalArgumentException("Persistent cache directory cannot be null or blank");
+        }
+        this.persistentCacheDirectory = persistentCacheDirectory;
+        return this;
     }
 
     /**
-     * Returns the configured socket timeout.
+     * Sets the size of each persistent cache segment file.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * Segments are preallocated and memory-mapped at this size. Larger segments mean fewer files, while
+     * smaller segments are compacted with less copying.
      * </p>
      *
-     * @return The socket timeout in milliseconds.
+     * @param persistentCacheSegmentBytes The segment size in bytes; must be at least {@value #MIN_SEGMENT_BYTES}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code persistentCacheSegmentBytes} is less than {@value #MIN_SEGMENT_BYTES}.
      * @since 1.0
      */
-    int getSocketTimeout() {
-        return socketTimeout;
+    public LibreTranslateConfigBuilder persistentCacheSegmentBytes(int persistentCacheSegmentBytes) {
+        if (persistentCacheSegmentBytes < MIN_SEGMENT_BYTES) {
+            logger.error("Persistent cache segment size too low: {}", persistentCacheSegmentBytes);
+            throw new IllegalArgumentException("Persistent cache segment size must be at least " + MIN_SEGMENT_BYTES + " bytes");
+        }
+        this.persistentCacheSegmentBytes = persistentCacheSegmentBytes;
+        return this;
     }
 
     /**
-     * Returns the configured maximum requests per second.
+     * Sets the maximum total size of the persistent cache segment files.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * When a new segment would take the store over this size, the oldest segments are deleted with the
+     * entries they hold, so the directory stays bounded even with an unlimited cache TTL. The size must
+     * leave room for at least two segments of {@link #persistentCacheSegmentBytes(int)}.
      * </p>
      *
-     * @return The maximum requests per second.
+     * @param persistentCacheMaxBytes The maximum size in bytes; must be at least {@value #MIN_SEGMENT_BYTES} times two.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code persistentCacheMaxBytes} is less than two minimum segments.
      * @since 1.0
      */
-    int getMaxRequestsPerSecond() {
-        return maxRequestsPerSecond;
+    public LibreTranslateConfigBuilder persistentCacheMaxBytes(long persistentCacheMaxBytes) {
+        if (persistentCacheMaxBytes < 2L * MIN_SEGMENT_BYTES) {
+            logger.error("Persistent cache max size too low: {}", persistentCacheMaxBytes);
+            throw new IllegalArgumentException("Persistent cache max size must be at least " + 2L * MIN_SEGMENT_BYTES + " bytes");
+        }
+        this.persistentCacheMaxBytes = persistentCacheMaxBytes;
+        return this;
     }
 
     /**
-     * Returns the configured maximum retry attempts.
+     * Enables or disables micro-batching of single-text translations.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * When enabled, single-text calls with the same language pair that arrive within
+     * {@link #microBatchWindowMillis(long)} are sent together as one multi-segment request, so that each
+     * request permit of the rate limiter carries several texts. Each call waits at most one window longer.
      * </p>
      *
-     * @return The maximum retry attempts.
+     * @param microBatchEnabled {@code true} to enable micro-batching; {@code false} to disable.
+     * @return This builder instance for method chaining.
      * @since 1.0
      */
-    int getMaxRetries() {
-        return maxRetries;
+    public LibreTranslateConfigBuilder enableMicroBatching(boolean microBatchEnabled) {
+        this.microBatchEnabled = microBatchEnabled;
+        return this;
     }
 
     /**
-     * Returns the configured rate limit cooldown period.
-     * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
-     * </p>
+     * Sets how long the first call of a micro-batch waits for more calls before the batch is sent.
      *
-     * @return The rate limit cooldown period in milliseconds.
+     * @param microBatchWindowMillis The window in milliseconds, between {@value #MIN_MICRO_BATCH_WINDOW} and {@value #MAX_MICRO_BATCH_WINDOW}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code microBatchWindowMillis} is out of range.
      * @since 1.0
      */
-    long getRateLimitCooldown() {
-        return rateLimitCooldown;
+    public LibreTranslateConfigBuilder microBatchWindowMillis(long microBatchWindowMillis) {
+        if (microBatchWindowMillis < MIN_MICRO_BATCH_WINDOW || microBatchWindowMillis > MAX_MICRO_BATCH_WINDOW) {
+            logger.error("Invalid micro-batch window: {}", microBatchWindowMillis);
+            throw new IllegalArgumentException(
+                    String.format("Micro-batch window must be between %d and %d ms", MIN_MICRO_BATCH_WINDOW, MAX_MICRO_BATCH_WINDOW));
+        }
+        this.microBatchWindowMillis = microBatchWindowMillis;
+        return this;
     }
 
     /**
-     * Indicates whether retry logic is enabled.
-     * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
-     * </p>
+     * Sets the maximum number of distinct texts per micro-batch. A batch reaching this size is sent
+     * immediately without waiting for the window to elapse.
      *
-     * @return {@code true} if retry logic is enabled; {@code false} otherwise.
+     * @param microBatchMaxSize The maximum batch size, between 1 and {@value #MAX_MICRO_BATCH_SIZE}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code microBatchMaxSize} is out of range.
      * @since 1.0
      */
-    boolean isRetryEnabled() {
-        return retryEnabled;
+    public LibreTranslateConfigBuilder microBatchMaxSize(int microBatchMaxSize) {
+        if (microBatchMaxSize < 1 || microBatchMaxSize > MAX_MICRO_BATCH_SIZE) {
+            logger.error("Invalid micro-batch max size: {}", microBatchMaxSize);
+            throw new IllegalArgumentException(
+                    String.format("Micro-batch max size must be between %d and %d", 1, MAX_MICRO_BATCH_SIZE));
+        }
+        this.microBatchMaxSize = microBatchMaxSize;
+        return this;
     }
 
-
     /**
-     * Indicates whether automatic thread closure is enabled.
+     * Sets the character budget of a single request when packing many texts into requests.
      * <p>
-     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
-     * during construction.
+     * Used by {@code LibreTranslatePlugin.translateAll}, which bin-packs texts into the fewest requests
+     * that fit both this budget and the batch size limit, splitting longer texts at sentence boundaries.
      * </p>
      *
-     * @return {@code true} if automatic thread closure is enabled; {@code false} otherwise.
+     * @param maxCharactersPerRequest The budget, between {@value #MIN_CHARACTERS_PER_REQUEST} and {@value #MAX_CHARACTERS_PER_REQUEST}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code maxCharactersPerRequest} is out of range.
      * @since 1.0
      */
-    boolean isClosedThreadAuto() {
-        return closedThreadAuto;
-    }
-
+    public LibreTranslateConfigBuilder maxCharactersPerRequest(int maxCharactersPerRequest) {
+        if (maxCharactersPerRequest < MIN_CHARACTERS_PER_REQUEST || maxCharactersPerRequest > MAX_CHARACTERS_PER_REQUEST) {
+            logger.error("Invalid max characters per request: {}", maxCharactersPerRequest);
+            throw new IllegalArgumentException(
+                    String.format("Max characters per request must be between %d and %d", MIN_CHARACTERS_PER_REQUEST, MAX_CHARACTERS_PER_REQUEST));
+        }
+        this.maxCharactersPerRequest = maxCharactersPerRequest;
+        return this;
+    }
+
+    /**
+     * Sets what the rate limiter counts.
+     * <p>
+     * With {@link RateLimitMode#REQUESTS} every API call costs one permit and the limit is
+     * {@link #maxRequestsPerSecond(int)}. With {@link RateLimitMode#SEGMENTS} or {@link RateLimitMode#CHARACTERS}
+     * each call costs one permit per segment or per character, and the limit is
+     * {@link #rateLimitUnitsPerSecond(int)}.
+     * </p>
+     *
+     * @param rateLimitMode The rate limit mode; must not be null.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code rateLimitMode} is null.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder rateLimitMode(RateLimitMode rateLimitMode) {
+        if (rateLimitMode == null) {
+            logger.error("Rate limit mode is null");
+            throw new IllegalArgumentException("Rate limit mode cannot be null");
+        }
+        this.rateLimitMode = rateLimitMode;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of segments or characters per second, used when the rate limit mode is
+     * {@link RateLimitMode#SEGMENTS} or {@link RateLimitMode#CHARACTERS}.
+     * <p>
+     * This is also the burst size. A single request costing more than this waits for a full bucket and then
+     * puts the limiter into debt, so the long-run rate is kept.
+     * </p>
+     *
+     * @param rateLimitUnitsPerSecond The limit, between {@value #MIN_UNITS_PER_SECOND} and {@value #MAX_UNITS_PER_SECOND}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code rateLimitUnitsPerSecond} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder rateLimitUnitsPerSecond(int rateLimitUnitsPerSecond) {
+        if (rateLimitUnitsPerSecond < MIN_UNITS_PER_SECOND || rateLimitUnitsPerSecond > MAX_UNITS_PER_SECOND) {
+            logger.error("Rate limit units per second out of range: {}", rateLimitUnitsPerSecond);
+            throw new IllegalArgumentException(
+                    String.format("Rate limit units per second must be between %d and %d", MIN_UNITS_PER_SECOND, MAX_UNITS_PER_SECOND));
+        }
+        this.rateLimitUnitsPerSecond = rateLimitUnitsPerSecond;
+        return this;
+    }
+
+    /**
+     * Enables or disables adaptive rate limiting.
+     * <p>
+     * When enabled, the configured rate ({@link #maxRequestsPerSecond(int)} or
+     * {@link #rateLimitUnitsPerSecond(int)}) becomes the upper bound. The client halves the rate on 429 or
+     * 503 responses and timeouts, pauses for the duration of any {@code Retry-After} header, slows down when
+     * latency rises well above its baseline, and probes back up while the server is healthy.
+     * </p>
+     *
+     * @param adaptiveRateLimitEnabled {@code true} to enable adaptive rate limiting.
+     * @return This builder instance for method chaining.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder enableAdaptiveRateLimit(boolean adaptiveRateLimitEnabled) {
+        this.adaptiveRateLimitEnabled = adaptiveRateLimitEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of API requests in flight at the same time.
+     * <p>
+     * Bounds concurrency in addition to the request rate, so that a burst of asynchronous calls does not open
+     * more simultaneous requests than the server can handle. Requests beyond the limit wait in a queue of
+     * {@link #maxQueuedRequests(int)} entries and are rejected when it is full. Zero disables the limit.
+     * </p>
+     *
+     * @param maxConcurrentRequests The maximum number of requests in flight (0 to 10,000).
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code maxConcurrentRequests} is negative or exceeds 10,000.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder maxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 0 || maxConcurrentRequests > MAX_CONCURRENT_REQUESTS_LIMIT) {
+            logger.error("Invalid max concurrent requests: {}", maxConcurrentRequests);
+            throw new IllegalArgumentException("Max concurrent requests must be between 0 and " + MAX_CONCURRENT_REQUESTS_LIMIT);
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of API requests waiting for a concurrency slot.
+     * <p>
+     * Only applies when {@link #maxConcurrentRequests(int)} is set. Requests arriving when the queue is full
+     * fail at once; zero makes every request beyond the concurrency limit fail fast.
+     * </p>
+     *
+     * @param maxQueuedRequests The maximum number of waiting requests (0 to 1,000,000).
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code maxQueuedRequests} is negative or exceeds 1,000,000.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder maxQueuedRequests(int maxQueuedRequests) {
+        if (maxQueuedRequests < 0 || maxQueuedRequests > MAX_QUEUED_REQUESTS_LIMIT) {
+            logger.error("Invalid max queued requests: {}", maxQueuedRequests);
+            throw new IllegalArgumentException("Max queued requests must be between 0 and " + MAX_QUEUED_REQUESTS_LIMIT);
+        }
+        this.maxQueuedRequests = maxQueuedRequests;
+        return this;
+    }
+
+    /**
+     * Sets a shared token store, so that all clients using it enforce one rate limit between them.
+     * <p>
+     * By default every client has its own {@link com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter},
+     * so N clients send up to N times the configured rate. With a store, the client uses a
+     * {@link com.java.vidigal.code.utilities.ratelimit.DistributedRateLimiter} drawing from a bucket named after
+     * the API URL, and the configured rate applies to all clients sharing the store and URL together. Use
+     * {@link com.java.vidigal.code.utilities.ratelimit.InMemoryTokenStore} to share a quota within a JVM and
+     * {@link com.java.vidigal.code.utilities.ratelimit.FileTokenStore} to share it between processes on a host.
+     * The store is not closed by the client.
+     * </p>
+     *
+     * @param tokenStore The shared token store, or {@code null} for a per-client rate limit.
+     * @return This builder instance for method chaining.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder tokenStore(TokenStore tokenStore) {
+        this.tokenStore = tokenStore;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of tokens leased from the shared token store at once.
+     * <p>
+     * Only applies when a {@link #tokenStore(TokenStore)} is set. Larger leases save round trips to the store
+     * at the cost of a less even split of the quota between clients; leased tokens expire when unused.
+     * </p>
+     *
+     * @param tokenLeaseSize The lease size (1 to 10,000).
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code tokenLeaseSize} is not between 1 and 10,000.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder tokenLeaseSize(int tokenLeaseSize) {
+        if (tokenLeaseSize < 1 || tokenLeaseSize > MAX_TOKEN_LEASE_SIZE) {
+            logger.error("Invalid token lease size: {}", tokenLeaseSize);
+            throw new IllegalArgumentException("Token lease size must be between 1 and " + MAX_TOKEN_LEASE_SIZE);
+        }
+        this.tokenLeaseSize = tokenLeaseSize;
+        return this;
+    }
+
+    /**
+     * Sets how the rate limit is shared between partitions of the traffic.
+     * <p>
+     * With {@link RateLimitPartitioning#LANGUAGE_PAIR} or {@link RateLimitPartitioning#TENANT}, requests waiting
+     * for the rate limit are queued per partition and served by weighted fair queuing, so that a bulk job in one
+     * partition does not starve the others. See {@link #partitionPermitsPerSecond(int)} and
+     * {@link #partitionWeights(Map)}.
+     * </p>
+     *
+     * @param rateLimitPartitioning The partitioning mode; must not be null.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code rateLimitPartitioning} is null.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder rateLimitPartitioning(RateLimitPartitioning rateLimitPartitioning) {
+        if (rateLimitPartitioning == null) {
+            logger.error("Rate limit partitioning is null");
+            throw new IllegalArgumentException("Rate limit partitioning cannot be null");
+        }
+        this.rateLimitPartitioning = rateLimitPartitioning;
+        return this;
+    }
+
+    /**
+     * Sets a rate limit applying to each partition on its own, in the units of the rate limit mode.
+     * <p>
+     * Only applies when {@link #rateLimitPartitioning(RateLimitPartitioning)} is set. The client-wide rate
+     * remains the global ceiling. Zero leaves partitions limited only by their fair share of the ceiling.
+     * </p>
+     *
+     * @param partitionPermitsPerSecond The per-partition limit, between 0 and {@value #MAX_UNITS_PER_SECOND}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code partitionPermitsPerSecond} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder partitionPermitsPerSecond(int partitionPermitsPerSecond) {
+        if (partitionPermitsPerSecond < 0 || partitionPermitsPerSecond > MAX_UNITS_PER_SECOND) {
+            logger.error("Invalid partition permits per second: {}", partitionPermitsPerSecond);
+            throw new IllegalArgumentException("Partition permits per second must be between 0 and " + MAX_UNITS_PER_SECOND);
+        }
+        this.partitionPermitsPerSecond = partitionPermitsPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets the weights of named partitions in the fair sharing of the rate limit.
+     * <p>
+     * While requests wait for the rate limit, a partition of weight 3 is served three times as many permits as
+     * one of weight 1. Partitions not named here weigh 1. Keys are partition keys as produced by
+     * {@link RateLimitPartitioning#partitionOf}, for example {@code "pt->en"} or a tenant tag.
+     * </p>
+     *
+     * @param partitionWeights The weights; must not be null and all weights must be positive.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code partitionWeights} is null or contains a weight that is not positive.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder partitionWeights(Map<String, Integer> partitionWeights) {
+        if (partitionWeights == null || partitionWeights.values().stream().anyMatch(weight -> weight == null || weight <= 0)) {
+            logger.error("Invalid partition weights: {}", partitionWeights);
+            throw new IllegalArgumentException("Partition weights must be positive");
+        }
+        this.partitionWeights = Map.copyOf(partitionWeights);
+        return this;
+    }
+
+    /**
+     * Sets the share of the rate limit guaranteed to low-priority requests while high-priority requests wait.
+     * <p>
+     * Requests waiting for the rate limit are served by {@link RequestPriority}, high priority first. So that a
+     * steady stream of high-priority requests cannot starve the low lane, low-priority requests receive at
+     * least this percentage of the permits while both lanes wait. Zero gives strict priority.
+     * </p>
+     *
+     * @param lowPriorityShare The share in percent, between 0 and {@value PriorityRateLimiter#MAX_LOW_PRIORITY_SHARE}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code lowPriorityShare} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder lowPriorityShare(int lowPriorityShare) {
+        if (lowPriorityShare < 0 || lowPriorityShare > PriorityRateLimiter.MAX_LOW_PRIORITY_SHARE) {
+            logger.error("Invalid low priority share: {}", lowPriorityShare);
+            throw new IllegalArgumentException("Low priority share must be between 0 and " + PriorityRateLimiter.MAX_LOW_PRIORITY_SHARE);
+        }
+        this.lowPriorityShare = lowPriorityShare;
+        return this;
+    }
+
+    /**
+     * Sets the kind of sliding window over which the circuit breaker computes its failure and slow-call rates.
+     * <p>
+     * {@link SlidingWindowType#COUNT_BASED} holds the last {@link #circuitBreakerWindowSize(int)} calls,
+     * {@link SlidingWindowType#TIME_BASED} the calls of the last {@code circuitBreakerWindowSize} seconds.
+     * </p>
+     *
+     * @param circuitBreakerWindowType The window type; must not be null.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerWindowType} is null.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerWindowType(SlidingWindowType circuitBreakerWindowType) {
+        if (circuitBreakerWindowType == null) {
+            logger.error("Circuit breaker window type is null");
+            throw new IllegalArgumentException("Circuit breaker window type cannot be null");
+        }
+        this.circuitBreakerWindowType = circuitBreakerWindowType;
+        return this;
+    }
+
+    /**
+     * Sets the size of the circuit breaker window, in calls or seconds depending on the window type.
+     * <p>
+     * Failures older than the window no longer count, so that occasional errors spread over a long time
+     * never open the breaker.
+     * </p>
+     *
+     * @param circuitBreakerWindowSize The window size, between 1 and {@value #MAX_CIRCUIT_BREAKER_WINDOW}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerWindowSize} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerWindowSize(int circuitBreakerWindowSize) {
+        if (circuitBreakerWindowSize < 1 || circuitBreakerWindowSize > MAX_CIRCUIT_BREAKER_WINDOW) {
+            logger.error("Invalid circuit breaker window size: {}", circuitBreakerWindowSize);
+            throw new IllegalArgumentException("Circuit breaker window size must be between 1 and " + MAX_CIRCUIT_BREAKER_WINDOW);
+        }
+        this.circuitBreakerWindowSize = circuitBreakerWindowSize;
+        return this;
+    }
+
+    /**
+     * Sets how many calls the circuit breaker window must hold before the breaker may open.
+     * <p>
+     * Keeps a handful of early failures from opening the breaker on a rate computed from too few calls.
+     * </p>
+     *
+     * @param circuitBreakerMinimumCalls The minimum number of calls, between 1 and {@value #MAX_CIRCUIT_BREAKER_WINDOW}.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerMinimumCalls} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerMinimumCalls(int circuitBreakerMinimumCalls) {
+        if (circuitBreakerMinimumCalls < 1 || circuitBreakerMinimumCalls > MAX_CIRCUIT_BREAKER_WINDOW) {
+            logger.error("Invalid circuit breaker minimum calls: {}", circuitBreakerMinimumCalls);
+            throw new IllegalArgumentException("Circuit breaker minimum calls must be between 1 and " + MAX_CIRCUIT_BREAKER_WINDOW);
+        }
+        this.circuitBreakerMinimumCalls = circuitBreakerMinimumCalls;
+        return this;
+    }
+
+    /**
+     * Sets the failure rate in percent at which the circuit breaker opens.
+     * <p>
+     * I/O errors, timeouts and 5xx responses count as failures; other responses show a healthy server.
+     * </p>
+     *
+     * @param circuitBreakerFailureRateThreshold The failure rate threshold, between 1 and 100.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerFailureRateThreshold} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerFailureRateThreshold(int circuitBreakerFailureRateThreshold) {
+        if (circuitBreakerFailureRateThreshold < 1 || circuitBreakerFailureRateThreshold > 100) {
+            logger.error("Invalid circuit breaker failure rate threshold: {}", circuitBreakerFailureRateThreshold);
+            throw new IllegalArgumentException("Circuit breaker failure rate threshold must be between 1 and " + 100);
+        }
+        this.circuitBreakerFailureRateThreshold = circuitBreakerFailureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the rate of slow calls in percent at which the circuit breaker opens.
+     * <p>
+     * A call is slow when it takes at least {@link #circuitBreakerSlowCallDurationMillis(long)}. The default of
+     * 100 opens the breaker only when every call in the window is slow.
+     * </p>
+     *
+     * @param circuitBreakerSlowCallRateThreshold The slow-call rate threshold, between 1 and 100.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerSlowCallRateThreshold} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerSlowCallRateThreshold(int circuitBreakerSlowCallRateThreshold) {
+        if (circuitBreakerSlowCallRateThreshold < 1 || circuitBreakerSlowCallRateThreshold > 100) {
+            logger.error("Invalid circuit breaker slow-call rate threshold: {}", circuitBreakerSlowCallRateThreshold);
+            throw new IllegalArgumentException("Circuit breaker slow-call rate threshold must be between 1 and " + 100);
+        }
+        this.circuitBreakerSlowCallRateThreshold = circuitBreakerSlowCallRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the duration in milliseconds from which a call counts as slow for the circuit breaker.
+     * <p>
+     * The duration of a call is measured from sending the HTTP request until its response has been read, so
+     * time spent waiting for the rate limiter does not count.
+     * </p>
+     *
+     * @param circuitBreakerSlowCallDurationMillis The slow-call duration in milliseconds, must be positive.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerSlowCallDurationMillis} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerSlowCallDurationMillis(long circuitBreakerSlowCallDurationMillis) {
+        if (circuitBreakerSlowCallDurationMillis < 1) {
+            logger.error("Invalid circuit breaker slow-call duration: {}", circuitBreakerSlowCallDurationMillis);
+            throw new IllegalArgumentException("Circuit breaker slow-call duration must be positive");
+        }
+        this.circuitBreakerSlowCallDurationMillis = circuitBreakerSlowCallDurationMillis;
+        return this;
+    }
+
+    /**
+     * Sets how long in milliseconds the circuit breaker rejects calls after opening.
+     * <p>
+     * Afterwards it permits {@link #circuitBreakerHalfOpenCalls(int)} probe calls and closes again if they succeed.
+     * </p>
+     *
+     * @param circuitBreakerOpenDurationMillis The open duration in milliseconds, must be non-negative.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerOpenDurationMillis} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerOpenDurationMillis(long circuitBreakerOpenDurationMillis) {
+        if (circuitBreakerOpenDurationMillis < 0) {
+            logger.error("Invalid circuit breaker open duration: {}", circuitBreakerOpenDurationMillis);
+            throw new IllegalArgumentException("Circuit breaker open duration must be non-negative");
+        }
+        this.circuitBreakerOpenDurationMillis = circuitBreakerOpenDurationMillis;
+        return this;
+    }
+
+    /**
+     * Sets the number of probe calls the circuit breaker permits when half-open.
+     * <p>
+     * Further calls are rejected until all probes have completed; the breaker then closes if their rates are
+     * below the thresholds and opens again otherwise.
+     * </p>
+     *
+     * @param circuitBreakerHalfOpenCalls The number of probe calls, between 1 and 100.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code circuitBreakerHalfOpenCalls} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder circuitBreakerHalfOpenCalls(int circuitBreakerHalfOpenCalls) {
+        if (circuitBreakerHalfOpenCalls < 1 || circuitBreakerHalfOpenCalls > 100) {
+            logger.error("Invalid circuit breaker half-open calls: {}", circuitBreakerHalfOpenCalls);
+            throw new IllegalArgumentException("Circuit breaker half-open calls must be between 1 and " + 100);
+        }
+        this.circuitBreakerHalfOpenCalls = circuitBreakerHalfOpenCalls;
+        return this;
+    }
+
+    /**
+     * Sets several LibreTranslate endpoints, for example replicas of a self-hosted server, to route requests between.
+     * <p>
+     * Each endpoint has its own circuit breaker. Requests are sent to a healthy endpoint chosen by
+     * {@link #endpointSelection(EndpointSelection)}, and a retry goes to another endpoint than the one that
+     * failed. When set, these URLs replace {@link #apiUrl(String)} for routing; the API URL, if not set,
+     * defaults to the first of them.
+     * </p>
+     *
+     * @param apiUrls The endpoint URLs; must not be null or empty, nor contain null, blank or duplicate URLs.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code apiUrls} is null, empty, or contains an invalid URL.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder apiUrls(List<String> apiUrls) {
+        if (apiUrls == null || apiUrls.isEmpty() || apiUrls.stream().anyMatch(url -> url == null || url.isBlank())
+                || Set.copyOf(apiUrls).size() != apiUrls.size()) {
+            logger.error("Invalid API URLs: {}", apiUrls);
+            throw new IllegalArgumentException("API URLs must not be empty and must not contain blank or duplicate URLs");
+        }
+        this.apiUrls = List.copyOf(apiUrls);
+        return this;
+    }
+
+    /**
+     * Sets how requests choose between several endpoints configured with {@link #apiUrls(List)}.
+     * <p>
+     * {@link EndpointSelection#LEAST_OUTSTANDING} suits a single client in front of a few replicas;
+     * {@link EndpointSelection#POWER_OF_TWO_CHOICES} avoids many clients piling onto the same idle endpoint.
+     * </p>
+     *
+     * @param endpointSelection The selection strategy; must not be null.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code endpointSelection} is null.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder endpointSelection(EndpointSelection endpointSelection) {
+        if (endpointSelection == null) {
+            logger.error("Endpoint selection is null");
+            throw new IllegalArgumentException("Endpoint selection cannot be null");
+        }
+        this.endpointSelection = endpointSelection;
+        return this;
+    }
+
+    /**
+     * Enables or disables request hedging.
+     * <p>
+     * When enabled, a request still running after {@link #hedgingLatencyPercentile(int)} of the recently observed
+     * latencies is sent a second time, to another endpoint if several are configured with {@link #apiUrls(List)}.
+     * The first success is used and the other request is cancelled. Hedges need spare rate limiter permits and
+     * concurrency slots, and are limited to {@link #hedgingBudgetPercent(int)} of the requests.
+     * </p>
+     *
+     * @param hedgingEnabled {@code true} to enable request hedging.
+     * @return This builder instance for method chaining.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder enableHedging(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the percentile of recently observed latencies after which a request is hedged.
+     * <p>
+     * With the default of 95, only the slowest 5% of requests are hedged, which is where a long latency tail
+     * is cut at little extra cost. No request is hedged until enough latencies have been observed.
+     * </p>
+     *
+     * @param hedgingLatencyPercentile The percentile, between 50 and 99.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code hedgingLatencyPercentile} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder hedgingLatencyPercentile(int hedgingLatencyPercentile) {
+        if (hedgingLatencyPercentile < 50 || hedgingLatencyPercentile > 99) {
+            logger.error("Invalid hedging latency percentile: {}", hedgingLatencyPercentile);
+            throw new IllegalArgumentException("Hedging latency percentile must be between 50 and " + 99);
+        }
+        this.hedgingLatencyPercentile = hedgingLatencyPercentile;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of hedged requests in percent of all requests.
+     * <p>
+     * The budget keeps hedging from amplifying an overload: when every request is slow, only this share of
+     * them is duplicated.
+     * </p>
+     *
+     * @param hedgingBudgetPercent The budget in percent, between 1 and 100.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code hedgingBudgetPercent} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder hedgingBudgetPercent(int hedgingBudgetPercent) {
+        if (hedgingBudgetPercent < 1 || hedgingBudgetPercent > 100) {
+            logger.error("Invalid hedging budget: {}", hedgingBudgetPercent);
+            throw new IllegalArgumentException("Hedging budget must be between 1 and " + 100);
+        }
+        this.hedgingBudgetPercent = hedgingBudgetPercent;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of retries in percent of successful requests.
+     * <p>
+     * Every successful request earns this share of a retry, and a retry is only sent if one has been earned,
+     * apart from a small initial reserve. While the server is healthy, this never limits the occasional retry;
+     * when it fails for everyone, retries stop instead of multiplying the load on a server that is trying to
+     * recover.
+     * </p>
+     *
+     * @param retryBudgetPercent The budget in percent, between 1 and 100.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code retryBudgetPercent} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder retryBudgetPercent(int retryBudgetPercent) {
+        if (retryBudgetPercent < 1 || retryBudgetPercent > 100) {
+            logger.error("Invalid retry budget: {}", retryBudgetPercent);
+            throw new IllegalArgumentException("Retry budget must be between 1 and " + 100);
+        }
+        this.retryBudgetPercent = retryBudgetPercent;
+        return this;
+    }
+
+    /**
+     * Sets the longest pause requested by the server that a retry waits for.
+     * <p>
+     * A retryable response with a {@code Retry-After} header, or with an exhausted rate limit and its reset
+     * time, is retried after exactly the requested pause instead of the retry strategy's delay, and the rate
+     * limiter hands out no permits until then. If the server asks for a longer pause than this, the request
+     * fails at once; {@link com.java.vidigal.code.exception.LibreTranslateApiException#getRetryAfterMillis()}
+     * tells the caller how long to wait.
+     * </p>
+     *
+     * @param maxRetryAfterMillis The longest pause in milliseconds, must be non-negative.
+     * @return This builder instance for method chaining.
+     * @throws IllegalArgumentException if {@code maxRetryAfterMillis} is out of range.
+     * @since 1.0
+     */
+    public LibreTranslateConfigBuilder maxRetryAfterMillis(long maxRetryAfterMillis) {
+        if (maxRetryAfterMillis < 0) {
+            logger.error("Invalid max Retry-After: {}", maxRetryAfterMillis);
+            throw new IllegalArgumentException("Max Retry-After must be non-negative");
+        }
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
+        return this;
+    }
+
+    /**
+     * Returns the configured retry strategy.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The {@link RetryStrategy} for retry delays.
+     * @since 1.0
+     */
+    RetryStrategy getRetryStrategy() {
+        return retryStrategy;
+    }
+
+    /**
+     * Builds a new {@link LibreTranslateConfig} instance with the configured settings.
+     * <p>
+     * This method creates an immutable configuration object. The builder can be reused after
+     * calling this method to create additional configurations. Validation is performed by
+     * the {@link LibreTranslateConfig} constructor.
+     * </p>
+     * <p>
+     * Example:
+     * <pre>{@code
+     * LibreTranslateConfig config = LibreTranslateConfig.builder()
+     *     .apiUrl("https://translate.fedilab.app/translate")
+     *     .authKey("your-auth-key")
+     *     .build();
+     * }</pre>
+     * </p>
+     *
+     * @return A new {@link LibreTranslateConfig} instance with the current configuration.
+     * @throws IllegalStateException if required configuration values (e.g., {@code apiUrl}, {@code authKey}) are not set.
+     * @see LibreTranslateConfig
+     * @since 1.0
+     */
+    public LibreTranslateConfig build() {
+        return new LibreTranslateConfig(this);
+    }
+
+    /**
+     * Returns the configured API URL.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The API URL, or {@code null} if not set.
+     * @since 1.0
+     */
+    String getApiUrl() {
+        return apiUrl;
+    }
+
+    /**
+     * Returns the configured authentication key.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The authentication key, or {@code null} if not set.
+     * @since 1.0
+     */
+    String getApiKey() {
+        return apiKey;
+    }
+
+    /**
+     * Returns the configured connection timeout.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The connection timeout in milliseconds.
+     * @since 1.0
+     */
+    int getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Returns the configured socket timeout.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The socket timeout in milliseconds.
+     * @since 1.0
+     */
+    int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    /**
+     * Returns the configured maximum requests per second.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum requests per second.
+     * @since 1.0
+     */
+    int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Returns the configured maximum retry attempts.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum retry attempts.
+     * @since 1.0
+     */
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns the configured rate limit cooldown period.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The rate limit cooldown period in milliseconds.
+     * @since 1.0
+     */
+    long getRateLimitCooldown() {
+        return rateLimitCooldown;
+    }
+
+    /**
+     * Indicates whether retry logic is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if retry logic is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    boolean isRetryEnabled() {
+        return retryEnabled;
+    }
+
+
+    /**
+     * Indicates whether automatic thread closure is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if automatic thread closure is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    boolean isClosedThreadAuto() {
+        return closedThreadAuto;
+    }
+
+    /**
+     * Returns the configured cache time-to-live.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The cache TTL in milliseconds.
+     * @since 1.0
+     */
+    long getCacheTtlMillis() {
+        return cacheTtlMillis;
+    }
+
+    /**
+     * Returns the configured cache cleanup interval.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The cache cleanup interval in milliseconds.
+     * @since 1.0
+     */
+    long getCleanupIntervalMillis() {
+        return cleanupIntervalMillis;
+    }
+
+    /**
+     * Indicates whether the in-memory translation cache is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if caching is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Returns the configured maximum number of cache entries.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum number of cache entries.
+     * @since 1.0
+     */
+    int getMaxCacheEntries() {
+        return maxCacheEntries;
+    }
+
+    /**
+     * Returns the configured cache size budget.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum estimated cache size in bytes.
+     * @since 1.0
+     */
+    long getMaxCacheBytes() {
+        return maxCacheBytes;
+    }
+
+    /**
+     * Indicates whether the persistent cache tier is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if persistence is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    boolean isPersistentCacheEnabled() {
+        return persistentCacheEnabled;
+    }
+
+    /**
+     * Returns the configured persistent cache directory.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The persistent cache directory path.
+     * @since 1.0
+     */
+    String getPersistentCacheDirectory() {
+        return persistentCacheDirectory;
+    }
+
+    /**
+     * Returns the configured persistent cache segment size.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The segment size in bytes.
+     * @since 1.0
+     */
+    int getPersistentCacheSegmentBytes() {
+        return persistentCacheSegmentBytes;
+    }
+
+    /**
+     * Returns the configured maximum persistent cache size.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum size in bytes.
+     * @since 1.0
+     */
+    long getPersistentCacheMaxBytes() {
+        return persistentCacheMaxBytes;
+    }
+
+    /**
+     * Indicates whether micro-batching is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if micro-batching is enabled; {@code false} otherwise.
+     * @since 1.0
+     */
+    boolean isMicroBatchEnabled() {
+        return microBatchEnabled;
+    }
+
+    /**
+     * Returns the configured micro-batch window.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The micro-batch window in milliseconds.
+     * @since 1.0
+     */
+    long getMicroBatchWindowMillis() {
+        return microBatchWindowMillis;
+    }
+
+    /**
+     * Returns the configured micro-batch size limit.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum micro-batch size.
+     * @since 1.0
+     */
+    int getMicroBatchMaxSize() {
+        return microBatchMaxSize;
+    }
+
+    /**
+     * Returns the configured character budget per request.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The character budget per request.
+     * @since 1.0
+     */
+    int getMaxCharactersPerRequest() {
+        return maxCharactersPerRequest;
+    }
+
     /**
-     * Returns the configured cache time-to-live.
+     * Returns the configured rate limit mode.
      * <p>
      * This method is package-private and used internally by the {@link LibreTranslateConfig} class
      * during construction.
      * </p>
      *
-     * @return The cache TTL in milliseconds.
+     * @return The rate limit mode.
      * @since 1.0
      */
-    long getCacheTtlMillis() {
-        return cacheTtlMillis;
+    RateLimitMode getRateLimitMode() {
+        return rateLimitMode;
     }
 
     /**
-     * Returns the configured cache cleanup interval.
+     * Returns the configured segments or characters per second.
      * <p>
      * This method is package-private and used internally by the {@link LibreTranslateConfig} class
      * during construction.
      * </p>
      *
-     * @return The cache cleanup interval in milliseconds.
+     * @return The segments or characters per second.
      * @since 1.0
      */
-    long getCleanupIntervalMillis() {
-        return cleanupIntervalMillis;
+    int getRateLimitUnitsPerSecond() {
+        return rateLimitUnitsPerSecond;
+    }
+
+    /**
+     * Returns whether adaptive rate limiting is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if adaptive rate limiting is enabled.
+     * @since 1.0
+     */
+    boolean isAdaptiveRateLimitEnabled() {
+        return adaptiveRateLimitEnabled;
+    }
+
+    /**
+     * Returns the maximum number of API requests in flight at the same time.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum number of requests in flight, or 0 if unlimited.
+     * @since 1.0
+     */
+    int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Returns the maximum number of API requests waiting for a concurrency slot.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The maximum number of waiting requests.
+     * @since 1.0
+     */
+    int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Returns the shared token store.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The token store, or {@code null} for a per-client rate limit.
+     * @since 1.0
+     */
+    TokenStore getTokenStore() {
+        return tokenStore;
+    }
+
+    /**
+     * Returns the maximum number of tokens leased from the shared token store at once.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The token lease size.
+     * @since 1.0
+     */
+    int getTokenLeaseSize() {
+        return tokenLeaseSize;
+    }
+
+    /**
+     * Returns the configured rate limit partitioning.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The rate limit partitioning mode.
+     * @since 1.0
+     */
+    RateLimitPartitioning getRateLimitPartitioning() {
+        return rateLimitPartitioning;
+    }
+
+    /**
+     * Returns the rate limit of each partition.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The per-partition permits per second, or 0 for none.
+     * @since 1.0
+     */
+    int getPartitionPermitsPerSecond() {
+        return partitionPermitsPerSecond;
+    }
+
+    /**
+     * Returns the weights of named partitions.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The partition weights.
+     * @since 1.0
+     */
+    Map<String, Integer> getPartitionWeights() {
+        return partitionWeights;
+    }
+
+    /**
+     * Returns the share of the rate limit guaranteed to low-priority requests.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The low priority share in percent.
+     * @since 1.0
+     */
+    int getLowPriorityShare() {
+        return lowPriorityShare;
+    }
+
+    /**
+     * Returns the configured circuit breaker window type.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The circuit breaker window type.
+     * @since 1.0
+     */
+    SlidingWindowType getCircuitBreakerWindowType() {
+        return circuitBreakerWindowType;
+    }
+
+    /**
+     * Returns the size of the circuit breaker window, in calls or seconds.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The window size.
+     * @since 1.0
+     */
+    int getCircuitBreakerWindowSize() {
+        return circuitBreakerWindowSize;
+    }
+
+    /**
+     * Returns the number of calls the circuit breaker window must hold before its rates are evaluated.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The minimum number of calls.
+     * @since 1.0
+     */
+    int getCircuitBreakerMinimumCalls() {
+        return circuitBreakerMinimumCalls;
+    }
+
+    /**
+     * Returns the failure rate in percent at which the circuit breaker opens.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The failure rate threshold in percent.
+     * @since 1.0
+     */
+    int getCircuitBreakerFailureRateThreshold() {
+        return circuitBreakerFailureRateThreshold;
+    }
+
+    /**
+     * Returns the slow-call rate in percent at which the circuit breaker opens.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The slow-call rate threshold in percent.
+     * @since 1.0
+     */
+    int getCircuitBreakerSlowCallRateThreshold() {
+        return circuitBreakerSlowCallRateThreshold;
+    }
+
+    /**
+     * Returns the duration in milliseconds from which a call counts as slow for the circuit breaker.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The slow-call duration in milliseconds.
+     * @since 1.0
+     */
+    long getCircuitBreakerSlowCallDurationMillis() {
+        return circuitBreakerSlowCallDurationMillis;
+    }
+
+    /**
+     * Returns the time in milliseconds the circuit breaker stays open before probing the server.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The open duration in milliseconds.
+     * @since 1.0
+     */
+    long getCircuitBreakerOpenDurationMillis() {
+        return circuitBreakerOpenDurationMillis;
+    }
+
+    /**
+     * Returns the number of probe calls the circuit breaker permits when half-open.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The number of probe calls.
+     * @since 1.0
+     */
+    int getCircuitBreakerHalfOpenCalls() {
+        return circuitBreakerHalfOpenCalls;
+    }
+
+    /**
+     * Returns the configured endpoint URLs.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The endpoint URLs.
+     * @since 1.0
+     */
+    List<String> getApiUrls() {
+        return apiUrls;
+    }
+
+    /**
+     * Returns the configured endpoint selection strategy.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The endpoint selection strategy.
+     * @since 1.0
+     */
+    EndpointSelection getEndpointSelection() {
+        return endpointSelection;
+    }
+
+    /**
+     * Returns whether request hedging is enabled.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return {@code true} if request hedging is enabled.
+     * @since 1.0
+     */
+    boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Returns the percentile of recent latencies after which a request is hedged.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The hedging latency percentile.
+     * @since 1.0
+     */
+    int getHedgingLatencyPercentile() {
+        return hedgingLatencyPercentile;
+    }
+
+    /**
+     * Returns the maximum number of hedged requests in percent of all requests.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The hedging budget in percent.
+     * @since 1.0
+     */
+    int getHedgingBudgetPercent() {
+        return hedgingBudgetPercent;
+    }
+
+    /**
+     * Returns the maximum number of retries in percent of successful requests.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The retry budget in percent.
+     * @since 1.0
+     */
+    int getRetryBudgetPercent() {
+        return retryBudgetPercent;
+    }
+
+    /**
+     * Returns the longest pause requested by the server that a retry waits for.
+     * <p>
+     * This method is package-private and used internally by the {@link LibreTranslateConfig} class
+     * during construction.
+     * </p>
+     *
+     * @return The longest pause in milliseconds.
+     * @since 1.0
+     */
+    long getMaxRetryAfterMillis() {
+        return maxRetryAfterMillis;
     }
 }
@@ -11,5 +11,19 @@ public interface RetryStrategy {
      * @return The delay in milliseconds.
      */
     long getNextDelay(int attempt);
-}
 
+    /**
+     * Calculates the delay before the next retry attempt of a request from the delay before its previous one.
+     * <p>
+     * Strategies whose delay depends on the previous delay, such as {@link DecorrelatedJitterBackoffStrategy},
+     * override this method; by default the previous delay is ignored.
+     * </p>
+     *
+     * @param attempt             The current retry attempt number (1-based).
+     * @param previousDelayMillis The delay before the previous attempt in milliseconds, or 0 for the first retry.
+     * @return The delay in milliseconds.
+     */
+    default long getNextDelay(int attempt, long previousDelayMillis) {
+        return getNextDelay(attempt);
+    }
+}
@@ -0,0 +1,15 @@
+package com.java.vidigal.code.utilities.config;
+
+/**
+ * The kind of sliding window over which the circuit breaker computes its failure and slow-call rates.
+ *
+ * @author Vidigal
+ */
+public enum SlidingWindowType {
+
+    /** The last {@code windowSize} calls. */
+    COUNT_BASED,
+
+    /** The calls of the last {@code windowSize} seconds. */
+    TIME_BASED
+}
@@ -0,0 +1,198 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adjusts the rate of a {@link RateLimiter} to the observed health of the server, using additive
+ * increase / multiplicative decrease (AIMD).
+ * <p>
+ * The controller starts at the configured maximum rate. Overload signals (HTTP 429 or 503 responses, or
+ * request timeouts) halve the rate, at most once per {@link #DECREASE_INTERVAL_NANOS} so that a burst of
+ * rejections from the same window counts once. When the server asks for a pause with a {@code Retry-After}
+ * header, the limiter hands out no permits until it has elapsed. Latency inflation is detected by comparing a
+ * short-term moving average of successful request latency with a long-term baseline; when the short-term
+ * average exceeds the baseline by {@link #LATENCY_TOLERANCE}, the rate is reduced by 10%. Otherwise every
+ * success window raises the rate by {@link #INCREASE_FRACTION} of the maximum, probing back up to it. A window
+ * closes once successful requests have consumed as many permits as the current rate, that is one second of
+ * traffic at that rate; weighing successes by their permits keeps recovery time the same whether the rate is
+ * counted in requests, segments or characters.
+ * </p>
+ * <p>
+ * The rate never drops below {@link #MIN_FRACTION} of the maximum (and never below one permit per second).
+ * Rate changes are applied with {@link RateLimiter#update(long, long)}.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class AdaptiveRateController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveRateController.class);
+
+    /** Factor applied to the rate on an overload signal. */
+    private static final double OVERLOAD_DECREASE = 0.5;
+    /** Factor applied to the rate when latency is inflated. */
+    private static final double LATENCY_DECREASE = 0.9;
+    /** Fraction of the maximum rate added after each healthy success window. */
+    private static final double INCREASE_FRACTION = 0.05;
+    /** Lowest rate, as a fraction of the maximum. */
+    private static final double MIN_FRACTION = 0.05;
+    /** Short-term latency average above this multiple of the baseline counts as inflated. */
+    private static final double LATENCY_TOLERANCE = 2.0;
+    /** Minimum time between two decreases. */
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double SHORT_ALPHA = 0.2;
+    private static final double LONG_ALPHA = 0.01;
+
+    private final RateLimiter limiter;
+    private final long maxRate;
+    private final long minRate;
+    private final long cooldownMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double rate;
+    private long appliedRate;
+    private long permitsInWindow;
+    private double shortLatencyNanos;
+    private double longLatencyNanos;
+    private long lastDecreaseNanos;
+    private long increases;
+    private long decreases;
+
+    /**
+     * Constructs a controller driving the given limiter, starting at the maximum rate.
+     *
+     * @param limiter        the limiter whose rate is adjusted
+     * @param maxRate        the maximum permits per second, must be positive
+     * @param cooldownMillis the limiter cooldown passed on every rate update, must be non-negative
+     * @throws IllegalArgumentException if the limiter is null or a limit is invalid
+     */
+    public AdaptiveRateController(RateLimiter limiter, long maxRate, long cooldownMillis) {
+        if (limiter == null) {
+            logger.error("Adaptive rate controller limiter is null");
+            throw new IllegalArgumentException("Limiter cannot be null");
+        }
+        if (maxRate <= 0 || cooldownMillis < 0) {
+            logger.error("Invalid adaptive rate limits: max rate {}, cooldown {}", maxRate, cooldownMillis);
+            throw new IllegalArgumentException("Max rate must be positive and cooldown non-negative");
+        }
+        this.limiter = limiter;
+        this.maxRate = maxRate;
+        this.minRate = Math.max(1, (long) (maxRate * MIN_FRACTION));
+        this.cooldownMillis = cooldownMillis;
+        this.rate = maxRate;
+        this.appliedRate = maxRate;
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_INTERVAL_NANOS;
+    }
+
+    /**
+     * Records a successful single-permit request and its latency.
+     *
+     * @param latencyNanos the request latency in nanoseconds
+     */
+    public void onSuccess(long latencyNanos) {
+        onSuccess(latencyNanos, 1);
+    }
+
+    /**
+     * Records a successful request, the permits it consumed and its latency.
+     *
+     * @param latencyNanos the request latency in nanoseconds
+     * @param permits      the permits the request consumed, counted towards the success window
+     */
+    public void onSuccess(long latencyNanos, int permits) {
+        lock.lock();
+        try {
+            if (longLatencyNanos == 0) {
+                shortLatencyNanos = latencyNanos;
+                longLatencyNanos = latencyNanos;
+            } else {
+                shortLatencyNanos += SHORT_ALPHA * (latencyNanos - shortLatencyNanos);
+                longLatencyNanos += LONG_ALPHA * (latencyNanos - longLatencyNanos);
+            }
+            if (shortLatencyNanos > longLatencyNanos * LATENCY_TOLERANCE) {
+                decrease(LATENCY_DECREASE, "latency inflation");
+                return;
+            }
+            if (rate < maxRate && (permitsInWindow += Math.max(1, permits)) >= Math.max(1, (long) rate)) {
+                permitsInWindow = 0;
+                rate = Math.min(maxRate, rate + Math.max(1, maxRate * INCREASE_FRACTION));
+                increases++;
+                apply();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records an overload signal such as a 429 or 503 response or a timeout.
+     *
+     * @param retryAfterMillis the pause requested by the server in milliseconds, or a negative value if none
+     */
+    public void onOverload(long retryAfterMillis) {
+        lock.lock();
+        try {
+            decrease(OVERLOAD_DECREASE, "overload");
+        } finally {
+            lock.unlock();
+        }
+        // Pause after any rate update, which would otherwise reset the limiter's state
+        if (retryAfterMillis > 0) {
+            limiter.pauseFor(retryAfterMillis, TimeUnit.MILLISECONDS);
+            logger.warn("Server requested a pause of {}ms", retryAfterMillis);
+        }
+    }
+
+    /**
+     * Returns the current controller statistics.
+     *
+     * @return an {@link AdaptiveRateStats} record
+     */
+    public AdaptiveRateStats getStats() {
+        lock.lock();
+        try {
+            return new AdaptiveRateStats(appliedRate, maxRate, increases, decreases);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(double factor, String reason) {
+        long now = System.nanoTime();
+        permitsInWindow = 0;
+        if (now - lastDecreaseNanos < DECREASE_INTERVAL_NANOS) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        rate = Math.max(minRate, rate * factor);
+        shortLatencyNanos = longLatencyNanos;
+        decreases++;
+        if (apply()) {
+            logger.warn("Reduced rate to {} permits per second after {}", appliedRate, reason);
+        }
+    }
+
+    private boolean apply() {
+        long target = Math.max(minRate, Math.min(maxRate, Math.round(rate)));
+        if (target == appliedRate) {
+            return false;
+        }
+        appliedRate = target;
+        limiter.update(target, cooldownMillis);
+        return true;
+    }
+
+    /**
+     * Record representing adaptive rate controller statistics.
+     *
+     * @param currentRate the rate currently applied to the limiter, in permits per second
+     * @param maxRate     the configured maximum rate
+     * @param increases   the number of additive increases
+     * @param decreases   the number of multiplicative decreases
+     */
+    public record AdaptiveRateStats(long currentRate, long maxRate, long increases, long decreases) {
+    }
+}
@@ -0,0 +1,241 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of operations in flight at the same time, with a bounded FIFO wait queue.
+ * <p>
+ * Where {@link TokenBucketRateLimiter} bounds how many requests start per second, this limiter bounds how many
+ * are outstanding at once, which keeps a burst of slow requests from piling up on the server. A caller that
+ * finds all slots taken joins the wait queue and is handed the slot of the next operation to finish. When the
+ * queue is full too, the caller is rejected at once with a {@link RejectedExecutionException}; a queue size of
+ * zero therefore gives fast-fail semantics.
+ * </p>
+ * <p>
+ * {@link #acquire()} blocks the calling thread, {@link #acquireAsync()} returns a future instead; both share the
+ * same queue. Every successful acquisition must be paired with exactly one {@link #release()}. A limit of zero
+ * disables the limit while still tracking the number of operations in flight. Statistics, including the queue
+ * depth, are available via {@link ConcurrencyStats}.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class ConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int maxConcurrent;
+    private int maxQueued;
+    private int inFlight;
+    private int peakQueued;
+    private long queuedCount;
+    private long rejectedCount;
+
+    /**
+     * Constructs a new {@code ConcurrencyLimiter}.
+     *
+     * @param maxConcurrent the maximum number of operations in flight, or 0 for no limit
+     * @param maxQueued     the maximum number of callers waiting for a slot, or 0 to reject at once
+     * @throws IllegalArgumentException if a limit is negative
+     */
+    public ConcurrencyLimiter(int maxConcurrent, int maxQueued) {
+        validate(maxConcurrent, maxQueued);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Updates the limits dynamically.
+     * <p>
+     * Raising the concurrency limit hands the new slots to queued callers at once. Lowering either limit does
+     * not affect operations already in flight or queued; it takes effect as they complete.
+     * </p>
+     *
+     * @param maxConcurrent the new maximum number of operations in flight, or 0 for no limit
+     * @param maxQueued     the new maximum number of waiting callers, or 0 to reject at once
+     * @throws IllegalArgumentException if a limit is negative
+     */
+    public void update(int maxConcurrent, int maxQueued) {
+        validate(maxConcurrent, maxQueued);
+        lock.lock();
+        try {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+        } finally {
+            lock.unlock();
+        }
+        grantWaiters();
+    }
+
+    /**
+     * Acquires a slot without waiting.
+     *
+     * @return true if a slot was acquired, false if all slots are taken
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && hasFreeSlot()) {
+                inFlight++;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a slot, blocking in the wait queue until one is free.
+     *
+     * @throws InterruptedException       if the thread is interrupted while waiting; no slot is held then
+     * @throws RejectedExecutionException if all slots are taken and the wait queue is full
+     */
+    public void acquire() throws InterruptedException {
+        CompletableFuture<Void> slot = acquireAsync();
+        try {
+            slot.get();
+        } catch (InterruptedException e) {
+            if (!slot.cancel(false)) {
+                // The slot was granted concurrently with the interrupt; give it back
+                release();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException rejected) {
+                throw rejected;
+            }
+            throw new IllegalStateException("Unexpected slot failure", e.getCause());
+        }
+    }
+
+    /**
+     * Acquires a slot asynchronously.
+     * <p>
+     * The returned future completes when the slot is granted, or fails with a
+     * {@link RejectedExecutionException} if all slots are taken and the wait queue is full. Cancelling a
+     * pending future leaves the queue without taking a slot.
+     * </p>
+     *
+     * @return a future completing when the slot has been acquired
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && hasFreeSlot()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (waiters.size() >= maxQueued && (!waiters.removeIf(CompletableFuture::isDone) || waiters.size() >= maxQueued)) {
+                rejectedCount++;
+                logger.warn("Rejected operation: {} in flight, {} queued", inFlight, waiters.size());
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Concurrency limit of " + maxConcurrent + " reached and wait queue of " + maxQueued + " is full"));
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            queuedCount++;
+            peakQueued = Math.max(peakQueued, waiters.size());
+            return waiter;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a slot, handing it to the longest waiting caller if there is one.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            if (inFlight <= 0) {
+                logger.error("Release without a matching acquisition");
+                throw new IllegalStateException("No slot to release");
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+        grantWaiters();
+    }
+
+    /**
+     * Hands free slots to queued callers in arrival order.
+     * <p>
+     * Waiters are completed outside the lock, since completing a future runs its dependent stages in the
+     * calling thread. A waiter cancelled in the meantime gives its slot back and the next one is tried.
+     * </p>
+     */
+    private void grantWaiters() {
+        while (true) {
+            CompletableFuture<Void> waiter;
+            lock.lock();
+            try {
+                if (waiters.isEmpty() || !hasFreeSlot()) {
+                    return;
+                }
+                waiter = waiters.poll();
+                inFlight++;
+            } finally {
+                lock.unlock();
+            }
+            if (!waiter.complete(null)) {
+                lock.lock();
+                try {
+                    inFlight--;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the current limiter statistics.
+     *
+     * @return a {@link ConcurrencyStats} record
+     */
+    public ConcurrencyStats getStats() {
+        lock.lock();
+        try {
+            return new ConcurrencyStats(maxConcurrent, inFlight, waiters.size(), peakQueued, queuedCount, rejectedCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasFreeSlot() {
+        return maxConcurrent == 0 || inFlight < maxConcurrent;
+    }
+
+    private static void validate(int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 0 || maxQueued < 0) {
+            logger.error("Invalid concurrency limits: max concurrent {}, max queued {}", maxConcurrent, maxQueued);
+            throw new IllegalArgumentException("Concurrency limits must be non-negative");
+        }
+    }
+
+    /**
+     * Record representing concurrency limiter statistics.
+     *
+     * @param maxConcurrent the maximum number of operations in flight, or 0 if unlimited
+     * @param inFlight      the number of operations currently in flight
+     * @param queued        the number of callers currently waiting for a slot
+     * @param peakQueued    the largest number of callers that waited at the same time
+     * @param queuedCount   the total number of callers that had to wait
+     * @param rejectedCount the total number of callers rejected because the wait queue was full
+     */
+    public record ConcurrencyStats(int maxConcurrent, int inFlight, int queued, int peakQueued,
+                                   long queuedCount, long rejectedCount) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link RateLimiter} enforcing one quota across every client that shares a {@link TokenStore} bucket.
+ * <p>
+ * Where each {@link TokenBucketRateLimiter} limits its own client, so that twenty processes configured at
+ * 10 requests per second send 200 between them, all limiters using the same store and bucket name draw from a
+ * single bucket. To save round trips to the store, a limiter leases tokens in batches of up to
+ * {@code leaseSize} and hands them out locally. A lease expires after the time the bucket takes to earn it,
+ * so that idle clients do not hoard tokens and spend them later in a burst; tokens lost this way only ever
+ * lower the rate. A lease size of 1 asks the store for every permit.
+ * </p>
+ * <p>
+ * A blocked {@link #acquire(int)} sleeps until the store reports enough tokens due, or for the cooldown period
+ * if that is longer. {@link #acquireAsync(int)} retries on a delayed virtual thread instead of holding a
+ * thread, stops retrying once its future is cancelled, and unlike {@link TokenBucketRateLimiter} does not keep
+ * asynchronous waiters in FIFO order. Store failures are rethrown as {@link UncheckedIOException}. Permits
+ * given back with {@link #release(int)} return to the local lease, since the store cannot take tokens back.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class DistributedRateLimiter implements RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistributedRateLimiter.class);
+
+    /** Runs the store calls of asynchronous retries, which may block on I/O. */
+    private static final Executor RETRY_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final TokenStore store;
+    private final String bucket;
+    private final int leaseSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long permitsPerSecond;
+    private volatile long cooldownMillis;
+    private long leased;
+    private long leaseExpiryNanos;
+
+    /**
+     * Constructs a limiter drawing from a shared bucket.
+     *
+     * @param store            the shared token store
+     * @param bucket           the bucket name, identical for all clients sharing the quota
+     * @param permitsPerSecond the maximum permits per second across all clients, must be positive
+     * @param cooldownMillis   the minimum wait of a blocked {@link #acquire(int)} in milliseconds, must be non-negative
+     * @param leaseSize        the most tokens to lease from the store at once, must be positive
+     * @throws IllegalArgumentException if the store or bucket is null or a limit is invalid
+     */
+    public DistributedRateLimiter(TokenStore store, String bucket, long permitsPerSecond, long cooldownMillis, int leaseSize) {
+        if (store == null || bucket == null) {
+            logger.error("Distributed rate limiter store or bucket is null");
+            throw new IllegalArgumentException("Token store and bucket cannot be null");
+        }
+        if (leaseSize <= 0) {
+            logger.error("Invalid lease size: {}", leaseSize);
+            throw new IllegalArgumentException("Lease size must be positive");
+        }
+        validate(permitsPerSecond, cooldownMillis);
+        this.store = store;
+        this.bucket = bucket;
+        this.leaseSize = leaseSize;
+        this.permitsPerSecond = permitsPerSecond;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    @Override
+    public void acquire(int permits) throws InterruptedException {
+        validatePermits(permits);
+        long waitNanos;
+        while ((waitNanos = tryTake(permits)) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(cooldownMillis)));
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        validatePermits(permits);
+        return tryTake(permits) == 0;
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException {
+        validatePermits(permits);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long waitNanos;
+        while ((waitNanos = tryTake(permits)) > 0) {
+            if (waitNanos > deadline - System.nanoTime()) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync(int permits) {
+        validatePermits(permits);
+        CompletableFuture<Void> granted = new CompletableFuture<>();
+        attempt(granted, permits);
+        return granted;
+    }
+
+    /**
+     * Gives back permits that were granted but will not be used, adding them to the local lease.
+     *
+     * @param permits the number of permits, must be positive
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    @Override
+    public void release(int permits) {
+        validatePermits(permits);
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (leased == 0 || now - leaseExpiryNanos >= 0) {
+                leased = 0;
+                leaseExpiryNanos = now + permits * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            }
+            leased += permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the rate used for this client's requests to the shared bucket. Clients sharing a bucket should
+     * be updated together.
+     *
+     * @param permitsPerSecond the new maximum permits per second, must be positive
+     * @param cooldownMillis   the new cooldown period in milliseconds, must be non-negative
+     */
+    @Override
+    public void update(long permitsPerSecond, long cooldownMillis) {
+        validate(permitsPerSecond, cooldownMillis);
+        this.permitsPerSecond = permitsPerSecond;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    /**
+     * Pauses the shared bucket, so that every client sharing it stops, and gives up the local lease.
+     *
+     * @param duration the pause duration
+     * @param unit     the unit of {@code duration}
+     */
+    @Override
+    public void pauseFor(long duration, TimeUnit unit) {
+        lock.lock();
+        try {
+            leased = 0;
+            store.pause(bucket, unit.toNanos(duration), permitsPerSecond);
+        } catch (IOException e) {
+            logger.error("Failed to pause shared bucket {}: {}", bucket, e.getMessage());
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tries to take permits for an asynchronous request, and schedules another try when they are due. Retries
+     * stop once the request's future is done, and permits taken for a future completed in the meantime are
+     * given back.
+     *
+     * @param granted the future of the request
+     * @param permits the number of permits
+     */
+    private void attempt(CompletableFuture<Void> granted, int permits) {
+        if (granted.isDone()) {
+            return;
+        }
+        long waitNanos;
+        try {
+            waitNanos = tryTake(permits);
+        } catch (UncheckedIOException e) {
+            granted.completeExceptionally(e);
+            return;
+        }
+        if (waitNanos > 0) {
+            CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, RETRY_EXECUTOR).execute(() -> attempt(granted, permits));
+        } else if (!granted.complete(null)) {
+            release(permits);
+        }
+    }
+
+    /**
+     * Takes permits from the local lease, leasing a new batch from the store when it does not cover them.
+     *
+     * @param permits the number of permits
+     * @return 0 if the permits were taken, otherwise the nanoseconds until the store has enough tokens due
+     */
+    private long tryTake(int permits) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (leased > 0 && now - leaseExpiryNanos >= 0) {
+                leased = 0;
+            }
+            if (leased >= permits) {
+                leased -= permits;
+                return 0;
+            }
+            long needed = permits - leased;
+            long rate = permitsPerSecond;
+            TokenStore.Grant grant = store.take(bucket, needed, Math.max(needed, leaseSize), rate);
+            if (grant.permits() == 0) {
+                return Math.max(1, grant.waitNanos());
+            }
+            leased = grant.permits() - needed;
+            if (leased > 0) {
+                leaseExpiryNanos = now + leased * TimeUnit.SECONDS.toNanos(1) / rate;
+                logger.debug("Leased {} tokens from shared bucket {}", grant.permits(), bucket);
+            }
+            return 0;
+        } catch (IOException e) {
+            logger.error("Failed to take tokens from shared bucket {}: {}", bucket, e.getMessage());
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void validatePermits(int permits) {
+        if (permits <= 0) {
+            logger.error("Invalid permit count: {}", permits);
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+    }
+
+    private static void validate(long permitsPerSecond, long cooldownMillis) {
+        if (permitsPerSecond <= 0 || cooldownMillis < 0) {
+            logger.error("Invalid rate limits: {} permits per second, cooldown {}", permitsPerSecond, cooldownMillis);
+            throw new IllegalArgumentException("Permits per second must be positive and cooldown non-negative");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A {@link TokenStore} sharing its buckets between processes on the same host through memory-mapped files.
+ * <p>
+ * Each bucket is an eight-byte file in the store directory holding the theoretical arrival time, mapped into
+ * memory by every process using it. Updates are serialized with an exclusive {@link FileLock} across processes
+ * and, since file locks are held per JVM, with a lock per file within the JVM, so that several store instances
+ * in one process may point at the same directory.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class FileTokenStore implements TokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileTokenStore.class);
+    private static final int STATE_BYTES = Long.BYTES;
+
+    /** Locks serializing access to each bucket file within this JVM, shared by all store instances. */
+    private static final Map<Path, ReentrantLock> FILE_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a store keeping its bucket files in the given directory, creating it if needed.
+     *
+     * @param directory the directory shared by all processes using the store
+     * @throws IOException if the directory cannot be created
+     */
+    public FileTokenStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Grant take(String bucket, long minPermits, long maxPermits, long permitsPerSecond) throws IOException {
+        Grant[] grant = new Grant[1];
+        update(bucket, tat -> {
+            Gcra.Result result = Gcra.take(tat, Gcra.now(), minPermits, maxPermits, permitsPerSecond);
+            grant[0] = result.grant();
+            return result.tat();
+        });
+        return grant[0];
+    }
+
+    @Override
+    public void pause(String bucket, long durationNanos, long permitsPerSecond) throws IOException {
+        update(bucket, tat -> Gcra.pause(tat, Gcra.now(), durationNanos, permitsPerSecond));
+    }
+
+    /**
+     * Applies an update to the state of a bucket under the file lock.
+     *
+     * @param bucket the bucket name
+     * @param update the function computing the new theoretical arrival time from the current one
+     * @throws IOException if the bucket file cannot be opened or locked
+     */
+    private void update(String bucket, LongUnaryOperator update) throws IOException {
+        Slot slot = slot(bucket);
+        slot.lock().lock();
+        try {
+            FileLock fileLock = slot.channel().lock(0, STATE_BYTES, false);
+            try {
+                slot.state().putLong(0, update.applyAsLong(slot.state().getLong(0)));
+            } finally {
+                fileLock.release();
+            }
+        } finally {
+            slot.lock().unlock();
+        }
+    }
+
+    private Slot slot(String bucket) throws IOException {
+        Slot slot = slots.get(bucket);
+        if (slot != null) {
+            return slot;
+        }
+        synchronized (slots) {
+            slot = slots.get(bucket);
+            if (slot == null) {
+                slot = open(bucket);
+                slots.put(bucket, slot);
+            }
+            return slot;
+        }
+    }
+
+    private Slot open(String bucket) throws IOException {
+        String name = UUID.nameUUIDFromBytes(bucket.getBytes(StandardCharsets.UTF_8)) + ".bucket";
+        Path file = directory.resolve(name);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer state = channel.map(FileChannel.MapMode.READ_WRITE, 0, STATE_BYTES);
+            logger.debug("Opened token bucket {} at {}", bucket, file);
+            return new Slot(channel, state, FILE_LOCKS.computeIfAbsent(file, k -> new ReentrantLock()));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the bucket files opened by this store. The files themselves are kept, so that other processes can
+     * continue to use them.
+     *
+     * @throws IOException if a file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (slots) {
+            IOException failure = null;
+            for (Slot slot : slots.values()) {
+                try {
+                    slot.channel().close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            slots.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * An open bucket file.
+     *
+     * @param channel the file channel, used for locking
+     * @param state   the mapped theoretical arrival time
+     * @param lock    the lock serializing access within this JVM
+     */
+    private record Slot(FileChannel channel, MappedByteBuffer state, ReentrantLock lock) {
+    }
+}
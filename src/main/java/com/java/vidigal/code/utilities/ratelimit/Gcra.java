@@ -0,0 +1,81 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import java.time.Instant;
+
+/**
+ * Generic cell rate algorithm arithmetic shared by the {@link TokenStore} implementations.
+ * <p>
+ * Times are epoch nanoseconds rather than {@link System#nanoTime()} values, so that the state can be shared
+ * between processes.
+ * </p>
+ *
+ * @author Vidigal
+ */
+final class Gcra {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private Gcra() {
+    }
+
+    /**
+     * Returns the current time in epoch nanoseconds.
+     *
+     * @return the current time
+     */
+    static long now() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+    }
+
+    /**
+     * Takes tokens from a bucket with the given theoretical arrival time.
+     *
+     * @param tat              the theoretical arrival time
+     * @param now              the current time
+     * @param minPermits       the tokens needed
+     * @param maxPermits       the most tokens to take
+     * @param permitsPerSecond the bucket rate and capacity
+     * @return the new theoretical arrival time and the grant
+     */
+    static Result take(long tat, long now, long minPermits, long maxPermits, long permitsPerSecond) {
+        long interval = interval(permitsPerSecond);
+        long burst = permitsPerSecond * interval;
+        long base = tat - now > 0 ? tat : now;
+        long needed = Math.min(minPermits, permitsPerSecond);
+        long available = (now + burst - base) / interval;
+        if (available < needed) {
+            return new Result(tat, new TokenStore.Grant(0, Math.max(1, base + needed * interval - burst - now)));
+        }
+        long granted = Math.max(minPermits, Math.min(maxPermits, available));
+        return new Result(base + granted * interval, new TokenStore.Grant(granted, 0));
+    }
+
+    /**
+     * Returns the theoretical arrival time after a pause.
+     *
+     * @param tat              the theoretical arrival time
+     * @param now              the current time
+     * @param durationNanos    the pause duration
+     * @param permitsPerSecond the bucket rate and capacity
+     * @return the new theoretical arrival time
+     */
+    static long pause(long tat, long now, long durationNanos, long permitsPerSecond) {
+        long interval = interval(permitsPerSecond);
+        long resume = now + durationNanos + permitsPerSecond * interval - interval;
+        return resume - tat > 0 ? resume : tat;
+    }
+
+    private static long interval(long permitsPerSecond) {
+        return Math.max(1, NANOS_PER_SECOND / permitsPerSecond);
+    }
+
+    /**
+     * The outcome of {@link #take}.
+     *
+     * @param tat   the new theoretical arrival time
+     * @param grant the grant to return to the caller
+     */
+    record Result(long tat, TokenStore.Grant grant) {
+    }
+}
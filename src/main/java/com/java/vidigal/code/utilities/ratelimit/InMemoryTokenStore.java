@@ -0,0 +1,38 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link TokenStore} keeping its buckets in memory, shared by all clients in the same JVM that use this
+ * instance.
+ * <p>
+ * Each bucket is a single atomic theoretical arrival time updated with compare-and-set, so taking tokens never
+ * blocks. This is the reference implementation of the store contract.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class InMemoryTokenStore implements TokenStore {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Grant take(String bucket, long minPermits, long maxPermits, long permitsPerSecond) {
+        AtomicLong state = buckets.computeIfAbsent(bucket, k -> new AtomicLong());
+        while (true) {
+            long tat = state.get();
+            Gcra.Result result = Gcra.take(tat, Gcra.now(), minPermits, maxPermits, permitsPerSecond);
+            if (result.tat() == tat || state.compareAndSet(tat, result.tat())) {
+                return result.grant();
+            }
+        }
+    }
+
+    @Override
+    public void pause(String bucket, long durationNanos, long permitsPerSecond) {
+        buckets.computeIfAbsent(bucket, k -> new AtomicLong())
+                .accumulateAndGet(0, (tat, ignored) -> Gcra.pause(tat, Gcra.now(), durationNanos, permitsPerSecond));
+    }
+}
@@ -0,0 +1,583 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import com.java.vidigal.code.request.RequestPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shares a global rate limit fairly between partitions, such as language pairs or tenants, with an optional
+ * rate limit per partition.
+ * <p>
+ * The global ceiling is an ordinary {@link RateLimiter}, or a {@link PriorityRateLimiter} whose lanes serve
+ * requests of each {@link RequestPriority}. As long as the ceiling has tokens and nobody is waiting, permits
+ * are granted at once. When callers have to wait, each partition queues them FIFO per priority, and a
+ * dispatcher per priority takes permits from the ceiling on their behalf, choosing the next partition by
+ * start-time fair queuing: every partition has a virtual clock that advances by the permits it is granted
+ * divided by its weight, and the waiting partition with the earliest clock goes next. A partition sending a
+ * large backlog therefore gets its weighted share of the ceiling, but cannot delay the requests of other
+ * partitions behind its own.
+ * </p>
+ * <p>
+ * Both priorities share the partitions: a partition's clock and its own rate advance with the permits it is
+ * granted at either priority, so sending at both priorities does not give a partition twice its share or
+ * twice its rate. Each priority has at most one request waiting on the ceiling at a time, so a
+ * {@link PriorityRateLimiter} ceiling still decides between the two.
+ * </p>
+ * <p>
+ * A partition rate, if set, additionally caps every partition on its own with a small GCRA bucket. Partitions
+ * are created on first use and are dropped again when idle, so that thousands of tenants cost memory only
+ * while they are active; a partition holds a handful of fields and allocates its queues only when it has
+ * waiters.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class PartitionedRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedRateLimiter.class);
+
+    /** Number of partitions below which idle partitions are not swept. */
+    private static final int MIN_SWEEP_THRESHOLD = 64;
+    /** Virtual clock units per permit of a partition with weight 1. */
+    private static final long VIRTUAL_UNIT = 1 << 16;
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private final Map<RequestPriority, RateLimiter> lanes = new EnumMap<>(RequestPriority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Partition> partitions = new HashMap<>();
+    private final ArrayList<Partition> active = new ArrayList<>();
+    private final boolean[] dispatching = new boolean[PRIORITIES.length];
+    private final int[] queued = new int[PRIORITIES.length];
+    private Settings settings;
+    private long virtualClock;
+    private int sweepThreshold = MIN_SWEEP_THRESHOLD;
+    private long queuedCount;
+
+    /**
+     * Constructs a partitioned limiter whose requests all take permits from one ceiling.
+     *
+     * @param ceiling                   the global rate limiter shared by all partitions
+     * @param partitionPermitsPerSecond the rate limit of each partition, or 0 for none
+     * @param weights                   the weights of named partitions; other partitions have weight 1
+     * @throws IllegalArgumentException if the ceiling is null, the partition rate is negative or a weight is not positive
+     */
+    public PartitionedRateLimiter(RateLimiter ceiling, long partitionPermitsPerSecond, Map<String, Integer> weights) {
+        if (ceiling == null) {
+            logger.error("Partitioned rate limiter ceiling is null");
+            throw new IllegalArgumentException("Ceiling rate limiter cannot be null");
+        }
+        this.settings = Settings.of(partitionPermitsPerSecond, weights);
+        for (RequestPriority priority : PRIORITIES) {
+            lanes.put(priority, ceiling);
+        }
+    }
+
+    /**
+     * Constructs a partitioned limiter whose requests take permits from the lane of their priority.
+     *
+     * @param ceiling                   the priority limiter shared by all partitions
+     * @param partitionPermitsPerSecond the rate limit of each partition, or 0 for none
+     * @param weights                   the weights of named partitions; other partitions have weight 1
+     * @throws IllegalArgumentException if the ceiling is null, the partition rate is negative or a weight is not positive
+     */
+    public PartitionedRateLimiter(PriorityRateLimiter ceiling, long partitionPermitsPerSecond, Map<String, Integer> weights) {
+        if (ceiling == null) {
+            logger.error("Partitioned rate limiter ceiling is null");
+            throw new IllegalArgumentException("Ceiling rate limiter cannot be null");
+        }
+        this.settings = Settings.of(partitionPermitsPerSecond, weights);
+        for (RequestPriority priority : PRIORITIES) {
+            lanes.put(priority, ceiling.lane(priority));
+        }
+    }
+
+    /**
+     * Updates the partition rate and weights dynamically. Existing partitions take their new weight at once.
+     *
+     * @param partitionPermitsPerSecond the new rate limit of each partition, or 0 for none
+     * @param weights                   the new weights of named partitions
+     * @throws IllegalArgumentException if the partition rate is negative or a weight is not positive
+     */
+    public void update(long partitionPermitsPerSecond, Map<String, Integer> weights) {
+        Settings updated = Settings.of(partitionPermitsPerSecond, weights);
+        lock.lock();
+        try {
+            settings = updated;
+            partitions.values().forEach(partition -> partition.weight = updated.weightOf(partition.key));
+        } finally {
+            lock.unlock();
+        }
+        for (RequestPriority priority : PRIORITIES) {
+            dispatch(priority);
+        }
+    }
+
+    /**
+     * Acquires permits for a partition, blocking until they are granted.
+     *
+     * @param partition the partition key
+     * @param permits   the number of permits, must be positive
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public void acquire(String partition, int permits) throws InterruptedException {
+        CompletableFuture<Void> granted = acquireAsync(partition, permits);
+        try {
+            granted.get();
+        } catch (InterruptedException e) {
+            granted.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Permit acquisition failed", e.getCause());
+        }
+    }
+
+    /**
+     * Acquires permits for a partition if they can be granted at once, without waiting.
+     * <p>
+     * Fails while other requests are queued, so that a caller that may do without the permits cannot take
+     * them ahead of callers that are waiting for them.
+     * </p>
+     *
+     * @param partition the partition key
+     * @param permits   the number of permits, must be positive
+     * @return true if the permits were granted
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public boolean tryAcquire(String partition, int permits) {
+        return tryAcquire(partition, RequestPriority.HIGH, permits);
+    }
+
+    /**
+     * Acquires permits for a partition with the given priority if they can be granted at once, without
+     * waiting. Fails while other requests are queued.
+     *
+     * @param partition the partition key
+     * @param priority  the priority whose lane grants the permits
+     * @param permits   the number of permits, must be positive
+     * @return true if the permits were granted
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public boolean tryAcquire(String partition, RequestPriority priority, int permits) {
+        validatePermits(permits);
+        lock.lock();
+        try {
+            return grantNow(partition, priority, System.nanoTime(), permits);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires permits for a partition asynchronously.
+     * <p>
+     * Cancelling the returned future withdraws the request from its partition queue.
+     * </p>
+     *
+     * @param partition the partition key
+     * @param permits   the number of permits, must be positive
+     * @return a future completing when the permits have been granted
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public CompletableFuture<Void> acquireAsync(String partition, int permits) {
+        return acquireAsync(partition, RequestPriority.HIGH, permits);
+    }
+
+    /**
+     * Acquires permits for a partition with the given priority asynchronously.
+     * <p>
+     * Cancelling the returned future withdraws the request from its partition queue.
+     * </p>
+     *
+     * @param partition the partition key
+     * @param priority  the priority whose lane grants the permits
+     * @param permits   the number of permits, must be positive
+     * @return a future completing when the permits have been granted
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public CompletableFuture<Void> acquireAsync(String partition, RequestPriority priority, int permits) {
+        validatePermits(permits);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (grantNow(partition, priority, now, permits)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            Partition target = partition(partition, now);
+            int lane = priority.ordinal();
+            if (target.waiters[lane] == null) {
+                target.waiters[lane] = new ArrayDeque<>();
+            }
+            target.waiters[lane].add(new Waiter(future, permits, target, priority));
+            if (!target.active) {
+                target.active = true;
+                if (target.virtualTime - virtualClock < 0) {
+                    // An idle partition does not bank credit for the time it sent nothing
+                    target.virtualTime = virtualClock;
+                }
+                active.add(target);
+            }
+            queued[lane]++;
+            queuedCount++;
+        } finally {
+            lock.unlock();
+        }
+        dispatch(priority);
+        return future;
+    }
+
+    /**
+     * Returns the current limiter statistics.
+     *
+     * @return a {@link PartitionStats} record
+     */
+    public PartitionStats getStats() {
+        lock.lock();
+        try {
+            int waiting = 0;
+            for (Partition partition : active) {
+                for (ArrayDeque<Waiter> waiters : partition.waiters) {
+                    waiting += waiters != null ? waiters.size() : 0;
+                }
+            }
+            return new PartitionStats(partitions.size(), active.size(), waiting, queuedCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Grants permits at once if nobody is waiting and both the ceiling and the partition rate allow it.
+     * Must be called with the lock held.
+     */
+    private boolean grantNow(String partition, RequestPriority priority, long now, int permits) {
+        if (!active.isEmpty() || isDispatching() || settings.capWait(partitions.get(partition), now, permits) != 0
+                || !lanes.get(priority).tryAcquire(permits)) {
+            return false;
+        }
+        if (settings.capped()) {
+            settings.charge(partition(partition, now), now, permits);
+        }
+        return true;
+    }
+
+    private boolean isDispatching() {
+        for (boolean lane : dispatching) {
+            if (lane) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts the dispatcher of a priority unless it is already running.
+     */
+    private void dispatch(RequestPriority priority) {
+        int lane = priority.ordinal();
+        lock.lock();
+        try {
+            if (dispatching[lane] || queued[lane] == 0) {
+                return;
+            }
+            dispatching[lane] = true;
+        } finally {
+            lock.unlock();
+        }
+        dispatchLoop(priority);
+    }
+
+    /**
+     * Grants queued requests of a priority one at a time while its lane has permits. When the lane makes the
+     * chosen request wait, the loop continues from the completion of its permit instead of holding the thread.
+     * Must only be called by the thread owning the dispatcher of that priority.
+     */
+    private void dispatchLoop(RequestPriority priority) {
+        RateLimiter lane = lanes.get(priority);
+        while (true) {
+            Waiter next;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                Selection selection = select(priority.ordinal(), now);
+                if (selection.waiter() == null) {
+                    dispatching[priority.ordinal()] = false;
+                    if (selection.waitNanos() > 0) {
+                        CompletableFuture.runAsync(() -> dispatch(priority),
+                                CompletableFuture.delayedExecutor(selection.waitNanos(), TimeUnit.NANOSECONDS));
+                    }
+                    return;
+                }
+                next = selection.waiter();
+            } finally {
+                lock.unlock();
+            }
+            CompletableFuture<Void> permit;
+            try {
+                permit = lane.acquireAsync(next.permits());
+            } catch (RuntimeException e) {
+                permit = CompletableFuture.failedFuture(e);
+            }
+            if (!permit.isDone()) {
+                Waiter waiting = next;
+                permit.whenComplete((v, error) -> {
+                    complete(waiting, error);
+                    dispatchLoop(priority);
+                });
+                return;
+            }
+            complete(next, permit.isCompletedExceptionally() ? permit.exceptionNow() : null);
+        }
+    }
+
+    /**
+     * Chooses the next request of a priority from the partition with the earliest virtual clock among those
+     * whose own rate allows it, and advances that partition's clock.
+     *
+     * @param lane the ordinal of the priority
+     * @param now  the current time
+     * @return the chosen request, or the time until a capped partition may send, or nothing if no request is queued
+     */
+    private Selection select(int lane, long now) {
+        Settings current = settings;
+        long minWait = Long.MAX_VALUE;
+        Partition chosen = null;
+        for (int i = active.size() - 1; i >= 0; i--) {
+            Partition partition = active.get(i);
+            Waiter head = head(partition, lane);
+            if (head == null) {
+                if (partition.isIdle()) {
+                    deactivate(i);
+                }
+                continue;
+            }
+            long capWait = current.capWait(partition, now, head.permits());
+            if (capWait > 0) {
+                minWait = Math.min(minWait, capWait);
+            } else if (chosen == null || partition.virtualTime - chosen.virtualTime <= 0) {
+                chosen = partition;
+            }
+        }
+        if (chosen == null) {
+            return new Selection(null, minWait == Long.MAX_VALUE ? 0 : minWait);
+        }
+        Waiter head = chosen.waiters[lane].pollFirst();
+        queued[lane]--;
+        virtualClock = chosen.virtualTime;
+        chosen.virtualTime += Math.max(1, head.permits() * VIRTUAL_UNIT / chosen.weight);
+        current.charge(chosen, now, head.permits());
+        if (chosen.isIdle()) {
+            deactivate(active.indexOf(chosen));
+        }
+        return new Selection(head, 0);
+    }
+
+    /**
+     * Returns the first request of a partition queue that is still waiting, dropping cancelled ones.
+     */
+    private Waiter head(Partition partition, int lane) {
+        ArrayDeque<Waiter> waiters = partition.waiters[lane];
+        if (waiters == null) {
+            return null;
+        }
+        Waiter head = waiters.peekFirst();
+        while (head != null && head.future().isDone()) {
+            waiters.pollFirst();
+            queued[lane]--;
+            head = waiters.peekFirst();
+        }
+        return head;
+    }
+
+    /**
+     * Removes an idle partition from the active list, by swapping the last one into its place.
+     */
+    private void deactivate(int index) {
+        Partition partition = active.get(index);
+        Partition last = active.removeLast();
+        if (last != partition) {
+            active.set(index, last);
+        }
+        partition.active = false;
+        Arrays.fill(partition.waiters, null);
+    }
+
+    /**
+     * Completes a request whose permits the ceiling granted or refused. Permits granted to a request that was
+     * cancelled or timed out in the meantime are given back to the ceiling and to its partition's rate.
+     */
+    private void complete(Waiter waiter, Throwable error) {
+        if (error != null) {
+            waiter.future().completeExceptionally(error);
+        } else if (!waiter.future().complete(null)) {
+            lanes.get(waiter.priority()).release(waiter.permits());
+            lock.lock();
+            try {
+                settings.refund(waiter.partition(), waiter.permits());
+            } finally {
+                lock.unlock();
+            }
+            logger.debug("Permits granted to a cancelled request were given back");
+        }
+    }
+
+    private static void validatePermits(int permits) {
+        if (permits <= 0) {
+            logger.error("Invalid permit count: {}", permits);
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+    }
+
+    /**
+     * Returns the partition for a key, creating it if needed. Idle partitions are swept whenever the map has
+     * doubled in size since the last sweep.
+     */
+    private Partition partition(String key, long now) {
+        Partition partition = partitions.get(key);
+        if (partition != null) {
+            return partition;
+        }
+        if (partitions.size() >= sweepThreshold) {
+            Iterator<Partition> iterator = partitions.values().iterator();
+            while (iterator.hasNext()) {
+                Partition candidate = iterator.next();
+                if (!candidate.active && candidate.capTat - now <= 0) {
+                    iterator.remove();
+                }
+            }
+            sweepThreshold = Math.max(MIN_SWEEP_THRESHOLD, partitions.size() * 2);
+            logger.debug("Swept idle partitions, {} remain", partitions.size());
+        }
+        partition = new Partition(key, settings.weightOf(key), now);
+        partitions.put(key, partition);
+        return partition;
+    }
+
+    /**
+     * The state of one partition, guarded by the limiter lock.
+     */
+    private static final class Partition {
+        private final String key;
+        private final ArrayDeque<Waiter>[] waiters;
+        private int weight;
+        private long virtualTime;
+        private long capTat;
+        private boolean active;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Partition(String key, int weight, long now) {
+            this.key = key;
+            this.weight = weight;
+            this.capTat = now;
+            this.waiters = new ArrayDeque[PRIORITIES.length];
+        }
+
+        boolean isIdle() {
+            for (ArrayDeque<Waiter> lane : waiters) {
+                if (lane != null && !lane.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A queued request.
+     *
+     * @param future    the future completed once the permits are granted
+     * @param permits   the number of permits requested
+     * @param partition the partition the request is charged to
+     * @param priority  the priority whose lane grants the permits
+     */
+    private record Waiter(CompletableFuture<Void> future, int permits, Partition partition, RequestPriority priority) {
+    }
+
+    /**
+     * The outcome of a dispatcher selection.
+     *
+     * @param waiter    the request to serve, or null if none may be served now
+     * @param waitNanos the time until a capped partition may send, or 0
+     */
+    private record Selection(Waiter waiter, long waitNanos) {
+    }
+
+    /**
+     * Immutable partition settings.
+     *
+     * @param capacity      the partition bucket capacity, or 0 if partitions are not capped
+     * @param intervalNanos the emission interval of the partition bucket
+     * @param weights       the weights of named partitions
+     */
+    private record Settings(long capacity, long intervalNanos, Map<String, Integer> weights) {
+
+        static Settings of(long partitionPermitsPerSecond, Map<String, Integer> weights) {
+            if (partitionPermitsPerSecond < 0) {
+                logger.error("Invalid partition rate: {}", partitionPermitsPerSecond);
+                throw new IllegalArgumentException("Partition permits per second must be non-negative");
+            }
+            Map<String, Integer> copy = weights == null ? Map.of() : Map.copyOf(weights);
+            if (copy.values().stream().anyMatch(weight -> weight <= 0)) {
+                logger.error("Invalid partition weights: {}", copy);
+                throw new IllegalArgumentException("Partition weights must be positive");
+            }
+            long interval = partitionPermitsPerSecond == 0 ? 0 : Math.max(1, 1_000_000_000L / partitionPermitsPerSecond);
+            return new Settings(partitionPermitsPerSecond, interval, copy);
+        }
+
+        boolean capped() {
+            return capacity > 0;
+        }
+
+        int weightOf(String key) {
+            return weights.getOrDefault(key, 1);
+        }
+
+        long capWait(Partition partition, long now, int permits) {
+            if (!capped() || partition == null) {
+                return 0;
+            }
+            long base = partition.capTat - now > 0 ? partition.capTat : now;
+            return Math.max(0, base + Math.min(permits, capacity) * intervalNanos - now - capacity * intervalNanos);
+        }
+
+        void charge(Partition partition, long now, int permits) {
+            if (capped()) {
+                partition.capTat = (partition.capTat - now > 0 ? partition.capTat : now) + permits * intervalNanos;
+            }
+        }
+
+        void refund(Partition partition, int permits) {
+            if (capped()) {
+                partition.capTat -= permits * intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Record representing partitioned limiter statistics.
+     *
+     * @param partitions       the number of partitions currently tracked
+     * @param activePartitions the number of partitions with waiting requests
+     * @param queued           the number of requests currently waiting
+     * @param queuedCount      the total number of requests that had to wait
+     */
+    public record PartitionStats(int partitions, int activePartitions, int queued, long queuedCount) {
+    }
+}
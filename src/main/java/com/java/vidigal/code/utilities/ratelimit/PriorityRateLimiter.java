@@ -0,0 +1,378 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import com.java.vidigal.code.request.RequestPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves waiting high-priority requests ahead of low-priority ones when they compete for a rate limit.
+ * <p>
+ * The ceiling is an ordinary {@link RateLimiter}. As long as it has tokens and nobody is waiting, permits are
+ * granted at once whatever the priority. When callers have to wait, each priority has its own FIFO lane and a
+ * single dispatcher takes permits from the ceiling on their behalf, always from the high lane first. To keep
+ * a steady stream of interactive requests from starving the low lane, the low lane is guaranteed a share of
+ * the permits while both lanes wait: with a share of 10 percent, one low-priority permit is granted after
+ * every nine high-priority ones. A share of 0 gives strict priority.
+ * </p>
+ * <p>
+ * {@link #lane(RequestPriority)} returns a {@link RateLimiter} view acquiring with a fixed priority, so that
+ * other limiters, such as a {@link PartitionedRateLimiter}, can use a lane as their ceiling.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class PriorityRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriorityRateLimiter.class);
+
+    /** The largest low-priority share in percent, at which both lanes are served alike. */
+    public static final int MAX_LOW_PRIORITY_SHARE = 50;
+
+    private final RateLimiter ceiling;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter> high = new ArrayDeque<>();
+    private final ArrayDeque<Waiter> low = new ArrayDeque<>();
+    private final Map<RequestPriority, RateLimiter> lanes = new EnumMap<>(RequestPriority.class);
+    private volatile int lowPriorityShare;
+    private boolean dispatching;
+    private long lowCredit;
+    private long queuedCount;
+    private long protectedGrants;
+
+    /**
+     * Constructs a priority limiter.
+     *
+     * @param ceiling          the rate limiter shared by both lanes
+     * @param lowPriorityShare the share of permits in percent guaranteed to the low lane while both lanes
+     *                         wait, between 0 and {@value #MAX_LOW_PRIORITY_SHARE}
+     * @throws IllegalArgumentException if the ceiling is null or the share is out of range
+     */
+    public PriorityRateLimiter(RateLimiter ceiling, int lowPriorityShare) {
+        if (ceiling == null) {
+            logger.error("Priority rate limiter ceiling is null");
+            throw new IllegalArgumentException("Ceiling rate limiter cannot be null");
+        }
+        validate(lowPriorityShare);
+        this.ceiling = ceiling;
+        this.lowPriorityShare = lowPriorityShare;
+        for (RequestPriority priority : RequestPriority.values()) {
+            lanes.put(priority, new Lane(priority));
+        }
+    }
+
+    /**
+     * Updates the share of permits guaranteed to the low lane.
+     *
+     * @param lowPriorityShare the new share in percent, between 0 and {@value #MAX_LOW_PRIORITY_SHARE}
+     * @throws IllegalArgumentException if the share is out of range
+     */
+    public void update(int lowPriorityShare) {
+        validate(lowPriorityShare);
+        this.lowPriorityShare = lowPriorityShare;
+    }
+
+    /**
+     * Returns a rate limiter view acquiring permits with the given priority. Updates and pauses through the
+     * view apply to the shared ceiling.
+     *
+     * @param priority the priority
+     * @return the lane of that priority
+     */
+    public RateLimiter lane(RequestPriority priority) {
+        return lanes.get(priority);
+    }
+
+    /**
+     * Acquires permits with the given priority, blocking until they are granted.
+     *
+     * @param priority the priority
+     * @param permits  the number of permits, must be positive
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public void acquire(RequestPriority priority, int permits) throws InterruptedException {
+        CompletableFuture<Void> granted = acquireAsync(priority, permits);
+        try {
+            granted.get();
+        } catch (InterruptedException e) {
+            granted.cancel(false);
+            throw e;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Acquires permits with the given priority if that is possible without waiting, that is if no request of
+     * either priority is waiting and the ceiling has the tokens.
+     *
+     * @param priority the priority
+     * @param permits  the number of permits, must be positive
+     * @return true if the permits were acquired
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public boolean tryAcquire(RequestPriority priority, int permits) {
+        validatePermits(permits);
+        lock.lock();
+        try {
+            return high.isEmpty() && low.isEmpty() && !dispatching && ceiling.tryAcquire(permits);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires permits with the given priority asynchronously.
+     * <p>
+     * Cancelling the returned future withdraws the request from its lane.
+     * </p>
+     *
+     * @param priority the priority
+     * @param permits  the number of permits, must be positive
+     * @return a future completing when the permits have been granted
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    public CompletableFuture<Void> acquireAsync(RequestPriority priority, int permits) {
+        validatePermits(permits);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (high.isEmpty() && low.isEmpty() && !dispatching && ceiling.tryAcquire(permits)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            (priority == RequestPriority.LOW ? low : high).add(new Waiter(future, permits));
+            queuedCount++;
+        } finally {
+            lock.unlock();
+        }
+        dispatch();
+        return future;
+    }
+
+    /**
+     * Returns the current limiter statistics.
+     *
+     * @return a {@link PriorityStats} record
+     */
+    public PriorityStats getStats() {
+        lock.lock();
+        try {
+            return new PriorityStats(high.size(), low.size(), queuedCount, protectedGrants);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts the dispatcher unless it is already running.
+     */
+    private void dispatch() {
+        lock.lock();
+        try {
+            if (dispatching || (high.isEmpty() && low.isEmpty())) {
+                return;
+            }
+            dispatching = true;
+        } finally {
+            lock.unlock();
+        }
+        dispatchLoop();
+    }
+
+    /**
+     * Grants queued requests one at a time while the ceiling has permits. When the ceiling makes the chosen
+     * request wait, the loop continues from the completion of its permit instead of holding the thread.
+     * Must only be called by the thread owning the dispatcher.
+     */
+    private void dispatchLoop() {
+        while (true) {
+            Waiter next;
+            lock.lock();
+            try {
+                next = select();
+                if (next == null) {
+                    dispatching = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            CompletableFuture<Void> permit;
+            try {
+                permit = ceiling.acquireAsync(next.permits());
+            } catch (RuntimeException e) {
+                permit = CompletableFuture.failedFuture(e);
+            }
+            if (!permit.isDone()) {
+                Waiter waiting = next;
+                permit.whenComplete((v, error) -> {
+                    complete(waiting, error);
+                    dispatchLoop();
+                });
+                return;
+            }
+            complete(next, permit.isCompletedExceptionally() ? permit.exceptionNow() : null);
+        }
+    }
+
+    /**
+     * Chooses the next request: the head of the high lane, unless the low lane has earned its share.
+     * <p>
+     * Every high-priority permit granted while low-priority requests wait earns the low lane credit of
+     * {@code share}; a low-priority request of {@code n} permits goes first once the credit reaches
+     * {@code (100 - share) * n}.
+     * </p>
+     *
+     * @return the chosen request, or null if no request is queued
+     */
+    private Waiter select() {
+        Waiter highHead = head(high);
+        Waiter lowHead = head(low);
+        if (lowHead == null) {
+            lowCredit = 0;
+            return high.pollFirst();
+        }
+        int share = lowPriorityShare;
+        if (highHead == null) {
+            return low.pollFirst();
+        }
+        long cost = (long) (100 - share) * lowHead.permits();
+        if (share > 0 && lowCredit >= cost) {
+            lowCredit -= cost;
+            protectedGrants++;
+            return low.pollFirst();
+        }
+        lowCredit += (long) share * highHead.permits();
+        return high.pollFirst();
+    }
+
+    private static Waiter head(ArrayDeque<Waiter> lane) {
+        Waiter head = lane.peekFirst();
+        while (head != null && head.future().isDone()) {
+            lane.pollFirst();
+            head = lane.peekFirst();
+        }
+        return head;
+    }
+
+    /**
+     * Completes a request whose permits the ceiling granted or refused. Permits granted to a request that was
+     * cancelled or timed out in the meantime are given back to the ceiling.
+     */
+    private void complete(Waiter waiter, Throwable error) {
+        if (error != null) {
+            waiter.future().completeExceptionally(error);
+        } else if (!waiter.future().complete(null)) {
+            ceiling.release(waiter.permits());
+            logger.debug("Permits granted to a cancelled request were given back");
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Permit acquisition failed", e.getCause());
+    }
+
+    private static void validatePermits(int permits) {
+        if (permits <= 0) {
+            logger.error("Invalid permit count: {}", permits);
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+    }
+
+    private static void validate(int lowPriorityShare) {
+        if (lowPriorityShare < 0 || lowPriorityShare > MAX_LOW_PRIORITY_SHARE) {
+            logger.error("Invalid low priority share: {}", lowPriorityShare);
+            throw new IllegalArgumentException("Low priority share must be between 0 and " + MAX_LOW_PRIORITY_SHARE);
+        }
+    }
+
+    /**
+     * A rate limiter view acquiring with a fixed priority.
+     */
+    private final class Lane implements RateLimiter {
+        private final RequestPriority priority;
+
+        private Lane(RequestPriority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public void acquire(int permits) throws InterruptedException {
+            PriorityRateLimiter.this.acquire(priority, permits);
+        }
+
+        @Override
+        public boolean tryAcquire(int permits) {
+            return PriorityRateLimiter.this.tryAcquire(priority, permits);
+        }
+
+        @Override
+        public boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException {
+            CompletableFuture<Void> granted = acquireAsync(permits);
+            try {
+                granted.get(timeout, unit);
+                return true;
+            } catch (TimeoutException e) {
+                return !granted.cancel(false) && !granted.isCompletedExceptionally();
+            } catch (InterruptedException e) {
+                granted.cancel(false);
+                throw e;
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Void> acquireAsync(int permits) {
+            return PriorityRateLimiter.this.acquireAsync(priority, permits);
+        }
+
+        @Override
+        public void release(int permits) {
+            ceiling.release(permits);
+        }
+
+        @Override
+        public void update(long permitsPerSecond, long cooldownMillis) {
+            ceiling.update(permitsPerSecond, cooldownMillis);
+        }
+
+        @Override
+        public void pauseFor(long duration, TimeUnit unit) {
+            ceiling.pauseFor(duration, unit);
+        }
+    }
+
+    /**
+     * A queued request.
+     *
+     * @param future  the future completed once the permits are granted
+     * @param permits the number of permits requested
+     */
+    private record Waiter(CompletableFuture<Void> future, int permits) {
+    }
+
+    /**
+     * Record representing priority limiter statistics.
+     *
+     * @param highQueued      the number of high-priority requests currently waiting
+     * @param lowQueued       the number of low-priority requests currently waiting
+     * @param queuedCount     the total number of requests that had to wait
+     * @param protectedGrants the number of low-priority requests served ahead of waiting high-priority ones
+     *                        by the starvation protection
+     */
+    public record PriorityStats(int highQueued, int lowQueued, long queuedCount, long protectedGrants) {
+    }
+}
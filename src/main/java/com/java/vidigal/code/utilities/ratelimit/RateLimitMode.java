@@ -0,0 +1,46 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import com.java.vidigal.code.request.TranslationRequest;
+
+/**
+ * Determines how many rate limiter permits a translation request costs.
+ * <p>
+ * In {@link #REQUESTS} mode every HTTP call costs one permit and the limit is
+ * {@code maxRequestsPerSecond}. In {@link #SEGMENTS} and {@link #CHARACTERS} mode a call costs one permit
+ * per text segment or per character, and the limit is {@code rateLimitUnitsPerSecond}; this matches servers
+ * whose capacity is bound by the amount of text translated rather than by the number of calls.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public enum RateLimitMode {
+
+    /** One permit per HTTP request. */
+    REQUESTS,
+
+    /** One permit per text segment in the request. */
+    SEGMENTS,
+
+    /** One permit per character of text in the request. */
+    CHARACTERS;
+
+    /**
+     * Returns the number of permits a request costs in this mode.
+     *
+     * @param request the translation request
+     * @return the permit count, at least 1
+     */
+    public int permitsFor(TranslationRequest request) {
+        return switch (this) {
+            case REQUESTS -> 1;
+            case SEGMENTS -> Math.max(1, request.getTextSegments().size());
+            case CHARACTERS -> {
+                long characters = 0;
+                for (String segment : request.getTextSegments()) {
+                    characters += segment.length();
+                }
+                yield (int) Math.max(1, Math.min(Integer.MAX_VALUE, characters));
+            }
+        };
+    }
+}
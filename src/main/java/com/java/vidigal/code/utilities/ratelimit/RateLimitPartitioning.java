@@ -0,0 +1,45 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import com.java.vidigal.code.request.TranslationRequest;
+
+import java.util.Locale;
+
+/**
+ * Determines which rate limit partition a translation request belongs to.
+ * <p>
+ * With {@link #NONE} all requests share the client's rate limit first come, first served. With
+ * {@link #LANGUAGE_PAIR} or {@link #TENANT} the {@link PartitionedRateLimiter} shares it fairly between
+ * partitions, so that a bulk job in one partition cannot starve the others.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public enum RateLimitPartitioning {
+
+    /** No partitioning. */
+    NONE,
+
+    /** One partition per source and target language, for example {@code en->de}. */
+    LANGUAGE_PAIR,
+
+    /** One partition per {@link TranslationRequest#getTenant() tenant tag}; untagged requests share one. */
+    TENANT;
+
+    /** Partition of requests without a tenant tag. */
+    public static final String DEFAULT_PARTITION = "default";
+
+    /**
+     * Returns the partition key of a request in this mode.
+     *
+     * @param request the translation request
+     * @return the partition key, or {@code null} in {@link #NONE} mode
+     */
+    public String partitionOf(TranslationRequest request) {
+        return switch (this) {
+            case NONE -> null;
+            case LANGUAGE_PAIR -> (request.getSourceLang() == null ? "auto" : request.getSourceLang().toLowerCase(Locale.ROOT))
+                    + "->" + request.getTargetLang().toLowerCase(Locale.ROOT);
+            case TENANT -> request.getTenant() == null ? DEFAULT_PARTITION : request.getTenant();
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A limiter handing out permits at a bounded rate.
+ * <p>
+ * Permits are weighted: every acquisition method takes the number of permits an operation costs, and the
+ * single-permit variants are shorthands for one permit. {@link TokenBucketRateLimiter} enforces the rate within
+ * one client; {@link DistributedRateLimiter} enforces it across all clients sharing a {@link TokenStore}.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public interface RateLimiter {
+
+    /**
+     * Acquires the given number of permits, blocking until they are available.
+     *
+     * @param permits the number of permits, must be positive
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    void acquire(int permits) throws InterruptedException;
+
+    /**
+     * Attempts to acquire the given number of permits without blocking.
+     *
+     * @param permits the number of permits, must be positive
+     * @return true if the permits were acquired, false otherwise
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    boolean tryAcquire(int permits);
+
+    /**
+     * Attempts to acquire the given number of permits, waiting up to the given timeout.
+     *
+     * @param permits the number of permits, must be positive
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if the permits were acquired, false if the timeout elapsed first
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Acquires the given number of permits asynchronously, without holding a thread while waiting.
+     *
+     * @param permits the number of permits, must be positive
+     * @return a future completing when the permits have been acquired
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    CompletableFuture<Void> acquireAsync(int permits);
+
+    /**
+     * Gives back permits that were granted but will not be used, for example because the request they were
+     * granted to was cancelled or timed out while they were being granted.
+     *
+     * @param permits the number of permits, must be positive
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    void release(int permits);
+
+    /**
+     * Updates the rate dynamically.
+     *
+     * @param permitsPerSecond the new maximum permits per second, must be positive
+     * @param cooldownMillis   the new minimum wait of a blocked {@link #acquire(int)} in milliseconds, must be non-negative
+     * @throws IllegalArgumentException if {@code permitsPerSecond} is not positive or {@code cooldownMillis} is negative
+     */
+    void update(long permitsPerSecond, long cooldownMillis);
+
+    /**
+     * Hands out no permits for the given duration, for example when the server answered with a
+     * {@code Retry-After} header.
+     *
+     * @param duration the pause duration
+     * @param unit     the unit of {@code duration}
+     */
+    void pauseFor(long duration, TimeUnit unit);
+
+    /**
+     * Acquires one permit, blocking until it is available.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    default void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    /**
+     * Attempts to acquire one permit without blocking.
+     *
+     * @return true if the permit was acquired, false otherwise
+     */
+    default boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Attempts to acquire one permit, waiting up to the given timeout.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if the permit was acquired, false if the timeout elapsed first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    default boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(1, timeout, unit);
+    }
+
+    /**
+     * Acquires one permit asynchronously.
+     *
+     * @return a future completing when the permit has been acquired
+     */
+    default CompletableFuture<Void> acquireAsync() {
+        return acquireAsync(1);
+    }
+}
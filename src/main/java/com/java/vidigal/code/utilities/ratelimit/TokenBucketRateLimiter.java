@@ -3,37 +3,76 @@ package com.java.vidigal.code.utilities.ratelimit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * A thread-safe token bucket rate limiter with monitoring capabilities.
+ * A thread-safe, lock-free token bucket rate limiter with monitoring capabilities.
  * <p>
- * Limits the rate of operations (e.g., API requests) using a token bucket algorithm, where tokens
- * are refilled at a fixed rate based on the maximum requests per second. Supports dynamic updates
- * to the rate and cooldown period, optional logging when used with caching, and provides statistics
- * via {@link RateLimiterStats}. Uses a {@link ReentrantLock} for thread safety and SLF4J for logging.
+ * Limits the rate of operations (e.g., API requests) to a maximum number per second, allowing bursts of up
+ * to that many operations. The bucket is implemented with the generic cell rate algorithm (GCRA): the whole
+ * state is a single atomic "theoretical arrival time" (TAT), the instant at which the bucket would be full
+ * again. Taking a token advances the TAT by one emission interval ({@code 1s / maxRequestsPerSecond}) with a
+ * compare-and-set, and is allowed as long as the TAT stays within one burst of the current time. Neither
+ * {@link #acquire()} nor {@link #tryAcquire()} takes a lock; a caller only parks when the bucket is empty.
+ * </p>
+ * <p>
+ * A caller of {@link #acquire()} that finds the bucket empty parks for the cooldown period, or until the next
+ * token is due if that is later, and then tries again. {@link #tryAcquire(long, TimeUnit)} waits exactly until
+ * the next token is due, and gives up at once if that is beyond its timeout. {@link #update(long, long)} wakes
+ * all parked callers so that they observe the new rate.
+ * </p>
+ * <p>
+ * {@link #getStats()} reports the permits granted, how many callers had to wait and for how long, as a
+ * {@link WaitTimeHistogram}, and how many are waiting now, to tell throttling apart from server latency. The
+ * counters are cheap enough for the acquisition path, and reading them has no side effects.
+ * </p>
+ * <p>
+ * {@link #acquireAsync()} waits without holding a thread: pending requests are kept in a FIFO queue and
+ * released in order by a single timer task, scheduled for the instant the next token is due on a shared daemon
+ * scheduler. Asynchronous waiters are served in arrival order among themselves; blocking callers are not
+ * queued and may take a token ahead of them.
+ * </p>
+ * <p>
+ * Every acquisition method has a weighted variant taking a number of permits, so that callers can charge by
+ * the cost of an operation (for example the number of characters translated) rather than one token per call.
+ * The limit applies within this instance only; use {@link DistributedRateLimiter} to share one quota between
+ * clients or processes.
  * </p>
  *
  * @author Vidigal
  */
-public class TokenBucketRateLimiter {
+public class TokenBucketRateLimiter implements RateLimiter {
 
     private static final Logger logger = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
     private static final long LOG_FREQUENCY = 100;
     private static final String MAX_REQUESTS_POSITIVE = "Max requests per second must be positive";
     private static final String COOLDOWN_NON_NEGATIVE = "Cooldown period must be non-negative";
-    private final AtomicLong tokens;
-    private final AtomicLong lastRefillNanos;
+
+    /** Shared timer releasing asynchronous waiters of all limiters. */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("libretranslate-rate-limiter").factory());
+
+    /** Theoretical arrival time in {@link System#nanoTime()} units; the bucket is full at or before it. */
+    private final AtomicLong theoreticalArrivalNanos;
     private final AtomicLong refillCount = new AtomicLong();
     private final AtomicLong accessCount = new AtomicLong();
-    private final ReentrantLock lock = new ReentrantLock();
-    private final Condition tokenAvailable = lock.newCondition();
-    private volatile long capacity;
-    private volatile long refillIntervalNanos;
-    private volatile long cooldownMillis;
+    private final LongAdder permitsGranted = new LongAdder();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final WaitTimeHistogram waitTimes = new WaitTimeHistogram();
+    private final Queue<Thread> parkedThreads = new ConcurrentLinkedQueue<>();
+    private final Queue<AsyncWaiter> asyncWaiters = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean releaseScheduled = new AtomicBoolean();
+    private volatile Limits limits;
 
     /**
      * Constructs a new {@code TokenBucketRateLimiter} with the specified parameters.
@@ -43,73 +82,120 @@ public class TokenBucketRateLimiter {
      * @throws IllegalArgumentException if {@code maxRequestsPerSecond} is not positive or {@code cooldownMillis} is negative
      */
     public TokenBucketRateLimiter(long maxRequestsPerSecond, long cooldownMillis) {
-        if (maxRequestsPerSecond <= 0) {
-            logger.error(MAX_REQUESTS_POSITIVE);
-            throw new IllegalArgumentException(MAX_REQUESTS_POSITIVE);
-        }
-        if (cooldownMillis < 0) {
-            logger.error(COOLDOWN_NON_NEGATIVE);
-            throw new IllegalArgumentException(COOLDOWN_NON_NEGATIVE);
-        }
-        this.capacity = maxRequestsPerSecond;
-        this.refillIntervalNanos = 1_000_000_000L / maxRequestsPerSecond;
-        this.cooldownMillis = cooldownMillis;
-        this.tokens = new AtomicLong(maxRequestsPerSecond);
-        this.lastRefillNanos = new AtomicLong(System.nanoTime());
+        validate(maxRequestsPerSecond, cooldownMillis);
+        this.limits = new Limits(maxRequestsPerSecond, cooldownMillis);
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
     }
 
     /**
      * Updates the rate limiter's configuration dynamically.
+     * <p>
+     * Available tokens are kept, capped at the new capacity, a pause set by {@link #pauseFor} stays in effect,
+     * and parked callers are woken to retry with the new rate.
+     * </p>
      *
      * @param maxRequestsPerSecond the new maximum requests per second, must be positive
      * @param cooldownMillis       the new cooldown period in milliseconds, must be non-negative
      * @throws IllegalArgumentException if {@code maxRequestsPerSecond} is not positive or {@code cooldownMillis} is negative
      */
-    public void update(long maxRequestsPerSecond, long cooldownMillis) {
-        if (maxRequestsPerSecond <= 0) {
-            logger.error(MAX_REQUESTS_POSITIVE);
-            throw new IllegalArgumentException(MAX_REQUESTS_POSITIVE);
+    @Override
+    public synchronized void update(long maxRequestsPerSecond, long cooldownMillis) {
+        validate(maxRequestsPerSecond, cooldownMillis);
+        Limits newLimits = new Limits(maxRequestsPerSecond, cooldownMillis);
+        long now = System.nanoTime();
+        long tat = theoreticalArrivalNanos.get();
+        long available = Math.min(availableTokens(now, tat, limits), newLimits.capacity());
+        long newTat = now + (newLimits.capacity() - available) * newLimits.intervalNanos();
+        // Keep a pause in effect: the first token after it must not come sooner than before the update
+        long pausedUntil = tat - limits.burstNanos() + limits.intervalNanos();
+        if (pausedUntil - now > 0) {
+            newTat = Math.max(newTat, pausedUntil + newLimits.burstNanos() - newLimits.intervalNanos());
         }
-        if (cooldownMillis < 0) {
-            logger.error(COOLDOWN_NON_NEGATIVE);
-            throw new IllegalArgumentException(COOLDOWN_NON_NEGATIVE);
-        }
-        lock.lock();
-        try {
-            this.capacity = maxRequestsPerSecond;
-            this.refillIntervalNanos = 1_000_000_000L / maxRequestsPerSecond;
-            this.cooldownMillis = cooldownMillis;
-            tokens.updateAndGet(current -> Math.min(current, maxRequestsPerSecond));
-            tokenAvailable.signalAll();
-        } finally {
-            lock.unlock();
+        limits = newLimits;
+        theoreticalArrivalNanos.set(newTat);
+        parkedThreads.forEach(LockSupport::unpark);
+        if (!asyncWaiters.isEmpty()) {
+            TIMER.execute(this::releaseWaiters);
         }
     }
 
     /**
-     * Acquires a token, blocking until one is available or the cooldown period expires.
+     * Hands out no tokens for the given duration, for example when the server answered with a
+     * {@code Retry-After} header.
+     * <p>
+     * After the pause the bucket refills at the normal rate from empty, so waiting callers resume gradually
+     * rather than all at once. A shorter pause than one already in effect has no effect.
+     * </p>
+     *
+     * @param duration the pause duration
+     * @param unit     the unit of {@code duration}
+     */
+    @Override
+    public void pauseFor(long duration, TimeUnit unit) {
+        Limits current = limits;
+        long resumeTat = System.nanoTime() + unit.toNanos(duration) + current.burstNanos() - current.intervalNanos();
+        theoreticalArrivalNanos.accumulateAndGet(resumeTat, (tat, resume) -> resume - tat > 0 ? resume : tat);
+    }
+
+    /**
+     * Acquires a token, blocking until one is available.
+     * <p>
+     * Returns immediately if a token is available. Otherwise the caller parks for the cooldown period, or
+     * until the next token is due if that is later, and retries.
+     * </p>
      *
      * @throws InterruptedException if the thread is interrupted while waiting
      */
+    @Override
     public void acquire() throws InterruptedException {
-        lock.lock();
+        acquire(1);
+    }
+
+    /**
+     * Acquires the given number of tokens at once, blocking until they are available.
+     * <p>
+     * Waiting works as for {@link #acquire()}. A request for more tokens than the capacity is granted once
+     * the bucket is full, leaving the limiter in debt for the difference.
+     * </p>
+     *
+     * @param permits the number of tokens, must be positive
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    @Override
+    public void acquire(int permits) throws InterruptedException {
+        validatePermits(permits);
+        long waitNanos = tryTake(permits);
+        if (waitNanos == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        waiters.incrementAndGet();
         try {
-            while (true) {
-                refill();
-                long currentTokens = tokens.get();
-                if (currentTokens > 0 && tokens.compareAndSet(currentTokens, currentTokens - 1)) {
-                    if (shouldLog()) {
-                        logger.debug("Acquired token, remaining: {}", currentTokens - 1);
-                    }
-                    return;
+            while (waitNanos > 0) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while waiting for a rate limiter token");
+                }
+                long parkNanos = Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(limits.cooldownMillis()));
+                Thread current = Thread.currentThread();
+                parkedThreads.add(current);
+                try {
+                    LockSupport.parkNanos(this, parkNanos);
+                } finally {
+                    parkedThreads.remove(current);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while waiting for a rate limiter token");
                 }
-                boolean tokenReceived = tokenAvailable.await(cooldownMillis, TimeUnit.MILLISECONDS);
-                if (!tokenReceived && shouldLog()) {
+                refillCount.incrementAndGet();
+                if (shouldLog()) {
                     logger.debug("Cooldown period expired, retrying token acquisition");
                 }
+                waitNanos = tryTake(permits);
             }
+            waitTimes.record(System.nanoTime() - start);
         } finally {
-            lock.unlock();
+            waiters.decrementAndGet();
         }
     }
 
@@ -118,74 +204,316 @@ public class TokenBucketRateLimiter {
      *
      * @return true if a token was acquired, false otherwise
      */
+    @Override
     public boolean tryAcquire() {
-        lock.lock();
+        return tryTake(1) == 0;
+    }
+
+    /**
+     * Attempts to acquire the given number of tokens at once without blocking.
+     *
+     * @param permits the number of tokens, must be positive
+     * @return true if the tokens were acquired, false otherwise
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    @Override
+    public boolean tryAcquire(int permits) {
+        validatePermits(permits);
+        return tryTake(permits) == 0;
+    }
+
+    /**
+     * Attempts to acquire a token, waiting up to the given timeout for one to become available.
+     * <p>
+     * Unlike {@link #acquire()}, the caller waits only until the next token is due, not for the cooldown
+     * period, and returns {@code false} immediately if no token can become available within the timeout.
+     * </p>
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if a token was acquired, false if the timeout elapsed first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    @Override
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(1, timeout, unit);
+    }
+
+    /**
+     * Attempts to acquire the given number of tokens at once, waiting up to the given timeout.
+     *
+     * @param permits the number of tokens, must be positive
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return true if the tokens were acquired, false if the timeout elapsed first
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     * @see #tryAcquire(long, TimeUnit)
+     */
+    @Override
+    public boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException {
+        validatePermits(permits);
+        long start = System.nanoTime();
+        long deadline = start + unit.toNanos(timeout);
+        long waitNanos = tryTake(permits);
+        if (waitNanos == 0) {
+            return true;
+        }
+        waiters.incrementAndGet();
         try {
-            refill();
-            long currentTokens = tokens.get();
-            if (currentTokens > 0 && tokens.compareAndSet(currentTokens, currentTokens - 1)) {
-                if (shouldLog()) {
-                    logger.debug("Non-blocking token acquired, remaining: {}", currentTokens - 1);
+            while (waitNanos > 0) {
+                if (waitNanos > deadline - System.nanoTime()) {
+                    return false;
+                }
+                Thread current = Thread.currentThread();
+                parkedThreads.add(current);
+                try {
+                    LockSupport.parkNanos(this, waitNanos);
+                } finally {
+                    parkedThreads.remove(current);
                 }
-                return true;
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while waiting for a rate limiter token");
+                }
+                waitNanos = tryTake(permits);
             }
-            return false;
+            waitTimes.record(System.nanoTime() - start);
+            return true;
         } finally {
-            lock.unlock();
+            waiters.decrementAndGet();
         }
     }
 
     /**
-     * Refills tokens based on elapsed time since the last refill.
+     * Acquires a token asynchronously.
+     * <p>
+     * The returned future is already complete if a token is available and no other asynchronous request is
+     * waiting. Otherwise the request joins a FIFO queue and the future is completed by the limiter's timer
+     * thread as soon as a token is due; no thread is held while waiting. Cancelling the future withdraws the
+     * request from the queue.
+     * </p>
+     *
+     * @return a future completing when a token has been acquired
      */
-    private void refill() {
-        long now = System.nanoTime();
-        long lastRefill = lastRefillNanos.get();
-        long elapsedNanos = now - lastRefill;
-        long tokensToAdd = elapsedNanos / refillIntervalNanos;
-        if (tokensToAdd > 0 && lastRefillNanos.compareAndSet(lastRefill, now)) {
-            tokens.updateAndGet(current -> Math.min(current + tokensToAdd, capacity));
-            refillCount.incrementAndGet();
-            if (shouldLog()) {
-                logger.debug("Refilled {} tokens, current: {}", tokensToAdd, tokens.get());
+    @Override
+    public CompletableFuture<Void> acquireAsync() {
+        return acquireAsync(1);
+    }
+
+    /**
+     * Acquires the given number of tokens at once, asynchronously.
+     * <p>
+     * Queued requests are served strictly in order, so a large request at the head of the queue holds back
+     * smaller ones behind it until enough tokens have accumulated.
+     * </p>
+     *
+     * @param permits the number of tokens, must be positive
+     * @return a future completing when the tokens have been acquired
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     * @see #acquireAsync()
+     */
+    @Override
+    public CompletableFuture<Void> acquireAsync(int permits) {
+        validatePermits(permits);
+        if (asyncWaiters.isEmpty() && tryTake(permits) == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        AsyncWaiter waiter = new AsyncWaiter(new CompletableFuture<>(), permits, System.nanoTime());
+        waiters.incrementAndGet();
+        waiter.future().whenComplete((v, error) -> waiters.decrementAndGet());
+        asyncWaiters.add(waiter);
+        scheduleRelease(0);
+        return waiter.future();
+    }
+
+    /**
+     * Gives back tokens that were granted but will not be used, and lets queued asynchronous requests take them.
+     *
+     * @param permits the number of tokens, must be positive
+     * @throws IllegalArgumentException if {@code permits} is not positive
+     */
+    @Override
+    public void release(int permits) {
+        validatePermits(permits);
+        refund(permits);
+        if (!asyncWaiters.isEmpty()) {
+            scheduleRelease(0);
+        }
+    }
+
+    /**
+     * Schedules the timer task releasing asynchronous waiters, unless one is already scheduled.
+     *
+     * @param delayNanos the delay before the task runs
+     */
+    private void scheduleRelease(long delayNanos) {
+        if (releaseScheduled.compareAndSet(false, true)) {
+            TIMER.schedule(this::releaseWaiters, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Releases queued asynchronous waiters in FIFO order while tokens are available, then reschedules itself
+     * for the instant the next token is due.
+     */
+    private void releaseWaiters() {
+        synchronized (asyncWaiters) {
+            AsyncWaiter head;
+            while ((head = asyncWaiters.peek()) != null) {
+                if (head.future().isDone()) {
+                    asyncWaiters.poll();
+                    continue;
+                }
+                long waitNanos = tryTake(head.permits());
+                if (waitNanos > 0) {
+                    releaseScheduled.set(false);
+                    scheduleRelease(waitNanos);
+                    return;
+                }
+                asyncWaiters.poll();
+                long waited = System.nanoTime() - head.enqueuedNanos();
+                if (head.future().complete(null)) {
+                    waitTimes.record(waited);
+                } else {
+                    refund(head.permits());
+                }
             }
-            if (tokens.get() > 0) {
-                lock.lock();
-                try {
-                    tokenAvailable.signalAll();
-                } finally {
-                    lock.unlock();
+            releaseScheduled.set(false);
+        }
+        if (!asyncWaiters.isEmpty()) {
+            scheduleRelease(0);
+        }
+    }
+
+    /**
+     * Returns tokens that were taken but will not be used.
+     *
+     * @param permits the number of tokens to return
+     */
+    private void refund(int permits) {
+        theoreticalArrivalNanos.addAndGet(-permits * limits.intervalNanos());
+        permitsGranted.add(-permits);
+    }
+
+    /**
+     * Takes tokens if enough are available.
+     * <p>
+     * The theoretical arrival time advances by {@code permits} emission intervals. Conformance is checked
+     * against at most a full bucket, so requests larger than the capacity pass once the bucket is full.
+     * </p>
+     *
+     * @param permits the number of tokens
+     * @return 0 if the tokens were taken, otherwise the nanoseconds until enough tokens are due
+     */
+    private long tryTake(int permits) {
+        while (true) {
+            Limits current = limits;
+            long now = System.nanoTime();
+            long tat = theoreticalArrivalNanos.get();
+            long base = tat - now > 0 ? tat : now;
+            long excess = base + Math.min(permits, current.capacity()) * current.intervalNanos() - now - current.burstNanos();
+            if (excess > 0) {
+                return excess;
+            }
+            long next = base + permits * current.intervalNanos();
+            if (theoreticalArrivalNanos.compareAndSet(tat, next)) {
+                permitsGranted.add(permits);
+                if (shouldLog()) {
+                    logger.debug("Acquired {} tokens, remaining: {}", permits, availableTokens(now, next, current));
                 }
+                return 0;
             }
         }
     }
 
     /**
-     * Retrieves the current rate limiter statistics.
+     * Computes the tokens available at {@code now} for a given theoretical arrival time.
+     */
+    private static long availableTokens(long now, long tat, Limits limits) {
+        long used = tat - now > 0 ? tat - now : 0;
+        return Math.max(0, (limits.burstNanos() - used) / limits.intervalNanos());
+    }
+
+    /**
+     * Retrieves the current rate limiter statistics. Reading them does not change the limiter's state.
      *
-     * @return a {@link RateLimiterStats} record with current tokens, capacity, and refill count
+     * @return a {@link RateLimiterStats} record with current tokens, capacity, refill count, and throttling counters
      */
     public RateLimiterStats getStats() {
-        refill();
-        return new RateLimiterStats(tokens.get(), capacity, refillCount.get());
+        Limits current = limits;
+        WaitTimeHistogram.WaitTimeStats waitTime = waitTimes.getStats();
+        return new RateLimiterStats(availableTokens(System.nanoTime(), theoreticalArrivalNanos.get(), current),
+                current.capacity(), refillCount.get(), permitsGranted.sum(), waitTime.count(), waiters.get(), waitTime);
     }
 
     /**
      * Determines if a rate limiter operation should be logged based on access frequency.
+     * <p>
+     * The access counter is only touched when debug logging is enabled, keeping the acquisition path free of
+     * shared writes otherwise.
+     * </p>
      *
-     * @return true if the current access count is a multiple of {@link #LOG_FREQUENCY}
+     * @return true if debug logging is enabled and the current access count is a multiple of {@link #LOG_FREQUENCY}
      */
     private boolean shouldLog() {
-        return accessCount.incrementAndGet() % LOG_FREQUENCY == 0;
+        return logger.isDebugEnabled() && accessCount.incrementAndGet() % LOG_FREQUENCY == 0;
+    }
+
+    private static void validatePermits(int permits) {
+        if (permits <= 0) {
+            logger.error("Invalid permit count: {}", permits);
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+    }
+
+    private static void validate(long maxRequestsPerSecond, long cooldownMillis) {
+        if (maxRequestsPerSecond <= 0) {
+            logger.error(MAX_REQUESTS_POSITIVE);
+            throw new IllegalArgumentException(MAX_REQUESTS_POSITIVE);
+        }
+        if (cooldownMillis < 0) {
+            logger.error(COOLDOWN_NON_NEGATIVE);
+            throw new IllegalArgumentException(COOLDOWN_NON_NEGATIVE);
+        }
+    }
+
+    /**
+     * Immutable limiter settings, swapped as a whole on {@link #update(long, long)}.
+     *
+     * @param capacity       the bucket capacity (maximum requests per second)
+     * @param intervalNanos  the emission interval between tokens
+     * @param burstNanos     the time span covered by a full bucket
+     * @param cooldownMillis the minimum wait when no token is available
+     */
+    private record Limits(long capacity, long intervalNanos, long burstNanos, long cooldownMillis) {
+        Limits(long maxRequestsPerSecond, long cooldownMillis) {
+            this(maxRequestsPerSecond, Math.max(1, 1_000_000_000L / maxRequestsPerSecond),
+                    maxRequestsPerSecond * Math.max(1, 1_000_000_000L / maxRequestsPerSecond), cooldownMillis);
+        }
+    }
+
+    /**
+     * A queued asynchronous acquisition.
+     *
+     * @param future        the future completed once the tokens are taken
+     * @param permits       the number of tokens requested
+     * @param enqueuedNanos the time the request joined the queue
+     */
+    private record AsyncWaiter(CompletableFuture<Void> future, int permits, long enqueuedNanos) {
     }
 
     /**
      * Record representing rate limiter statistics.
      *
-     * @param currentTokens the current number of available tokens
-     * @param capacity      the maximum number of tokens the bucket can hold
-     * @param refillCount   the number of token refill events
+     * @param currentTokens  the current number of available tokens
+     * @param capacity       the maximum number of tokens the bucket can hold
+     * @param refillCount    the number of times a blocked caller resumed to retry after waiting for tokens
+     * @param permitsGranted the total number of permits granted
+     * @param waitedCount    the number of callers that were granted permits after waiting
+     * @param currentWaiters the number of callers waiting now, blocked or asynchronous
+     * @param waitTime       the wait times of the callers that had to wait
      */
-    public record RateLimiterStats(long currentTokens, long capacity, long refillCount) {
+    public record RateLimiterStats(long currentTokens, long capacity, long refillCount, long permitsGranted,
+                                   long waitedCount, int currentWaiters, WaitTimeHistogram.WaitTimeStats waitTime) {
     }
-}
\ No newline at end of file
+}
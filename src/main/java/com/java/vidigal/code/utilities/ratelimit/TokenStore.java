@@ -0,0 +1,70 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Service provider interface for the shared state behind a {@link DistributedRateLimiter}.
+ * <p>
+ * A store keeps one token bucket per bucket name and updates it atomically with respect to every client
+ * sharing the store, whether in the same JVM or in other processes. Buckets follow the generic cell rate
+ * algorithm: the state is a single theoretical arrival time in epoch nanoseconds, so that any number of
+ * clients can take tokens without a central refill task. The rate is passed on every call, so clients sharing
+ * a bucket should agree on it.
+ * </p>
+ * <p>
+ * {@link InMemoryTokenStore} shares a quota between clients in one JVM; {@link FileTokenStore} shares it
+ * between processes on one host through a memory-mapped file. Implementations backed by a database or a
+ * key-value server can enforce a quota across a whole fleet.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public interface TokenStore extends Closeable {
+
+    /**
+     * Takes between {@code minPermits} and {@code maxPermits} tokens from a bucket.
+     * <p>
+     * The call succeeds as soon as {@code minPermits} tokens are available (or the bucket is full, if
+     * {@code minPermits} exceeds its capacity) and then takes as many of the available tokens as allowed by
+     * {@code maxPermits}, so that a caller can lease a batch of tokens in one round trip.
+     * </p>
+     *
+     * @param bucket           the bucket name
+     * @param minPermits       the tokens needed now, must be positive
+     * @param maxPermits       the most tokens to take, at least {@code minPermits}
+     * @param permitsPerSecond the bucket rate and capacity
+     * @return the grant, holding either the tokens taken or the time until {@code minPermits} are due
+     * @throws IOException if the shared state cannot be read or written
+     */
+    Grant take(String bucket, long minPermits, long maxPermits, long permitsPerSecond) throws IOException;
+
+    /**
+     * Hands out no tokens from a bucket for the given duration. A shorter pause than one already in effect
+     * has no effect.
+     *
+     * @param bucket           the bucket name
+     * @param durationNanos    the pause duration in nanoseconds
+     * @param permitsPerSecond the bucket rate and capacity
+     * @throws IOException if the shared state cannot be read or written
+     */
+    void pause(String bucket, long durationNanos, long permitsPerSecond) throws IOException;
+
+    /**
+     * Releases the resources held by this store. The default implementation does nothing.
+     *
+     * @throws IOException if the resources cannot be released
+     */
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * The outcome of {@link #take}.
+     *
+     * @param permits   the number of tokens taken, or 0 if not enough were available
+     * @param waitNanos the nanoseconds until enough tokens are due if none were taken, otherwise 0
+     */
+    record Grant(long permits, long waitNanos) {
+    }
+}
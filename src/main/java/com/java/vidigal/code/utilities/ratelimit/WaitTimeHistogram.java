@@ -0,0 +1,106 @@
+package com.java.vidigal.code.utilities.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of wait times, for finding out how long callers are held back by a limiter.
+ * <p>
+ * Wait times are counted in microseconds in log-linear buckets: exact up to 16µs, and above that eight buckets
+ * per power of two, so that percentiles are accurate to within 12.5%. Recording is one atomic increment plus
+ * a maximum update and allocates nothing; the whole histogram is a fixed array of under 500 counters.
+ * Reading {@link #getStats()} never changes the histogram.
+ * </p>
+ *
+ * @author Vidigal
+ */
+public class WaitTimeHistogram {
+
+    /** Values below this are counted exactly. */
+    private static final int LINEAR_LIMIT = 16;
+
+    /** Buckets per power of two above the linear range, as a number of bits. */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_EXPONENT = 4;
+    private static final int BUCKETS = LINEAR_LIMIT + (Long.SIZE - 1 - FIRST_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records one wait.
+     *
+     * @param waitNanos the wait time in nanoseconds; negative values count as zero
+     */
+    public void record(long waitNanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(waitNanos));
+        counts.incrementAndGet(indexOf(micros));
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the recorded waits. Waits recorded concurrently may or may not be included.
+     *
+     * @return a {@link WaitTimeStats} record
+     */
+    public WaitTimeStats getStats() {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        long max = maxMicros.get();
+        return new WaitTimeStats(count, percentile(snapshot, count, 0.50, max), percentile(snapshot, count, 0.99, max), max);
+    }
+
+    private static long percentile(long[] snapshot, long count, double quantile, long max) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * quantile));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = FIRST_EXPONENT + (index - LINEAR_LIMIT) / SUB_BUCKETS;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+
+    /**
+     * Record representing wait time statistics.
+     *
+     * @param count     the number of waits recorded
+     * @param p50Micros the median wait in microseconds
+     * @param p99Micros the 99th percentile wait in microseconds
+     * @param maxMicros the longest wait in microseconds
+     */
+    public record WaitTimeStats(long count, long p50Micros, long p99Micros, long maxMicros) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.java.vidigal.code.test;
+
+import com.java.vidigal.code.LibreTranslatePlugin;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static com.java.vidigal.code.test.support.StubLibreTranslateServer.translationOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-segment cache lookup in {@link LibreTranslatePlugin#translateBatch} and
+ * {@link LibreTranslatePlugin#translateBatchAsync}: cached segments are served locally, only the misses are
+ * sent to the API, and results are merged back in the original order.
+ */
+class LibreTranslatePluginBatchCacheTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslatePlugin plugin;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubLibreTranslateServer.start();
+        LibreTranslateConfig config = LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .enableCache(true)
+                .build();
+        plugin = new LibreTranslatePlugin(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        plugin.shutdown();
+        server.close();
+    }
+
+    @Test
+    void shouldSendOnlyMissingSegmentsAndPreserveOrder() throws Exception {
+        plugin.translateBatch(List.of("one", "three"), "es", "en");
+
+        List<String> result = plugin.translateBatch(List.of("one", "two", "three", "four"), "es", "en");
+
+        assertEquals(List.of(translationOf("es", "one"), translationOf("es", "two"),
+                translationOf("es", "three"), translationOf("es", "four")), result, "Results should follow input order");
+        assertEquals(List.of("two", "four"), server.receivedSegments().getLast(), "Only cache misses should be sent");
+    }
+
+    @Test
+    void shouldNotCallApiWhenWholeBatchIsCached() throws Exception {
+        plugin.translateBatch(List.of("one", "two"), "es", "en");
+
+        List<String> result = plugin.translateBatch(List.of("two", "one"), "es", "en");
+
+        assertEquals(List.of(translationOf("es", "two"), translationOf("es", "one")), result);
+        assertEquals(1, server.requestCount(), "Fully cached batch should not reach the API");
+    }
+
+    @Test
+    void shouldSendDuplicateSegmentsOnce() throws Exception {
+        List<String> result = plugin.translateBatch(List.of("one", "two", "one"), "es", "en");
+
+        assertEquals(List.of(translationOf("es", "one"), translationOf("es", "two"), translationOf("es", "one")), result);
+        assertEquals(List.of("one", "two"), server.receivedSegments().getLast(), "Duplicate segments should be sent once");
+    }
+
+    @Test
+    void shouldKeepCachedSegmentsWhenMissRequestFails() throws Exception {
+        plugin.translateBatch(List.of("one"), "es", "en");
+        server.enqueueStatus(500);
+
+        assertThrows(LibreTranslateException.class,
+                () -> plugin.translateBatch(List.of("one", "two"), "es", "en"),
+                "Failure of the reduced request should fail the batch");
+        assertEquals(List.of("two"), server.receivedSegments().getLast(), "Failed request should contain only the miss");
+
+        List<String> result = plugin.translateBatch(List.of("one", "two"), "es", "en");
+        assertEquals(List.of(translationOf("es", "one"), translationOf("es", "two")), result);
+        assertEquals(List.of("two"), server.receivedSegments().getLast(),
+                "Previously cached segment should survive the failure and nothing failed should be cached");
+    }
+
+    @Test
+    void shouldMergeAsyncBatchInOrder() throws Exception {
+        plugin.translateBatch(List.of("b"), "es", "en");
+
+        List<String> result = plugin.translateBatchAsync(List.of("a", "b", "c"), "es", "en").get();
+
+        assertEquals(List.of(translationOf("es", "a"), translationOf("es", "b"), translationOf("es", "c")), result);
+        assertEquals(List.of("a", "c"), server.receivedSegments().getLast());
+    }
+
+    @Test
+    void shouldFailAsyncBatchWhenMissRequestFails() throws Exception {
+        plugin.translateBatch(List.of("b"), "es", "en");
+        server.enqueueStatus(500);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> plugin.translateBatchAsync(List.of("a", "b"), "es", "en").get());
+        assertInstanceOf(LibreTranslateException.class, exception.getCause());
+    }
+}
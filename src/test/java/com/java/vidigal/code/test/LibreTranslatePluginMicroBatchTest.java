@@ -0,0 +1,153 @@
+package com.java.vidigal.code.test;
+
+import com.java.vidigal.code.LibreTranslatePlugin;
+import com.java.vidigal.code.client.MicroBatcher;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.java.vidigal.code.test.support.StubLibreTranslateServer.translationOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for micro-batching in {@link LibreTranslatePlugin}: single-text calls with the same language pair
+ * arriving within the window are sent as one multi-segment request and the results are fanned back out.
+ */
+class LibreTranslatePluginMicroBatchTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslatePlugin plugin;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubLibreTranslateServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (plugin != null) {
+            plugin.shutdown();
+        }
+        server.close();
+    }
+
+    @Test
+    void shouldBatchConcurrentAsyncCallsIntoOneRequest() throws Exception {
+        plugin = createPlugin(100, 50);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(plugin.translateTextAsync("text-" + i, "es", "en"));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(translationOf("es", "text-" + i), futures.get(i).get(), "Each caller should get its own text");
+        }
+        assertEquals(1, server.requestCount(), "Calls within the window should share one request");
+        assertEquals(20, server.receivedSegments().getFirst().size());
+        MicroBatcher.MicroBatchStats stats = plugin.getMicroBatchStats();
+        assertEquals(20, stats.submitted());
+        assertEquals(1, stats.batches());
+    }
+
+    @Test
+    void shouldBatchConcurrentSyncCalls() throws Exception {
+        plugin = createPlugin(200, 50);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                String text = "text-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return plugin.translateText(text, "es", "en");
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < 10; i++) {
+                assertEquals(translationOf("es", "text-" + i), results.get(i).get());
+            }
+        }
+        assertEquals(1, server.requestCount());
+    }
+
+    @Test
+    void shouldSendBatchAsSoonAsMaxSizeIsReached() throws Exception {
+        plugin = createPlugin(1000, 3);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(plugin.translateTextAsync("text-" + i, "es", "en"));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        assertEquals(1, server.requestCount());
+        assertTrue(futures.stream().allMatch(CompletableFuture::isDone), "Full batch should not wait for the window");
+    }
+
+    @Test
+    void shouldSeparateLanguagePairsAndSendDuplicatesOnce() throws Exception {
+        plugin = createPlugin(100, 50);
+        CompletableFuture<String> spanish = plugin.translateTextAsync("Hello", "es", "en");
+        CompletableFuture<String> spanishAgain = plugin.translateTextAsync("Hello", "es", "en");
+        CompletableFuture<String> french = plugin.translateTextAsync("Hello", "fr", "en");
+
+        assertEquals(translationOf("es", "Hello"), spanish.get());
+        assertEquals(translationOf("es", "Hello"), spanishAgain.get());
+        assertEquals(translationOf("fr", "Hello"), french.get());
+        assertEquals(2, server.requestCount(), "Each language pair should get its own batch");
+        assertTrue(server.receivedSegments().stream().allMatch(segments -> segments.equals(List.of("Hello"))),
+                "Duplicate texts should be sent once per batch");
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenBatchFails() throws Exception {
+        plugin = createPlugin(100, 50);
+        server.enqueueStatus(500);
+        CompletableFuture<String> first = plugin.translateTextAsync("one", "es", "en");
+        CompletableFuture<String> second = plugin.translateTextAsync("two", "es", "en");
+
+        for (CompletableFuture<String> future : List.of(first, second)) {
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(LibreTranslateException.class, exception.getCause());
+        }
+        assertEquals(1, server.requestCount());
+    }
+
+    @Test
+    void shouldNotBatchWhenDisabled() throws Exception {
+        plugin = new LibreTranslatePlugin(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .build());
+
+        CompletableFuture<String> first = plugin.translateTextAsync("one", "es", "en");
+        CompletableFuture<String> second = plugin.translateTextAsync("two", "es", "en");
+
+        CompletableFuture.allOf(first, second).get();
+        assertEquals(2, server.requestCount());
+        assertNull(plugin.getMicroBatchStats());
+    }
+
+    private LibreTranslatePlugin createPlugin(long windowMillis, int maxSize) {
+        return new LibreTranslatePlugin(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .enableMicroBatching(true)
+                .microBatchWindowMillis(windowMillis)
+                .microBatchMaxSize(maxSize)
+                .build());
+    }
+}
@@ -0,0 +1,174 @@
+package com.java.vidigal.code.test;
+
+import com.java.vidigal.code.LibreTranslatePlugin;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.java.vidigal.code.test.support.StubLibreTranslateServer.translationOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LibreTranslatePlugin#translateStream}: chunking of large inputs, ordered emission,
+ * backpressure and error propagation.
+ */
+class LibreTranslatePluginStreamTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslatePlugin plugin;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubLibreTranslateServer.start();
+        plugin = new LibreTranslatePlugin(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        plugin.shutdown();
+        server.close();
+    }
+
+    @Test
+    void shouldTranslateInputLargerThanBatchLimitInOrder() throws Exception {
+        List<String> texts = IntStream.range(0, 237).mapToObj(i -> "text-" + i).toList();
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        plugin.translateStream(texts.stream(), "es", "en").subscribe(subscriber);
+
+        assertTrue(subscriber.await(), "Stream should complete");
+        assertNull(subscriber.error);
+        assertEquals(texts.stream().map(text -> translationOf("es", text)).toList(), subscriber.items);
+        assertEquals(5, server.requestCount(), "237 texts should be sent in 5 chunks");
+        assertTrue(server.receivedSegments().stream().allMatch(chunk -> chunk.size() <= LibreTranslatePlugin.MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void shouldSplitChunksAtCharacterLimit() throws Exception {
+        List<String> texts = List.of("a".repeat(6000), "b".repeat(6000), "c".repeat(3000));
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        plugin.translateStream(texts.iterator(), "es", "en").subscribe(subscriber);
+
+        assertTrue(subscriber.await());
+        assertEquals(3, subscriber.items.size());
+        assertEquals(List.of(1, 2), server.receivedSegments().stream().map(List::size).sorted().toList(),
+                "Texts should be grouped without exceeding 10,000 characters");
+    }
+
+    @Test
+    void shouldOnlyReadAheadBoundedChunksWithoutDemand() throws Exception {
+        AtomicInteger consumed = new AtomicInteger();
+        Iterator<String> texts = Stream.iterate(0, i -> i + 1).map(i -> {
+            consumed.incrementAndGet();
+            return "text-" + i;
+        }).iterator();
+        CollectingSubscriber subscriber = new CollectingSubscriber(10);
+
+        plugin.translateStream(texts, "es", "en", 2).subscribe(subscriber);
+
+        waitUntil(() -> subscriber.items.size() == 10);
+        Thread.sleep(200);
+        assertEquals(10, subscriber.items.size(), "No more items than requested should be emitted");
+        assertTrue(server.requestCount() <= 2, "At most two chunks should be in flight");
+        assertTrue(consumed.get() <= 2 * LibreTranslatePlugin.MAX_BATCH_SIZE + 1,
+                "Input should not be consumed beyond the read-ahead limit, consumed " + consumed.get());
+        subscriber.subscription.cancel();
+    }
+
+    @Test
+    void shouldTerminateWithErrorWhenChunkFails() throws Exception {
+        server.enqueueStatus(500);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        plugin.translateStream(List.of("one", "two").iterator(), "es", "en").subscribe(subscriber);
+
+        assertTrue(subscriber.await());
+        assertInstanceOf(LibreTranslateException.class, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void shouldRejectSecondSubscriber() throws Exception {
+        Flow.Publisher<String> publisher = plugin.translateStream(List.of("one").iterator(), "es", "en");
+        CollectingSubscriber first = new CollectingSubscriber(Long.MAX_VALUE);
+        CollectingSubscriber second = new CollectingSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertTrue(first.await());
+        assertTrue(second.await());
+        assertEquals(List.of(translationOf("es", "one")), first.items);
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "Condition not met in time");
+    }
+
+    /**
+     * Subscriber that requests a fixed number of items up front and records every signal.
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<String> {
+        private final long initialRequest;
+        private final List<String> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        private CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return terminated.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.java.vidigal.code.test;
+
+import com.java.vidigal.code.LibreTranslatePlugin;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.java.vidigal.code.test.support.StubLibreTranslateServer.translationOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LibreTranslatePlugin#translateAll}: texts are packed into the fewest requests allowed by the
+ * batch size and character budget, and oversized texts are split and reassembled.
+ */
+class LibreTranslatePluginTranslateAllTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslatePlugin plugin;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubLibreTranslateServer.start();
+        plugin = new LibreTranslatePlugin(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .maxCharactersPerRequest(1000)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        plugin.shutdown();
+        server.close();
+    }
+
+    @Test
+    void shouldPackTextsBeyondBatchLimitAndKeepOrder() throws Exception {
+        List<String> texts = IntStream.range(0, 120).mapToObj(i -> "text-" + i).toList();
+
+        List<String> result = plugin.translateAll(texts, "es", "en");
+
+        assertEquals(texts.stream().map(text -> translationOf("es", text)).toList(), result);
+        assertEquals(3, server.requestCount(), "120 short texts should need three requests");
+    }
+
+    @Test
+    void shouldSplitAndReassembleOversizedText() throws Exception {
+        String text = IntStream.range(0, 40)
+                .mapToObj(i -> String.format("This is sentence number %02d, fifty characters ok.", i))
+                .collect(Collectors.joining(" "));
+
+        String result = plugin.translateAll(List.of(text), "es", "en").getFirst();
+
+        List<String> pieces = server.receivedSegments().stream().flatMap(List::stream).toList();
+        assertEquals(2, pieces.size(), "1,959 characters should be split into two sentence-aligned pieces");
+        assertTrue(pieces.stream().allMatch(piece -> piece.length() <= 1000), "Every piece should fit the character budget");
+        assertEquals(2, result.split("es:", -1).length - 1, "Every piece should be translated");
+        assertEquals(text, result.replace("es:", ""), "Pieces should be rejoined in order with their spacing");
+    }
+
+    @Test
+    void shouldFailWhenARequestFails() {
+        server.enqueueStatus(500);
+
+        assertThrows(LibreTranslateException.class, () -> plugin.translateAll(List.of("one", "two"), "es", "en"));
+    }
+}
@@ -0,0 +1,190 @@
+package com.java.vidigal.code.test.cache;
+
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.utilities.cache.CacheKey;
+import com.java.vidigal.code.utilities.cache.PersistentTranslationStore;
+import com.java.vidigal.code.utilities.cache.TranslationCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PersistentTranslationStore} class, verifying warm reloads, expiry, compaction
+ * of overwritten records, eviction beyond the maximum size, exclusive directory ownership, and its use as
+ * the second tier of a {@link TranslationCache}.
+ */
+class PersistentTranslationStoreTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+    private static final long MAX_BYTES = 64L * SEGMENT_BYTES;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that records written before close are found after reopening the directory.
+     */
+    @Test
+    void shouldReloadRecordsAfterReopen() throws IOException {
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES)) {
+            store.put(CacheKey.of("en", "es", "Hello"), new Translation("Hola", "en"), Long.MAX_VALUE);
+            store.put(CacheKey.of(null, "fr", "Hello"), new Translation("Bonjour", null), Long.MAX_VALUE);
+        }
+
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES)) {
+            PersistentTranslationStore.StoredTranslation hola = store.get(CacheKey.of("en", "es", "Hello"));
+            assertNotNull(hola, "Record should survive a reopen");
+            assertEquals("Hola", hola.translation().getText());
+            assertEquals("en", hola.translation().getDetectedSourceLanguage());
+            PersistentTranslationStore.StoredTranslation bonjour = store.get(CacheKey.of("auto", "fr", "Hello"));
+            assertNotNull(bonjour);
+            assertNull(bonjour.translation().getDetectedSourceLanguage(), "Null detected language should round-trip");
+            assertNull(store.get(CacheKey.of("en", "de", "Hello")));
+            assertEquals(2, store.getStats().entries());
+        }
+    }
+
+    /**
+     * Tests that expired records are not returned and are not reloaded.
+     */
+    @Test
+    void shouldNotReturnExpiredRecords() throws IOException {
+        CacheKey key = CacheKey.of("en", "es", "Hello");
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES)) {
+            store.put(key, new Translation("Hola", "en"), System.currentTimeMillis() - 1);
+            assertNull(store.get(key), "Expired record should miss");
+        }
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES)) {
+            assertNull(store.get(key), "Expired record should not be reloaded");
+            assertEquals(0, store.getStats().entries());
+        }
+    }
+
+    /**
+     * Tests that overwriting records leaves garbage that compaction reclaims by deleting sealed segments,
+     * while the latest value of every key stays readable.
+     */
+    @Test
+    void shouldCompactOverwrittenSegments() throws IOException {
+        String padding = "x".repeat(1000);
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES)) {
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 100; i++) {
+                    store.put(CacheKey.of("en", "es", "text-" + i),
+                            new Translation("round-" + round + padding, "en"), Long.MAX_VALUE);
+                }
+            }
+            int segmentsBefore = store.getStats().segments();
+
+            int deleted = store.compact();
+
+            PersistentTranslationStore.StoreStats stats = store.getStats();
+            assertTrue(deleted > 0, "Segments holding only overwritten records should be deleted");
+            assertEquals(segmentsBefore - deleted, countSegmentFiles(), "Deleted segments should leave no files");
+            assertEquals(100, stats.entries());
+            assertEquals(1, stats.compactions());
+            for (int i = 0; i < 100; i++) {
+                assertEquals("round-2" + padding,
+                        store.get(CacheKey.of("en", "es", "text-" + i)).translation().getText());
+            }
+        }
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES)) {
+            assertEquals(100, store.getStats().entries(), "Compacted store should reload every live key");
+        }
+    }
+
+    /**
+     * Tests that the store evicts its oldest segments, with their entries, to stay within its maximum size,
+     * and that every entry it keeps stays readable, also after reopening.
+     */
+    @Test
+    void shouldEvictOldestSegmentsBeyondMaxSize() throws IOException {
+        String padding = "x".repeat(1000);
+        long maxBytes = 3L * SEGMENT_BYTES;
+        int kept = 0;
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, maxBytes)) {
+            for (int i = 0; i < 300; i++) {
+                store.put(CacheKey.of("en", "es", "text-" + i), new Translation(i + padding, "en"), Long.MAX_VALUE);
+            }
+
+            PersistentTranslationStore.StoreStats stats = store.getStats();
+            assertEquals(3, stats.segments(), "The store should not grow beyond its maximum size");
+            assertEquals(3, countSegmentFiles());
+            assertTrue(stats.evictions() > 0);
+            assertNull(store.get(CacheKey.of("en", "es", "text-0")), "The oldest entries should be evicted");
+            for (int i = 0; i < 300; i++) {
+                PersistentTranslationStore.StoredTranslation stored = store.get(CacheKey.of("en", "es", "text-" + i));
+                if (stored != null) {
+                    assertEquals(i + padding, stored.translation().getText());
+                    kept++;
+                }
+            }
+            assertEquals(stats.entries(), kept, "Every indexed entry should be readable");
+            assertNotNull(store.get(CacheKey.of("en", "es", "text-299")), "The newest entry should be kept");
+        }
+        try (PersistentTranslationStore store = new PersistentTranslationStore(directory, SEGMENT_BYTES, maxBytes)) {
+            assertEquals(kept, store.getStats().entries(), "Reopening should load exactly the kept entries");
+        }
+    }
+
+    /**
+     * Tests that a directory cannot be opened by a second store while the first one holds it.
+     */
+    @Test
+    void shouldRejectSecondOwnerOfDirectory() throws IOException {
+        PersistentTranslationStore owner = new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES);
+        try {
+            assertThrows(IOException.class, () -> new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES));
+        } finally {
+            owner.close();
+        }
+        new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES).close();
+    }
+
+    /**
+     * Tests that a cache backed by a store starts warm after a restart and promotes disk hits into memory.
+     */
+    @Test
+    void shouldWarmTranslationCacheFromStore() throws IOException {
+        CacheKey key = CacheKey.of("en", "es", "Hello");
+        try (TranslationCache cache = new TranslationCache(60_000, 60_000, 100, 1_000_000,
+                new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES))) {
+            cache.put(key, new Translation("Hola", "en"));
+        }
+
+        try (TranslationCache cache = new TranslationCache(60_000, 60_000, 100, 1_000_000,
+                new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES))) {
+            assertEquals(0, cache.size(), "Memory tier should start empty");
+            assertEquals("Hola", cache.get(key).getText(), "Disk tier should serve the restarted cache");
+            assertEquals(1, cache.size(), "Disk hit should be promoted into memory");
+            assertEquals(1, cache.getStoreStats().hits());
+        }
+    }
+
+    /**
+     * Tests that destroying a cache deletes the persistent files.
+     */
+    @Test
+    void shouldDeleteFilesOnDestroy() throws IOException {
+        TranslationCache cache = new TranslationCache(60_000, 60_000, 100, 1_000_000,
+                new PersistentTranslationStore(directory, SEGMENT_BYTES, MAX_BYTES));
+        cache.put(CacheKey.of("en", "es", "Hello"), new Translation("Hola", "en"));
+
+        cache.destroy();
+
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count(), "Destroy should delete every store file");
+        }
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).count();
+        }
+    }
+}
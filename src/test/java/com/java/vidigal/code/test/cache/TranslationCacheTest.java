@@ -0,0 +1,125 @@
+package com.java.vidigal.code.test.cache;
+
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.utilities.cache.CacheKey;
+import com.java.vidigal.code.utilities.cache.TranslationCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TranslationCache} class, verifying lookups, key normalization, TTL expiry,
+ * and least-recently-used eviction by entry count and by estimated size.
+ */
+class TranslationCacheTest {
+
+    private TranslationCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    /**
+     * Tests that a stored translation is returned for an equivalent key and that hits and misses are counted.
+     */
+    @Test
+    void shouldReturnCachedTranslationForNormalizedKey() {
+        cache = new TranslationCache(60_000, 60_000, 100, 1_000_000);
+        cache.put(CacheKey.of(null, "ES", "Hello"), new Translation("Hola", "en"));
+
+        Translation cached = cache.get(CacheKey.of("auto", "es", "Hello"));
+        assertNotNull(cached, "Null and 'auto' source should map to the same key");
+        assertEquals("Hola", cached.getText());
+        assertEquals("en", cached.getDetectedSourceLanguage());
+        assertNull(cache.get(CacheKey.of("en", "es", "Hello")), "Different source language should miss");
+
+        TranslationCache.CacheStats stats = cache.getStats();
+        assertEquals(1, stats.hits(), "One lookup should hit");
+        assertEquals(1, stats.misses(), "One lookup should miss");
+    }
+
+    /**
+     * Tests that entries are no longer returned once their TTL has elapsed and that the sweep removes them.
+     */
+    @Test
+    void shouldExpireEntriesAfterTtl() throws InterruptedException {
+        cache = new TranslationCache(50, 60_000, 100, 1_000_000);
+        cache.put(CacheKey.of("en", "es", "Hello"), new Translation("Hola", null));
+        cache.put(CacheKey.of("en", "es", "World"), new Translation("Mundo", null));
+
+        Thread.sleep(100);
+
+        assertNull(cache.get(CacheKey.of("en", "es", "Hello")), "Expired entry should not be returned");
+        assertEquals(1, cache.evictExpired(), "Sweep should remove the remaining expired entry");
+        assertEquals(0, cache.size(), "Cache should be empty after expiry");
+        assertEquals(2, cache.getStats().expirations(), "Both entries should be counted as expired");
+    }
+
+    /**
+     * Tests that entries never expire when the TTL is zero.
+     */
+    @Test
+    void shouldNotExpireEntriesWhenTtlIsZero() throws InterruptedException {
+        cache = new TranslationCache(0, 60_000, 100, 1_000_000);
+        cache.put(CacheKey.of("en", "es", "Hello"), new Translation("Hola", null));
+
+        Thread.sleep(20);
+
+        assertEquals(0, cache.evictExpired(), "Nothing should expire with TTL disabled");
+        assertNotNull(cache.get(CacheKey.of("en", "es", "Hello")));
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted when the entry limit is exceeded.
+     */
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        cache = new TranslationCache(60_000, 60_000, 2, 1_000_000);
+        CacheKey first = CacheKey.of("en", "es", "one");
+        CacheKey second = CacheKey.of("en", "es", "two");
+        CacheKey third = CacheKey.of("en", "es", "three");
+
+        cache.put(first, new Translation("uno", null));
+        cache.put(second, new Translation("dos", null));
+        cache.get(first);
+        cache.put(third, new Translation("tres", null));
+
+        assertNotNull(cache.get(first), "Recently accessed entry should be retained");
+        assertNull(cache.get(second), "Least recently used entry should be evicted");
+        assertNotNull(cache.get(third));
+        assertEquals(1, cache.getStats().evictions(), "One eviction should be recorded");
+    }
+
+    /**
+     * Tests that the byte budget is enforced and that entries larger than the budget are not stored.
+     */
+    @Test
+    void shouldRespectByteBudget() {
+        cache = new TranslationCache(60_000, 60_000, 1_000, 2_048);
+        String large = "x".repeat(2_000);
+        cache.put(CacheKey.of("en", "es", large), new Translation(large, null));
+        assertEquals(0, cache.size(), "Entry larger than the budget should not be cached");
+
+        for (int i = 0; i < 50; i++) {
+            cache.put(CacheKey.of("en", "es", "text-" + i), new Translation("texto-" + i, null));
+        }
+        TranslationCache.CacheStats stats = cache.getStats();
+        assertTrue(stats.bytes() <= 2_048, "Estimated size should stay within the budget");
+        assertTrue(stats.evictions() > 0, "Entries should have been evicted to respect the budget");
+        assertNotNull(cache.get(CacheKey.of("en", "es", "text-49")), "Most recent entry should be retained");
+    }
+
+    /**
+     * Tests that invalid bounds are rejected.
+     */
+    @Test
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new TranslationCache(-1, 1_000, 10, 1_024));
+        assertThrows(IllegalArgumentException.class, () -> new TranslationCache(0, 1_000, 0, 1_024));
+        assertThrows(IllegalArgumentException.class, () -> new TranslationCache(0, 1_000, 10, 0));
+    }
+}
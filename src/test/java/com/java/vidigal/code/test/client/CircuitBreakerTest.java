@@ -0,0 +1,235 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.CircuitBreaker;
+import com.java.vidigal.code.utilities.config.SlidingWindowType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CircuitBreaker} class, verifying the sliding-window failure and slow-call rates,
+ * bounded half-open probing, and consistent transitions under concurrency.
+ */
+class CircuitBreakerTest {
+
+    private static final Duration SLOW = Duration.ofMillis(100);
+
+    /**
+     * Tests that failures spread out over many successful calls age out of the window instead of accumulating.
+     */
+    @Test
+    void shouldNotOpenOnSpreadOutFailures() {
+        CircuitBreaker breaker = countBased(10, 5, 50, Duration.ofSeconds(30), 1);
+
+        for (int i = 0; i < 200; i++) {
+            if (i % 5 == 0) {
+                breaker.onError(0);
+            } else {
+                breaker.onSuccess(0);
+            }
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(10, breaker.getStats().calls());
+        assertEquals(2, breaker.getStats().failedCalls());
+    }
+
+    /**
+     * Tests that the breaker opens once the failure rate reaches the threshold, but not before the minimum
+     * number of calls.
+     */
+    @Test
+    void shouldOpenOnFailureRate() {
+        CircuitBreaker breaker = countBased(10, 4, 50, Duration.ofSeconds(30), 1);
+
+        breaker.onError(0);
+        breaker.onSuccess(0);
+        breaker.onSuccess(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "Three calls are below the minimum of four");
+
+        breaker.onSuccess(0);
+        breaker.onError(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "Two of five failed is below 50%");
+        breaker.onError(0);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getStats().notPermittedCalls());
+        assertEquals(1, breaker.getStats().openCount());
+    }
+
+    /**
+     * Tests that the breaker opens when too many calls are slow, even if none fails.
+     */
+    @Test
+    void shouldOpenOnSlowCallRate() {
+        CircuitBreaker breaker = new CircuitBreaker(SlidingWindowType.COUNT_BASED, 10, 4, 50, 50, SLOW, Duration.ofSeconds(30), 1);
+        long slow = SLOW.toNanos();
+
+        breaker.onSuccess(0);
+        breaker.onSuccess(slow);
+        breaker.onSuccess(0);
+        breaker.onSuccess(slow * 2);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    /**
+     * Tests that outcomes in a time-based window expire once they are older than the window.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldExpireOutcomesOfTimeBasedWindow() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(SlidingWindowType.TIME_BASED, 1, 3, 50, 100, SLOW, Duration.ofSeconds(30), 1);
+
+        breaker.onError(0);
+        breaker.onError(0);
+        assertTrue(breaker.getStats().calls() > 0);
+        Thread.sleep(1_100);
+
+        assertEquals(0, breaker.getStats().calls(), "The failures should have left the one-second window");
+        breaker.onError(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * Tests that only the configured number of probes are let through when half-open, and that successful
+     * probes close the breaker.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldCloseAfterSuccessfulProbes() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(2);
+        Thread.sleep(60);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission(), "Only two probes should be permitted");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(0);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(), "The breaker should wait for both probes");
+        breaker.onSuccess(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStats().calls(), "The breaker should close with a fresh window");
+    }
+
+    /**
+     * Tests that a failed probe opens the breaker again.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldReopenAfterFailedProbe() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(1);
+        Thread.sleep(60);
+
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onError(0);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getStats().openCount());
+    }
+
+    /**
+     * Tests that a released permission can be used by another probe.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldReturnReleasedProbePermission() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(1);
+        Thread.sleep(60);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.releasePermission();
+
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    /**
+     * Tests that the legacy constructor opens after the given number of consecutive failures.
+     */
+    @Test
+    void shouldKeepConsecutiveFailureBehaviourOfLegacyConstructor() {
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(30));
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertFalse(breaker.isOpen());
+
+        breaker.recordFailure();
+        assertTrue(breaker.isOpen());
+    }
+
+    /**
+     * Tests that concurrent failures open the breaker exactly once.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldOpenOnceUnderConcurrentFailures() throws InterruptedException {
+        CircuitBreaker breaker = countBased(50, 10, 50, Duration.ofSeconds(30), 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    breaker.onError(0);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getStats().openCount());
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        Duration open = Duration.ofSeconds(1);
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0, open));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(3, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(null, 10, 5, 50, 100, SLOW, open, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(SlidingWindowType.COUNT_BASED, 10, 0, 50, 100, SLOW, open, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(SlidingWindowType.COUNT_BASED, 10, 5, 0, 100, SLOW, open, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(SlidingWindowType.COUNT_BASED, 10, 5, 50, 101, SLOW, open, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(SlidingWindowType.COUNT_BASED, 10, 5, 50, 100, Duration.ZERO, open, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(SlidingWindowType.COUNT_BASED, 10, 5, 50, 100, SLOW, open, 0));
+    }
+
+    private static CircuitBreaker countBased(int windowSize, int minimumCalls, int failureRate, Duration openDuration, int halfOpenCalls) {
+        return new CircuitBreaker(SlidingWindowType.COUNT_BASED, windowSize, minimumCalls, failureRate, 100, SLOW, openDuration, halfOpenCalls);
+    }
+
+    private static CircuitBreaker openBreaker(int halfOpenCalls) {
+        CircuitBreaker breaker = countBased(4, 2, 50, Duration.ofMillis(50), halfOpenCalls);
+        breaker.onError(0);
+        breaker.onError(0);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,118 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.CircuitBreaker;
+import com.java.vidigal.code.client.EndpointRouter;
+import com.java.vidigal.code.utilities.config.EndpointSelection;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EndpointRouter} class, verifying load-aware endpoint selection, skipping of
+ * endpoints with an open circuit breaker, and failover of retries.
+ */
+class EndpointRouterTest {
+
+    private static final List<String> URLS = List.of("http://a/translate", "http://b/translate", "http://c/translate");
+
+    /**
+     * Tests that least-outstanding selection spreads requests evenly and prefers the least busy endpoint.
+     */
+    @Test
+    void shouldSelectLeastOutstandingEndpoint() {
+        EndpointRouter router = newRouter(EndpointSelection.LEAST_OUTSTANDING);
+
+        List<EndpointRouter.Endpoint> selected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            selected.add(router.select(null));
+        }
+        router.getEndpoints().forEach(endpoint -> assertEquals(2, endpoint.outstanding()));
+
+        EndpointRouter.Endpoint freed = selected.getFirst();
+        freed.complete();
+        assertSame(freed, router.select(null), "The endpoint with a free slot should be chosen");
+    }
+
+    /**
+     * Tests that power-of-two-choices selection keeps a slow endpoint from accumulating most of the requests.
+     */
+    @Test
+    void shouldAvoidBusyEndpointWithPowerOfTwoChoices() {
+        EndpointRouter router = newRouter(EndpointSelection.POWER_OF_TWO_CHOICES);
+        EndpointRouter.Endpoint slow = router.getEndpoints().getFirst();
+        for (int i = 0; i < 10; i++) {
+            EndpointRouter.Endpoint endpoint = router.select(null);
+            if (endpoint != slow) {
+                endpoint.complete();
+            }
+        }
+
+        assertTrue(slow.outstanding() <= 1, "A slow endpoint should get few requests, got " + slow.outstanding());
+    }
+
+    /**
+     * Tests that endpoints with an open circuit breaker are skipped, and that no endpoint is returned when all
+     * of them are open.
+     */
+    @Test
+    void shouldSkipEndpointsWithOpenCircuitBreaker() {
+        EndpointRouter router = newRouter(EndpointSelection.LEAST_OUTSTANDING);
+        EndpointRouter.Endpoint down = router.getEndpoints().get(1);
+        down.breaker().recordFailure();
+
+        for (int i = 0; i < 20; i++) {
+            EndpointRouter.Endpoint endpoint = router.select(null);
+            assertNotSame(down, endpoint);
+            endpoint.complete();
+        }
+        assertFalse(router.isOpen());
+
+        router.getEndpoints().forEach(endpoint -> endpoint.breaker().recordFailure());
+        assertTrue(router.isOpen());
+        assertNull(router.select(null));
+    }
+
+    /**
+     * Tests that a retry goes to another endpoint than the one that failed, and back to it only if no other
+     * endpoint is available.
+     */
+    @Test
+    void shouldFailOverRetryToAnotherEndpoint() {
+        EndpointRouter router = newRouter(EndpointSelection.LEAST_OUTSTANDING);
+        EndpointRouter.Route route = router.route();
+
+        EndpointRouter.Endpoint first = route.next();
+        first.complete();
+        route.failed(first);
+        EndpointRouter.Endpoint second = route.next();
+        second.complete();
+
+        assertNotSame(first, second);
+        assertEquals(1, router.getFailoverCount());
+
+        router.getEndpoints().stream().filter(endpoint -> endpoint != first).forEach(endpoint -> endpoint.breaker().recordFailure());
+        assertSame(first, route.next(), "The failed endpoint should be used when it is the only one left");
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new EndpointRouter(List.of(), EndpointSelection.LEAST_OUTSTANDING, EndpointRouterTest::breaker));
+        assertThrows(IllegalArgumentException.class, () -> new EndpointRouter(URLS, null, EndpointRouterTest::breaker));
+        assertThrows(IllegalArgumentException.class, () -> new EndpointRouter(List.of("not a uri"), EndpointSelection.LEAST_OUTSTANDING, EndpointRouterTest::breaker));
+    }
+
+    private static EndpointRouter newRouter(EndpointSelection selection) {
+        return new EndpointRouter(URLS, selection, EndpointRouterTest::breaker);
+    }
+
+    private static CircuitBreaker breaker() {
+        return new CircuitBreaker(1, Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,511 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.CircuitBreaker;
+import com.java.vidigal.code.client.LibreTranslateClientImpl;
+import com.java.vidigal.code.exception.DeadlineExceededException;
+import com.java.vidigal.code.exception.LibreTranslateApiException;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.ExponentialBackoffStrategy;
+import com.java.vidigal.code.utilities.config.FullJitterBackoffStrategy;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import com.java.vidigal.code.utilities.ratelimit.InMemoryTokenStore;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the non-blocking asynchronous pipeline of {@link LibreTranslateClientImpl}: retries scheduled on
+ * timers, rate-limit waits without parked threads, and failure propagation.
+ */
+class LibreTranslateClientAsyncTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslateClientImpl client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        server.close();
+    }
+
+    /**
+     * Tests that retryable failures are retried after the backoff and the request eventually succeeds.
+     */
+    @Test
+    void shouldRetryRetryableStatusAsynchronously() throws Exception {
+        client = newClient(true, 100);
+        server.enqueueStatus(503);
+        server.enqueueStatus(429);
+
+        TranslationResponse response = client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")).get();
+
+        assertEquals("es:Hello", response.getTranslations().getFirst().getText());
+        assertEquals(3, server.requestCount());
+    }
+
+    /**
+     * Tests that non-retryable statuses fail immediately with the API error as cause.
+     */
+    @Test
+    void shouldFailFastOnNonRetryableStatus() throws Exception {
+        client = newClient(true, 100);
+        server.enqueueStatus(400);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")).get());
+
+        assertInstanceOf(LibreTranslateException.class, exception.getCause());
+        LibreTranslateApiException apiException = assertInstanceOf(LibreTranslateApiException.class, exception.getCause().getCause());
+        assertEquals(400, apiException.getStatusCode());
+        assertEquals(1, server.requestCount());
+    }
+
+    /**
+     * Tests that requests beyond the rate limit wait for permits and then all complete.
+     */
+    @Test
+    void shouldWaitForPermitsWithoutFailing() throws Exception {
+        client = newClient(false, 5);
+        List<CompletableFuture<TranslationResponse>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < 8; i++) {
+            futures.add(client.translateAsync(new TranslationRequest(List.of("text-" + i), "es", "en")));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals("es:text-" + i, futures.get(i).get().getTranslations().getFirst().getText());
+        }
+        assertTrue(System.nanoTime() - start >= 400_000_000L, "Requests beyond the burst should wait for refills");
+        assertEquals(8, server.requestCount());
+    }
+
+    /**
+     * Tests that in character mode requests are charged by their text length.
+     */
+    @Test
+    void shouldChargeByCharactersInCharacterMode() throws Exception {
+        server = StubLibreTranslateServer.start();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .rateLimitMode(RateLimitMode.CHARACTERS)
+                .rateLimitUnitsPerSecond(100)
+                .build());
+
+        long start = System.nanoTime();
+        client.translateAsync(new TranslationRequest(List.of("x".repeat(60)), "es", "en")).get();
+        client.translateAsync(new TranslationRequest(List.of("y".repeat(60)), "es", "en")).get();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis >= 150, "The second 60-character request should wait for 20 characters of quota, took " + elapsedMillis);
+        assertEquals(2, server.requestCount());
+    }
+
+    /**
+     * Tests that with adaptive rate limiting a 429 with Retry-After pauses the client and lowers its rate.
+     */
+    @Test
+    void shouldHonourRetryAfterWithAdaptiveRateLimit() throws Exception {
+        server = StubLibreTranslateServer.start();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(true)
+                .retryStrategy(new ExponentialBackoffStrategy(10, 2.0, 100))
+                .enableAdaptiveRateLimit(true)
+                .build());
+        server.enqueueStatus(429, Map.of("Retry-After", "1"));
+
+        long start = System.nanoTime();
+        TranslationResponse response = client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")).get();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("es:Hello", response.getTranslations().getFirst().getText());
+        assertTrue(elapsedMillis >= 900, "The retry should wait for the Retry-After pause, took " + elapsedMillis);
+        assertEquals(1, client.getAdaptiveRateStats().decreases());
+        assertTrue(client.getAdaptiveRateStats().currentRate() < client.getAdaptiveRateStats().maxRate());
+    }
+
+    /**
+     * Tests that a retry waits exactly for the pause requested by {@code Retry-After} or by an exhausted rate
+     * limit, rather than for the much longer backoff of the retry strategy.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    void shouldRetryAfterPauseRequestedByServer() throws Exception {
+        server = StubLibreTranslateServer.start();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(true)
+                .retryStrategy(new ExponentialBackoffStrategy(5_000, 2.0, 10_000))
+                .build());
+        server.enqueueStatus(503, Map.of("Retry-After", "1"));
+        server.enqueueStatus(429, Map.of("RateLimit-Remaining", "0", "RateLimit-Reset", "1"));
+
+        long start = System.nanoTime();
+        TranslationResponse response = client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")).get();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("es:Hello", response.getTranslations().getFirst().getText());
+        assertEquals(3, server.requestCount());
+        assertTrue(elapsedMillis >= 1_800, "Both retries should wait for the requested pause, took " + elapsedMillis);
+        assertTrue(elapsedMillis < 4_500, "The retries should not wait for the strategy's backoff, took " + elapsedMillis);
+    }
+
+    /**
+     * Tests that a request is not retried when the server asks for a longer pause than the client waits for,
+     * and that the pause and the response headers are available from the exception.
+     */
+    @Test
+    void shouldNotRetryWhenServerRequestsLongerPause() throws Exception {
+        server = StubLibreTranslateServer.start();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(true)
+                .retryStrategy(new ExponentialBackoffStrategy(10, 2.0, 100))
+                .maxRetryAfterMillis(1_000)
+                .build());
+        server.enqueueStatus(429, Map.of("Retry-After", "120", "X-RateLimit-Limit", "10"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")).get());
+
+        LibreTranslateApiException apiException = assertInstanceOf(LibreTranslateApiException.class, exception.getCause().getCause());
+        assertEquals(429, apiException.getStatusCode());
+        assertEquals(120_000, apiException.getRetryAfterMillis());
+        assertEquals("10", apiException.getHeader("x-ratelimit-limit").orElse(null));
+        assertEquals(1, server.requestCount());
+    }
+
+    /**
+     * Tests that no more requests than the concurrency limit are in flight, and that the rest wait in the
+     * queue and complete.
+     */
+    @Test
+    void shouldBoundRequestsInFlight() throws Exception {
+        server = StubLibreTranslateServer.start();
+        server.setDelayMillis(50);
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .maxRequestsPerSecond(100)
+                .maxConcurrentRequests(2)
+                .build());
+
+        List<CompletableFuture<TranslationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(client.translateAsync(new TranslationRequest(List.of("text-" + i), "es", "en")));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+        assertEquals(8, server.requestCount());
+        assertTrue(server.peakActiveRequests() <= 2, "At most two requests in flight, saw " + server.peakActiveRequests());
+        assertTrue(client.getConcurrencyStats().peakQueued() > 0);
+        assertEquals(0, client.getConcurrencyStats().inFlight());
+    }
+
+    /**
+     * Tests that without a wait queue requests beyond the concurrency limit fail fast, for both the
+     * synchronous and the asynchronous API.
+     */
+    @Test
+    void shouldFailFastBeyondConcurrencyLimit() throws Exception {
+        server = StubLibreTranslateServer.start();
+        server.setDelayMillis(300);
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .maxRequestsPerSecond(100)
+                .maxConcurrentRequests(1)
+                .maxQueuedRequests(0)
+                .build());
+
+        CompletableFuture<TranslationResponse> first = client.translateAsync(new TranslationRequest(List.of("first"), "es", "en"));
+        while (client.getConcurrencyStats().inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("second"), "es", "en")).get());
+        LibreTranslateException sync = assertThrows(LibreTranslateException.class,
+                () -> client.translate(new TranslationRequest(List.of("third"), "es", "en")));
+
+        assertEquals("Too many concurrent requests", async.getCause().getMessage());
+        assertEquals("Too many concurrent requests", sync.getMessage());
+        assertEquals("es:first", first.get().getTranslations().getFirst().getText());
+        assertEquals(1, server.requestCount());
+        assertEquals(2, client.getConcurrencyStats().rejectedCount());
+    }
+
+    /**
+     * Tests that two clients sharing a token store enforce the configured rate between them.
+     */
+    @Test
+    void shouldShareRateLimitBetweenClientsWithTokenStore() throws Exception {
+        server = StubLibreTranslateServer.start();
+        InMemoryTokenStore store = new InMemoryTokenStore();
+        LibreTranslateConfig config = LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .maxRequestsPerSecond(5)
+                .tokenStore(store)
+                .build();
+        client = new LibreTranslateClientImpl(config);
+        try (LibreTranslateClientImpl other = new LibreTranslateClientImpl(config)) {
+            List<CompletableFuture<TranslationResponse>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < 8; i++) {
+                LibreTranslateClientImpl target = i % 2 == 0 ? client : other;
+                futures.add(target.translateAsync(new TranslationRequest(List.of("text-" + i), "es", "en")));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsedMillis >= 500, "Eight requests at a shared 5 per second should take ~600ms, took " + elapsedMillis);
+            assertEquals(8, server.requestCount());
+        }
+    }
+
+    /**
+     * Tests that server errors open the circuit breaker and further requests are rejected without reaching
+     * the server, while client errors do not count as failures.
+     */
+    @Test
+    void shouldOpenCircuitBreakerOnServerErrors() throws Exception {
+        server = StubLibreTranslateServer.start();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .circuitBreakerWindowSize(4)
+                .circuitBreakerMinimumCalls(3)
+                .circuitBreakerFailureRateThreshold(50)
+                .build());
+        server.enqueueStatus(400);
+        server.enqueueStatus(500);
+        server.enqueueStatus(502);
+        for (int i = 0; i < 3; i++) {
+            TranslationRequest request = new TranslationRequest(List.of("text-" + i), "es", "en");
+            assertThrows(ExecutionException.class, () -> client.translateAsync(request).get());
+        }
+
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")).get());
+
+        assertInstanceOf(LibreTranslateException.class, rejected.getCause());
+        assertEquals(3, server.requestCount(), "The open breaker should keep the request from the server");
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreakerStats().state());
+        assertEquals(1, client.getCircuitBreakerStats().openCount());
+    }
+
+    /**
+     * Tests that requests fail over from a failing endpoint to a healthy one, and that the failing endpoint is
+     * no longer used once its circuit breaker has opened.
+     */
+    @Test
+    void shouldFailOverToHealthyEndpoint() throws Exception {
+        server = StubLibreTranslateServer.start();
+        try (StubLibreTranslateServer failing = StubLibreTranslateServer.start()) {
+            for (int i = 0; i < 20; i++) {
+                failing.enqueueStatus(500);
+            }
+            client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                    .apiUrls(List.of(failing.url(), server.url()))
+                    .apiKey("test-api-key")
+                    .enableRetry(true)
+                    .maxRetries(1)
+                    .retryStrategy(new ExponentialBackoffStrategy(10, 2.0, 100))
+                    .maxRequestsPerSecond(100)
+                    .circuitBreakerWindowSize(4)
+                    .circuitBreakerMinimumCalls(2)
+                    .build());
+
+            for (int i = 0; i < 40; i++) {
+                TranslationResponse response = client.translateAsync(new TranslationRequest(List.of("text-" + i), "es", "en")).get();
+                assertEquals("es:text-" + i, response.getTranslations().getFirst().getText());
+            }
+
+            assertEquals(2, failing.requestCount(), "The failing endpoint should be skipped once its breaker opens");
+            assertEquals(40, server.requestCount());
+            assertEquals(CircuitBreaker.State.OPEN, client.getEndpointStats().getFirst().circuitBreaker().state());
+            assertEquals(2, client.getFailoverCount());
+        }
+    }
+
+    /**
+     * Tests that a request stuck on a slow endpoint is hedged to another endpoint, whose response is used.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    void shouldHedgeSlowRequestToAnotherEndpoint() throws Exception {
+        server = StubLibreTranslateServer.start();
+        try (StubLibreTranslateServer slow = StubLibreTranslateServer.start()) {
+            client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                    .apiUrls(List.of(slow.url(), server.url()))
+                    .apiKey("test-api-key")
+                    .maxRequestsPerSecond(100)
+                    .enableHedging(true)
+                    .build());
+            for (int i = 0; i < 30; i++) {
+                client.translateAsync(new TranslationRequest(List.of("warm-" + i), "es", "en")).get();
+            }
+            assertTrue(client.getHedgeStats().delayMillis() >= 0, "The hedge delay should be known after warm-up");
+
+            slow.setDelayMillis(2_000);
+            for (int i = 0; i < 8; i++) {
+                long start = System.nanoTime();
+                TranslationResponse response = client.translateAsync(new TranslationRequest(List.of("text-" + i), "es", "en")).get();
+                assertEquals("es:text-" + i, response.getTranslations().getFirst().getText());
+                assertTrue(System.nanoTime() - start < 1_000_000_000L, "The hedge should answer before the slow endpoint");
+            }
+
+            assertTrue(client.getHedgeStats().hedgesWon() >= 1);
+        }
+    }
+
+    /**
+     * Tests that retries stop once the retry budget is spent, so that a failing server is not hit by every
+     * request several times.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    void shouldStopRetryingWhenRetryBudgetIsExhausted() throws Exception {
+        server = StubLibreTranslateServer.start();
+        for (int i = 0; i < 40; i++) {
+            server.enqueueStatus(500);
+        }
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(true)
+                .maxRetries(3)
+                .retryStrategy(new FullJitterBackoffStrategy(1, 2.0, 5))
+                .maxRequestsPerSecond(100)
+                .circuitBreakerWindowSize(50)
+                .circuitBreakerMinimumCalls(50)
+                .build());
+
+        for (int i = 0; i < 8; i++) {
+            TranslationRequest request = new TranslationRequest(List.of("text-" + i), "es", "en");
+            assertThrows(ExecutionException.class, () -> client.translateAsync(request).get());
+        }
+
+        assertEquals(18, server.requestCount(), "Eight requests should only be retried ten times in total");
+        assertEquals(10, client.getRetryBudgetStats().acquired());
+        assertTrue(client.getRetryBudgetStats().denied() >= 4);
+    }
+
+    /**
+     * Tests that a call with a timeout fails with a {@link DeadlineExceededException} once its time is up,
+     * although the socket timeout is much longer, on both the asynchronous and the synchronous path.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    void shouldFailWhenDeadlinePassesWhileWaitingForResponse() throws Exception {
+        client = newClient(true, 100);
+        server.setDelayMillis(3000);
+
+        long start = System.nanoTime();
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en"), Duration.ofMillis(300)).get());
+        assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+        assertThrows(DeadlineExceededException.class,
+                () -> client.translate(new TranslationRequest(List.of("World"), "es", "en"), Duration.ofMillis(300)));
+
+        assertTrue(System.nanoTime() - start < 2_000_000_000L, "Both calls should fail at their deadline");
+        assertEquals(2, server.requestCount(), "A timeout cut short by the deadline should not be retried");
+    }
+
+    /**
+     * Tests that a retry whose backoff does not fit in the time left is not started, so that the call fails at
+     * once instead of sleeping into its deadline.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    void shouldNotStartRetryThatCannotCompleteBeforeDeadline() throws Exception {
+        server = StubLibreTranslateServer.start();
+        server.enqueueStatus(503);
+        server.enqueueStatus(503);
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(true)
+                .maxRetries(3)
+                .retryStrategy(new ExponentialBackoffStrategy(5000, 2.0, 10_000))
+                .maxRequestsPerSecond(100)
+                .build());
+
+        long start = System.nanoTime();
+        DeadlineExceededException syncException = assertThrows(DeadlineExceededException.class,
+                () -> client.translate(new TranslationRequest(List.of("Hello"), "es", "en"), Duration.ofSeconds(2)));
+        ExecutionException asyncException = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("World"), "es", "en"), Duration.ofSeconds(2)).get());
+
+        assertTrue(System.nanoTime() - start < 1_500_000_000L, "Calls should fail without waiting for the backoff");
+        assertInstanceOf(LibreTranslateApiException.class, syncException.getCause(), "The last error should be the cause");
+        assertInstanceOf(DeadlineExceededException.class, asyncException.getCause());
+        assertEquals(2, server.requestCount());
+    }
+
+    /**
+     * Tests that a call waiting for rate limiter permits stops waiting at its deadline, without sending the
+     * request, while a call without a timeout keeps waiting.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    void shouldStopWaitingForPermitsAtDeadline() throws Exception {
+        client = newClient(false, 1);
+        client.translate(new TranslationRequest(List.of("first"), "es", "en"));
+
+        long start = System.nanoTime();
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> client.translateAsync(new TranslationRequest(List.of("second"), "es", "en"), Duration.ofMillis(200)).get());
+        assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+        assertThrows(DeadlineExceededException.class,
+                () -> client.translate(new TranslationRequest(List.of("third"), "es", "en"), Duration.ofMillis(200)));
+        assertTrue(System.nanoTime() - start < 800_000_000L, "Both calls should stop waiting at their deadline");
+        assertEquals(1, server.requestCount());
+
+        assertEquals("es:fourth", client.translate(new TranslationRequest(List.of("fourth"), "es", "en"))
+                .getTranslations().getFirst().getText(), "Abandoned waits should not hold on to permits");
+        assertThrows(IllegalArgumentException.class,
+                () -> client.translate(new TranslationRequest(List.of("fifth"), "es", "en"), Duration.ZERO));
+    }
+
+    private LibreTranslateClientImpl newClient(boolean retry, int maxRequestsPerSecond) throws Exception {
+        server = StubLibreTranslateServer.start();
+        return new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(retry)
+                .maxRetries(3)
+                .retryStrategy(new ExponentialBackoffStrategy(10, 2.0, 100))
+                .maxRequestsPerSecond(maxRequestsPerSecond)
+                .build());
+    }
+}
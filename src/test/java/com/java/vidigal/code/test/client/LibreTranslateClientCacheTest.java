@@ -0,0 +1,87 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.LibreTranslateClientImpl;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory translation cache of {@link LibreTranslateClientImpl}, run against a
+ * {@link StubLibreTranslateServer}.
+ */
+class LibreTranslateClientCacheTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslateClientImpl client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubLibreTranslateServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        server.close();
+    }
+
+    @Test
+    void shouldServeRepeatedTranslationFromCache() throws Exception {
+        client = new LibreTranslateClientImpl(config(true));
+        TranslationRequest request = new TranslationRequest(List.of("Hello"), "es", "en");
+
+        TranslationResponse first = client.translate(request);
+        TranslationResponse second = client.translate(new TranslationRequest(List.of("Hello"), "ES", "EN"));
+
+        assertEquals("es:Hello", first.getTranslations().getFirst().getText());
+        assertEquals("es:Hello", second.getTranslations().getFirst().getText());
+        assertEquals("en", second.getTranslations().getFirst().getDetectedSourceLanguage(),
+                "Detected language should be cached with the translation");
+        assertEquals(1, server.requestCount(), "Second call should be served from cache");
+        assertEquals(1, client.getCacheStats().hits(), "Cache should record one hit");
+    }
+
+    @Test
+    void shouldServeAsyncTranslationFromCache() throws Exception {
+        client = new LibreTranslateClientImpl(config(true));
+        TranslationRequest request = new TranslationRequest(List.of("Hello", "World"), "es", null);
+
+        client.translateAsync(request).get();
+        TranslationResponse cached = client.translateAsync(request).get();
+
+        assertEquals(List.of("es:Hello", "es:World"),
+                cached.getTranslations().stream().map(t -> t.getText()).toList());
+        assertEquals(1, server.requestCount(), "Second async call should be served from cache");
+    }
+
+    @Test
+    void shouldCallApiEveryTimeWhenCacheDisabled() throws Exception {
+        client = new LibreTranslateClientImpl(config(false));
+        TranslationRequest request = new TranslationRequest(List.of("Hello"), "es", "en");
+
+        client.translate(request);
+        client.translate(request);
+
+        assertEquals(2, server.requestCount(), "Every call should reach the API with caching disabled");
+        assertNull(client.getCacheStats(), "No cache statistics should be available when disabled");
+    }
+
+    private LibreTranslateConfig config(boolean cacheEnabled) {
+        return LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .enableCache(cacheEnabled)
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.LibreTranslateClientImpl;
+import com.java.vidigal.code.exception.DeadlineExceededException;
+import com.java.vidigal.code.exception.LibreTranslateException;
+import com.java.vidigal.code.request.RequestPriority;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import com.java.vidigal.code.test.support.StubLibreTranslateServer;
+import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitPartitioning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for single-flight coalescing in {@link LibreTranslateClientImpl}: concurrent identical requests
+ * share one HTTP call, run against a {@link StubLibreTranslateServer} that delays its responses.
+ */
+class LibreTranslateClientCoalescingTest {
+
+    private StubLibreTranslateServer server;
+    private LibreTranslateClientImpl client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = StubLibreTranslateServer.start();
+        server.setDelayMillis(300);
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    /**
+     * Tests that concurrent identical async requests are served by a single HTTP call.
+     */
+    @Test
+    void shouldCoalesceIdenticalAsyncRequests() throws Exception {
+        List<CompletableFuture<TranslationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")));
+        }
+
+        for (CompletableFuture<TranslationResponse> future : futures) {
+            assertEquals("es:Hello", future.get().getTranslations().getFirst().getText());
+        }
+        assertEquals(1, server.requestCount(), "Identical in-flight requests should share one call");
+        assertEquals(49, client.getCoalescedCount());
+    }
+
+    /**
+     * Tests that concurrent identical blocking requests wait for the leader instead of sending their own call.
+     */
+    @Test
+    void shouldCoalesceIdenticalSyncRequests() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TranslationResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return client.translate(new TranslationRequest(List.of("Hello"), "ES", "EN"));
+                }));
+            }
+            start.countDown();
+            for (Future<TranslationResponse> result : results) {
+                assertEquals("es:Hello", result.get().getTranslations().getFirst().getText());
+            }
+        }
+        assertEquals(1, server.requestCount(), "Identical in-flight requests should share one call");
+        assertEquals(19, client.getCoalescedCount());
+    }
+
+    /**
+     * Tests that a failure of the shared call is delivered to every coalesced caller.
+     */
+    @Test
+    void shouldShareFailureWithCoalescedRequests() {
+        server.enqueueStatus(500);
+        List<CompletableFuture<TranslationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en")));
+        }
+
+        for (CompletableFuture<TranslationResponse> future : futures) {
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(LibreTranslateException.class, exception.getCause());
+        }
+        assertEquals(1, server.requestCount());
+    }
+
+    /**
+     * Tests that identical requests made with a timeout share one call like requests without one.
+     */
+    @Test
+    void shouldCoalesceRequestsWithDeadline() throws Exception {
+        List<CompletableFuture<TranslationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en"), Duration.ofSeconds(5)));
+        }
+        TranslationResponse blocking = client.translate(new TranslationRequest(List.of("Hello"), "es", "en"), Duration.ofSeconds(5));
+
+        for (CompletableFuture<TranslationResponse> future : futures) {
+            assertEquals("es:Hello", future.get().getTranslations().getFirst().getText());
+        }
+        assertEquals("es:Hello", blocking.getTranslations().getFirst().getText());
+        assertEquals(1, server.requestCount(), "Requests with a deadline should share one call");
+        assertEquals(10, client.getCoalescedCount());
+    }
+
+    /**
+     * Tests that a leader running out of time does not fail the callers that joined it: they send the request
+     * again and get the translation.
+     */
+    @Test
+    void shouldNotFailJoinedCallersWithLeaderDeadline() throws Exception {
+        server.setDelayMillis(500);
+        CompletableFuture<TranslationResponse> leader =
+                client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en"), Duration.ofMillis(200));
+        CompletableFuture<TranslationResponse> joined = client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en"));
+        CompletableFuture<TranslationResponse> joinedWithDeadline =
+                client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en"), Duration.ofSeconds(5));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, leader::get);
+        assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+        assertEquals("es:Hello", joined.get().getTranslations().getFirst().getText());
+        assertEquals("es:Hello", joinedWithDeadline.get().getTranslations().getFirst().getText());
+        assertEquals(2, server.requestCount(), "The joined callers should share the second call");
+    }
+
+    /**
+     * Tests that requests differing in language pair or text are not coalesced.
+     */
+    @Test
+    void shouldNotCoalesceDifferentRequests() throws Exception {
+        CompletableFuture<TranslationResponse> spanish = client.translateAsync(new TranslationRequest(List.of("Hello"), "es", "en"));
+        CompletableFuture<TranslationResponse> french = client.translateAsync(new TranslationRequest(List.of("Hello"), "fr", "en"));
+        CompletableFuture<TranslationResponse> other = client.translateAsync(new TranslationRequest(List.of("Bye"), "es", "en"));
+
+        CompletableFuture.allOf(spanish, french, other).get();
+        assertEquals("fr:Hello", french.get().getTranslations().getFirst().getText());
+        assertEquals(3, server.requestCount());
+        assertEquals(0, client.getCoalescedCount());
+    }
+
+    /**
+     * Tests that identical requests of different priorities, or of different tenants when the rate limit is
+     * partitioned by tenant, are not coalesced.
+     */
+    @Test
+    void shouldNotCoalesceAcrossPrioritiesOrTenants() throws Exception {
+        client.close();
+        client = new LibreTranslateClientImpl(LibreTranslateConfig.builder()
+                .apiUrl(server.url())
+                .apiKey("test-api-key")
+                .enableRetry(false)
+                .rateLimitPartitioning(RateLimitPartitioning.TENANT)
+                .build());
+
+        CompletableFuture<TranslationResponse> high = client.translateAsync(
+                new TranslationRequest(List.of("Hello"), "es", "en", "acme", RequestPriority.HIGH));
+        CompletableFuture<TranslationResponse> low = client.translateAsync(
+                new TranslationRequest(List.of("Hello"), "es", "en", "acme", RequestPriority.LOW));
+        CompletableFuture<TranslationResponse> otherTenant = client.translateAsync(
+                new TranslationRequest(List.of("Hello"), "es", "en", "globex", RequestPriority.HIGH));
+        CompletableFuture<TranslationResponse> sameLane = client.translateAsync(
+                new TranslationRequest(List.of("Hello"), "es", "en", "acme", RequestPriority.HIGH));
+
+        CompletableFuture.allOf(high, low, otherTenant, sameLane).get();
+        assertEquals("es:Hello", low.get().getTranslations().getFirst().getText());
+        assertEquals(3, server.requestCount(), "Each priority and tenant should send its own call");
+        assertEquals(1, client.getCoalescedCount(), "Only the request in the same lane should be coalesced");
+    }
+}
@@ -0,0 +1,157 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.RequestHedger;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RequestHedger} class, verifying the learned hedge delay, first-success-wins
+ * semantics with cancellation of the loser, failure handling, and the hedge budget.
+ */
+class RequestHedgerTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    /**
+     * Tests that no call is hedged until enough latencies are known, and that the delay follows the percentile.
+     */
+    @Test
+    void shouldLearnHedgeDelayFromRecentLatencies() {
+        RequestHedger hedger = new RequestHedger(90, 5);
+        for (int i = 1; i < RequestHedger.MIN_SAMPLES; i++) {
+            hedger.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertEquals(-1, hedger.getHedgeDelayNanos());
+
+        AtomicInteger hedges = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        assertSame(pending, hedger.execute(() -> pending, () -> {
+            hedges.incrementAndGet();
+            return CompletableFuture.completedFuture("hedge");
+        }, DIRECT), "A call should not be hedged before the delay is known");
+
+        hedger.recordLatency(TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(18), hedger.getHedgeDelayNanos());
+        assertEquals(0, hedges.get());
+    }
+
+    /**
+     * Tests that a hedge answering first completes the call and cancels the original.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldTakeFirstSuccessAndCancelLoser() throws Exception {
+        RequestHedger hedger = warmHedger(1);
+        CompletableFuture<String> slow = new CompletableFuture<>();
+
+        CompletableFuture<String> result = hedger.execute(() -> slow, () -> CompletableFuture.completedFuture("hedge"), DIRECT);
+
+        assertEquals("hedge", result.get(1, TimeUnit.SECONDS));
+        assertTrue(slow.isCancelled(), "The slower call should be cancelled");
+        RequestHedger.HedgeStats stats = hedger.getStats();
+        assertEquals(1, stats.hedgesSent());
+        assertEquals(1, stats.hedgesWon());
+    }
+
+    /**
+     * Tests that a call completing before the hedge delay is never hedged.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldNotHedgeFastCall() throws Exception {
+        RequestHedger hedger = warmHedger(200);
+        CompletableFuture<String> call = new CompletableFuture<>();
+        AtomicInteger hedges = new AtomicInteger();
+
+        CompletableFuture<String> result = hedger.execute(() -> call, () -> {
+            hedges.incrementAndGet();
+            return new CompletableFuture<>();
+        }, DIRECT);
+        call.complete("primary");
+
+        assertEquals("primary", result.get(1, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        assertEquals(0, hedges.get());
+    }
+
+    /**
+     * Tests that a failure waits for the other call, and that the error of the original call is reported when
+     * both fail.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldFailOnlyWhenBothCallsFail() throws Exception {
+        RequestHedger hedger = warmHedger(1);
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        CompletableFuture<String> hedge = new CompletableFuture<>();
+        CompletableFuture<String> result = hedger.execute(() -> primary, () -> hedge, DIRECT);
+        awaitHedges(hedger, 1);
+
+        primary.completeExceptionally(new IOException("primary"));
+        assertFalse(result.isDone(), "The hedge may still succeed");
+        hedge.completeExceptionally(new IOException("hedge"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertEquals("primary", exception.getCause().getMessage());
+    }
+
+    /**
+     * Tests that the budget stops hedging once it is used up.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldStopHedgingWhenBudgetIsExhausted() throws Exception {
+        RequestHedger hedger = warmHedger(1);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            results.add(hedger.execute(CompletableFuture::new, () -> CompletableFuture.completedFuture("hedge"), DIRECT));
+        }
+        awaitHedges(hedger, 10);
+        Thread.sleep(50);
+
+        RequestHedger.HedgeStats stats = hedger.getStats();
+        assertEquals(10, stats.hedgesSent(), "Fifteen calls should not earn more than the initial ten tokens");
+        assertEquals(5, stats.budgetDenied());
+        assertEquals(10, results.stream().filter(CompletableFuture::isDone).count());
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedger(49, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedger(100, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedger(95, 0));
+    }
+
+    private static RequestHedger warmHedger(long latencyMillis) {
+        RequestHedger hedger = new RequestHedger(95, 5);
+        for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+            hedger.recordLatency(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+        return hedger;
+    }
+
+    private static void awaitHedges(RequestHedger hedger, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (hedger.getStats().hedgesSent() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, hedger.getStats().hedgesSent());
+    }
+}
@@ -0,0 +1,52 @@
+package com.java.vidigal.code.test.client;
+
+import com.java.vidigal.code.client.TrafficBudget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TrafficBudget} class, verifying that extra requests are limited to the configured
+ * share of the regular traffic.
+ */
+class TrafficBudgetTest {
+
+    /**
+     * Tests that the initial balance allows a burst, after which extra requests are earned by regular ones.
+     */
+    @Test
+    void shouldLimitExtraRequestsToShareOfTraffic() {
+        TrafficBudget budget = new TrafficBudget(10, 2);
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire(), "The burst should be limited to the maximum balance");
+
+        for (int i = 0; i < 9; i++) {
+            budget.onRequest();
+        }
+        assertFalse(budget.tryAcquire(), "Nine requests should earn only 0.9 tokens");
+        budget.onRequest();
+        assertTrue(budget.tryAcquire());
+
+        TrafficBudget.BudgetStats stats = budget.getStats();
+        assertEquals(3, stats.acquired());
+        assertEquals(2, stats.denied());
+    }
+
+    /**
+     * Tests that the balance never exceeds its maximum, however much regular traffic there is.
+     */
+    @Test
+    void shouldCapBalance() {
+        TrafficBudget budget = new TrafficBudget(50, 1);
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+
+        assertEquals(1.0, budget.getStats().tokens());
+        assertThrows(IllegalArgumentException.class, () -> new TrafficBudget(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TrafficBudget(101, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TrafficBudget(10, 0));
+    }
+}
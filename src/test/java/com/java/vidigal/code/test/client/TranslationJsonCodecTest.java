@@ -0,0 +1,114 @@
+package com.java.vidigal.code.test.client;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.java.vidigal.code.client.TranslationJsonCodec;
+import com.java.vidigal.code.request.Translation;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.request.TranslationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TranslationJsonCodec}, verifying request serialization and parsing of the response
+ * shapes returned by LibreTranslate.
+ */
+class TranslationJsonCodecTest {
+
+    private final TranslationJsonCodec codec = new TranslationJsonCodec();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Tests that requests are written with lowercased languages and escaped segments, and that pooled buffers
+     * do not leak content between requests.
+     */
+    @Test
+    void shouldWriteRequestBody() throws Exception {
+        JsonNode first = mapper.readTree(codec.writeRequest(
+                new TranslationRequest(List.of("Hello \"world\"", "ünïcødé\n"), "ES", null)));
+        JsonNode second = mapper.readTree(codec.writeRequest(new TranslationRequest(List.of("Hi"), "fr", "EN")));
+
+        assertEquals(List.of("Hello \"world\"", "ünïcødé\n"), mapper.convertValue(first.get("q"), List.class));
+        assertEquals("auto", first.get("source").asText());
+        assertEquals("es", first.get("target").asText());
+        assertEquals("text", first.get("format").asText());
+        assertEquals(1, second.get("q").size());
+        assertEquals("en", second.get("source").asText());
+    }
+
+    /**
+     * Tests parsing of batch responses with one detected language per segment, in any field order.
+     */
+    @Test
+    void shouldReadArrayResponse() throws Exception {
+        String json = """
+                {"detectedLanguage":[{"confidence":90,"language":"en"},{"confidence":80,"language":"de"}],
+                 "alternatives":[["x"]],"translatedText":["uno","dos"]}""";
+
+        List<Translation> translations = read(json).getTranslations();
+
+        assertEquals(2, translations.size());
+        assertEquals("uno", translations.get(0).getText());
+        assertEquals("en", translations.get(0).getDetectedSourceLanguage());
+        assertEquals("dos", translations.get(1).getText());
+        assertEquals("de", translations.get(1).getDetectedSourceLanguage());
+    }
+
+    /**
+     * Tests parsing of single-text responses and the string form of the detected language.
+     */
+    @Test
+    void shouldReadSingleValueResponse() throws Exception {
+        Translation object = read("{\"translatedText\":\"hola\",\"detectedLanguage\":{\"language\":\"en\"}}")
+                .getTranslations().getFirst();
+        Translation string = read("{\"translatedText\":\"hola\",\"detectedLanguage\":\"pt\"}").getTranslations().getFirst();
+        Translation none = read("{\"translatedText\":\"hola\"}").getTranslations().getFirst();
+
+        assertEquals("hola", object.getText());
+        assertEquals("en", object.getDetectedSourceLanguage());
+        assertEquals("pt", string.getDetectedSourceLanguage());
+        assertNull(none.getDetectedSourceLanguage());
+    }
+
+    /**
+     * Tests that a single detected language applies to every segment and that malformed bodies fail.
+     */
+    @Test
+    void shouldApplySingleDetectedLanguageAndRejectMalformedBodies() throws Exception {
+        List<Translation> translations = read("{\"translatedText\":[\"a\",\"b\"],\"detectedLanguage\":{\"language\":\"it\"}}")
+                .getTranslations();
+
+        assertTrue(translations.stream().allMatch(t -> "it".equals(t.getDetectedSourceLanguage())));
+        assertEquals("", read("{\"translatedText\":42}").getTranslations().getFirst().getText());
+        assertThrows(IOException.class, () -> read("[\"not an object\"]"));
+        assertThrows(IOException.class, () -> read("{\"translatedText\":[\"a\""));
+    }
+
+    /**
+     * Tests that a codec built from a supplied factory applies that factory's parser features.
+     */
+    @Test
+    void shouldUseSuppliedFactoryFeatures() throws Exception {
+        byte[] body = "{translatedText:\"hola\"}".getBytes(StandardCharsets.UTF_8);
+        TranslationJsonCodec lenient = new TranslationJsonCodec(JsonMapper.builder()
+                .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+                .build()
+                .getFactory());
+
+        assertEquals("hola", lenient.readResponse(body).getTranslations().getFirst().getText());
+        assertThrows(IOException.class, () -> codec.readResponse(body), "The default factory should stay strict");
+        assertThrows(IllegalArgumentException.class, () -> new TranslationJsonCodec(null));
+    }
+
+    private TranslationResponse read(String json) throws IOException {
+        return codec.readResponse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.java.vidigal.code.test.config;
+
+import com.java.vidigal.code.utilities.config.DecorrelatedJitterBackoffStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DecorrelatedJitterBackoffStrategy} class, verifying that its delays grow from the
+ * previous delay within the base and maximum delays.
+ */
+class DecorrelatedJitterBackoffStrategyTest {
+
+    /**
+     * Tests that delays stay between the base delay and three times the previous delay, capped at the maximum,
+     * and take many values.
+     */
+    @Test
+    void shouldDrawDelaysFromPreviousDelay() {
+        DecorrelatedJitterBackoffStrategy strategy = new DecorrelatedJitterBackoffStrategy(100, 1_000);
+        Set<Long> delays = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            long delay = strategy.getNextDelay(2, 250);
+            assertTrue(delay >= 100 && delay <= 750, "Decorrelated jitter delay out of range: " + delay);
+            delays.add(delay);
+            assertTrue(strategy.getNextDelay(5, 900) <= 1_000, "Delays should be capped at the maximum");
+            assertTrue(strategy.getNextDelay(1, 0) <= 300, "The first delay should count from the base delay");
+        }
+
+        assertTrue(delays.size() > 20, "Delays should be spread out, got " + delays.size() + " distinct values");
+    }
+
+    /**
+     * Tests that invalid delays are rejected.
+     */
+    @Test
+    void shouldRejectInvalidDelays() {
+        assertThrows(IllegalArgumentException.class, () -> new DecorrelatedJitterBackoffStrategy(0, 50));
+        assertThrows(IllegalArgumentException.class, () -> new DecorrelatedJitterBackoffStrategy(100, 50));
+    }
+}
@@ -0,0 +1,34 @@
+package com.java.vidigal.code.test.config;
+
+import com.java.vidigal.code.utilities.config.FullJitterBackoffStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FullJitterBackoffStrategy} class, verifying that its delays stay between zero and
+ * the exponential delay and are spread out.
+ */
+class FullJitterBackoffStrategyTest {
+
+    /**
+     * Tests that delays stay between zero and the exponential delay of the attempt and take many values.
+     */
+    @Test
+    void shouldDrawDelaysUpToExponentialDelay() {
+        FullJitterBackoffStrategy strategy = new FullJitterBackoffStrategy(100, 2.0, 1_000);
+        Set<Long> delays = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            long delay = strategy.getNextDelay(3);
+            assertTrue(delay >= 0 && delay <= 400, "Full jitter delay out of range: " + delay);
+            delays.add(delay);
+            assertTrue(strategy.getNextDelay(10) <= 1_000, "Delays should be capped at the maximum");
+        }
+
+        assertTrue(delays.size() > 20, "Delays should be spread out, got " + delays.size() + " distinct values");
+        assertThrows(IllegalArgumentException.class, () -> strategy.getNextDelay(0));
+    }
+}
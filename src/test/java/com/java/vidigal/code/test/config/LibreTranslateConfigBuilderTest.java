@@ -1,9 +1,12 @@
 package com.java.vidigal.code.test.config;
 
+import com.java.vidigal.code.utilities.config.FullJitterBackoffStrategy;
 import com.java.vidigal.code.utilities.config.LibreTranslateConfig;
 import com.java.vidigal.code.utilities.config.LibreTranslateConfigBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -169,5 +172,37 @@ class LibreTranslateConfigBuilderTest {
         assertEquals("Cleanup interval must be at least 1000 ms", exception.getMessage(), "Exception message should indicate minimum cleanup interval");
     }
 
+    /**
+     * Tests that several endpoint URLs replace the API URL for routing, and that the API URL defaults to the
+     * first of them.
+     */
+    @Test
+    void shouldUseEndpointUrlsForRouting() {
+        LibreTranslateConfig single = LibreTranslateConfig.builder().apiUrl("http://a/translate").apiKey("test-key").build();
+        LibreTranslateConfig multiple = LibreTranslateConfig.builder()
+                .apiUrls(List.of("http://a/translate", "http://b/translate"))
+                .apiKey("test-key")
+                .build();
+
+        assertEquals(List.of("http://a/translate"), single.getApiUrls());
+        assertEquals(List.of("http://a/translate", "http://b/translate"), multiple.getApiUrls());
+        assertEquals("http://a/translate", multiple.getApiUrl(), "API URL should default to the first endpoint");
+        LibreTranslateConfigBuilder builder = LibreTranslateConfig.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.apiUrls(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> builder.apiUrls(List.of("http://a/translate", " ")));
+        assertThrows(IllegalArgumentException.class, () -> builder.apiUrls(List.of("http://a/translate", "http://a/translate")));
+    }
+
+    /**
+     * Tests that retries default to full jitter with a retry budget, and that an invalid budget is rejected.
+     */
+    @Test
+    void shouldDefaultToJitteredRetriesWithBudget() {
+        LibreTranslateConfig config = LibreTranslateConfig.builder().apiUrl("http://a/translate").apiKey("test-key").build();
+
+        assertInstanceOf(FullJitterBackoffStrategy.class, config.getRetryStrategy());
+        assertEquals(20, config.getRetryBudgetPercent());
+        assertThrows(IllegalArgumentException.class, () -> LibreTranslateConfig.builder().retryBudgetPercent(0));
+    }
 
-}
\ No newline at end of file
+}
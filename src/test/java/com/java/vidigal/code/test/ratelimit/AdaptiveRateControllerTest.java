@@ -0,0 +1,121 @@
+package com.java.vidigal.code.test.ratelimit;
+
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.utilities.ratelimit.AdaptiveRateController;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitMode;
+import com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link AdaptiveRateController} class, verifying multiplicative decrease on overload,
+ * additive increase while healthy, reaction to latency inflation, and Retry-After pauses.
+ */
+class AdaptiveRateControllerTest {
+
+    private TokenBucketRateLimiter limiter;
+    private AdaptiveRateController controller;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TokenBucketRateLimiter(100, 0);
+        controller = new AdaptiveRateController(limiter, 100, 0);
+    }
+
+    /**
+     * Tests that an overload halves the rate, and that overloads within the same second count once.
+     */
+    @Test
+    void shouldHalveRateOncePerIntervalOnOverload() {
+        controller.onOverload(-1);
+        controller.onOverload(-1);
+        controller.onOverload(-1);
+
+        AdaptiveRateController.AdaptiveRateStats stats = controller.getStats();
+        assertEquals(50, stats.currentRate());
+        assertEquals(1, stats.decreases());
+        assertEquals(50, limiter.getStats().capacity(), "The limiter should run at the reduced rate");
+    }
+
+    /**
+     * Tests that healthy success windows probe the rate back up to the maximum and no further.
+     */
+    @Test
+    void shouldIncreaseRateWhileHealthy() {
+        controller.onOverload(-1);
+        for (int i = 0; i < 5_000; i++) {
+            controller.onSuccess(1_000_000);
+        }
+
+        AdaptiveRateController.AdaptiveRateStats stats = controller.getStats();
+        assertEquals(100, stats.currentRate());
+        assertEquals(10, stats.increases(), "50 -> 100 in steps of 5% of the maximum");
+    }
+
+    /**
+     * Tests that in characters mode, where the rate is counted in characters per second, the rate recovers after
+     * about one second of traffic per step rather than after as many requests as the rate.
+     */
+    @Test
+    void shouldIncreaseRateByPermitsInCharactersMode() {
+        TokenBucketRateLimiter characterLimiter = new TokenBucketRateLimiter(10_000, 0);
+        AdaptiveRateController characterController = new AdaptiveRateController(characterLimiter, 10_000, 0);
+        int permits = RateLimitMode.CHARACTERS.permitsFor(
+                new TranslationRequest(List.of("a".repeat(500)), "es", "en"));
+        characterController.onOverload(-1);
+        for (int i = 0; i < 200; i++) {
+            characterController.onSuccess(1_000_000, permits);
+        }
+
+        AdaptiveRateController.AdaptiveRateStats stats = characterController.getStats();
+        assertEquals(10_000, stats.currentRate(), "200 requests of 500 characters should restore the maximum");
+        assertEquals(10, stats.increases(), "5,000 -> 10,000 in steps of 5% of the maximum");
+        assertEquals(10_000, characterLimiter.getStats().capacity(), "The limiter should run at the maximum again");
+    }
+
+    /**
+     * Tests that a sharp rise in latency over the baseline reduces the rate.
+     */
+    @Test
+    void shouldReduceRateOnLatencyInflation() {
+        for (int i = 0; i < 20; i++) {
+            controller.onSuccess(1_000_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            controller.onSuccess(20_000_000);
+        }
+
+        AdaptiveRateController.AdaptiveRateStats stats = controller.getStats();
+        assertEquals(90, stats.currentRate());
+        assertEquals(1, stats.decreases());
+    }
+
+    /**
+     * Tests that a Retry-After pause stops the limiter from handing out permits until it elapses.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    @Test
+    void shouldPauseLimiterForRetryAfter() throws InterruptedException {
+        controller.onOverload(300);
+
+        assertFalse(limiter.tryAcquire(), "No permits during the pause");
+        long start = System.nanoTime();
+        assertTrue(limiter.tryAcquire(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(250), "Permit only after the pause");
+    }
+
+    /**
+     * Tests that invalid construction arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveRateController(null, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveRateController(limiter, 0, 0));
+    }
+}
@@ -0,0 +1,165 @@
+package com.java.vidigal.code.test.ratelimit;
+
+import com.java.vidigal.code.utilities.ratelimit.ConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ConcurrencyLimiter} class, verifying the in-flight limit, FIFO hand-over of
+ * released slots, rejection when the wait queue is full, and queue-depth statistics.
+ */
+class ConcurrencyLimiterTest {
+
+    /**
+     * Tests that slots are granted up to the limit and then refused.
+     */
+    @Test
+    void shouldLimitSlotsInFlight() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 0);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire(), "No third slot while two are in flight");
+
+        limiter.release();
+        assertTrue(limiter.tryAcquire(), "A released slot should be available again");
+        assertEquals(2, limiter.getStats().inFlight());
+    }
+
+    /**
+     * Tests that queued callers are handed released slots in arrival order.
+     */
+    @Test
+    void shouldHandReleasedSlotsToWaitersInOrder() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10);
+        assertTrue(limiter.tryAcquire());
+        CompletableFuture<Void> first = limiter.acquireAsync();
+        CompletableFuture<Void> second = limiter.acquireAsync();
+
+        assertFalse(first.isDone());
+        assertEquals(2, limiter.getStats().queued());
+
+        limiter.release();
+        assertTrue(first.isDone(), "The first waiter should get the released slot");
+        assertFalse(second.isDone());
+
+        limiter.release();
+        assertTrue(second.isDone());
+        ConcurrencyLimiter.ConcurrencyStats stats = limiter.getStats();
+        assertEquals(1, stats.inFlight());
+        assertEquals(0, stats.queued());
+        assertEquals(2, stats.peakQueued());
+        assertEquals(2, stats.queuedCount());
+    }
+
+    /**
+     * Tests that callers are rejected once the wait queue is full.
+     */
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+        limiter.acquire();
+        CompletableFuture<Void> queued = limiter.acquireAsync();
+        CompletableFuture<Void> rejected = limiter.acquireAsync();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertThrows(RejectedExecutionException.class, limiter::acquire);
+        assertFalse(queued.isDone());
+        assertEquals(2, limiter.getStats().rejectedCount());
+    }
+
+    /**
+     * Tests that a limit of zero queue entries fails fast.
+     */
+    @Test
+    void shouldFailFastWithoutQueue() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 0);
+        assertTrue(limiter.tryAcquire());
+
+        assertTrue(limiter.acquireAsync().isCompletedExceptionally());
+        assertEquals(0, limiter.getStats().queuedCount());
+    }
+
+    /**
+     * Tests that a cancelled waiter does not take a slot from the next one.
+     */
+    @Test
+    void shouldSkipCancelledWaiters() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10);
+        assertTrue(limiter.tryAcquire());
+        CompletableFuture<Void> cancelled = limiter.acquireAsync();
+        CompletableFuture<Void> next = limiter.acquireAsync();
+
+        cancelled.cancel(false);
+        limiter.release();
+
+        assertTrue(next.isDone());
+        assertFalse(next.isCompletedExceptionally());
+        assertEquals(1, limiter.getStats().inFlight());
+    }
+
+    /**
+     * Tests that a blocked caller resumes once a slot is released and that interruption leaves no slot held.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldBlockUntilReleasedAndHonourInterrupts() throws InterruptedException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10);
+        limiter.acquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS), "The caller should wait for a slot");
+        limiter.release();
+        assertTrue(acquired.await(1, TimeUnit.SECONDS));
+        waiter.join();
+
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread blocked = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        Thread.sleep(50);
+        blocked.interrupt();
+        blocked.join();
+
+        assertTrue(interrupted.get());
+        limiter.release();
+        assertEquals(0, limiter.getStats().inFlight(), "The interrupted caller should not hold a slot");
+    }
+
+    /**
+     * Tests that raising the limit grants queued callers and that invalid limits are rejected.
+     */
+    @Test
+    void shouldGrantWaitersOnUpdateAndValidateLimits() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10);
+        assertTrue(limiter.tryAcquire());
+        CompletableFuture<Void> waiter = limiter.acquireAsync();
+
+        limiter.update(2, 10);
+
+        assertTrue(waiter.isDone());
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> limiter.update(1, -1));
+    }
+}
@@ -0,0 +1,202 @@
+package com.java.vidigal.code.test.ratelimit;
+
+import com.java.vidigal.code.utilities.ratelimit.DistributedRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.FileTokenStore;
+import com.java.vidigal.code.utilities.ratelimit.InMemoryTokenStore;
+import com.java.vidigal.code.utilities.ratelimit.TokenStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DistributedRateLimiter} class and the {@link TokenStore} implementations,
+ * verifying that limiters sharing a store enforce one quota, batch leasing, and shared pauses.
+ */
+class DistributedRateLimiterTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that two limiters on one in-memory store share a single bucket.
+     */
+    @Test
+    void shouldShareQuotaThroughInMemoryStore() {
+        TokenStore store = new InMemoryTokenStore();
+        DistributedRateLimiter first = new DistributedRateLimiter(store, "bucket", 10, 0, 1);
+        DistributedRateLimiter second = new DistributedRateLimiter(store, "bucket", 10, 0, 1);
+
+        assertEquals(10, drain(first) + drain(second), "Both limiters together should get one bucket of tokens");
+    }
+
+    /**
+     * Tests that separate bucket names have separate quotas.
+     */
+    @Test
+    void shouldKeepBucketsApart() {
+        TokenStore store = new InMemoryTokenStore();
+
+        assertEquals(5, drain(new DistributedRateLimiter(store, "a", 5, 0, 1)));
+        assertEquals(5, drain(new DistributedRateLimiter(store, "b", 5, 0, 1)));
+    }
+
+    /**
+     * Tests that limiters in the same JVM on separate file store instances share the bucket file.
+     *
+     * @throws IOException if the store cannot be opened.
+     */
+    @Test
+    void shouldShareQuotaThroughFileStore() throws IOException {
+        try (FileTokenStore firstStore = new FileTokenStore(tempDir);
+             FileTokenStore secondStore = new FileTokenStore(tempDir)) {
+            DistributedRateLimiter first = new DistributedRateLimiter(firstStore, "http://translate/api", 20, 0, 1);
+            DistributedRateLimiter second = new DistributedRateLimiter(secondStore, "http://translate/api", 20, 0, 1);
+
+            assertEquals(20, drain(first) + drain(second));
+        }
+    }
+
+    /**
+     * Tests that concurrent callers across limiters sharing a file store never exceed the quota.
+     *
+     * @throws Exception if the store cannot be opened or a thread fails.
+     */
+    @Test
+    void shouldNotOverGrantUnderContention() throws Exception {
+        try (FileTokenStore firstStore = new FileTokenStore(tempDir);
+             FileTokenStore secondStore = new FileTokenStore(tempDir)) {
+            List<DistributedRateLimiter> limiters = List.of(
+                    new DistributedRateLimiter(firstStore, "bucket", 50, 0, 4),
+                    new DistributedRateLimiter(secondStore, "bucket", 50, 0, 4));
+            AtomicInteger granted = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                DistributedRateLimiter limiter = limiters.get(i % 2);
+                threads.add(Thread.ofVirtual().start(() -> {
+                    for (int j = 0; j < 20; j++) {
+                        if (limiter.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertTrue(granted.get() <= 52, "At most one bucket plus refills during the test, got " + granted.get());
+            assertTrue(granted.get() >= 40, "Leasing should not lose a large share of the bucket, got " + granted.get());
+        }
+    }
+
+    /**
+     * Tests that a limiter leases a batch of tokens in one store round trip and serves it locally.
+     */
+    @Test
+    void shouldLeaseTokensInBatches() {
+        CountingStore store = new CountingStore();
+        DistributedRateLimiter limiter = new DistributedRateLimiter(store, "bucket", 100, 0, 10);
+
+        for (int i = 0; i < 30; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertEquals(3, store.takes.get(), "30 permits should need three leases of 10");
+    }
+
+    /**
+     * Tests that blocking and asynchronous acquisition wait for the shared bucket to refill.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldWaitForRefill() throws Exception {
+        DistributedRateLimiter limiter = new DistributedRateLimiter(new InMemoryTokenStore(), "bucket", 10, 0, 1);
+        drain(limiter);
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        CompletableFuture<Void> async = limiter.acquireAsync();
+        async.get(1, TimeUnit.SECONDS);
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150), "Two permits at 10 per second take ~200ms");
+        assertFalse(limiter.tryAcquire(1, 10, TimeUnit.MILLISECONDS), "No permit is due within 10ms");
+    }
+
+    /**
+     * Tests that a pause applies to every limiter sharing the bucket.
+     */
+    @Test
+    void shouldPauseAllClientsSharingBucket() throws InterruptedException {
+        TokenStore store = new InMemoryTokenStore();
+        DistributedRateLimiter first = new DistributedRateLimiter(store, "bucket", 100, 0, 1);
+        DistributedRateLimiter second = new DistributedRateLimiter(store, "bucket", 100, 0, 1);
+
+        first.pauseFor(200, TimeUnit.MILLISECONDS);
+
+        assertFalse(second.tryAcquire(), "The other client should be paused too");
+        assertTrue(second.tryAcquire(1, 1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that a cancelled asynchronous request stops retrying, so that it takes no tokens from the shared
+     * bucket for nobody.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldStopRetryingWhenCancelled() throws Exception {
+        CountingStore store = new CountingStore();
+        DistributedRateLimiter limiter = new DistributedRateLimiter(store, "bucket", 5, 0, 1);
+        drain(limiter);
+
+        limiter.acquireAsync().cancel(false);
+        int takes = store.takes.get();
+        Thread.sleep(300);
+
+        assertEquals(takes, store.takes.get(), "A cancelled request should not ask the store again");
+        assertTrue(limiter.tryAcquire(), "The token due meanwhile should still be in the bucket");
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        TokenStore store = new InMemoryTokenStore();
+        assertThrows(IllegalArgumentException.class, () -> new DistributedRateLimiter(null, "bucket", 10, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DistributedRateLimiter(store, "bucket", 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DistributedRateLimiter(store, "bucket", 10, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DistributedRateLimiter(store, "bucket", 10, 0, 1).tryAcquire(0));
+    }
+
+    private static int drain(DistributedRateLimiter limiter) {
+        int granted = 0;
+        while (limiter.tryAcquire()) {
+            granted++;
+        }
+        return granted;
+    }
+
+    /**
+     * An in-memory store counting its take calls.
+     */
+    private static final class CountingStore extends InMemoryTokenStore {
+        private final AtomicInteger takes = new AtomicInteger();
+
+        @Override
+        public Grant take(String bucket, long minPermits, long maxPermits, long permitsPerSecond) {
+            takes.incrementAndGet();
+            return super.take(bucket, minPermits, maxPermits, permitsPerSecond);
+        }
+    }
+}
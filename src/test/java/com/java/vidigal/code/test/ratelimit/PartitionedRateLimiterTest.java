@@ -0,0 +1,285 @@
+package com.java.vidigal.code.test.ratelimit;
+
+import com.java.vidigal.code.request.RequestPriority;
+import com.java.vidigal.code.request.TranslationRequest;
+import com.java.vidigal.code.utilities.ratelimit.PartitionedRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.PriorityRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.RateLimitPartitioning;
+import com.java.vidigal.code.utilities.ratelimit.RateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PartitionedRateLimiter} class, verifying fair and weighted sharing of the global
+ * ceiling across priorities, per-partition limits, and lazy creation and eviction of partitions.
+ */
+class PartitionedRateLimiterTest {
+
+    /**
+     * Tests that permits are granted at once while the ceiling has tokens.
+     */
+    @Test
+    void shouldGrantImmediatelyWhileCeilingHasTokens() {
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(new TokenBucketRateLimiter(10, 0), 0, Map.of());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.acquireAsync("en->de", 1).isDone());
+        }
+        assertEquals(0, limiter.getStats().partitions(), "No partition state is needed without a partition rate");
+        assertFalse(limiter.acquireAsync("en->de", 1).isDone(), "The ceiling should apply to all partitions");
+    }
+
+    /**
+     * Tests that a backlog in one partition does not delay another partition behind it.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldNotLetBulkPartitionStarveOthers() throws Exception {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(20, 0);
+        while (ceiling.tryAcquire()) {
+            // Drain the bucket so that every request below has to queue
+        }
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(ceiling, 0, Map.of());
+        List<CompletableFuture<Void>> bulk = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            bulk.add(limiter.acquireAsync("en->de", 1));
+        }
+        CompletableFuture<Void> first = limiter.acquireAsync("pt->en", 1);
+        CompletableFuture<Void> second = limiter.acquireAsync("pt->en", 1);
+
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+
+        long bulkDone = bulk.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(bulkDone <= 3, "Interactive requests should alternate with the backlog, bulk done: " + bulkDone);
+        assertEquals(2, limiter.getStats().partitions());
+        bulk.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that after a large request has been served, small requests alternate between partitions again
+     * instead of one partition sending a run as long as the large request.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldShrinkRoundsAfterLargeRequest() throws Exception {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(100, 0);
+        while (ceiling.tryAcquire()) {
+            // Drain the bucket so that every request below has to queue
+        }
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(ceiling, 0, Map.of());
+        limiter.acquireAsync("en->de", 50).get(2, TimeUnit.SECONDS);
+        List<CompletableFuture<Void>> bulk = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            bulk.add(limiter.acquireAsync("en->de", 1));
+        }
+        CompletableFuture<Void> first = limiter.acquireAsync("pt->en", 1);
+        CompletableFuture<Void> second = limiter.acquireAsync("pt->en", 1);
+
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+
+        long bulkDone = bulk.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(bulkDone <= 3, "Interactive requests should alternate with the backlog, bulk done: " + bulkDone);
+        bulk.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that a non-waiting acquire succeeds only while nobody is queued, so that it cannot take permits
+     * ahead of waiting requests.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldNotTryAcquireAheadOfQueuedRequests() throws Exception {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(10, 0);
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(ceiling, 0, Map.of());
+        assertTrue(limiter.tryAcquire("en->de", 1));
+        while (ceiling.tryAcquire()) {
+            // Drain the bucket so that the request below has to queue
+        }
+        CompletableFuture<Void> waiting = limiter.acquireAsync("pt->en", 3);
+
+        Thread.sleep(150);
+        assertFalse(limiter.tryAcquire("en->de", 1), "Permits should go to the waiting request first");
+        waiting.get(1, TimeUnit.SECONDS);
+        Thread.sleep(150);
+        assertTrue(limiter.tryAcquire("en->de", 1), "Permits should be granted at once when nobody waits");
+    }
+
+    /**
+     * Tests that waiting partitions are served in proportion to their weights.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldShareByWeight() throws Exception {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(100, 0);
+        while (ceiling.tryAcquire()) {
+            // Drain the bucket so that every request below has to queue
+        }
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(ceiling, 0, Map.of("premium", 3));
+        List<CompletableFuture<Void>> premium = new ArrayList<>();
+        List<CompletableFuture<Void>> standard = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            standard.add(limiter.acquireAsync("standard", 1));
+            premium.add(limiter.acquireAsync("premium", 1));
+        }
+
+        premium.get(29).get(1, TimeUnit.SECONDS);
+
+        long standardDone = standard.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(standardDone >= 8 && standardDone <= 12, "30 premium permits should come with ~10 standard, got " + standardDone);
+        premium.forEach(future -> future.cancel(false));
+        standard.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that the partition rate caps each partition on its own without affecting the others.
+     */
+    @Test
+    void shouldCapEachPartition() throws Exception {
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(new TokenBucketRateLimiter(100, 0), 5, Map.of());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.acquireAsync("tenant-a", 1).isDone());
+        }
+        CompletableFuture<Void> capped = limiter.acquireAsync("tenant-a", 1);
+        assertFalse(capped.isDone(), "The partition should be limited to 5 permits per second");
+
+        long start = System.nanoTime();
+        limiter.acquire("tenant-b", 1);
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100), "Another partition should not wait");
+
+        capped.get(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests that a partition sending at both priorities shares one partition rate between them instead of
+     * getting the rate once per priority.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldCapPartitionAcrossPriorities() throws Exception {
+        PriorityRateLimiter ceiling = new PriorityRateLimiter(new TokenBucketRateLimiter(100, 0), 50);
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(ceiling, 10, Map.of());
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            requests.add(limiter.acquireAsync("tenant-a", RequestPriority.HIGH, 1));
+            requests.add(limiter.acquireAsync("tenant-a", RequestPriority.LOW, 1));
+        }
+
+        Thread.sleep(500);
+
+        long done = requests.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(done >= 10, "The partition burst should be granted, done: " + done);
+        assertTrue(done <= 17, "Both priorities should share the 10 permits per second, done: " + done);
+        requests.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that permits a partition is granted at low priority count towards its fair share at high priority.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldShareFairlyAcrossPriorities() throws Exception {
+        TokenBucketRateLimiter bucket = new TokenBucketRateLimiter(50, 0);
+        while (bucket.tryAcquire()) {
+            // Drain the bucket so that every request below has to queue
+        }
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(new PriorityRateLimiter(bucket, 50), 0, Map.of());
+        List<CompletableFuture<Void>> mixed = new ArrayList<>();
+        List<CompletableFuture<Void>> interactive = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            mixed.add(limiter.acquireAsync("en->de", RequestPriority.HIGH, 1));
+            mixed.add(limiter.acquireAsync("en->de", RequestPriority.LOW, 1));
+            interactive.add(limiter.acquireAsync("pt->en", RequestPriority.HIGH, 1));
+        }
+
+        interactive.get(9).get(2, TimeUnit.SECONDS);
+
+        long mixedDone = mixed.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(mixedDone <= 13, "A partition sending at both priorities should not get a share per priority, done: "
+                + mixedDone);
+        mixed.forEach(future -> future.cancel(false));
+        interactive.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that idle partitions are evicted so that many tenants do not accumulate state.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void shouldEvictIdlePartitions() throws InterruptedException {
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(new TokenBucketRateLimiter(100_000, 0), 1_000, Map.of());
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(limiter.acquireAsync("tenant-" + i, 1).isDone());
+            if (i % 100 == 99) {
+                Thread.sleep(5);
+            }
+        }
+
+        assertTrue(limiter.getStats().partitions() < 500, "Idle partitions should be swept, got " + limiter.getStats().partitions());
+    }
+
+    /**
+     * Tests the partition keys derived from requests.
+     */
+    @Test
+    void shouldDerivePartitionKeys() {
+        TranslationRequest tagged = new TranslationRequest(List.of("Hello"), "DE", "en", "tenant-a");
+        TranslationRequest untagged = new TranslationRequest(List.of("Hello"), "de", null);
+
+        assertNull(RateLimitPartitioning.NONE.partitionOf(tagged));
+        assertEquals("en->de", RateLimitPartitioning.LANGUAGE_PAIR.partitionOf(tagged));
+        assertEquals("auto->de", RateLimitPartitioning.LANGUAGE_PAIR.partitionOf(untagged));
+        assertEquals("tenant-a", RateLimitPartitioning.TENANT.partitionOf(tagged));
+        assertEquals(RateLimitPartitioning.DEFAULT_PARTITION, RateLimitPartitioning.TENANT.partitionOf(untagged));
+    }
+
+    /**
+     * Tests that permits the ceiling grants to a request that timed out in the meantime are given back to the
+     * ceiling instead of being lost.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldGiveBackPermitsOfAbandonedRequests() throws Exception {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(10, 0);
+        while (ceiling.tryAcquire()) {
+            // drain the burst
+        }
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(ceiling, 0, Map.of());
+
+        CompletableFuture<Void> abandoned = limiter.acquireAsync("en->de", 5).orTimeout(100, TimeUnit.MILLISECONDS);
+        Thread.sleep(700);
+
+        assertTrue(abandoned.isCompletedExceptionally());
+        assertTrue(ceiling.getStats().currentTokens() >= 6,
+                "The five permits should be back in the ceiling, got " + ceiling.getStats().currentTokens() + " tokens");
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(10, 0);
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedRateLimiter((RateLimiter) null, 0, Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedRateLimiter((PriorityRateLimiter) null, 0, Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedRateLimiter(ceiling, -1, Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedRateLimiter(ceiling, 0, Map.of("a", 0)));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedRateLimiter(ceiling, 0, Map.of()).acquireAsync("a", 0));
+    }
+}
@@ -0,0 +1,166 @@
+package com.java.vidigal.code.test.ratelimit;
+
+import com.java.vidigal.code.request.RequestPriority;
+import com.java.vidigal.code.utilities.ratelimit.PartitionedRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.PriorityRateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.RateLimiter;
+import com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PriorityRateLimiter} class, verifying that waiting high-priority requests are
+ * served first, that the low lane keeps its guaranteed share, and the lane views.
+ */
+class PriorityRateLimiterTest {
+
+    /**
+     * Tests that permits are granted at once, whatever the priority, while the ceiling has tokens.
+     */
+    @Test
+    void shouldGrantImmediatelyWhileCeilingHasTokens() {
+        PriorityRateLimiter limiter = new PriorityRateLimiter(new TokenBucketRateLimiter(10, 0), 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.acquireAsync(RequestPriority.LOW, 1).isDone());
+            assertTrue(limiter.tryAcquire(RequestPriority.HIGH, 1));
+        }
+        assertFalse(limiter.tryAcquire(RequestPriority.HIGH, 1), "The ceiling should apply to both lanes");
+        assertEquals(0, limiter.getStats().queuedCount());
+    }
+
+    /**
+     * Tests that high-priority requests overtake a low-priority backlog.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldServeHighPriorityFirst() throws Exception {
+        PriorityRateLimiter limiter = new PriorityRateLimiter(drained(20), 10);
+        List<CompletableFuture<Void>> backlog = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            backlog.add(limiter.acquireAsync(RequestPriority.LOW, 1));
+        }
+        CompletableFuture<Void> first = limiter.acquireAsync(RequestPriority.HIGH, 1);
+        CompletableFuture<Void> second = limiter.acquireAsync(RequestPriority.HIGH, 1);
+        assertEquals(2, limiter.getStats().highQueued());
+
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+
+        long backlogDone = backlog.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(backlogDone <= 1, "Only the request already waiting on the ceiling may go first, got " + backlogDone);
+        backlog.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that the low lane receives its share while high-priority requests keep waiting.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldProtectLowPriorityFromStarvation() throws Exception {
+        PriorityRateLimiter limiter = new PriorityRateLimiter(drained(100), 20);
+        List<CompletableFuture<Void>> high = new ArrayList<>();
+        List<CompletableFuture<Void>> low = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            high.add(limiter.acquireAsync(RequestPriority.HIGH, 1));
+        }
+        for (int i = 0; i < 10; i++) {
+            low.add(limiter.acquireAsync(RequestPriority.LOW, 1));
+        }
+
+        high.get(20).get(1, TimeUnit.SECONDS);
+
+        long lowDone = low.stream().filter(CompletableFuture::isDone).count();
+        assertTrue(lowDone >= 3 && lowDone <= 6, "A 20% share should grant ~1 low per 4 high, got " + lowDone);
+        assertTrue(limiter.getStats().protectedGrants() >= 3);
+        high.forEach(future -> future.cancel(false));
+        low.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that a share of zero gives strict priority.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldGiveStrictPriorityWithoutShare() throws Exception {
+        PriorityRateLimiter limiter = new PriorityRateLimiter(drained(100), 0);
+        List<CompletableFuture<Void>> high = new ArrayList<>();
+        List<CompletableFuture<Void>> low = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            high.add(limiter.acquireAsync(RequestPriority.HIGH, 1));
+            low.add(limiter.acquireAsync(RequestPriority.LOW, 1));
+        }
+
+        high.getLast().get(1, TimeUnit.SECONDS);
+
+        assertEquals(0, low.stream().filter(CompletableFuture::isDone).count());
+        low.getFirst().get(1, TimeUnit.SECONDS);
+        low.forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Tests that a lane can serve as the ceiling of a partitioned limiter and supports timed acquisition.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldServeAsCeilingThroughLanes() throws Exception {
+        PriorityRateLimiter limiter = new PriorityRateLimiter(new TokenBucketRateLimiter(10, 0), 10);
+        RateLimiter lane = limiter.lane(RequestPriority.LOW);
+        PartitionedRateLimiter partitioned = new PartitionedRateLimiter(lane, 0, Map.of());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(partitioned.acquireAsync("en->de", 1).isDone());
+        }
+        assertFalse(lane.tryAcquire(1, 10, TimeUnit.MILLISECONDS), "No permit is due within 10ms");
+        assertTrue(lane.tryAcquire(1, 1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that permits the ceiling grants to a request that timed out in the meantime are given back to the
+     * ceiling instead of being lost.
+     *
+     * @throws Exception if waiting fails.
+     */
+    @Test
+    void shouldGiveBackPermitsOfAbandonedRequests() throws Exception {
+        TokenBucketRateLimiter ceiling = drained(10);
+        PriorityRateLimiter limiter = new PriorityRateLimiter(ceiling, 10);
+
+        CompletableFuture<Void> abandoned = limiter.acquireAsync(RequestPriority.HIGH, 5).orTimeout(100, TimeUnit.MILLISECONDS);
+        Thread.sleep(700);
+
+        assertTrue(abandoned.isCompletedExceptionally());
+        assertTrue(ceiling.getStats().currentTokens() >= 6,
+                "The five permits should be back in the ceiling, got " + ceiling.getStats().currentTokens() + " tokens");
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void shouldRejectInvalidArguments() {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(10, 0);
+        assertThrows(IllegalArgumentException.class, () -> new PriorityRateLimiter(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityRateLimiter(ceiling, -1));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityRateLimiter(ceiling, 51));
+        assertThrows(IllegalArgumentException.class, () -> new PriorityRateLimiter(ceiling, 10).acquireAsync(RequestPriority.LOW, 0));
+    }
+
+    private static TokenBucketRateLimiter drained(int permitsPerSecond) {
+        TokenBucketRateLimiter ceiling = new TokenBucketRateLimiter(permitsPerSecond, 0);
+        while (ceiling.tryAcquire()) {
+            // Drain the bucket so that every request below has to queue
+        }
+        return ceiling;
+    }
+}
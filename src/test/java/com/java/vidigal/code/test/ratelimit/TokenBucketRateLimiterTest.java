@@ -4,10 +4,16 @@ import com.java.vidigal.code.utilities.ratelimit.TokenBucketRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -143,4 +149,229 @@ class TokenBucketRateLimiterTest {
         assertTrue(stats.currentTokens() <= 5, "Current tokens should not exceed capacity");
         executor.shutdown();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that concurrent non-blocking acquisitions never hand out more tokens than the bucket holds.
+     *
+     * @throws InterruptedException if the thread is interrupted while awaiting the latch.
+     */
+    @Test
+    void shouldNotOverGrantUnderContention() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(16);
+        AtomicInteger granted = new AtomicInteger();
+
+        for (int i = 0; i < 16; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < 10; j++) {
+                        if (limiter.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertTrue(granted.get() >= 50 && granted.get() <= 51,
+                "Only the burst (plus at most one refilled token) should be granted, got " + granted.get());
+        executor.shutdown();
+    }
+
+    /**
+     * Tests that {@link TokenBucketRateLimiter#update} wakes callers parked on an empty bucket.
+     *
+     * @throws InterruptedException if the thread is interrupted while awaiting the latch.
+     */
+    @Test
+    void shouldWakeWaitersOnUpdate() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60_000);
+        limiter.acquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread.sleep(100);
+        limiter.update(100, 0);
+
+        assertTrue(acquired.await(2, TimeUnit.SECONDS), "Waiter should retry with the new rate instead of sleeping out the cooldown");
+        waiter.join();
+    }
+
+    /**
+     * Tests that a parked caller is released by interruption.
+     *
+     * @throws InterruptedException if the thread is interrupted while joining.
+     */
+    @Test
+    void shouldThrowWhenInterruptedWhileWaiting() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60_000);
+        limiter.acquire();
+        AtomicInteger interrupted = new AtomicInteger();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+
+        Thread.sleep(100);
+        waiter.interrupt();
+        waiter.join(2000);
+
+        assertEquals(1, interrupted.get());
+    }
+
+    /**
+     * Tests that asynchronous waiters are released in FIFO order as tokens become due, without blocking the
+     * caller.
+     *
+     * @throws Exception if a future fails.
+     */
+    @Test
+    void shouldReleaseAsyncWaitersInOrder() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 60_000);
+        List<Integer> released = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 15; i++) {
+            int index = i;
+            futures.add(limiter.acquireAsync().thenRun(() -> released.add(index)));
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100), "acquireAsync should not block");
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 400, "Five waiters beyond the burst need five refills, took " + elapsedMillis);
+        assertEquals(IntStream.range(0, 15).boxed().toList(), released, "Waiters should be released in FIFO order");
+    }
+
+    /**
+     * Tests that a cancelled asynchronous waiter is skipped and does not consume a token.
+     *
+     * @throws Exception if a future fails.
+     */
+    @Test
+    void shouldSkipCancelledAsyncWaiters() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 60_000);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.acquireAsync().isDone());
+        }
+        CompletableFuture<Void> cancelled = limiter.acquireAsync();
+        CompletableFuture<Void> next = limiter.acquireAsync();
+        cancelled.cancel(false);
+
+        next.get(1, TimeUnit.SECONDS);
+        assertTrue(next.isDone() && !next.isCompletedExceptionally());
+    }
+
+    /**
+     * Tests that {@link TokenBucketRateLimiter#tryAcquire(long, TimeUnit)} waits for a token due within the
+     * timeout and gives up at once when the next token is due later.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    @Test
+    void shouldWaitForTokenWithinTimeout() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire();
+        }
+
+        long start = System.nanoTime();
+        assertFalse(rateLimiter.tryAcquire(50, TimeUnit.MILLISECONDS), "Next token is due in 200ms");
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(40), "Should fail without waiting");
+
+        assertTrue(rateLimiter.tryAcquire(500, TimeUnit.MILLISECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 150 && elapsedMillis < 1000,
+                "Should wait for the next token rather than the cooldown, took " + elapsedMillis);
+    }
+
+    /**
+     * Tests that weighted acquisitions consume several tokens at once and that a request larger than the
+     * capacity is granted from a full bucket, leaving the limiter in debt.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    @Test
+    void shouldChargeWeightedPermits() throws InterruptedException {
+        assertTrue(rateLimiter.tryAcquire(3));
+        assertEquals(2, rateLimiter.getStats().currentTokens());
+        assertFalse(rateLimiter.tryAcquire(3), "Only two tokens are left");
+        assertTrue(rateLimiter.tryAcquire(2));
+
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 0);
+        assertTrue(limiter.tryAcquire(15), "A full bucket should grant an oversized request");
+        assertFalse(limiter.tryAcquire(1), "The oversized request should leave the limiter in debt");
+        long start = System.nanoTime();
+        limiter.acquire(1);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(500),
+                "The debt of five tokens plus one more should take about 600ms to repay");
+        assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire(0));
+    }
+
+    /**
+     * Tests that a weighted asynchronous request at the head of the queue holds back smaller ones behind it.
+     *
+     * @throws Exception if a future fails.
+     */
+    @Test
+    void shouldServeWeightedAsyncWaitersInOrder() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 60_000);
+        assertTrue(limiter.tryAcquire(10));
+        List<Integer> released = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> large = limiter.acquireAsync(5).thenRun(() -> released.add(5));
+        CompletableFuture<Void> small = limiter.acquireAsync(1).thenRun(() -> released.add(1));
+        CompletableFuture.allOf(large, small).get(2, TimeUnit.SECONDS);
+
+        assertEquals(List.of(5, 1), released);
+    }
+
+    /**
+     * Tests the throttling counters: permits granted, callers that waited and for how long, current waiters,
+     * and that reading the statistics does not change them.
+     *
+     * @throws Exception if a future fails.
+     */
+    @Test
+    void shouldReportThrottlingStatistics() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 0);
+        assertTrue(limiter.tryAcquire(10));
+        CompletableFuture<Void> first = limiter.acquireAsync();
+        CompletableFuture<Void> second = limiter.acquireAsync();
+
+        TokenBucketRateLimiter.RateLimiterStats waiting = limiter.getStats();
+        assertEquals(2, waiting.currentWaiters());
+        assertEquals(waiting, limiter.getStats(), "Reading the statistics should not change them");
+
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+        limiter.acquire();
+
+        TokenBucketRateLimiter.RateLimiterStats stats = limiter.getStats();
+        assertEquals(13, stats.permitsGranted());
+        assertEquals(3, stats.waitedCount());
+        assertEquals(0, stats.currentWaiters());
+        assertEquals(3, stats.waitTime().count());
+        assertTrue(stats.waitTime().p50Micros() >= 50_000, "Waits of ~100ms each, p50: " + stats.waitTime().p50Micros());
+        assertTrue(stats.waitTime().maxMicros() >= stats.waitTime().p99Micros());
+        assertTrue(stats.waitTime().p99Micros() >= stats.waitTime().p50Micros());
+    }
+}
@@ -0,0 +1,56 @@
+package com.java.vidigal.code.test.ratelimit;
+
+import com.java.vidigal.code.utilities.ratelimit.WaitTimeHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link WaitTimeHistogram} class, verifying its percentiles and their precision.
+ */
+class WaitTimeHistogramTest {
+
+    /**
+     * Tests that an empty histogram reports zeros.
+     */
+    @Test
+    void shouldReportZerosWhenEmpty() {
+        assertEquals(new WaitTimeHistogram.WaitTimeStats(0, 0, 0, 0), new WaitTimeHistogram().getStats());
+    }
+
+    /**
+     * Tests that percentiles are within the histogram's 12.5% precision.
+     */
+    @Test
+    void shouldComputePercentiles() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        WaitTimeHistogram.WaitTimeStats stats = histogram.getStats();
+        assertEquals(1_000, stats.count());
+        assertEquals(1_000_000, stats.maxMicros());
+        assertEquals(500_000, stats.p50Micros(), 500_000 * 0.125);
+        assertEquals(990_000, stats.p99Micros(), 990_000 * 0.125);
+        assertTrue(stats.p99Micros() <= stats.maxMicros());
+    }
+
+    /**
+     * Tests that short waits are counted exactly and negative waits as zero.
+     */
+    @Test
+    void shouldCountShortWaitsExactly() {
+        WaitTimeHistogram histogram = new WaitTimeHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(-1);
+
+        WaitTimeHistogram.WaitTimeStats stats = histogram.getStats();
+        assertEquals(3, stats.p50Micros());
+        assertEquals(3, stats.maxMicros());
+        assertEquals(3, stats.count());
+    }
+}
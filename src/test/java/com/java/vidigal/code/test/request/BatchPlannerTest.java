@@ -0,0 +1,104 @@
+package com.java.vidigal.code.test.request;
+
+import com.java.vidigal.code.builder.BatchPlanner;
+import com.java.vidigal.code.builder.TranslationRequestBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BatchPlanner} class, verifying bin-packing under the segment and character
+ * limits, splitting of oversized texts and reassembly of the translated pieces in input order.
+ */
+class BatchPlannerTest {
+
+    /**
+     * Tests that mixed-size texts are packed into the fewest requests that fit the character budget.
+     */
+    @Test
+    void shouldPackMixedSizesIntoFewestRequests() {
+        List<String> texts = List.of("a".repeat(600), "b".repeat(500), "c".repeat(400), "d".repeat(500));
+
+        BatchPlanner.Plan plan = new BatchPlanner(50, 1000).plan(texts);
+
+        assertEquals(2, plan.getBatchCount(), "600+400 and 500+500 should fill two requests");
+        for (List<String> batch : plan.getBatches()) {
+            assertTrue(batch.stream().mapToInt(String::length).sum() <= 1000, "Request should respect the budget");
+        }
+        assertEquals(texts, plan.reassemble(translate(plan, UnaryOperator.identity())));
+    }
+
+    /**
+     * Tests that the segment limit caps the number of texts per request.
+     */
+    @Test
+    void shouldRespectSegmentLimit() {
+        List<String> texts = IntStream.range(0, 120).mapToObj(i -> "text-" + i).toList();
+
+        BatchPlanner.Plan plan = new BatchPlanner(50, 10_000).plan(texts);
+
+        assertEquals(3, plan.getBatchCount());
+        assertTrue(plan.getBatches().stream().allMatch(batch -> batch.size() <= 50));
+        assertEquals(texts.stream().map(String::toUpperCase).toList(),
+                plan.reassemble(translate(plan, String::toUpperCase)), "Results should follow input order");
+    }
+
+    /**
+     * Tests that a text longer than the budget is split at sentence boundaries and reassembled with its spacing.
+     */
+    @Test
+    void shouldSplitOversizedTextAtSentenceBoundaries() {
+        String sentence = "This sentence is exactly fifty characters long ok.";
+        String text = String.join(" ", Collections.nCopies(30, sentence)) + "\nLast line.";
+
+        BatchPlanner.Plan plan = new BatchPlanner(50, 200).plan(List.of(text));
+
+        List<String> segments = plan.getBatches().stream().flatMap(List::stream).toList();
+        assertTrue(segments.size() > 1, "Long text should be split");
+        for (String segment : segments) {
+            assertTrue(segment.length() <= 200, "Piece should fit the budget");
+            assertTrue(segment.endsWith("."), "Piece should end at a sentence boundary: " + segment);
+        }
+        assertEquals(List.of(text), plan.reassemble(translate(plan, UnaryOperator.identity())),
+                "Reassembly should restore the original text and whitespace");
+    }
+
+    /**
+     * Tests that a text without sentence or word boundaries is cut to the maximum piece length.
+     */
+    @Test
+    void shouldCutTextWithoutBoundaries() {
+        String text = "x".repeat(TranslationRequestBuilder.MAX_TEXT_LENGTH * 2 + 5);
+
+        BatchPlanner.Plan plan = new BatchPlanner(50, 50_000).plan(List.of(text));
+
+        List<String> segments = plan.getBatches().stream().flatMap(List::stream).toList();
+        assertEquals(3, segments.size());
+        assertTrue(segments.stream().allMatch(segment -> segment.length() <= TranslationRequestBuilder.MAX_TEXT_LENGTH),
+                "Pieces should respect the per-text API limit");
+        assertEquals(List.of(text), plan.reassemble(translate(plan, UnaryOperator.identity())));
+    }
+
+    /**
+     * Tests input validation and reassembly mismatch detection.
+     */
+    @Test
+    void shouldRejectInvalidInputAndMismatchedTranslations() {
+        BatchPlanner planner = new BatchPlanner(50, 1000);
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(List.of("ok", " ")));
+        assertThrows(IllegalArgumentException.class, () -> new BatchPlanner(0, 1000));
+
+        BatchPlanner.Plan plan = planner.plan(List.of("one", "two"));
+        assertThrows(IllegalArgumentException.class, () -> plan.reassemble(List.of(List.of("uno"))));
+    }
+
+    private static List<List<String>> translate(BatchPlanner.Plan plan, UnaryOperator<String> translation) {
+        return plan.getBatches().stream().map(batch -> batch.stream().map(translation).toList()).toList();
+    }
+}
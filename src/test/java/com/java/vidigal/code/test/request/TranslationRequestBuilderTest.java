@@ -1,6 +1,7 @@
 package com.java.vidigal.code.test.request;
 
 import com.java.vidigal.code.builder.TranslationRequestBuilder;
+import com.java.vidigal.code.request.RequestPriority;
 import com.java.vidigal.code.request.TranslationRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -122,4 +123,24 @@ class TranslationRequestBuilderTest {
         assertEquals("Target language cannot be null or empty", exception.getMessage(),
                 "Exception message should indicate null or empty target language");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that requests are high priority unless marked otherwise, and that the priority and tenant are
+     * carried by the built request.
+     */
+    @Test
+    void shouldCarryPriorityAndTenant() {
+        TranslationRequest interactive = builder.addText("Hello").setTargetLang("es").build();
+        TranslationRequest backfill = new TranslationRequestBuilder()
+                .addText("Hello")
+                .setTargetLang("es")
+                .setTenant("catalog")
+                .setPriority(RequestPriority.LOW)
+                .build();
+
+        assertEquals(RequestPriority.HIGH, interactive.getPriority(), "Requests should be high priority by default");
+        assertEquals(RequestPriority.LOW, backfill.getPriority());
+        assertEquals("catalog", backfill.getTenant());
+        assertThrows(IllegalArgumentException.class, () -> builder.setPriority(null));
+    }
+}
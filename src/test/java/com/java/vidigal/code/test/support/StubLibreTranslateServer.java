@@ -0,0 +1,202 @@
+package com.java.vidigal.code.test.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-process stand-in for the LibreTranslate {@code /translate} endpoint, used by client tests.
+ * <p>
+ * Every segment is "translated" deterministically as {@code target + ":" + text} (see
+ * {@link #translationOf(String, String)}), so tests can verify ordering and pairing of results. Error
+ * responses can be queued with {@link #enqueueStatus(int)}; they are served before any successful
+ * response.
+ * </p>
+ */
+public final class StubLibreTranslateServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger peakActiveRequests = new AtomicInteger();
+    private final List<List<String>> receivedSegments = new CopyOnWriteArrayList<>();
+    private final Queue<StubResponse> queuedResponses = new ConcurrentLinkedQueue<>();
+    private volatile long delayMillis;
+
+    private StubLibreTranslateServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/translate", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Starts a stub server on an ephemeral local port.
+     *
+     * @return the running server
+     * @throws IOException if the server socket cannot be bound
+     */
+    public static StubLibreTranslateServer start() throws IOException {
+        return new StubLibreTranslateServer();
+    }
+
+    /**
+     * Returns the translation the stub produces for a segment.
+     *
+     * @param target the target language code
+     * @param text   the source text
+     * @return the stub translation
+     */
+    public static String translationOf(String target, String text) {
+        return target + ":" + text;
+    }
+
+    /**
+     * Returns the URL of the stub translate endpoint.
+     *
+     * @return the endpoint URL
+     */
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/translate";
+    }
+
+    /**
+     * Queues an error response with the given status code, served to the next request.
+     *
+     * @param status the HTTP status code
+     */
+    public void enqueueStatus(int status) {
+        enqueueStatus(status, Map.of());
+    }
+
+    /**
+     * Queues an error response with the given status code and headers, served to the next request.
+     *
+     * @param status  the HTTP status code
+     * @param headers the response headers
+     */
+    public void enqueueStatus(int status, Map<String, String> headers) {
+        queuedResponses.add(new StubResponse(status, headers));
+    }
+
+    /**
+     * Delays every response by the given duration.
+     *
+     * @param delayMillis the delay in milliseconds
+     */
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Returns the number of requests received so far.
+     *
+     * @return the request count
+     */
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the largest number of requests that were being handled at the same time.
+     *
+     * @return the peak number of concurrent requests
+     */
+    public int peakActiveRequests() {
+        return peakActiveRequests.get();
+    }
+
+    /**
+     * Returns the {@code q} segments of every request received, in arrival order.
+     *
+     * @return the received segment lists
+     */
+    public List<List<String>> receivedSegments() {
+        return List.copyOf(receivedSegments);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            JsonNode body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = objectMapper.readTree(in);
+            }
+            requestCount.incrementAndGet();
+            List<String> segments = new ArrayList<>();
+            JsonNode q = body.get("q");
+            if (q.isArray()) {
+                q.forEach(node -> segments.add(node.asText()));
+            } else {
+                segments.add(q.asText());
+            }
+            receivedSegments.add(segments);
+
+            peakActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+            try {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                activeRequests.decrementAndGet();
+            }
+
+            StubResponse queued = queuedResponses.poll();
+            if (queued != null) {
+                queued.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+                write(exchange, queued.status(), "{\"error\":\"stub error\"}");
+                return;
+            }
+
+            String target = body.get("target").asText();
+            Map<String, Object> response = new LinkedHashMap<>();
+            if (q.isArray()) {
+                response.put("translatedText", segments.stream().map(text -> translationOf(target, text)).toList());
+                response.put("detectedLanguage", segments.stream().map(text -> Map.of("confidence", 90, "language", "en")).toList());
+            } else {
+                response.put("translatedText", translationOf(target, segments.getFirst()));
+                response.put("detectedLanguage", Map.of("confidence", 90, "language", "en"));
+            }
+            write(exchange, 200, objectMapper.writeValueAsString(response));
+        }
+    }
+
+    private static void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record StubResponse(int status, Map<String, String> headers) {
+    }
+}